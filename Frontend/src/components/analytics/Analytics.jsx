@@ -112,7 +112,7 @@ const Analytics = () => {
           <option value="">Select a suite to view analytics...</option>
           {suites.map((suite) => (
             <option key={suite.id} value={suite.id}>
-              {suite.name} ({suite.testCases?.length || 0} tests)
+              {suite.name} ({suite.testCaseCount || 0} tests)
             </option>
           ))}
         </select>
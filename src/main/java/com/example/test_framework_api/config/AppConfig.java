@@ -1,10 +1,14 @@
 package com.example.test_framework_api.config;
 
+import com.example.test_framework_api.worker.HostRateLimiter;
+import com.example.test_framework_api.worker.PriorityTaskQueue;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Executor;
 
 /**
@@ -13,18 +17,21 @@ import java.util.concurrent.Executor;
  */
 @Configuration
 @EnableAsync
+@EnableScheduling // RETENTION: nightly rollup job
 public class AppConfig {
 
     /**
      * Thread pool for UI test execution.
-     * Limited to 4 threads to avoid browser instance overload.
-     * Queue capacity allows buffering of pending tests.
+     * Limited to 4 threads to avoid browser instance overload; with
+     * execution.browser.isolation=context it is sized to max-contexts instead.
+     * Queue capacity allows buffering of pending tests (priority ordered).
      */
     @Bean(name = "uiTestExecutor")
-    public Executor uiTestExecutor() {
-        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(2);           // Minimum threads
-        executor.setMaxPoolSize(4);            // Maximum threads (UI limit)
+    public Executor uiTestExecutor(ExecutionProperties executionProperties) {
+        ExecutionProperties.Browser browser = executionProperties.getBrowser();
+        ThreadPoolTaskExecutor executor = priorityExecutor();
+        executor.setCorePoolSize(browser.isContextIsolation() ? browser.uiMaxConcurrency(4) : 2); // Minimum threads
+        executor.setMaxPoolSize(browser.uiMaxConcurrency(4)); // Maximum threads (UI limit)
         executor.setQueueCapacity(50);         // Pending test queue
         executor.setThreadNamePrefix("ui-test-");
         executor.setWaitForTasksToCompleteOnShutdown(true);
@@ -36,10 +43,11 @@ public class AppConfig {
     /**
      * Thread pool for API test execution.
      * Higher concurrency allowed since API tests are lightweight.
+     * Pending tests are priority ordered.
      */
     @Bean(name = "apiTestExecutor")
     public Executor apiTestExecutor() {
-        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        ThreadPoolTaskExecutor executor = priorityExecutor();
         executor.setCorePoolSize(4);           // Minimum threads
         executor.setMaxPoolSize(8);            // Maximum threads (API limit)
         executor.setQueueCapacity(100);        // Larger queue for API tests
@@ -50,6 +58,37 @@ public class AppConfig {
         return executor;
     }
 
+    /**
+     * Thread pool for quarantined (flaky) tests, UI or API.
+     * A single thread keeps them from taking browser/API slots in the critical path.
+     */
+    @Bean(name = "quarantineTestExecutor")
+    public Executor quarantineTestExecutor() {
+        ThreadPoolTaskExecutor executor = priorityExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("quarantine-test-");
+        executor.setThreadPriority(Thread.MIN_PRIORITY);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Thread pool whose work queue hands out PrioritizedTask instances
+     * by case priority / failure probability instead of FIFO.
+     */
+    private ThreadPoolTaskExecutor priorityExecutor() {
+        return new ThreadPoolTaskExecutor() {
+            @Override
+            protected BlockingQueue<Runnable> createQueue(int queueCapacity) {
+                return new PriorityTaskQueue(queueCapacity);
+            }
+        };
+    }
+
     /**
      * General-purpose executor for non-test async tasks.
      */
@@ -63,4 +102,14 @@ public class AppConfig {
         executor.initialize();
         return executor;
     }
-}
\ No newline at end of file
+
+    /**
+     * Global per-host rate/concurrency limiter shared by all suite runs.
+     * Unlimited unless execution.host-limits.* is configured.
+     */
+    @Bean
+    public HostRateLimiter globalHostRateLimiter(ExecutionProperties executionProperties) {
+        ExecutionProperties.HostLimits limits = executionProperties.getHostLimits();
+        return new HostRateLimiter("global", limits.getDefaults(), limits.getHosts(), null);
+    }
+}
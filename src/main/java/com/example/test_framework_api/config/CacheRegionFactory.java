@@ -0,0 +1,39 @@
+package com.example.test_framework_api.config;
+
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.ehcache.xml.XmlConfiguration;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+
+import javax.cache.CacheManager;
+import javax.cache.spi.CachingProvider;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * CACHE: JCache region factory that gives each session factory its own Ehcache manager,
+ * built from hibernate.javax.cache.uri (ehcache.xml).
+ *
+ * The stock factory looks managers up JVM-wide by URI, so two application contexts in
+ * one JVM (test slices, each with its own database) would serve each other's rows.
+ */
+public class CacheRegionFactory extends JCacheRegionFactory {
+
+    @Override
+    protected CacheManager resolveCacheManager(SessionFactoryOptions settings, Map<String, Object> properties) {
+        CachingProvider provider = getCachingProvider(properties);
+        if (!(provider instanceof EhcacheCachingProvider ehcache)) {
+            return super.resolveCacheManager(settings, properties);
+        }
+        URI config = getUri(settings, properties);
+        try {
+            XmlConfiguration xml = new XmlConfiguration(config.toURL(), getClassLoader(provider));
+            return ehcache.getCacheManager(URI.create(config + "#" + UUID.randomUUID()), xml);
+        } catch (MalformedURLException e) {
+            throw new CacheException("Cannot read cache configuration " + config, e);
+        }
+    }
+}
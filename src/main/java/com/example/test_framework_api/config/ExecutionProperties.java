@@ -0,0 +1,242 @@
+package com.example.test_framework_api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tuning knobs for suite execution (bound from the "execution" prefix).
+ */
+@Configuration
+@ConfigurationProperties(prefix = "execution")
+@Data
+public class ExecutionProperties {
+
+    private Adaptive adaptive = new Adaptive();
+
+    private HostLimits hostLimits = new HostLimits();
+
+    private Timeouts timeouts = new Timeouts();
+
+    private FailFast failFast = new FailFast();
+
+    private FailureFirst failureFirst = new FailureFirst();
+
+    private Retry retry = new Retry();
+
+    private Quarantine quarantine = new Quarantine();
+
+    private Browser browser = new Browser();
+
+    private Waits waits = new Waits();
+
+    private StaticPages staticPages = new StaticPages();
+
+    private Artifacts artifacts = new Artifacts();
+
+    private Failures failures = new Failures();
+
+    private Retention retention = new Retention();
+
+    /**
+     * AIMD settings for adaptive concurrency.
+     * Limit grows by 1 per healthy window and is multiplied by backoffRatio
+     * when latency, error rate, CPU or memory cross their thresholds.
+     */
+    @Data
+    public static class Adaptive {
+        private int minConcurrency = 1;
+        private int uiMaxConcurrency = 4;        // Matches uiTestExecutor max pool
+        private int apiMaxConcurrency = 8;       // Matches apiTestExecutor max pool
+        private double latencyTolerance = 2.0;   // Back off when window latency > baseline * tolerance
+        private double maxErrorRate = 0.5;       // Back off when more than half a window fails
+        private double maxCpuLoad = 0.85;        // System CPU load (0..1)
+        private double minFreeMemoryRatio = 0.10; // Free system memory and JVM heap (0..1)
+        private double backoffRatio = 0.7;
+    }
+
+    /**
+     * Global per target host limits, shared by every run.
+     * Host keys containing dots must be bracketed in YAML: "[api.example.com]".
+     */
+    @Data
+    public static class HostLimits {
+        private HostLimit defaults = new HostLimit();
+        private Map<String, HostLimit> hosts = new HashMap<>();
+    }
+
+    /**
+     * Token bucket + concurrency cap for one host (0 = unlimited).
+     */
+    @Data
+    public static class HostLimit {
+        private double requestsPerSecond = 0;
+        private int burst = 0;                   // Bucket size; defaults to ceil(requestsPerSecond)
+        private int maxConcurrent = 0;
+    }
+
+    /**
+     * Hard deadlines enforced by the run watchdog (0 = no limit).
+     */
+    @Data
+    public static class Timeouts {
+        private int caseTimeoutSeconds = 300;
+        private int suiteTimeoutSeconds = 0;
+        private long watchdogIntervalMs = 1000;
+        private int pendingCancelSeconds = 600; // Cancels for runs not executing on this node are kept this long
+    }
+
+    /**
+     * Default early-termination policy for suite runs (0 / false = disabled).
+     */
+    @Data
+    public static class FailFast {
+        private int maxFailures = 0;
+        private double maxFailureRate = 0;       // Percent (0-100)
+        private int minSamples = 10;             // Cases finished before the rate rule applies
+        private boolean stopOnCriticalFailure = false; // Stop when a High priority case fails
+    }
+
+    /**
+     * History window and decay for FAILURE_FIRST ordering.
+     */
+    @Data
+    public static class FailureFirst {
+        private int lookbackDays = 30;           // Results older than this are ignored
+        private int recentDays = 7;              // Window for the recent failure rate
+        private double recencyHalfLifeHours = 48; // Weight of the last failure halves every N hours
+    }
+
+    /**
+     * Per-case retry of failing attempts (each attempt gets a fresh driver session).
+     * A by-priority entry wins over a by-type entry, which wins over maxRetries.
+     */
+    @Data
+    public static class Retry {
+        private int maxRetries = 0;
+        private long backoffMs = 500;            // Doubles per retry
+        private long maxBackoffMs = 10_000;
+        private Map<String, Integer> byType = new HashMap<>();      // UI / API -> retries
+        private Map<String, Integer> byPriority = new HashMap<>();  // High / Medium / Low -> retries
+    }
+
+    /**
+     * Automatic quarantine of flaky tests (flaky score as in MetricsService.getFlakyTests).
+     * Quarantined tests run in their own low-priority lane and do not affect run status.
+     */
+    @Data
+    public static class Quarantine {
+        private boolean enabled = false;         // Opt-in: changes which cases decide run status
+        private double flakyScoreThreshold = 100;  // e.g. ~20% failure rate with mixed results
+        private int minRuns = 5;                   // History needed before a test can be quarantined
+        private int promoteAfterPasses = 3;        // Consecutive passes in quarantine to return
+    }
+
+    /**
+     * UI element waits: one explicit, polled wait (no implicit wait) with
+     * fast-fail on error pages and uncaught JS errors.
+     */
+    @Data
+    public static class Waits {
+        private long elementTimeoutMs = 10_000;
+        private long pollingMs = 250;
+        private boolean failFastOnErrorPage = true;
+        private boolean failFastOnJsError = true;
+        private long jsErrorGraceMs = 2_000;     // Element may still render after an unrelated script error
+        // Matched as substrings of the page title: keep them specific ("404 Orders" is a real page)
+        private List<String> errorPagePatterns = new ArrayList<>(List.of(
+                "404 not found", "page not found", "http status 404", "500 internal server error",
+                "502 bad gateway", "503 service unavailable", "site can't be reached", "site can’t be reached"));
+    }
+
+    /**
+     * HTML-only mode for UI cases marked static: fetched over HTTP and checked
+     * on the parsed DOM, run in the API lane.
+     */
+    @Data
+    public static class StaticPages {
+        private boolean enabled = true;
+        private long timeoutMs = 10_000;
+        private int maxBodyBytes = 5 * 1024 * 1024;
+        private String userAgent = "Mozilla/5.0 (X11; Linux x86_64) AppleWebKit/537.36 (KHTML, like Gecko) "
+                + "Chrome/127.0 Safari/537.36";
+    }
+
+    /**
+     * Failure screenshots / page sources, stored once per content hash by a background writer.
+     */
+    @Data
+    public static class Artifacts {
+        private boolean enabled = true;
+        private String dir = "reports/artifacts";
+        private boolean captureScreenshot = true;
+        private boolean captureDom = true;
+        private int queueCapacity = 500;         // Pending writes; further artifacts are dropped, tests never block
+    }
+
+    /**
+     * Failure text (message + stack trace) stored compressed outside the result rows.
+     */
+    @Data
+    public static class Failures {
+        private boolean enabled = true;
+        private int maxDetailChars = 64 * 1024;  // Longer texts are cut before compression
+    }
+
+    /**
+     * Raw result retention; older days survive as daily/weekly rollups (0 = keep forever)
+     * and, when archive is on, as gzip JSON lines partitioned by day.
+     */
+    @Data
+    public static class Retention {
+        private boolean enabled = false;         // Opt-in: deletes raw results past rawDays
+        private String cron = "0 15 2 * * *";
+        private int rawDays = 90;
+        private int dailyRollupDays = 730;       // Weekly rollups are kept forever
+        private boolean archive = true;          // Write dropped days to archiveDir first
+        private String archiveDir = "archive";
+    }
+
+    /**
+     * Named Chrome profiles for UI tests; a suite (or a single run) picks one by name.
+     */
+    @Data
+    public static class Browser {
+        private String defaultProfile = "default";
+        private Map<String, BrowserProfile> profiles = new HashMap<>();
+        private String isolation = "process";    // process: one Chrome per case / context: shared Chrome, isolated contexts
+        private int maxContexts = 16;            // UI cases in flight per worker in context mode
+        private int contextsPerBrowser = 8;      // Contexts per shared Chrome before another one is launched
+
+        public boolean isContextIsolation() {
+            return "context".equalsIgnoreCase(isolation);
+        }
+
+        /**
+         * UI lane ceiling: processMax in process mode, maxContexts in context mode.
+         */
+        public int uiMaxConcurrency(int processMax) {
+            return isContextIsolation() ? Math.max(1, maxContexts) : processMax;
+        }
+    }
+
+    /**
+     * Page-load strategy, resource blocking, window size and extra flags for one profile.
+     */
+    @Data
+    public static class BrowserProfile {
+        private String pageLoadStrategy = "normal";   // normal / eager / none
+        private boolean eagerForClickOnly = true;     // Click-only cases do not wait for subresources
+        private boolean headless = true;
+        private boolean disableImages = false;
+        private int windowWidth = 1366;
+        private int windowHeight = 768;
+        private List<String> blockedUrlPatterns = new ArrayList<>(); // e.g. "*google-analytics.com*"
+        private List<String> chromeFlags = new ArrayList<>();
+    }
+}
@@ -50,7 +50,9 @@ public class SecurityConfig {
             .requestMatchers("/api/runs").hasRole("ADMIN")
             .requestMatchers("/api/runs/reports").hasRole("ADMIN")
             .requestMatchers("/api/status").hasRole("ADMIN")
+            .requestMatchers("/api/status/**").hasRole("ADMIN")
             .requestMatchers("/api/runs/metrics").hasRole("ADMIN")
+            .requestMatchers("/api/runs/archive/**").hasRole("ADMIN")
             .requestMatchers("/api/users/id").hasRole("ADMIN")
             .requestMatchers("/api/users/{id}/promote").hasRole("ADMIN")
             .requestMatchers("/api/users/{id}/demote").hasRole("ADMIN") // FIXED: Admin user management
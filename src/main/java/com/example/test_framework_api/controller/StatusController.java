@@ -1,13 +1,17 @@
 package com.example.test_framework_api.controller;
 
+import com.example.test_framework_api.service.CacheService;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -17,6 +21,9 @@ public class StatusController {
     @Autowired
     private RabbitTemplate rabbitTemplate;
 
+    @Autowired
+    private CacheService cacheService;
+
     @GetMapping("/status")
     public ResponseEntity<Map<String, String>> getStatus() {
         Map<String, String> status = new HashMap<>();
@@ -34,4 +41,23 @@ public class StatusController {
         }
         return ResponseEntity.ok(status);
     }
-}
\ No newline at end of file
+
+    /**
+     * CACHE: Hit/miss/put counts per second-level and query cache region.
+     */
+    @GetMapping("/status/cache")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<Map<String, Object>>> getCacheStats() {
+        return ResponseEntity.ok(cacheService.regionStats());
+    }
+
+    /**
+     * CACHE: Drop all cached entities and query results (after out-of-band database edits).
+     */
+    @DeleteMapping("/status/cache")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, String>> evictCache() {
+        cacheService.evictAll();
+        return ResponseEntity.ok(Map.of("message", "Cache evicted"));
+    }
+}
@@ -202,6 +202,7 @@ import java.util.stream.Collectors;
 import com.example.test_framework_api.model.TestCase;
 import com.example.test_framework_api.model.User;
 import com.example.test_framework_api.repository.UserRepository;
+import com.example.test_framework_api.service.TestResultService;
 import com.example.test_framework_api.service.TestRunService;
 import com.example.test_framework_api.worker.TestExecutor;
 
@@ -227,6 +228,8 @@ public class TestEntityController {
   @Autowired
   private TestRunService testRunService;
   @Autowired
+  private TestResultService testResultService;
+  @Autowired
   private TestExecutor testExecutor;
   @Autowired
   private UserRepository userRepository;
@@ -314,26 +317,26 @@ public class TestEntityController {
       return ResponseEntity.notFound().build();
     }
 
-    var testResultsList = testRunService.getTestResultsByTestRunId(id).stream()
+    var testResultsList = testResultService.getResultViewsByTestRunId(id).stream()
         .map(result -> {
           Map<String, Object> resultMap = new HashMap<>();
-          resultMap.put("id", result.getId());
-          resultMap.put("testName", result.getTestName());
-          resultMap.put("status", result.getStatus());
-          resultMap.put("retryCount", result.getRetryCount());
-          resultMap.put("duration", result.getDuration());
-          resultMap.put("createdAt", result.getCreatedAt());
+          resultMap.put("id", result.id());
+          resultMap.put("testName", result.testName());
+          resultMap.put("status", result.status());
+          resultMap.put("retryCount", result.retryCount());
+          resultMap.put("duration", result.duration());
+          resultMap.put("createdAt", result.createdAt());
           
           // NEW: Include user info
-          if (result.getExecutedBy() != null) {
+          if (result.executedBy() != null) {
             resultMap.put("executedBy", Map.of(
-                "userId", result.getExecutedBy().getId(),
-                "username", result.getExecutedBy().getUsername()
+                "userId", result.executedBy().id(),
+                "username", result.executedBy().username()
             ));
           }
           
-          if (result.getErrorMessage() != null) {
-            resultMap.put("errorMessage", result.getErrorMessage());
+          if (result.errorMessage() != null) {
+            resultMap.put("errorMessage", result.errorMessage());
           }
           return resultMap;
         })
@@ -2,8 +2,15 @@ package com.example.test_framework_api.controller;
 
 import com.example.test_framework_api.model.TestRun;
 import com.example.test_framework_api.model.TestRunRequest;
+import com.example.test_framework_api.dto.FailureClusterSummary;
 import com.example.test_framework_api.dto.MetricsDto;
-import com.example.test_framework_api.model.TestResult;
+import com.example.test_framework_api.dto.RerunScope;
+import com.example.test_framework_api.dto.ResultView;
+import com.example.test_framework_api.dto.RunSummary;
+import com.example.test_framework_api.model.TestStatus;
+import com.example.test_framework_api.service.ArchiveService;
+import com.example.test_framework_api.service.ArtifactStore;
+import com.example.test_framework_api.service.FailureStore;
 import com.example.test_framework_api.service.TestRunService;
 import com.example.test_framework_api.service.TestResultService;
 import com.example.test_framework_api.service.MetricsService;
@@ -11,9 +18,14 @@ import com.example.test_framework_api.service.ProduceReportHtmlService;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -32,6 +44,12 @@ public class TestRunController {
     private ProduceReportHtmlService produceReportHtmlService;
     @Autowired
     private MetricsService metricsService;
+    @Autowired
+    private ArtifactStore artifactStore;
+    @Autowired
+    private FailureStore failureStore;
+    @Autowired
+    private ArchiveService archiveService;
 
     @PostMapping
     public ResponseEntity<TestRun> createTestRun(@RequestBody TestRunRequest request) {
@@ -39,75 +57,16 @@ public class TestRunController {
         return ResponseEntity.ok(testRun);
     }
 
-    // FIX: Return DTOs instead of entities to avoid circular references
+    // READ MODEL: Summaries projected in one query (creator + result count, no entities)
     @GetMapping
-    public ResponseEntity<List<Map<String, Object>>> getTestRuns() {
-        List<TestRun> runs = testRunService.getAllTestRuns();
-        
-        List<Map<String, Object>> runDtos = runs.stream()
-            .map(run -> {
-                Map<String, Object> dto = new HashMap<>();
-                dto.put("id", run.getId());
-                dto.put("name", run.getName());
-                dto.put("status", run.getStatus());
-                dto.put("parallelThreads", run.getParallelThreads());
-                dto.put("createdAt", run.getCreatedAt());
-                dto.put("reportPath", run.getReportPath());
-                
-                // Include creator info safely
-                if (run.getCreatedBy() != null) {
-                    Map<String, Object> creator = new HashMap<>();
-                    creator.put("id", run.getCreatedBy().getId());
-                    creator.put("username", run.getCreatedBy().getUsername());
-                    dto.put("createdBy", creator);
-                }
-                
-                // Include result count without full objects
-                dto.put("resultCount", run.getTestResults() != null ? run.getTestResults().size() : 0);
-                
-                return dto;
-            })
-            .collect(Collectors.toList());
-        
-        return ResponseEntity.ok(runDtos);
+    public ResponseEntity<List<RunSummary>> getTestRuns() {
+        return ResponseEntity.ok(testRunService.getRunSummaries());
     }
 
-    // FIX: Return DTOs for test results
+    // READ MODEL: Result views projected in one query (run + executor, no entities)
     @GetMapping("/reports")
-    public ResponseEntity<List<Map<String, Object>>> getTestResults() {
-        List<TestResult> results = testResultService.getAllTestResults();
-        
-        List<Map<String, Object>> resultDtos = results.stream()
-            .map(result -> {
-                Map<String, Object> dto = new HashMap<>();
-                dto.put("id", result.getId());
-                dto.put("testName", result.getTestName());
-                dto.put("status", result.getStatus());
-                dto.put("duration", result.getDuration());
-                dto.put("retryCount", result.getRetryCount());
-                dto.put("errorMessage", result.getErrorMessage());
-                dto.put("createdAt", result.getCreatedAt());
-                dto.put("flakyScore", result.getFlakyScore());
-                
-                // Include test run ID without full object
-                if (result.getTestRun() != null) {
-                    dto.put("testRunId", result.getTestRun().getId());
-                    dto.put("testRunName", result.getTestRun().getName());
-                }
-                
-                // Include executor info safely
-                if (result.getExecutedBy() != null) {
-                    Map<String, Object> executor = new HashMap<>();
-                    executor.put("id", result.getExecutedBy().getId());
-                    executor.put("username", result.getExecutedBy().getUsername());
-                    dto.put("executedBy", executor);
-                }
-                
-                return dto;
-            })
-            .collect(Collectors.toList());
-        
-        return ResponseEntity.ok(resultDtos);
+    public ResponseEntity<List<ResultView>> getTestResults() {
+        return ResponseEntity.ok(testResultService.getResultViews());
     }
 
     @GetMapping("/metrics")
@@ -147,6 +106,238 @@ public class TestRunController {
         }
     }
     
+    /**
+     * Stop a queued or executing run: queued cases are dropped, in-flight
+     * cases have their drivers/threads killed, and the run ends CANCELLED.
+     */
+    @PostMapping("/{id}/cancel")
+    public ResponseEntity<?> cancelTestRun(@PathVariable Long id, Authentication authentication) {
+        TestRun run = testRunService.getCurrentTestRun(id);
+        if (run == null) {
+            return ResponseEntity.notFound().build();
+        }
+        if (!testRunService.isActive(run)) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of(
+                "error", "Run already finished",
+                "testRunId", id,
+                "status", run.getStatus()
+            ));
+        }
+
+        String user = authentication != null ? authentication.getName() : "anonymous";
+        run = testRunService.cancelTestRun(id, "cancelled by " + user);
+        boolean stoppedBeforeStart = run.getStatus() == TestStatus.CANCELLED;
+        log.info("Cancel requested for run {} by {}", id, user);
+
+        return ResponseEntity.accepted().body(Map.of(
+            "message", stoppedBeforeStart ? "Run cancelled before execution" : "Cancellation in progress",
+            "testRunId", id,
+            "status", stoppedBeforeStart ? "CANCELLED" : "CANCELLING"
+        ));
+    }
+
+    /**
+     * RERUN: Queue a new run with only the cases that failed (scope=FAILED) or failed
+     * and are flaky (scope=FAILED_FLAKY) in the given finished run.
+     */
+    @PostMapping("/{id}/rerun-failed")
+    public ResponseEntity<?> rerunFailed(@PathVariable Long id,
+            @RequestParam(defaultValue = "FAILED") RerunScope scope,
+            @RequestParam(defaultValue = "1") int parallelThreads) {
+        if (parallelThreads < 1 || parallelThreads > 8) {
+            return ResponseEntity.badRequest().body(Map.of(
+                "error", "parallelThreads must be between 1 and 8",
+                "provided", parallelThreads,
+                "valid_range", "1-8"
+            ));
+        }
+
+        TestRun parent = testRunService.getCurrentTestRun(id);
+        if (parent == null) {
+            return ResponseEntity.notFound().build();
+        }
+        if (testRunService.isActive(parent)) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of(
+                "error", "Run still in progress",
+                "testRunId", id,
+                "status", parent.getStatus()
+            ));
+        }
+
+        TestRun rerun;
+        try {
+            rerun = testRunService.rerunFailed(id, scope, parallelThreads);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of(
+                "error", e.getMessage(),
+                "testRunId", id
+            ));
+        } catch (IllegalStateException e) {
+            // Run became active between the check above and the rerun (e.g. a concurrent rerun)
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of(
+                "error", e.getMessage(),
+                "testRunId", id
+            ));
+        }
+
+        if (rerun == null) {
+            return ResponseEntity.ok(Map.of(
+                "message", "Nothing to rerun",
+                "parentRunId", id,
+                "scope", scope,
+                "caseCount", 0
+            ));
+        }
+
+        log.info("Rerun {} queued for run {} (scope {})", rerun.getId(), id, scope);
+        return ResponseEntity.ok(Map.of(
+            "message", "Rerun queued for execution",
+            "testRunId", rerun.getId(),
+            "parentRunId", id,
+            "scope", scope,
+            "parallelThreads", parallelThreads
+        ));
+    }
+
+    /**
+     * RETRY: Every execution attempt of the run's cases, in attempt order.
+     */
+    @GetMapping("/{id}/attempts")
+    public ResponseEntity<?> getTestRunAttempts(@PathVariable Long id) {
+        if (testRunService.getTestRunById(id) == null) {
+            return ResponseEntity.notFound().build();
+        }
+
+        List<Map<String, Object>> attemptDtos = testResultService.findAttemptsByTestRunId(id).stream()
+            .map(a -> {
+                Map<String, Object> dto = new HashMap<>();
+                dto.put("testResultId", a.getTestResult().getId());
+                dto.put("testName", a.getTestResult().getTestName());
+                dto.put("attempt", a.getAttemptNumber());
+                dto.put("status", a.getStatus());
+                dto.put("duration", a.getDuration());
+                dto.put("errorMessage", a.getErrorMessage());
+                dto.put("startedAt", a.getStartedAt());
+                dto.put("screenshotUrl", ResultView.artifactUrl(a.getScreenshotRef()));
+                dto.put("domUrl", ResultView.artifactUrl(a.getDomRef()));
+                dto.put("failureUrl", ResultView.failureUrl(a.getFailureDetailId()));
+                return dto;
+            })
+            .collect(Collectors.toList());
+
+        return ResponseEntity.ok(attemptDtos);
+    }
+
+    /**
+     * ARTIFACTS: Failure screenshot / page source by content hash reference.
+     */
+    @GetMapping("/artifacts/{ref:.+}")
+    public ResponseEntity<byte[]> getArtifact(@PathVariable String ref) {
+        return artifactStore.read(ref)
+            .map(bytes -> ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_TYPE, ArtifactStore.contentType(ref))
+                .header(HttpHeaders.CACHE_CONTROL, "max-age=31536000, immutable") // Content-addressed
+                .body(bytes))
+            .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * FAILURES: Full error message + stack trace behind a result's summary, with its signature.
+     */
+    @GetMapping("/failures/{detailId}")
+    public ResponseEntity<?> getFailureDetail(@PathVariable Long detailId) {
+        return failureStore.findDetail(detailId)
+            .map(detail -> {
+                Map<String, Object> dto = new HashMap<>();
+                dto.put("id", detail.getId());
+                dto.put("detail", failureStore.text(detail));
+                dto.put("originalLength", detail.getOriginalLength());
+                dto.put("truncated", detail.getTruncated());
+                failureStore.findSignature(detail.getSignatureId()).ifPresent(signature -> {
+                    dto.put("signatureId", signature.getId());
+                    dto.put("exceptionType", signature.getExceptionType());
+                    dto.put("messageTemplate", signature.getMessageTemplate());
+                    dto.put("occurrenceCount", signature.getOccurrenceCount());
+                });
+                return ResponseEntity.ok(dto);
+            })
+            .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * ARCHIVE: Days whose results were moved to cold storage by retention.
+     */
+    @GetMapping("/archive/partitions")
+    public ResponseEntity<List<Map<String, Object>>> getArchivePartitions() {
+        List<Map<String, Object>> partitions = archiveService.partitions(null, null).stream()
+            .map(day -> {
+                Map<String, Object> dto = new HashMap<>();
+                dto.put("date", day.toString());
+                dto.put("sizeBytes", archiveService.partitionSize(day));
+                return dto;
+            })
+            .collect(Collectors.toList());
+        return ResponseEntity.ok(partitions);
+    }
+
+    /**
+     * ARCHIVE: Query archived results in place (streamed from the day partitions, not reloaded).
+     */
+    @GetMapping("/archive/results")
+    public ResponseEntity<?> queryArchive(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Long runId,
+            @RequestParam(required = false) String testName,
+            @RequestParam(required = false) String status,
+            @RequestParam(defaultValue = "500") int limit) {
+        if (to.isBefore(from)) {
+            return ResponseEntity.badRequest().body(Map.of("error", "'to' must not be before 'from'"));
+        }
+        return ResponseEntity.ok(archiveService.query(from, to, runId, testName, status, limit));
+    }
+
+    /**
+     * CLUSTERS: The run's failures grouped by signature, target host and failing step, largest first.
+     */
+    @GetMapping("/{id}/failure-clusters")
+    public ResponseEntity<List<FailureClusterSummary>> getFailureClusters(@PathVariable Long id) {
+        if (testRunService.getTestRunById(id) == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(failureStore.clustersForRun(id));
+    }
+
+    /**
+     * SCENARIO: Per-step results of multi-step UI cases, in step order per attempt.
+     */
+    @GetMapping("/{id}/steps")
+    public ResponseEntity<?> getTestRunSteps(@PathVariable Long id) {
+        if (testRunService.getTestRunById(id) == null) {
+            return ResponseEntity.notFound().build();
+        }
+
+        List<Map<String, Object>> stepDtos = testResultService.findStepsByTestRunId(id).stream()
+            .map(s -> {
+                Map<String, Object> dto = new HashMap<>();
+                dto.put("testResultId", s.getAttempt().getTestResult().getId());
+                dto.put("testName", s.getAttempt().getTestResult().getTestName());
+                dto.put("attempt", s.getAttempt().getAttemptNumber());
+                dto.put("step", s.getStepNumber());
+                dto.put("name", s.getName());
+                dto.put("action", s.getAction());
+                dto.put("target", s.getTarget());
+                dto.put("status", s.getStatus());
+                dto.put("duration", s.getDuration());
+                dto.put("errorMessage", s.getErrorMessage());
+                dto.put("startedAt", s.getStartedAt());
+                return dto;
+            })
+            .collect(Collectors.toList());
+
+        return ResponseEntity.ok(stepDtos);
+    }
+
     // NEW: Get single test run by ID
     @GetMapping("/{id}")
     public ResponseEntity<?> getTestRunById(@PathVariable Long id) {
@@ -162,6 +353,8 @@ public class TestRunController {
         dto.put("parallelThreads", run.getParallelThreads());
         dto.put("createdAt", run.getCreatedAt());
         dto.put("reportPath", run.getReportPath());
+        dto.put("terminationReason", run.getTerminationReason());
+        dto.put("parentRunId", run.getParentRunId());
         
         if (run.getCreatedBy() != null) {
             Map<String, Object> creator = new HashMap<>();
@@ -170,9 +363,28 @@ public class TestRunController {
             dto.put("createdBy", creator);
         }
         
-        // Include results as DTOs
-        if (run.getTestResults() != null) {
-            List<Map<String, Object>> resultDtos = run.getTestResults().stream()
+        // Include results as DTOs (projected, the results collection is not loaded)
+        List<Map<String, Object>> resultDtos = testResultService.getResultViewsByTestRunId(id).stream()
+            .map(r -> {
+                Map<String, Object> rdto = new HashMap<>();
+                rdto.put("id", r.id());
+                rdto.put("testName", r.testName());
+                rdto.put("status", r.status());
+                rdto.put("duration", r.duration());
+                rdto.put("retryCount", r.retryCount());
+                rdto.put("flaky", r.flaky());
+                rdto.put("quarantined", r.quarantined());
+                rdto.put("screenshotUrl", r.screenshotUrl());
+                rdto.put("domUrl", r.domUrl());
+                rdto.put("failureUrl", r.failureUrl());
+                return rdto;
+            })
+            .collect(Collectors.toList());
+        dto.put("testResults", resultDtos);
+
+        // RERUN: Final-attempt outcome per test across the parent run chain
+        if (run.getParentRunId() != null) {
+            List<Map<String, Object>> merged = testResultService.findFinalAttemptResults(id).stream()
                 .map(r -> {
                     Map<String, Object> rdto = new HashMap<>();
                     rdto.put("id", r.getId());
@@ -180,10 +392,11 @@ public class TestRunController {
                     rdto.put("status", r.getStatus());
                     rdto.put("duration", r.getDuration());
                     rdto.put("retryCount", r.getRetryCount());
+                    rdto.put("testRunId", r.getTestRun() != null ? r.getTestRun().getId() : null);
                     return rdto;
                 })
                 .collect(Collectors.toList());
-            dto.put("testResults", resultDtos);
+            dto.put("mergedResults", merged);
         }
         
         return ResponseEntity.ok(dto);
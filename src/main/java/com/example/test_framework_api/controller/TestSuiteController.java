@@ -1,15 +1,23 @@
 package com.example.test_framework_api.controller;
 
+import com.example.test_framework_api.dto.SuiteSummary;
+import com.example.test_framework_api.dto.FailureClusterSummary;
 import com.example.test_framework_api.dto.TestSuiteRequest;
+import com.example.test_framework_api.dto.ExecutionOrder;
 import com.example.test_framework_api.dto.TestCaseExecutionRequest;
+import com.example.test_framework_api.model.RollupPeriod;
 import com.example.test_framework_api.model.TestRun;
 import com.example.test_framework_api.model.TestSuite;
 import com.example.test_framework_api.model.User;
 import com.example.test_framework_api.repository.UserRepository;
 import com.example.test_framework_api.service.TestRunService;
 import com.example.test_framework_api.service.TestSuiteService;
+import com.example.test_framework_api.service.FailureStore;
 import com.example.test_framework_api.service.ProduceReportHtmlService;
+import com.example.test_framework_api.service.RollupService;
 import com.example.test_framework_api.service.MetricsService;
+import com.example.test_framework_api.service.QuarantineService;
+import com.example.test_framework_api.worker.WebDriverFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
@@ -25,6 +33,7 @@ import org.springframework.security.core.Authentication;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 
+import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -51,14 +60,23 @@ public class TestSuiteController {
     private final ProduceReportHtmlService reportService;
     private final MetricsService metricsService;
     private final UserRepository userRepository;
+    private final QuarantineService quarantineService;
+    private final WebDriverFactory webDriverFactory;
+    private final FailureStore failureStore;
+    private final RollupService rollupService;
 
     @PostMapping("/import-csv")
     public ResponseEntity<TestSuite> importSuite(@ModelAttribute TestSuiteRequest request,
             Authentication authentication) {
+        if (!isKnownProfile(request.getBrowserProfile())) {
+            log.error("Unknown browser profile: {}", request.getBrowserProfile());
+            return ResponseEntity.badRequest().build();
+        }
         try {
             TestSuite suite = suiteService.importFromCsv(request.getCsvFile(),
                     request.getSuiteName(),
                     request.getDescription(),
+                    request.getBrowserProfile(),
                     authentication);
             return ResponseEntity.ok(suite);
         } catch (Exception e) {
@@ -80,23 +98,65 @@ public class TestSuiteController {
 
     @PostMapping("/{id}/execute")
     public ResponseEntity<Map<String, Object>> runSuite(@PathVariable Long id) {
-        return runSuiteWithThreads(id, 1);
+        TestCaseExecutionRequest options = new TestCaseExecutionRequest();
+        options.setParallelThreads(1);
+        return runSuiteWithThreads(id, options);
     }
 
+    /**
+     * adaptive=true: parallelThreads is only the starting point; concurrency then
+     * follows observed latency, error rate, CPU and memory headroom.
+     * hostRps / hostMaxConcurrent: per target host limits for this run,
+     * applied on top of the global execution.host-limits.
+     * caseTimeout / suiteTimeout: hard deadlines in seconds (0 = execution.timeouts.*).
+     * maxFailures / maxFailureRate (%) / stopOnCriticalFailure: fail-fast policy
+     * (0 / false = execution.fail-fast.*); outstanding cases are cancelled and the run FAILS.
+     * ordering: PRIORITY (default, High first then most failure-prone), FAILURE_FIRST
+     * (recent failures / last failure / flaky score; fastest time-to-first-failure) or LIST (CSV order).
+     */
     @PostMapping("/{id}/execute-parallel")
     public ResponseEntity<Map<String, Object>> runSuiteParallel(
             @PathVariable Long id,
-            @RequestParam(defaultValue = "1") @Min(value = 1) @Max(value = 8) int parallelThreads) {
-        return runSuiteWithThreads(id, parallelThreads);
+            @RequestParam(defaultValue = "1") @Min(value = 1) @Max(value = 8) int parallelThreads,
+            @RequestParam(defaultValue = "false") boolean adaptive,
+            @RequestParam(defaultValue = "0") @Min(value = 0) double hostRps,
+            @RequestParam(defaultValue = "0") @Min(value = 0) int hostMaxConcurrent,
+            @RequestParam(defaultValue = "0") @Min(value = 0) int caseTimeout,
+            @RequestParam(defaultValue = "0") @Min(value = 0) int suiteTimeout,
+            @RequestParam(defaultValue = "0") @Min(value = 0) int maxFailures,
+            @RequestParam(defaultValue = "0") @Min(value = 0) @Max(value = 100) double maxFailureRate,
+            @RequestParam(defaultValue = "false") boolean stopOnCriticalFailure,
+            @RequestParam(defaultValue = "PRIORITY") ExecutionOrder ordering,
+            @RequestParam(required = false) String browserProfile) {
+        TestCaseExecutionRequest options = new TestCaseExecutionRequest();
+        options.setParallelThreads(parallelThreads);
+        options.setAdaptiveConcurrency(adaptive);
+        options.setHostRequestsPerSecond(hostRps);
+        options.setHostMaxConcurrency(hostMaxConcurrent);
+        options.setCaseTimeoutSeconds(caseTimeout);
+        options.setSuiteTimeoutSeconds(suiteTimeout);
+        options.setMaxFailures(maxFailures);
+        options.setMaxFailureRate(maxFailureRate);
+        options.setStopOnCriticalFailure(stopOnCriticalFailure);
+        options.setOrdering(ordering);
+        options.setBrowserProfile(browserProfile);
+        return runSuiteWithThreads(id, options);
     }
 
-    private ResponseEntity<Map<String, Object>> runSuiteWithThreads(Long id, int parallelThreads) {
+    private ResponseEntity<Map<String, Object>> runSuiteWithThreads(Long id, TestCaseExecutionRequest req) {
+        int parallelThreads = req.getParallelThreads();
+        boolean adaptive = req.isAdaptiveConcurrency();
         if (parallelThreads < 1 || parallelThreads > 8) {
             return ResponseEntity.badRequest().body(Map.of(
                     "error", "parallelThreads must be between 1 and 8",
                     "provided", parallelThreads,
                     "valid_range", "1-8"));
         }
+        if (!isKnownProfile(req.getBrowserProfile())) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "error", "Unknown browser profile: " + req.getBrowserProfile(),
+                    "profiles", webDriverFactory.getProfileNames()));
+        }
 
         TestSuite suite = suiteService.getSuiteById(id);
         if (suite == null) {
@@ -119,14 +179,13 @@ public class TestSuiteController {
         suite.setTestRun(run);
         suiteService.getSuiteById(id);
 
-        TestCaseExecutionRequest req = new TestCaseExecutionRequest();
         req.setTestSuiteId(id);
         req.setTestRunId(run.getId());
-        req.setParallelThreads(parallelThreads);
         rabbitTemplate.convertAndSend(TEST_SUITE_QUEUE, req);
 
-        String mode = parallelThreads == 1 ? "sequential" : "parallel";
-        String executorType = parallelThreads == 1 ? "single-thread"
+        String mode = adaptive ? "adaptive" : (parallelThreads == 1 ? "sequential" : "parallel");
+        String executorType = adaptive ? "adaptive"
+                : parallelThreads == 1 ? "single-thread"
                 : (parallelThreads <= 4 ? "standard" : "high-concurrency");
 
         return ResponseEntity.ok(Map.of(
@@ -140,6 +199,10 @@ public class TestSuiteController {
                 "status", "PENDING"));
     }
 
+    private boolean isKnownProfile(String browserProfile) {
+        return browserProfile == null || browserProfile.isBlank() || webDriverFactory.hasProfile(browserProfile);
+    }
+
     /**
      * FIXED: Proper exception handling for suite not executed
      */
@@ -294,64 +357,80 @@ public class TestSuiteController {
     }
 
     @GetMapping("/my-suites")
-    public ResponseEntity<List<Map<String, Object>>> getMySuites(Authentication authentication) {
+    public ResponseEntity<List<SuiteSummary>> getMySuites(Authentication authentication) {
         String username = authentication.getName();
         User currentUser = userRepository.findByUsername(username)
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
-        List<TestSuite> userSuites = suiteService.getSuitesByUser(currentUser.getId());
-
-        // FIXED: Format response with test case count
-        List<Map<String, Object>> enrichedSuites = userSuites.stream()
-                .map(suite -> {
-                    Map<String, Object> suiteData = new HashMap<>();
-                    suiteData.put("id", suite.getId());
-                    suiteData.put("name", suite.getName());
-                    suiteData.put("description", suite.getDescription());
-                    suiteData.put("status", suite.getStatus());
-                    int testCaseCount = suite.getTestCases() != null ? suite.getTestCases().size() : 0;
-                    suiteData.put("testCases", suite.getTestCases());
-                    suiteData.put("testCaseCount", testCaseCount);
-                    suiteData.put("createdAt", suite.getCreatedAt());
-                    return suiteData;
+        // READ MODEL: Case count projected, the cases themselves are not loaded
+        return ResponseEntity.ok(suiteService.getSuiteSummariesByUser(currentUser.getId()));
+    }
+
+    /**
+     * RETENTION: Suite totals per day or week from the rollup tables (covers history
+     * whose raw results have already been dropped).
+     */
+    @GetMapping("/{id}/rollups")
+    public ResponseEntity<?> getSuiteRollups(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "DAILY") RollupPeriod period,
+            @RequestParam(defaultValue = "90") int days) {
+        if (suiteService.getSuiteById(id) == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(Map.of(
+                "suiteId", id,
+                "period", period,
+                "data", rollupService.suiteRollups(id, period, LocalDate.now().minusDays(days))));
+    }
+
+    /**
+     * CLUSTERS: Failures across the suite's runs grouped by signature, host and step.
+     */
+    @GetMapping("/{id}/failure-clusters")
+    public ResponseEntity<List<FailureClusterSummary>> getFailureClusters(@PathVariable Long id) {
+        if (suiteService.getSuiteById(id) == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(failureStore.clustersForSuite(id));
+    }
+
+    /**
+     * QUARANTINE: Flaky tests currently running in the quarantine lane.
+     */
+    @GetMapping("/quarantine")
+    public ResponseEntity<List<Map<String, Object>>> getQuarantinedTests() {
+        List<Map<String, Object>> tests = quarantineService.getQuarantinedTests().stream()
+                .map(q -> {
+                    Map<String, Object> dto = new HashMap<>();
+                    dto.put("testName", q.getTestName());
+                    dto.put("flakyScore", q.getFlakyScore());
+                    dto.put("consecutivePasses", q.getConsecutivePasses());
+                    dto.put("quarantinedAt", q.getQuarantinedAt());
+                    return dto;
                 })
                 .collect(Collectors.toList());
+        return ResponseEntity.ok(tests);
+    }
 
-        return ResponseEntity.ok(enrichedSuites);
+    /**
+     * QUARANTINE: Return a test to the normal lanes without waiting for promotion.
+     */
+    @DeleteMapping("/quarantine/{testName}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> releaseQuarantinedTest(@PathVariable String testName) {
+        if (!quarantineService.release(testName)) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(Map.of(
+                "message", "Test released from quarantine",
+                "testName", testName));
     }
 
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<Map<String, Object>>> getSuites() {
-        List<TestSuite> suites = suiteService.getAllSuites();
-
-        // Add creator info to each suite
-        List<Map<String, Object>> enrichedSuites = suites.stream()
-                .map(suite -> {
-                    Map<String, Object> suiteData = new HashMap<>();
-                    suiteData.put("id", suite.getId());
-                    suiteData.put("name", suite.getName());
-                    suiteData.put("description", suite.getDescription());
-                    suiteData.put("status", suite.getStatus());
-                    suiteData.put("testCases", suite.getTestCases());
-                    suiteData.put("createdAt", suite.getCreatedAt());
-
-                    int testCaseCount = suite.getTestCases() != null ? suite.getTestCases().size() : 0;
-                    suiteData.put("testCaseCount", testCaseCount); // Add count for convenience
-
-                    // FIXED #4: Add creator info
-                    if (suite.getCreatedBy() != null) {
-                        Map<String, Object> creatorInfo = new HashMap<>();
-                        creatorInfo.put("userId", suite.getCreatedBy().getId());
-                        creatorInfo.put("username", suite.getCreatedBy().getUsername());
-                        creatorInfo.put("roles", suite.getCreatedBy().getRoles());
-                        suiteData.put("createdBy", creatorInfo);
-                    }
-
-                    return suiteData;
-                })
-                .collect(Collectors.toList());
-
-        return ResponseEntity.ok(enrichedSuites);
+    public ResponseEntity<List<SuiteSummary>> getSuites() {
+        // READ MODEL: Case counts and creators (with roles) in two queries
+        return ResponseEntity.ok(suiteService.getSuiteSummaries());
     }
 }
\ No newline at end of file
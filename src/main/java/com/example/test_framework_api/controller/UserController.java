@@ -1,14 +1,12 @@
 package com.example.test_framework_api.controller;
 
+import com.example.test_framework_api.dto.UserStats;
 import com.example.test_framework_api.model.TestStatus;
 import com.example.test_framework_api.model.TestCase;
-import com.example.test_framework_api.model.TestResult;
-import com.example.test_framework_api.model.TestSuite;
 import com.example.test_framework_api.model.User;
 import com.example.test_framework_api.repository.UserRepository;
 import com.example.test_framework_api.repository.TestResultRepository;
 import com.example.test_framework_api.repository.TestRunRepository;
-import com.example.test_framework_api.repository.TestSuiteRepository;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -33,7 +31,6 @@ public class UserController {
     private final UserRepository userRepository;
     private final TestResultRepository testResultRepository;
     private final TestRunRepository testRunRepository;
-    private final TestSuiteRepository testSuiteRepository;
 
     // @GetMapping("/me/stats")
     // public ResponseEntity<?> getMyStats(Authentication authentication) {
@@ -131,81 +128,18 @@ public class UserController {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
-        log.info("Fetching stats for user: {} (ID: {})", username, user.getId());
-
-        // Step 1: Get all test suites created by this user
-        List<TestSuite> userSuites = testSuiteRepository.findByCreatedById(user.getId());
-        log.info("User {} has {} test suites", username, userSuites.size());
-
-        if (userSuites.isEmpty()) {
-            return ResponseEntity.ok(Map.of(
-                "passed", 0,
-                "failed", 0,
-                "pending", 0,
-                "passRate", 0.0,
-                "suiteCount", 0,
-                "totalTestCases", 0
-            ));
-        }
-
-        // Step 2: Get suite IDs for fetching test results
-        Set<Long> suiteIds = userSuites.stream()
-                .map(TestSuite::getId)
-                .collect(Collectors.toSet());
-
-        log.info("Fetching results for {} suite IDs", suiteIds.size());
-
-        // Step 3: Get all test results by suite ID (not test run ID)
-        List<TestResult> allResults = suiteIds.stream()
-                .flatMap(suiteId -> testResultRepository.findByTestSuiteId(suiteId).stream())
-                .collect(Collectors.toList());
-
-        log.info("Found {} total test results from suite IDs", allResults.size());
-
-        // DIAGNOSTIC: If no results found, check if suites were executed
-        if (allResults.isEmpty()) {
-            log.warn("No test results found! User has {} suites but none have been executed.", userSuites.size());
-            log.warn("To get pass/fail stats, execute the test suites from the UI.");
-        } else {
-            log.info("Results breakdown - PASSED: {}, FAILED: {}", 
-                allResults.stream().filter(r -> r.getStatus() == TestStatus.PASSED).count(),
-                allResults.stream().filter(r -> r.getStatus() == TestStatus.FAILED).count());
-        }
-
-        // Step 4: Count passed, failed, and pending tests
-        long passedCount = allResults.stream()
-                .filter(r -> r.getStatus() == TestStatus.PASSED)
-                .count();
-        
-        long failedCount = allResults.stream()
-                .filter(r -> r.getStatus() == TestStatus.FAILED)
-                .count();
-
-        // Step 5: Get all test cases from user's suites
-        long totalTestCases = userSuites.stream()
-                .filter(suite -> suite.getTestCases() != null)
-                .mapToLong(suite -> suite.getTestCases().size())
-                .sum();
-
-        // Pending = total test cases - executed tests
-        long executedTests = passedCount + failedCount;
-        long pendingCount = totalTestCases - executedTests;
-        // Ensure pending is never negative
-        if (pendingCount < 0) pendingCount = 0;
-
-        // Calculate pass rate based on executed tests (excluding pending)
-        double passRate = executedTests > 0 ? (passedCount * 100.0 / executedTests) : 0.0;
+        // READ MODEL: Suite, case and result counts in one aggregate query (no entities loaded)
+        UserStats userStats = userRepository.findStats(user.getId());
 
         Map<String, Object> stats = new HashMap<>();
-        stats.put("passed", passedCount);
-        stats.put("failed", failedCount);
-        stats.put("pending", pendingCount);
-        stats.put("passRate", passRate);
-        stats.put("suiteCount", userSuites.size());
-        stats.put("totalTestCases", totalTestCases);
+        stats.put("passed", userStats.passed());
+        stats.put("failed", userStats.failed());
+        stats.put("pending", userStats.pending());
+        stats.put("passRate", userStats.passRate());
+        stats.put("suiteCount", userStats.suiteCount());
+        stats.put("totalTestCases", userStats.totalTestCases());
 
-        log.info("Stats for user {}: {} suites, {} test cases ({} passed, {} failed, {} pending, {:.2f}% pass rate)",
-                username, userSuites.size(), totalTestCases, passedCount, failedCount, pendingCount, passRate);
+        log.debug("Stats for user {}: {}", username, userStats);
 
         return ResponseEntity.ok(stats);
     }
@@ -287,10 +221,13 @@ public class UserController {
     // }
 
     // FIX: Return safe DTOs without circular references
+    // READ MODEL: Users with roles plus two grouped counts (three queries in total)
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<List<Map<String, Object>>> getAllUsers() {
-        List<User> users = userRepository.findAll();
+        List<User> users = userRepository.findAllWithRoles();
+        Map<Long, Long> executions = countsByUser(testResultRepository.countByExecutor());
+        Map<Long, Long> runsCreated = countsByUser(testRunRepository.countByCreator());
         
         List<Map<String, Object>> userDtos = users.stream()
             .map(user -> {
@@ -301,18 +238,8 @@ public class UserController {
                 dto.put("roles", user.getRoles());
                 dto.put("enabled", user.isEnabled());
                 dto.put("createdAt", user.getCreatedAt());
-                
-                // Calculate test execution count
-                long testExecutions = testResultRepository.findAll().stream()
-                    .filter(r -> r.getExecutedBy() != null && r.getExecutedBy().getId().equals(user.getId()))
-                    .count();
-                dto.put("testExecutions", testExecutions);
-                
-                long testRunsCreated = testRunRepository.findAll().stream()
-                    .filter(r -> r.getCreatedBy() != null && r.getCreatedBy().getId().equals(user.getId()))
-                    .count();
-                dto.put("testRunsCreated", testRunsCreated);
-                
+                dto.put("testExecutions", executions.getOrDefault(user.getId(), 0L));
+                dto.put("testRunsCreated", runsCreated.getOrDefault(user.getId(), 0L));
                 return dto;
             })
             .collect(Collectors.toList());
@@ -320,6 +247,15 @@ public class UserController {
         return ResponseEntity.ok(userDtos);
     }
 
+    // [userId, count] rows to a lookup map
+    private static Map<Long, Long> countsByUser(List<Object[]> rows) {
+        Map<Long, Long> counts = new HashMap<>();
+        for (Object[] row : rows) {
+            counts.put((Long) row[0], ((Number) row[1]).longValue());
+        }
+        return counts;
+    }
+
     @GetMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<?> getUserById(@PathVariable Long id) {
@@ -328,20 +264,10 @@ public class UserController {
             return ResponseEntity.notFound().build();
         }
 
-        long totalTests = testResultRepository.findAll().stream()
-            .filter(r -> r.getExecutedBy() != null && r.getExecutedBy().getId().equals(id))
-            .count();
-
-        long passedTests = testResultRepository.findAll().stream()
-            .filter(r -> r.getExecutedBy() != null && r.getExecutedBy().getId().equals(id))
-            .filter(r -> r.getStatus().name().equals("PASSED"))
-            .count();
-
+        long totalTests = testResultRepository.countByExecutorId(id);
+        long passedTests = testResultRepository.countByExecutorIdAndStatus(id, TestStatus.PASSED);
         long failedTests = totalTests - passedTests;
-
-        long testRunsCreated = testRunRepository.findAll().stream()
-            .filter(r -> r.getCreatedBy() != null && r.getCreatedBy().getId().equals(id))
-            .count();
+        long testRunsCreated = testRunRepository.countByCreatorId(id);
 
         Map<String, Object> dto = new HashMap<>();
         dto.put("id", user.getId());
@@ -447,15 +373,14 @@ public class UserController {
         String username = authentication.getName();
         User user = userRepository.findByUsername(username).orElseThrow();
 
-        List<Map<String, Object>> myTests = testResultRepository.findAll().stream()
-            .filter(r -> r.getExecutedBy() != null && r.getExecutedBy().getId().equals(user.getId()))
+        List<Map<String, Object>> myTests = testResultRepository.findViewsByExecutorId(user.getId()).stream()
             .map(result -> {
                 Map<String, Object> dto = new HashMap<>();
-                dto.put("testName", result.getTestName());
-                dto.put("status", result.getStatus().toString());
-                dto.put("duration", result.getDuration() != null ? result.getDuration() : 0L);
-                dto.put("createdAt", result.getCreatedAt());
-                dto.put("retryCount", result.getRetryCount() != null ? result.getRetryCount() : 0);
+                dto.put("testName", result.testName());
+                dto.put("status", result.status().toString());
+                dto.put("duration", result.duration() != null ? result.duration() : 0L);
+                dto.put("createdAt", result.createdAt());
+                dto.put("retryCount", result.retryCount() != null ? result.retryCount() : 0);
                 return dto;
             })
             .collect(Collectors.toList());
@@ -480,13 +405,8 @@ public class UserController {
         String username = authentication.getName();
         User user = userRepository.findByUsername(username).orElseThrow();
 
-        long totalTests = testResultRepository.findAll().stream()
-            .filter(r -> r.getExecutedBy() != null && r.getExecutedBy().getId().equals(user.getId()))
-            .count();
-
-        long testRunsCreated = testRunRepository.findAll().stream()
-            .filter(r -> r.getCreatedBy() != null && r.getCreatedBy().getId().equals(user.getId()))
-            .count();
+        long totalTests = testResultRepository.countByExecutorId(user.getId());
+        long testRunsCreated = testRunRepository.countByCreatorId(user.getId());
 
         Map<String, Object> dto = new HashMap<>();
         dto.put("id", user.getId());
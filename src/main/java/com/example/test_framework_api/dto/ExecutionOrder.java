@@ -0,0 +1,10 @@
+package com.example.test_framework_api.dto;
+
+/**
+ * Order in which a suite's cases are started.
+ */
+public enum ExecutionOrder {
+    LIST,       // CSV / insertion order
+    PRIORITY,       // High > Medium > Low, then most likely to fail first (historical failure rate)
+    FAILURE_FIRST   // Highest failure risk first: recent failures, time since last failure, flaky score
+}
@@ -0,0 +1,31 @@
+package com.example.test_framework_api.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * One failure cluster as shown in triage views: signature, where it failed, how often.
+ */
+public record FailureClusterSummary(
+        Long signatureId,
+        String exceptionType,
+        String messageTemplate,
+        String targetHost,
+        String step,
+        long failures,
+        String sampleTestName,
+        Long sampleDetailId,
+        LocalDateTime lastSeenAt) {
+
+    public static FailureClusterSummary fromRow(Object[] row) {
+        return new FailureClusterSummary(
+                (Long) row[0],
+                (String) row[1],
+                (String) row[2],
+                (String) row[3],
+                (String) row[4],
+                row[5] != null ? ((Number) row[5]).longValue() : 0,
+                (String) row[6],
+                (Long) row[7],
+                (LocalDateTime) row[8]);
+    }
+}
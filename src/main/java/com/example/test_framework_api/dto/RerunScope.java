@@ -0,0 +1,9 @@
+package com.example.test_framework_api.dto;
+
+/**
+ * Which cases of a previous run are picked up by rerun-failed.
+ */
+public enum RerunScope {
+    FAILED,         // Every case whose final attempt failed
+    FAILED_FLAKY    // Failed cases that are also flaky (retried in that run, or mixed pass/fail history)
+}
@@ -0,0 +1,47 @@
+package com.example.test_framework_api.dto;
+
+import com.example.test_framework_api.model.TestStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDateTime;
+
+/**
+ * A test result as listed by the API: scalar columns plus run and executor,
+ * read in one query (no entity, no lazy loads).
+ */
+public record ResultView(
+        Long id,
+        String testName,
+        TestStatus status,
+        Long duration,
+        Integer retryCount,
+        String errorMessage,
+        LocalDateTime createdAt,
+        Double flakyScore,
+        Boolean flaky,
+        Boolean quarantined,
+        String screenshotUrl,
+        String domUrl,
+        String failureUrl,
+        @JsonInclude(JsonInclude.Include.NON_NULL) Long testRunId,
+        @JsonInclude(JsonInclude.Include.NON_NULL) String testRunName,
+        @JsonInclude(JsonInclude.Include.NON_NULL) UserRef executedBy) {
+
+    // JPQL constructor expression (TestResultRepository.find*Views)
+    public ResultView(Long id, String testName, TestStatus status, Long duration, Integer retryCount,
+            String errorMessage, LocalDateTime createdAt, Double flakyScore, Boolean flaky, Boolean quarantined,
+            String screenshotRef, String domRef, Long failureDetailId, Long testRunId, String testRunName,
+            Long executorId, String executorName) {
+        this(id, testName, status, duration, retryCount, errorMessage, createdAt, flakyScore, flaky, quarantined,
+                artifactUrl(screenshotRef), artifactUrl(domRef), failureUrl(failureDetailId), testRunId, testRunName,
+                UserRef.of(executorId, executorName));
+    }
+
+    public static String artifactUrl(String ref) {
+        return ref != null ? "/api/runs/artifacts/" + ref : null;
+    }
+
+    public static String failureUrl(Long detailId) {
+        return detailId != null ? "/api/runs/failures/" + detailId : null;
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.test_framework_api.dto;
+
+import com.example.test_framework_api.model.TestStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDateTime;
+
+/**
+ * One row of the run list, with its creator and result count resolved in the same query.
+ */
+public record RunSummary(
+        Long id,
+        String name,
+        TestStatus status,
+        Integer parallelThreads,
+        LocalDateTime createdAt,
+        String reportPath,
+        @JsonInclude(JsonInclude.Include.NON_NULL) UserRef createdBy,
+        long resultCount) {
+
+    // JPQL constructor expression (TestRunRepository.findSummaries)
+    public RunSummary(Long id, String name, TestStatus status, Integer parallelThreads, LocalDateTime createdAt,
+            String reportPath, Long creatorId, String creatorName, Long resultCount) {
+        this(id, name, status, parallelThreads, createdAt, reportPath, UserRef.of(creatorId, creatorName),
+                resultCount != null ? resultCount : 0);
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.test_framework_api.dto;
+
+import com.example.test_framework_api.model.TestStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * One row of the suite list: case count instead of the cases themselves.
+ */
+public record SuiteSummary(
+        Long id,
+        String name,
+        String description,
+        TestStatus status,
+        LocalDateTime createdAt,
+        long testCaseCount,
+        @JsonInclude(JsonInclude.Include.NON_NULL) Creator createdBy) {
+
+    public record Creator(Long userId, String username, Set<String> roles) {
+    }
+
+    // JPQL constructor expression (TestSuiteRepository.findSummaries*); creator roles are added after
+    public SuiteSummary(Long id, String name, String description, TestStatus status, LocalDateTime createdAt,
+            Long testCaseCount, Long creatorId, String creatorName) {
+        this(id, name, description, status, createdAt, testCaseCount != null ? testCaseCount : 0,
+                creatorId != null ? new Creator(creatorId, creatorName, Set.of()) : null);
+    }
+
+    public SuiteSummary withCreatorRoles(Set<String> roles) {
+        return createdBy == null ? this : new SuiteSummary(id, name, description, status, createdAt, testCaseCount,
+                new Creator(createdBy.userId(), createdBy.username(), roles));
+    }
+}
@@ -2,6 +2,8 @@ package com.example.test_framework_api.dto;
 
 import lombok.Data;
 
+import java.util.List;
+
 /**
  * Request DTO for test case execution.
  * Now includes parallelThreads for concurrent execution.
@@ -17,4 +19,51 @@ public class TestCaseExecutionRequest {
      * Range: 1-8 (validated in controller)
      */
     private int parallelThreads = 1;
-}
\ No newline at end of file
+
+    /**
+     * Adaptive concurrency: parallelThreads becomes the starting limit and
+     * each lane grows/shrinks at runtime (AIMD) from latency, errors, CPU and memory.
+     */
+    private boolean adaptiveConcurrency = false;
+
+    /**
+     * Suite-level per-host limits (0 = only the global execution.host-limits apply).
+     * Applied to every target host of this run, on top of the global limits.
+     */
+    private double hostRequestsPerSecond = 0;
+    private int hostMaxConcurrency = 0;
+
+    /**
+     * Hard deadlines in seconds (0 = execution.timeouts.* defaults).
+     * Enforced by the run watchdog, which kills stuck drivers and threads.
+     */
+    private int caseTimeoutSeconds = 0;
+    private int suiteTimeoutSeconds = 0;
+
+    /**
+     * Early-termination (0 / false = execution.fail-fast.* defaults).
+     * maxFailureRate is a percentage (0-100).
+     */
+    private int maxFailures = 0;
+    private double maxFailureRate = 0;
+    private boolean stopOnCriticalFailure = false;
+
+    /**
+     * Start order of cases. PRIORITY (default): High > Medium > Low, then
+     * historically most likely to fail first. FAILURE_FIRST: highest failure
+     * risk from recent results first. LIST: CSV order.
+     */
+    private ExecutionOrder ordering = ExecutionOrder.PRIORITY;
+
+    /**
+     * Restrict the run to these TestCaseIDs (null = every enabled case).
+     * Set by rerun-failed so only the previously failed cases are executed.
+     */
+    private List<String> testCaseIds;
+
+    /**
+     * execution.browser profile for this run's UI cases; overrides the
+     * suite's profile (null = suite profile, then the default profile).
+     */
+    private String browserProfile;
+}
@@ -8,4 +8,5 @@ public class TestSuiteRequest {
     private MultipartFile csvFile;  // NEW FEATURE: CSV upload
     private String suiteName;
     private String description;
+    private String browserProfile;  // execution.browser profile for UI cases (optional)
 }
\ No newline at end of file
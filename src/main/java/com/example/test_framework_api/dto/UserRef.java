@@ -0,0 +1,11 @@
+package com.example.test_framework_api.dto;
+
+/**
+ * Who created or executed something, without the user entity (password, roles).
+ */
+public record UserRef(Long id, String username) {
+
+    public static UserRef of(Long id, String username) {
+        return id != null ? new UserRef(id, username) : null;
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.test_framework_api.dto;
+
+/**
+ * Dashboard counts for the suites a user created, read in one aggregate query.
+ */
+public record UserStats(long suiteCount, long totalTestCases, long passed, long failed) {
+
+    /**
+     * Cases without a passed or failed result (never negative: cases can run more than once).
+     */
+    public long pending() {
+        return Math.max(0, totalTestCases - passed - failed);
+    }
+
+    /**
+     * Pass rate over executed results, pending excluded.
+     */
+    public double passRate() {
+        long executed = passed + failed;
+        return executed > 0 ? passed * 100.0 / executed : 0.0;
+    }
+}
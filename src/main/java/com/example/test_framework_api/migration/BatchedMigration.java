@@ -0,0 +1,94 @@
+package com.example.test_framework_api.migration;
+
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+
+/**
+ * MIGRATIONS: Backfill of a large table in primary-key ranges.
+ *
+ * Runs outside a migration transaction, so every range is its own short
+ * auto-committed statement: row locks and undo stay bounded, replicas keep
+ * up, and the application keeps writing while it runs. The update must only
+ * touch rows that still need it, so an interrupted migration can be re-run.
+ *
+ * Tuned with spring.flyway.placeholders.batch-size / batch-pause-ms.
+ */
+@Slf4j
+public abstract class BatchedMigration extends BaseJavaMigration {
+
+    static final int DEFAULT_BATCH_SIZE = 5000;
+
+    /**
+     * Table whose id range is walked.
+     */
+    protected abstract String table();
+
+    /**
+     * Idempotent UPDATE/DELETE restricted to "id >= ? AND id < ?".
+     */
+    protected abstract String batchSql();
+
+    /**
+     * One id range. Backfills that need Java per row override this and use
+     * batchSql() to select the rows of the range that still need it.
+     *
+     * @return rows changed
+     */
+    protected int migrateBatch(Connection connection, long fromId, long toId) throws SQLException {
+        try (PreparedStatement batch = connection.prepareStatement(batchSql())) {
+            batch.setLong(1, fromId);
+            batch.setLong(2, toId);
+            return batch.executeUpdate();
+        }
+    }
+
+    @Override
+    public boolean canExecuteInTransaction() {
+        return false;
+    }
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Map<String, String> placeholders = context.getConfiguration().getPlaceholders();
+        int batchSize = Integer.parseInt(placeholders.getOrDefault("batch-size", String.valueOf(DEFAULT_BATCH_SIZE)));
+        long pauseMs = Long.parseLong(placeholders.getOrDefault("batch-pause-ms", "0"));
+        run(context.getConnection(), batchSize, pauseMs);
+    }
+
+    /**
+     * @return rows changed
+     */
+    public long run(Connection connection, int batchSize, long pauseMs) throws SQLException, InterruptedException {
+        long minId;
+        long maxId;
+        try (Statement statement = connection.createStatement();
+             ResultSet range = statement.executeQuery("SELECT MIN(id), MAX(id) FROM " + table())) {
+            range.next();
+            minId = range.getLong(1);
+            if (range.wasNull()) {
+                return 0; // Empty table
+            }
+            maxId = range.getLong(2);
+        }
+
+        long changed = 0;
+        int batches = 0;
+        for (long from = minId; from <= maxId; from += batchSize) {
+            changed += migrateBatch(connection, from, from + batchSize);
+            batches++;
+            if (pauseMs > 0) {
+                Thread.sleep(pauseMs); // Let replicas and foreground writes catch up
+            }
+        }
+        log.info("{}: {} rows changed in {} batches of {} ids", getClass().getSimpleName(), changed, batches, batchSize);
+        return changed;
+    }
+}
@@ -0,0 +1,174 @@
+package com.example.test_framework_api.migration;
+
+import com.example.test_framework_api.service.FailureStore;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * FAILURES: Moves error messages longer than the summary out of the rows of
+ * table() into failure_detail, as FailureStore.attach does for new rows, and
+ * leaves the summary in error_message.
+ *
+ * Rows saved while error_message was TEXT (the baseline schema, and tables
+ * ddl-auto=update created) can hold whole stack traces; the column is only narrowed once every value
+ * fits. Each id range is committed on its own. A re-run finds moved rows
+ * already short and identical texts by content hash, so nothing is stored twice.
+ */
+public abstract class LongErrorMessageMigration extends BatchedMigration {
+
+    /**
+     * Results also reference and count the failure signature; attempts only
+     * reference the detail (FailureStore.attach(TestAttempt)).
+     */
+    protected abstract boolean isResultTable();
+
+    @Override
+    protected String batchSql() {
+        return "SELECT id, error_message, failure_detail_id FROM " + table() + " " +
+                "WHERE id >= ? AND id < ? AND CHAR_LENGTH(error_message) > " + FailureStore.SUMMARY_CHARS;
+    }
+
+    @Override
+    protected int migrateBatch(Connection connection, long fromId, long toId) throws SQLException {
+        List<LongMessage> messages = new ArrayList<>();
+        try (PreparedStatement select = connection.prepareStatement(batchSql())) {
+            select.setLong(1, fromId);
+            select.setLong(2, toId);
+            try (ResultSet rows = select.executeQuery()) {
+                while (rows.next()) {
+                    long id = rows.getLong(1);
+                    String text = rows.getString(2);
+                    long detailId = rows.getLong(3);
+                    messages.add(new LongMessage(id, text, rows.wasNull() ? null : detailId));
+                }
+            }
+        }
+        if (messages.isEmpty()) {
+            return 0;
+        }
+
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try {
+            for (LongMessage message : messages) {
+                move(connection, message);
+            }
+            connection.commit();
+        } catch (SQLException | RuntimeException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+        return messages.size();
+    }
+
+    private void move(Connection connection, LongMessage message) throws SQLException {
+        String summary = FailureStore.summary(message.text());
+        if (message.detailId() != null) {
+            // Full text already stored out of row, only the summary is missing
+            try (PreparedStatement update = connection.prepareStatement(
+                    "UPDATE " + table() + " SET error_message = ? WHERE id = ?")) {
+                update.setString(1, summary);
+                update.setLong(2, message.id());
+                update.executeUpdate();
+            }
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        long signatureId = signature(connection, message.text(), now);
+        long detailId = detail(connection, message.text(), signatureId, now);
+        String sql = isResultTable()
+                ? "UPDATE " + table() + " SET error_message = ?, failure_detail_id = ?, failure_signature_id = ? WHERE id = ?"
+                : "UPDATE " + table() + " SET error_message = ?, failure_detail_id = ? WHERE id = ?";
+        try (PreparedStatement update = connection.prepareStatement(sql)) {
+            int i = 1;
+            update.setString(i++, summary);
+            update.setLong(i++, detailId);
+            if (isResultTable()) {
+                update.setLong(i++, signatureId);
+            }
+            update.setLong(i, message.id());
+            update.executeUpdate();
+        }
+    }
+
+    private long signature(Connection connection, String text, Timestamp now) throws SQLException {
+        String exceptionType = FailureStore.exceptionType(text);
+        String template = FailureStore.template(text);
+        String hash = FailureStore.signatureHash(exceptionType, template);
+        Long id = findId(connection, "SELECT id FROM failure_signature WHERE hash = ?", hash);
+        if (id == null) {
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO failure_signature (hash, exception_type, message_template, occurrence_count, " +
+                            "first_seen_at, last_seen_at) VALUES (?, ?, ?, 0, ?, ?)",
+                    Statement.RETURN_GENERATED_KEYS)) {
+                insert.setString(1, hash);
+                insert.setString(2, exceptionType);
+                insert.setString(3, template);
+                insert.setTimestamp(4, now);
+                insert.setTimestamp(5, now);
+                insert.executeUpdate();
+                id = generatedId(insert);
+            }
+        }
+        if (isResultTable()) {
+            try (PreparedStatement count = connection.prepareStatement(
+                    "UPDATE failure_signature SET occurrence_count = occurrence_count + 1, last_seen_at = ? WHERE id = ?")) {
+                count.setTimestamp(1, now);
+                count.setLong(2, id);
+                count.executeUpdate();
+            }
+        }
+        return id;
+    }
+
+    private long detail(Connection connection, String text, long signatureId, Timestamp now) throws SQLException {
+        String contentHash = FailureStore.contentHash(text);
+        Long id = findId(connection, "SELECT id FROM failure_detail WHERE content_hash = ?", contentHash);
+        if (id != null) {
+            return id;
+        }
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO failure_detail (content_hash, signature_id, compressed_text, original_length, " +
+                        "truncated, created_at) VALUES (?, ?, ?, ?, ?, ?)",
+                Statement.RETURN_GENERATED_KEYS)) {
+            insert.setString(1, contentHash);
+            insert.setLong(2, signatureId);
+            insert.setBytes(3, FailureStore.compress(text));
+            insert.setInt(4, text.length());
+            insert.setBoolean(5, false); // TEXT holds at most 64 KB, well under the detail limit
+            insert.setTimestamp(6, now);
+            insert.executeUpdate();
+            return generatedId(insert);
+        }
+    }
+
+    private static Long findId(Connection connection, String sql, String key) throws SQLException {
+        try (PreparedStatement select = connection.prepareStatement(sql)) {
+            select.setString(1, key);
+            try (ResultSet rows = select.executeQuery()) {
+                return rows.next() ? rows.getLong(1) : null;
+            }
+        }
+    }
+
+    private static long generatedId(PreparedStatement insert) throws SQLException {
+        try (ResultSet keys = insert.getGeneratedKeys()) {
+            keys.next();
+            return keys.getLong(1);
+        }
+    }
+
+    private record LongMessage(long id, String text, Long detailId) {
+    }
+}
@@ -0,0 +1,209 @@
+package com.example.test_framework_api.migration;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * MIGRATIONS: DDL for large tables that must not block writes.
+ *
+ * On MySQL the statement states the algorithm and lock level it needs, so
+ * InnoDB refuses to run it (instead of silently copying or locking
+ * test_result) if it cannot be done online. Steps check the catalog first:
+ * MySQL DDL is not transactional, so a migration that failed half way is
+ * simply run again and skips what was already done.
+ *
+ * narrowToVarchar is the exception: MySQL cannot change a column type in
+ * place, so it copies the table with reads allowed and writes waiting.
+ */
+@Slf4j
+public final class OnlineDdl {
+
+    private OnlineDdl() {
+    }
+
+    /**
+     * Build an index while reads and writes continue.
+     *
+     * @return false if the index already existed
+     */
+    public static boolean createIndex(Connection connection, String table, String name, String columns)
+            throws SQLException {
+        if (indexExists(connection, table, name)) {
+            log.info("Index {} on {} already exists, skipping", name, table);
+            return false;
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(createIndexSql(isMySql(connection), table, name, columns));
+        }
+        log.info("Created index {} on {}({})", name, table, columns);
+        return true;
+    }
+
+    /**
+     * Add a nullable column without rebuilding the table (INSTANT on MySQL).
+     *
+     * @return false if the column already existed
+     */
+    public static boolean addColumn(Connection connection, String table, String column, String definition)
+            throws SQLException {
+        if (columnExists(connection, table, column)) {
+            log.info("Column {}.{} already exists, skipping", table, column);
+            return false;
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(addColumnSql(isMySql(connection), table, column, definition));
+        }
+        log.info("Added column {}.{} {}", table, column, definition);
+        return true;
+    }
+
+    /**
+     * Give an ENUM column a new last value; appending keeps the stored
+     * ordinals, so MySQL only changes the table definition.
+     *
+     * @param values existing values in their current order
+     * @return false if the column already accepted the value
+     */
+    public static boolean appendEnumValue(Connection connection, String table, String column, List<String> values,
+                                          String value, boolean nullable) throws SQLException {
+        boolean mySql = isMySql(connection);
+        if (mySql && enumAccepts(connection, table, column, value)) {
+            log.info("Column {}.{} already accepts '{}', skipping", table, column, value);
+            return false;
+        }
+        List<String> appended = new ArrayList<>(values);
+        appended.add(value);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(enumSql(mySql, table, column, appended, nullable));
+        }
+        log.info("Column {}.{} now accepts '{}'", table, column, value);
+        return true;
+    }
+
+    /**
+     * Change a TEXT column to VARCHAR(length) once every value fits; refuses
+     * (instead of cutting values) while longer ones remain.
+     *
+     * @return false if the column already was VARCHAR(length) or shorter
+     */
+    public static boolean narrowToVarchar(Connection connection, String table, String column, int length)
+            throws SQLException {
+        if (isVarcharWithin(connection, table, column, length)) {
+            log.info("Column {}.{} already fits varchar({}), skipping", table, column, length);
+            return false;
+        }
+        try (Statement statement = connection.createStatement()) {
+            try (ResultSet longer = statement.executeQuery(
+                    "SELECT COUNT(*) FROM " + table + " WHERE CHAR_LENGTH(" + column + ") > " + length)) {
+                longer.next();
+                if (longer.getLong(1) > 0) {
+                    throw new IllegalStateException(longer.getLong(1) + " values of " + table + "." + column +
+                            " are longer than " + length + " characters");
+                }
+            }
+            statement.execute(narrowSql(isMySql(connection), table, column, length));
+        }
+        log.info("Narrowed {}.{} to varchar({})", table, column, length);
+        return true;
+    }
+
+    static String createIndexSql(boolean mySql, String table, String name, String columns) {
+        return mySql
+                ? "ALTER TABLE " + table + " ADD INDEX " + name + " (" + columns + "), ALGORITHM=INPLACE, LOCK=NONE"
+                : "CREATE INDEX " + name + " ON " + table + " (" + columns + ")";
+    }
+
+    static String addColumnSql(boolean mySql, String table, String column, String definition) {
+        return mySql
+                ? "ALTER TABLE " + table + " ADD COLUMN " + column + " " + definition + ", ALGORITHM=INSTANT"
+                : "ALTER TABLE " + table + " ADD COLUMN " + column + " " + definition;
+    }
+
+    static String enumSql(boolean mySql, String table, String column, List<String> values, boolean nullable) {
+        String type = values.stream().map(v -> "'" + v + "'").collect(Collectors.joining(",", "enum (", ")"));
+        // H2 keeps NOT NULL on SET DATA TYPE; MySQL's MODIFY restates the whole column
+        return mySql
+                ? "ALTER TABLE " + table + " MODIFY COLUMN " + column + " " + type + (nullable ? "" : " not null") +
+                        ", ALGORITHM=INPLACE, LOCK=NONE"
+                : "ALTER TABLE " + table + " ALTER COLUMN " + column + " SET DATA TYPE " + type;
+    }
+
+    static String narrowSql(boolean mySql, String table, String column, int length) {
+        return mySql
+                ? "ALTER TABLE " + table + " MODIFY COLUMN " + column + " varchar(" + length + "), ALGORITHM=COPY, LOCK=SHARED"
+                : "ALTER TABLE " + table + " ALTER COLUMN " + column + " SET DATA TYPE varchar(" + length + ")";
+    }
+
+    static boolean isMySql(Connection connection) throws SQLException {
+        return connection.getMetaData().getDatabaseProductName().toLowerCase(Locale.ROOT).contains("mysql");
+    }
+
+    static boolean columnExists(Connection connection, String table, String column) throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        for (String candidate : new String[]{table, table.toUpperCase(Locale.ROOT)}) {
+            try (ResultSet columns = metaData.getColumns(connection.getCatalog(), null, candidate, null)) {
+                while (columns.next()) {
+                    if (column.equalsIgnoreCase(columns.getString("COLUMN_NAME"))) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    // MySQL only: the JDBC catalog reports ENUM without its values
+    private static boolean enumAccepts(Connection connection, String table, String column, String value)
+            throws SQLException {
+        try (PreparedStatement select = connection.prepareStatement(
+                "SELECT column_type FROM information_schema.columns " +
+                        "WHERE table_schema = DATABASE() AND table_name = ? AND column_name = ?")) {
+            select.setString(1, table);
+            select.setString(2, column);
+            try (ResultSet rows = select.executeQuery()) {
+                return rows.next() && rows.getString(1).contains("'" + value + "'");
+            }
+        }
+    }
+
+    static boolean isVarcharWithin(Connection connection, String table, String column, int length)
+            throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        for (String candidate : new String[]{table, table.toUpperCase(Locale.ROOT)}) {
+            try (ResultSet columns = metaData.getColumns(connection.getCatalog(), null, candidate, null)) {
+                while (columns.next()) {
+                    if (column.equalsIgnoreCase(columns.getString("COLUMN_NAME"))) {
+                        return columns.getInt("DATA_TYPE") == Types.VARCHAR && columns.getInt("COLUMN_SIZE") <= length;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    static boolean indexExists(Connection connection, String table, String name) throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        // Unquoted identifiers are stored upper case by H2, as written by MySQL
+        for (String candidate : new String[]{table, table.toUpperCase(Locale.ROOT)}) {
+            try (ResultSet indexes = metaData.getIndexInfo(connection.getCatalog(), null, candidate, false, true)) {
+                while (indexes.next()) {
+                    if (name.equalsIgnoreCase(indexes.getString("INDEX_NAME"))) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+}
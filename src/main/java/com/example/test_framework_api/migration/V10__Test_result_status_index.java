@@ -0,0 +1,22 @@
+package com.example.test_framework_api.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+/**
+ * Indexes test_result by status for the cross-suite status lookups
+ * (TestResultRepository.findByStatus, e.g. all FAILED results), which
+ * otherwise scan the whole table.
+ */
+public class V10__Test_result_status_index extends BaseJavaMigration {
+
+    @Override
+    public boolean canExecuteInTransaction() {
+        return false;
+    }
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        OnlineDdl.createIndex(context.getConnection(), "test_result", "idx_test_result_status", "status");
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.test_framework_api.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.util.List;
+
+/**
+ * Columns added to the baseline tables since: retry/quarantine flags, failure
+ * detail and artifact references on test_result, rerun lineage and
+ * termination reason on test_run, browser profile and static pages, and the
+ * CANCELLED status. All nullable and appended, so test_result is changed
+ * online; columns ddl-auto=update already added are skipped.
+ */
+public class V3__Series_columns extends BaseJavaMigration {
+
+    private static final List<String> BASELINE_STATUSES = List.of("COMPLETED", "FAILED", "PASSED", "PENDING", "RUNNING");
+
+    @Override
+    public boolean canExecuteInTransaction() {
+        return false;
+    }
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        String bool = OnlineDdl.isMySql(connection) ? "bit" : "boolean";
+
+        OnlineDdl.addColumn(connection, "test_result", "flaky", bool);
+        OnlineDdl.addColumn(connection, "test_result", "quarantined", bool);
+        OnlineDdl.addColumn(connection, "test_result", "failure_detail_id", "bigint");
+        OnlineDdl.addColumn(connection, "test_result", "failure_signature_id", "bigint");
+        OnlineDdl.addColumn(connection, "test_result", "screenshot_ref", "varchar(255)");
+        OnlineDdl.addColumn(connection, "test_result", "dom_ref", "varchar(255)");
+        OnlineDdl.addColumn(connection, "test_run", "parent_run_id", "bigint");
+        OnlineDdl.addColumn(connection, "test_run", "termination_reason", "varchar(255)");
+        OnlineDdl.addColumn(connection, "test_suite", "browser_profile", "varchar(255)");
+        OnlineDdl.addColumn(connection, "test_case", "static_page", bool);
+
+        OnlineDdl.appendEnumValue(connection, "test_result", "status", BASELINE_STATUSES, "CANCELLED", false);
+        OnlineDdl.appendEnumValue(connection, "test_run", "status", BASELINE_STATUSES, "CANCELLED", false);
+        OnlineDdl.appendEnumValue(connection, "test_suite", "status", BASELINE_STATUSES, "CANCELLED", true);
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.test_framework_api.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+
+/**
+ * Indexes for the test_result access paths in TestResultRepository.
+ * Leading columns are the equality filters; created_at last serves range
+ * filters and "ORDER BY created_at DESC" without a sort.
+ */
+public class V4__Test_result_indexes extends BaseJavaMigration {
+
+    @Override
+    public boolean canExecuteInTransaction() {
+        return false;
+    }
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        // findByTestRunId, findByTestRunIdAndTestName, countByRunIdAndStatus, findSuiteIdsByTestRunId
+        OnlineDdl.createIndex(connection, "test_result", "idx_test_result_run_name", "test_run_id, test_name");
+        // countBySuiteIdAndStatus, countBySuiteId, suite duration stats
+        OnlineDdl.createIndex(connection, "test_result", "idx_test_result_suite_status", "test_suite_id, status");
+        // findLatestBySuiteId, findBySuiteIdOrderByCreatedAtDesc, findDailyPassRateBySuite
+        OnlineDdl.createIndex(connection, "test_result", "idx_test_result_suite_created", "test_suite_id, created_at");
+        // Trends, retention rollups/purges, archive export
+        OnlineDdl.createIndex(connection, "test_result", "idx_test_result_created", "created_at");
+        // Per-test history: failure-first ordering, flaky stats, average duration
+        OnlineDdl.createIndex(connection, "test_result", "idx_test_result_name_created", "test_name, created_at");
+        // Results executed by a user
+        OnlineDdl.createIndex(connection, "test_result", "idx_test_result_user_created", "executed_by_user_id, created_at");
+    }
+}
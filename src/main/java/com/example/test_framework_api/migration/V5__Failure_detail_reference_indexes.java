@@ -0,0 +1,27 @@
+package com.example.test_framework_api.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+
+/**
+ * Indexes the columns that reference failure_detail, so the retention purge
+ * of unreferenced details (NOT EXISTS per detail) does not scan test_result
+ * and test_attempt once per row.
+ */
+public class V5__Failure_detail_reference_indexes extends BaseJavaMigration {
+
+    @Override
+    public boolean canExecuteInTransaction() {
+        return false;
+    }
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        OnlineDdl.createIndex(connection, "test_result", "idx_test_result_failure_detail", "failure_detail_id");
+        OnlineDdl.createIndex(connection, "test_attempt", "idx_test_attempt_failure_detail", "failure_detail_id");
+        OnlineDdl.createIndex(connection, "failure_cluster", "idx_failure_cluster_sample_detail", "sample_detail_id");
+    }
+}
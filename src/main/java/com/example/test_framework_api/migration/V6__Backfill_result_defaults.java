@@ -0,0 +1,22 @@
+package com.example.test_framework_api.migration;
+
+/**
+ * Results saved before retry_count was always set, and before V3 added flaky
+ * and quarantined (nullable, so the add is instant), hold NULL there; set them to the entity defaults
+ * (0 / false) that new rows get, so the columns read the same for every row.
+ */
+public class V6__Backfill_result_defaults extends BatchedMigration {
+
+    @Override
+    protected String table() {
+        return "test_result";
+    }
+
+    @Override
+    protected String batchSql() {
+        return "UPDATE test_result SET retry_count = COALESCE(retry_count, 0), " +
+                "flaky = COALESCE(flaky, FALSE), quarantined = COALESCE(quarantined, FALSE) " +
+                "WHERE id >= ? AND id < ? " +
+                "AND (retry_count IS NULL OR flaky IS NULL OR quarantined IS NULL)";
+    }
+}
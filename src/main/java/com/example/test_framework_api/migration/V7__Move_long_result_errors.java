@@ -0,0 +1,18 @@
+package com.example.test_framework_api.migration;
+
+/**
+ * Long error messages of results saved before failure details existed move to
+ * failure_detail and count towards their signature; test_result keeps the summary.
+ */
+public class V7__Move_long_result_errors extends LongErrorMessageMigration {
+
+    @Override
+    protected String table() {
+        return "test_result";
+    }
+
+    @Override
+    protected boolean isResultTable() {
+        return true;
+    }
+}
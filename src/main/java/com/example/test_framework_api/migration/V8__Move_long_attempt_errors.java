@@ -0,0 +1,17 @@
+package com.example.test_framework_api.migration;
+
+/**
+ * Same for attempts, which share the detail rows but are not counted.
+ */
+public class V8__Move_long_attempt_errors extends LongErrorMessageMigration {
+
+    @Override
+    protected String table() {
+        return "test_attempt";
+    }
+
+    @Override
+    protected boolean isResultTable() {
+        return false;
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.test_framework_api.migration;
+
+import com.example.test_framework_api.service.FailureStore;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+
+/**
+ * error_message holds the summary only (FailureStore.SUMMARY_CHARS); columns
+ * still TEXT (the baseline, or tables ddl-auto=update created) are narrowed
+ * now that V7/V8 moved the long values out.
+ */
+public class V9__Narrow_error_messages extends BaseJavaMigration {
+
+    @Override
+    public boolean canExecuteInTransaction() {
+        return false;
+    }
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        OnlineDdl.narrowToVarchar(connection, "test_result", "error_message", FailureStore.SUMMARY_CHARS);
+        OnlineDdl.narrowToVarchar(connection, "test_attempt", "error_message", FailureStore.SUMMARY_CHARS);
+    }
+}
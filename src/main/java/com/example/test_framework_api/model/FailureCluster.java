@@ -0,0 +1,55 @@
+package com.example.test_framework_api.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Triage index: failed results of a run grouped by failure signature, target
+ * host and failing scenario step. Maintained as results are saved, so a run
+ * with hundreds of failures reads back as a handful of rows.
+ * Host and step are "" when not applicable (unique key must not hold nulls).
+ */
+@Entity
+@Table(name = "failure_cluster",
+        uniqueConstraints = @UniqueConstraint(name = "uk_failure_cluster_key",
+                columnNames = {"test_run_id", "signature_id", "target_host", "step"}),
+        indexes = @Index(name = "idx_failure_cluster_suite", columnList = "test_suite_id"))
+@Data
+public class FailureCluster {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "test_run_id", nullable = false)
+    private Long testRunId;
+
+    @Column(name = "test_suite_id")
+    private Long testSuiteId;
+
+    @Column(name = "signature_id", nullable = false)
+    private Long signatureId;
+
+    @Column(name = "target_host", nullable = false)
+    private String targetHost = "";
+
+    @Column(nullable = false)
+    private String step = "";
+
+    @Column(name = "failure_count", nullable = false)
+    private Long failureCount = 0L;
+
+    // First failure that opened the cluster
+    @Column(name = "sample_test_name")
+    private String sampleTestName;
+
+    @Column(name = "sample_detail_id")
+    private Long sampleDetailId;
+
+    @Column(name = "first_seen_at")
+    private LocalDateTime firstSeenAt = LocalDateTime.now();
+
+    @Column(name = "last_seen_at")
+    private LocalDateTime lastSeenAt = LocalDateTime.now();
+}
@@ -0,0 +1,43 @@
+package com.example.test_framework_api.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * Full failure text (message + stack trace), gzip-compressed and stored once
+ * per content hash. Results and attempts only keep a short summary and the id.
+ */
+@Entity
+@Table(name = "failure_detail")
+@Data
+public class FailureDetail {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // SHA-256 of the (capped) text
+    @Column(name = "content_hash", nullable = false, unique = true, length = 64)
+    private String contentHash;
+
+    @Column(name = "signature_id", nullable = false)
+    private Long signatureId;
+
+    @Lob
+    @Column(name = "compressed_text", nullable = false, length = 1_048_576) // MEDIUMBLOB on MySQL, not TINYBLOB
+    @JsonIgnore
+    @ToString.Exclude
+    private byte[] compressedText;
+
+    @Column(name = "original_length")
+    private Integer originalLength;
+
+    // Text was cut at execution.failures.max-detail-chars before compression
+    private Boolean truncated = false;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt = LocalDateTime.now();
+}
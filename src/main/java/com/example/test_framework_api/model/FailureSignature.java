@@ -0,0 +1,39 @@
+package com.example.test_framework_api.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Normalized failure: exception class plus message template (volatile values
+ * such as ids, timings and session hashes replaced). Every failed result with
+ * the same signature increments its occurrence count.
+ */
+@Entity
+@Table(name = "failure_signature")
+@Data
+public class FailureSignature {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // SHA-256 of exceptionType + template
+    @Column(nullable = false, unique = true, length = 64)
+    private String hash;
+
+    @Column(name = "exception_type", nullable = false)
+    private String exceptionType;
+
+    @Column(name = "message_template", length = 1000)
+    private String messageTemplate;
+
+    @Column(name = "occurrence_count", nullable = false)
+    private Long occurrenceCount = 0L;
+
+    @Column(name = "first_seen_at")
+    private LocalDateTime firstSeenAt = LocalDateTime.now();
+
+    @Column(name = "last_seen_at")
+    private LocalDateTime lastSeenAt = LocalDateTime.now();
+}
@@ -0,0 +1,40 @@
+package com.example.test_framework_api.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * A flaky test moved to the quarantine lane (keyed by test name, like results).
+ * Kept after promotion so history before releasedAt no longer counts against it.
+ */
+@Entity
+@Table(name = "quarantined_test")
+@Data
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
+public class QuarantinedTest {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "test_name", nullable = false, unique = true)
+    private String testName;
+
+    // true while the test runs in the quarantine lane
+    @Column(nullable = false)
+    private Boolean active = true;
+
+    @Column(name = "flaky_score")
+    private Double flakyScore;
+
+    @Column(name = "consecutive_passes")
+    private Integer consecutivePasses = 0;
+
+    @Column(name = "quarantined_at")
+    private LocalDateTime quarantinedAt = LocalDateTime.now();
+
+    @Column(name = "released_at")
+    private LocalDateTime releasedAt;
+}
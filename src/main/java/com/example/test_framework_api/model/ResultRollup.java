@@ -0,0 +1,58 @@
+package com.example.test_framework_api.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * RETENTION: Per test (and suite) result counts for one day or week.
+ * Trends and history keep working from these rows after raw test_result
+ * rows past the retention window have been dropped.
+ * Suite totals are sums over the suite's tests.
+ */
+@Entity
+@Table(name = "result_rollup", indexes = {
+        @Index(name = "idx_rollup_period", columnList = "period, period_start"),
+        @Index(name = "idx_rollup_suite_period", columnList = "test_suite_id, period, period_start")
+})
+@Data
+public class ResultRollup {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private RollupPeriod period;
+
+    // Day, or Monday of the week
+    @Column(name = "period_start", nullable = false)
+    private LocalDate periodStart;
+
+    @Column(name = "test_suite_id")
+    private Long testSuiteId;
+
+    @Column(name = "test_name", nullable = false)
+    private String testName;
+
+    private Long total = 0L;
+
+    private Long passed = 0L;
+
+    private Long failed = 0L;
+
+    private Long flaky = 0L;
+
+    private Long retries = 0L;
+
+    @Column(name = "total_duration")
+    private Long totalDuration = 0L;
+
+    @Column(name = "max_duration")
+    private Long maxDuration = 0L;
+
+    @Column(name = "rolled_up_at")
+    private LocalDateTime rolledUpAt = LocalDateTime.now();
+}
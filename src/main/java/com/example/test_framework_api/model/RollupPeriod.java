@@ -0,0 +1,9 @@
+package com.example.test_framework_api.model;
+
+/**
+ * Granularity of a result_rollup row. Weeks start on Monday.
+ */
+public enum RollupPeriod {
+    DAILY,
+    WEEKLY
+}
@@ -0,0 +1,71 @@
+package com.example.test_framework_api.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One execution attempt of a test case. The owning TestResult holds the
+ * final outcome; retried cases have one attempt row per try.
+ */
+@Entity
+@Table(name = "test_attempt")
+@Data
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
+public class TestAttempt {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "test_result_id", nullable = false)
+    @JsonIgnore
+    @ToString.Exclude
+    private TestResult testResult;
+
+    @Column(name = "attempt_number", nullable = false)
+    private Integer attemptNumber;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TestStatus status;
+
+    private Long duration;
+
+    // FAILURES: Summary only; full text in failure_detail (shared with the result)
+    @Column(name = "error_message", length = 500)
+    private String errorMessage;
+
+    @Column(name = "failure_detail_id")
+    private Long failureDetailId;
+
+    @Transient
+    @JsonIgnore
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private String errorDetail;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt = LocalDateTime.now();
+
+    // ARTIFACTS: Content-addressed failure captures (ArtifactStore references)
+    @Column(name = "screenshot_ref")
+    private String screenshotRef;
+
+    @Column(name = "dom_ref")
+    private String domRef;
+
+    // SCENARIO: Steps recorded during execution, saved with the attempt (read back via TestStepResultRepository)
+    @Transient
+    @JsonIgnore
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private List<TestStepResult> steps = new ArrayList<>();
+}
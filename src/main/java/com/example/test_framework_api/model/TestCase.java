@@ -4,10 +4,14 @@ import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonBackReference;
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import com.fasterxml.jackson.databind.JsonNode;
 
 @Entity
 @Table(name = "test_case")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "catalog.cases") // CACHE: see ehcache.xml
 @Data
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"}) // FIXED: Ignore cycle in JSON
 public class TestCase {
@@ -47,6 +51,10 @@ public class TestCase {
 
     private String description;
 
+    // STATIC: Check-only UI case that can run on fetched HTML without a browser (CSV: Static)
+    @Column(name = "static_page")
+    private Boolean staticPage = false;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "test_suite_id")
     @JsonBackReference(value = "testsuite-testcases") // FIXED: Ignores back-ref to suite (breaks cycle)
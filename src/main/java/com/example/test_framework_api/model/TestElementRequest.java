@@ -75,12 +75,19 @@ public class TestElementRequest {
     private String requestBody; // JSON body for POST/PUT/PATCH
 
     /**
-     * Action step for multi-action UI tests
+     * Action step for multi-action UI tests. All steps run in one browser
+     * session; optional fields give a step its own locator, wait and assertion.
      */
     @Data
     public static class ActionStep {
-        private String type; // "click", "doubleclick", "rightclick", "clear", "type", "submit", "hover"
-        private String value; // For "type" action (text to input)
+        private String type; // "click", "doubleclick", "rightclick", "clear", "type", "submit", "hover",
+                             // "navigate", "waitFor", "assertText", "assertTitle", "assertUrl", "assertVisible"
+        private String value; // For "type" action (text to input), navigate URL or assertion text
+        private String name; // Step label in results (optional)
+        private String locatorType; // Defaults to "id" + elementId
+        private String locatorValue;
+        private String expected; // Page title/URL/text expected after the step (optional)
+        private Long timeoutMs; // Per-step wait (optional)
     }
 
     // === VALIDATION HELPERS ===
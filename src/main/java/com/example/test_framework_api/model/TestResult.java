@@ -78,10 +78,13 @@
 // }
 
 package com.example.test_framework_api.model;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonBackReference;
 import jakarta.persistence.*;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 import java.time.LocalDateTime;
 
 @Entity
@@ -89,6 +92,8 @@ import java.time.LocalDateTime;
 @Data
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 public class TestResult {
+    private static final double FLAKY_PASS_WEIGHT = 50.0;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -104,9 +109,32 @@ public class TestResult {
 
     private Integer retryCount = 0;
 
-    @Column(name = "error_message", columnDefinition = "TEXT")
+    // FAILURES: Summary only (FailureStore.SUMMARY_CHARS); full text lives in failure_detail
+    @Column(name = "error_message", length = 500)
     private String errorMessage;
 
+    @Column(name = "failure_detail_id")
+    private Long failureDetailId;
+
+    @Column(name = "failure_signature_id")
+    private Long failureSignatureId;
+
+    // Full message + stack trace until saved, then moved to failure_detail
+    @Transient
+    @JsonIgnore
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private String errorDetail;
+
+    // CLUSTERS: Cluster key parts known only at execution time ("" / null when not applicable)
+    @Transient
+    @JsonIgnore
+    private String targetHost;
+
+    @Transient
+    @JsonIgnore
+    private String failedStep;
+
     @Column(name = "created_at")
     private LocalDateTime createdAt = LocalDateTime.now();
 
@@ -123,6 +151,19 @@ public class TestResult {
     @Column(name = "flaky_score")
     private Double flakyScore = 0.0;
 
+    // Passed only after at least one failed attempt in the same execution
+    private Boolean flaky = false;
+
+    // Ran in the quarantine lane: excluded from run/suite status
+    private Boolean quarantined = false;
+
+    // ARTIFACTS: Failure captures of the final attempt (ArtifactStore references, shared across results)
+    @Column(name = "screenshot_ref")
+    private String screenshotRef;
+
+    @Column(name = "dom_ref")
+    private String domRef;
+
     // NEW: Track which user executed this test
     @ManyToOne
     @JoinColumn(name = "executed_by_user_id")
@@ -134,6 +175,9 @@ public class TestResult {
         if (duration == null) duration = 0L;
         
         this.flakyScore = (retryCount * 10.0) + (duration / 1000.0);
+        if (Boolean.TRUE.equals(flaky)) {
+            this.flakyScore += FLAKY_PASS_WEIGHT; // Observed pass-after-fail outweighs slow/retried signals
+        }
     }
 
     @PrePersist
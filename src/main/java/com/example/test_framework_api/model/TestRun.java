@@ -44,12 +44,16 @@ import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
 @Table(name = "test_run")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "runs") // CACHE: status kept current on commit
 @Data
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 public class TestRun {
@@ -70,6 +74,14 @@ public class TestRun {
     @Column(name = "created_at")
     private LocalDateTime createdAt = LocalDateTime.now();
 
+    // Why the run stopped early (cancel request, suite timeout), null when it ran to completion
+    @Column(name = "termination_reason")
+    private String terminationReason;
+
+    // RERUN: Run this one re-executed the failed cases of (null for a full run)
+    @Column(name = "parent_run_id")
+    private Long parentRunId;
+
     @OneToMany(mappedBy = "testRun", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     @JsonManagedReference(value = "testrun-results")
     private List<TestResult> testResults = new ArrayList<>();
@@ -5,7 +5,8 @@ public enum TestStatus {
     RUNNING("RUNNING"), // FIXED: Added missing
     COMPLETED("COMPLETED"), // FIXED: Added missing
     FAILED("FAILED"),
-    PASSED("PASSED");
+    PASSED("PASSED"),
+    CANCELLED("CANCELLED"); // Stopped by cancel request or deadline
 
     private final String value;
 
@@ -0,0 +1,52 @@
+package com.example.test_framework_api.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * One step of a multi-step UI scenario within an attempt. Steps after a
+ * failing step are not executed, so the last recorded step is the failure.
+ */
+@Entity
+@Table(name = "test_step_result")
+@Data
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
+public class TestStepResult {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "test_attempt_id", nullable = false)
+    @JsonIgnore
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private TestAttempt attempt;
+
+    @Column(name = "step_number", nullable = false)
+    private Integer stepNumber;
+
+    private String name;
+
+    private String action;
+
+    private String target; // Locator or URL the step acted on
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TestStatus status;
+
+    private Long duration;
+
+    @Column(name = "error_message", columnDefinition = "TEXT")
+    private String errorMessage;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt = LocalDateTime.now();
+}
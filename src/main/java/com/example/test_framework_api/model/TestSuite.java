@@ -4,11 +4,15 @@ import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
 @Table(name = "test_suite")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "catalog.suites") // CACHE: see ehcache.xml
 @Data // Lombok: Generates getters/setters/toString/equals/hashCode
 @JsonIgnoreProperties(value = { "testCases" }, allowSetters = true) // FIXED: Ignore cycle in JSON
 public class TestSuite {
@@ -40,6 +44,10 @@ public class TestSuite {
     @Column(name = "report_path")
     private String reportPath;
 
+    // BROWSER: execution.browser profile for this suite's UI cases (null = default profile)
+    @Column(name = "browser_profile")
+    private String browserProfile;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "created_by_user_id")
     @JsonIgnoreProperties({"password", "roles", "enabled", "createdAt"})
@@ -0,0 +1,46 @@
+package com.example.test_framework_api.repository;
+
+import com.example.test_framework_api.model.FailureCluster;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface FailureClusterRepository extends JpaRepository<FailureCluster, Long> {
+
+    Optional<FailureCluster> findByTestRunIdAndSignatureIdAndTargetHostAndStep(Long testRunId, Long signatureId,
+            String targetHost, String step);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE FailureCluster c SET c.failureCount = c.failureCount + 1, c.lastSeenAt = :now WHERE c.id = :id")
+    int incrementFailures(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    /**
+     * Clusters of one run, largest first.
+     * Returns [signatureId, exceptionType, messageTemplate, targetHost, step, failures,
+     * sampleTestName, sampleDetailId, lastSeenAt].
+     */
+    @Query("SELECT c.signatureId, s.exceptionType, s.messageTemplate, c.targetHost, c.step, c.failureCount, " +
+            "c.sampleTestName, c.sampleDetailId, c.lastSeenAt " +
+            "FROM FailureCluster c JOIN FailureSignature s ON s.id = c.signatureId " +
+            "WHERE c.testRunId = :runId " +
+            "ORDER BY c.failureCount DESC, c.id")
+    List<Object[]> findSummariesByRunId(@Param("runId") Long runId);
+
+    /**
+     * Clusters across every run of a suite, largest first (same columns as findSummariesByRunId).
+     */
+    @Query("SELECT c.signatureId, s.exceptionType, s.messageTemplate, c.targetHost, c.step, SUM(c.failureCount), " +
+            "MIN(c.sampleTestName), MIN(c.sampleDetailId), MAX(c.lastSeenAt) " +
+            "FROM FailureCluster c JOIN FailureSignature s ON s.id = c.signatureId " +
+            "WHERE c.testSuiteId = :suiteId " +
+            "GROUP BY c.signatureId, s.exceptionType, s.messageTemplate, c.targetHost, c.step " +
+            "ORDER BY SUM(c.failureCount) DESC")
+    List<Object[]> findSummariesBySuiteId(@Param("suiteId") Long suiteId);
+}
@@ -0,0 +1,23 @@
+package com.example.test_framework_api.repository;
+
+import com.example.test_framework_api.model.FailureDetail;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Optional;
+
+public interface FailureDetailRepository extends JpaRepository<FailureDetail, Long> {
+
+    Optional<FailureDetail> findByContentHash(String contentHash);
+
+    /**
+     * RETENTION: Details no longer referenced by any result, attempt or cluster sample.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM FailureDetail d " +
+            "WHERE NOT EXISTS (SELECT 1 FROM TestResult r WHERE r.failureDetailId = d.id) " +
+            "AND NOT EXISTS (SELECT 1 FROM TestAttempt a WHERE a.failureDetailId = d.id) " +
+            "AND NOT EXISTS (SELECT 1 FROM FailureCluster c WHERE c.sampleDetailId = d.id)")
+    int deleteUnreferenced();
+}
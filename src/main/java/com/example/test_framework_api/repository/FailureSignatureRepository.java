@@ -0,0 +1,25 @@
+package com.example.test_framework_api.repository;
+
+import com.example.test_framework_api.model.FailureSignature;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface FailureSignatureRepository extends JpaRepository<FailureSignature, Long> {
+
+    Optional<FailureSignature> findByHash(String hash);
+
+    /**
+     * Counted in the database so concurrent workers never lose an occurrence.
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE FailureSignature s SET s.occurrenceCount = s.occurrenceCount + 1, s.lastSeenAt = :now " +
+            "WHERE s.id = :id")
+    int incrementOccurrences(@Param("id") Long id, @Param("now") LocalDateTime now);
+}
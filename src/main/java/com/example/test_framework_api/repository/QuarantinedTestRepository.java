@@ -0,0 +1,20 @@
+package com.example.test_framework_api.repository;
+
+import com.example.test_framework_api.model.QuarantinedTest;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface QuarantinedTestRepository extends JpaRepository<QuarantinedTest, Long> {
+
+    Optional<QuarantinedTest> findByTestName(String testName);
+
+    List<QuarantinedTest> findByActiveTrueOrderByQuarantinedAtDesc();
+
+    @Query("SELECT q.testName FROM QuarantinedTest q WHERE q.active = true AND q.testName IN :testNames")
+    List<String> findActiveTestNames(@Param("testNames") Collection<String> testNames);
+}
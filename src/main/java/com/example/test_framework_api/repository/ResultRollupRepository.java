@@ -0,0 +1,57 @@
+package com.example.test_framework_api.repository;
+
+import com.example.test_framework_api.model.ResultRollup;
+import com.example.test_framework_api.model.RollupPeriod;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface ResultRollupRepository extends JpaRepository<ResultRollup, Long> {
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM ResultRollup x WHERE x.period = :period AND x.periodStart = :periodStart")
+    int deletePeriod(@Param("period") RollupPeriod period, @Param("periodStart") LocalDate periodStart);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM ResultRollup x WHERE x.period = :period AND x.periodStart < :before")
+    int deleteOlderThan(@Param("period") RollupPeriod period, @Param("before") LocalDate before);
+
+    @Query("SELECT MAX(x.periodStart) FROM ResultRollup x WHERE x.period = :period")
+    LocalDate findLatestPeriodStart(@Param("period") RollupPeriod period);
+
+    /**
+     * Daily rows of a date range summed per test (weekly rollups are built from these).
+     * Returns [suiteId, testName, total, passed, failed, flaky, retries, totalDuration, maxDuration].
+     */
+    @Query("SELECT x.testSuiteId, x.testName, SUM(x.total), SUM(x.passed), SUM(x.failed), SUM(x.flaky), " +
+            "SUM(x.retries), SUM(x.totalDuration), MAX(x.maxDuration) " +
+            "FROM ResultRollup x " +
+            "WHERE x.period = 'DAILY' AND x.periodStart >= :from AND x.periodStart < :to " +
+            "GROUP BY x.testSuiteId, x.testName")
+    List<Object[]> sumDailyByTest(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /**
+     * Totals per period across all suites.
+     * Returns [periodStart, total, passed, failed].
+     */
+    @Query("SELECT x.periodStart, SUM(x.total), SUM(x.passed), SUM(x.failed) " +
+            "FROM ResultRollup x " +
+            "WHERE x.period = :period AND x.periodStart >= :since " +
+            "GROUP BY x.periodStart ORDER BY x.periodStart")
+    List<Object[]> findTotals(@Param("period") RollupPeriod period, @Param("since") LocalDate since);
+
+    /**
+     * Totals per period for one suite.
+     * Returns [periodStart, total, passed, failed, flaky, totalDuration].
+     */
+    @Query("SELECT x.periodStart, SUM(x.total), SUM(x.passed), SUM(x.failed), SUM(x.flaky), SUM(x.totalDuration) " +
+            "FROM ResultRollup x " +
+            "WHERE x.testSuiteId = :suiteId AND x.period = :period AND x.periodStart >= :since " +
+            "GROUP BY x.periodStart ORDER BY x.periodStart")
+    List<Object[]> findSuiteTotals(@Param("suiteId") Long suiteId, @Param("period") RollupPeriod period,
+            @Param("since") LocalDate since);
+}
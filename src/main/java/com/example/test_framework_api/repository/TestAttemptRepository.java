@@ -0,0 +1,38 @@
+package com.example.test_framework_api.repository;
+
+import com.example.test_framework_api.model.TestAttempt;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface TestAttemptRepository extends JpaRepository<TestAttempt, Long> {
+
+    @Query("SELECT a FROM TestAttempt a WHERE a.testResult.id = :resultId ORDER BY a.attemptNumber")
+    List<TestAttempt> findByTestResultId(@Param("resultId") Long resultId);
+
+    /**
+     * Every attempt of a run, grouped by result in attempt order.
+     */
+    @Query("SELECT a FROM TestAttempt a JOIN FETCH a.testResult r " +
+            "WHERE r.testRun.id = :runId ORDER BY r.id, a.attemptNumber")
+    List<TestAttempt> findByTestRunId(@Param("runId") Long runId);
+
+    /**
+     * RETENTION: Attempts of results created in [start, end).
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM TestAttempt a WHERE a.testResult.id IN " +
+            "(SELECT r.id FROM TestResult r WHERE r.createdAt >= :start AND r.createdAt < :end)")
+    int deleteByResultCreatedBetween(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    /**
+     * ARCHIVE: Attempts of results created in [start, end).
+     */
+    @Query("SELECT a FROM TestAttempt a JOIN FETCH a.testResult r " +
+            "WHERE r.createdAt >= :start AND r.createdAt < :end ORDER BY r.id, a.attemptNumber")
+    List<TestAttempt> findByResultCreatedInRange(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+}
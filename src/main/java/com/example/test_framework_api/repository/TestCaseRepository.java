@@ -1,9 +1,16 @@
 package com.example.test_framework_api.repository;
 
 import com.example.test_framework_api.model.TestCase;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import java.util.List;
 
 public interface TestCaseRepository extends JpaRepository<TestCase, String> {
+    // CACHE: Case ids per suite from the query cache, cases from catalog.cases (dropped when test_case is written)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "catalog.queries")})
     List<TestCase> findByTestSuiteId(Long suiteId);  // NEW FEATURE: Fetch cases for execution
-}
\ No newline at end of file
+}
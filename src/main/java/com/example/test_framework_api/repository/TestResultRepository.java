@@ -1,12 +1,15 @@
 package com.example.test_framework_api.repository;
 
+import com.example.test_framework_api.dto.ResultView;
 import com.example.test_framework_api.model.TestResult;
 import com.example.test_framework_api.model.TestStatus;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.repository.query.Param;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
 /**
@@ -17,10 +20,10 @@ public interface TestResultRepository extends JpaRepository<TestResult, Long> {
     /**
      * Daily pass rate for trend analysis.
      */
-    @Query("SELECT DATE(r.createdAt), " +
+    @Query("SELECT CAST(r.createdAt AS LocalDate), " +
             "SUM(CASE WHEN r.status = 'PASSED' THEN 1 ELSE 0 END) * 100.0 / COUNT(r) " +
             "FROM TestResult r WHERE r.createdAt >= :since " +
-            "GROUP BY DATE(r.createdAt) ORDER BY DATE(r.createdAt)")
+            "GROUP BY CAST(r.createdAt AS LocalDate) ORDER BY CAST(r.createdAt AS LocalDate)")
     List<Object[]> findDailyPassRate(@Param("since") LocalDateTime since);
 
     /**
@@ -36,7 +39,9 @@ public interface TestResultRepository extends JpaRepository<TestResult, Long> {
     @Query("SELECT tr FROM TestResult tr WHERE tr.testRun.id = :runId")
     List<TestResult> findByTestRunId(Long runId);
 
-    List<TestResult> findByTestSuiteId(Long testSuiteId);
+    // Explicit: the derived query joined test_suite and filtered on its id (full scan)
+    @Query("SELECT r FROM TestResult r WHERE r.testSuite.id = :testSuiteId")
+    List<TestResult> findByTestSuiteId(@Param("testSuiteId") Long testSuiteId);
 
     List<TestResult> findByStatus(TestStatus status);
 
@@ -84,14 +89,14 @@ public interface TestResultRepository extends JpaRepository<TestResult, Long> {
     List<TestResult> findByCreatedAtBetween(@Param("start") LocalDateTime start,
             @Param("end") LocalDateTime end);
 
-    @Query("SELECT DATE(r.createdAt) as date, " +
+    @Query("SELECT CAST(r.createdAt AS LocalDate) as date, " +
             "COUNT(r) as total, " +
             "SUM(CASE WHEN r.status = 'PASSED' THEN 1 ELSE 0 END) as passed " +
             "FROM TestResult r " +
             "WHERE r.testSuite.id = :suiteId " +
             "AND r.createdAt >= :since " +
-            "GROUP BY DATE(r.createdAt) " +
-            "ORDER BY DATE(r.createdAt) DESC")
+            "GROUP BY CAST(r.createdAt AS LocalDate) " +
+            "ORDER BY CAST(r.createdAt AS LocalDate) DESC")
     List<Object[]> findDailyPassRateBySuite(@Param("suiteId") Long suiteId,
             @Param("since") LocalDateTime since);
 
@@ -137,4 +142,129 @@ public interface TestResultRepository extends JpaRepository<TestResult, Long> {
     @Query("SELECT MIN(r.duration), MAX(r.duration) FROM TestResult r " +
             "WHERE r.testSuite.id = :suiteId AND r.duration IS NOT NULL")
     Object[] findMinMaxDurationBySuite(@Param("suiteId") Long suiteId);
-}
\ No newline at end of file
+
+    /**
+     * SCHEDULING: Run and failure counts per test name (historical failure probability).
+     * Returns [testName, totalRuns, failures].
+     */
+    @Query("SELECT r.testName, COUNT(r), " +
+            "SUM(CASE WHEN r.status = 'FAILED' THEN 1 ELSE 0 END) " +
+            "FROM TestResult r WHERE r.testName IN :testNames " +
+            "GROUP BY r.testName")
+    List<Object[]> findFailureCountsByTestNames(@Param("testNames") Collection<String> testNames);
+
+    /**
+     * SCHEDULING: Failure history per test name for FAILURE_FIRST ordering.
+     * Returns [testName, runs, failures, recentRuns, recentFailures, lastFailure, lastRun, avgFlakyScore].
+     */
+    @Query("SELECT r.testName, COUNT(r), " +
+            "SUM(CASE WHEN r.status = 'FAILED' THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN r.createdAt >= :recentSince THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN r.status = 'FAILED' AND r.createdAt >= :recentSince THEN 1 ELSE 0 END), " +
+            "MAX(CASE WHEN r.status = 'FAILED' THEN r.createdAt ELSE NULL END), " +
+            "MAX(r.createdAt), " +
+            "AVG(COALESCE(r.flakyScore, 0)) " +
+            "FROM TestResult r " +
+            "WHERE r.testName IN :testNames AND r.createdAt >= :since " +
+            "GROUP BY r.testName")
+    List<Object[]> findFailureHistoryByTestNames(@Param("testNames") Collection<String> testNames,
+            @Param("since") LocalDateTime since,
+            @Param("recentSince") LocalDateTime recentSince);
+
+    /**
+     * RERUN: Suite(s) a run executed.
+     */
+    @Query("SELECT DISTINCT r.testSuite.id FROM TestResult r WHERE r.testRun.id = :runId")
+    List<Long> findSuiteIdsByTestRunId(@Param("runId") Long runId);
+
+    /**
+     * RERUN: Test names (out of the given ones) with both PASSED and FAILED results in history.
+     */
+    // Status checked per group, not in WHERE: only the test_name filter is selective
+    @Query("SELECT r.testName FROM TestResult r " +
+            "WHERE r.testName IN :testNames " +
+            "GROUP BY r.testName " +
+            "HAVING SUM(CASE WHEN r.status = 'PASSED' THEN 1 ELSE 0 END) > 0 AND " +
+            "SUM(CASE WHEN r.status = 'FAILED' THEN 1 ELSE 0 END) > 0")
+    List<String> findFlakyTestNames(@Param("testNames") Collection<String> testNames);
+
+    /**
+     * QUARANTINE: Flaky-score inputs per test name, ignoring results from before
+     * the test was last released from quarantine.
+     * Returns [testName, totalRuns, passes, fails, totalRetries, avgDuration].
+     */
+    @Query("SELECT r.testName, COUNT(r), " +
+            "SUM(CASE WHEN r.status = 'PASSED' THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN r.status = 'FAILED' THEN 1 ELSE 0 END), " +
+            "SUM(COALESCE(r.retryCount, 0)), " +
+            "AVG(COALESCE(r.duration, 0)) " +
+            "FROM TestResult r LEFT JOIN QuarantinedTest q ON q.testName = r.testName " +
+            "WHERE r.testName IN :testNames " +
+            "AND (q.releasedAt IS NULL OR r.createdAt > q.releasedAt) " +
+            "GROUP BY r.testName")
+    List<Object[]> findFlakyStatsByTestNames(@Param("testNames") Collection<String> testNames);
+
+    /**
+     * RETENTION: Raw results of [start, end) summed per suite and test, for the daily rollup.
+     * Returns [suiteId, testName, total, passed, failed, flaky, retries, totalDuration, maxDuration].
+     */
+    @Query("SELECT s.id, r.testName, COUNT(r), " +
+            "SUM(CASE WHEN r.status = 'PASSED' THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN r.status = 'FAILED' THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN r.flaky = true THEN 1 ELSE 0 END), " +
+            "SUM(COALESCE(r.retryCount, 0)), " +
+            "SUM(COALESCE(r.duration, 0)), " +
+            "MAX(COALESCE(r.duration, 0)) " +
+            "FROM TestResult r LEFT JOIN r.testSuite s " +
+            "WHERE r.createdAt >= :start AND r.createdAt < :end " +
+            "GROUP BY s.id, r.testName")
+    List<Object[]> rollupByTest(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    @Query("SELECT MIN(r.createdAt) FROM TestResult r")
+    LocalDateTime findOldestCreatedAt();
+
+    /**
+     * RETENTION: Drop raw results of [start, end); attempts and steps must be deleted first.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM TestResult r WHERE r.createdAt >= :start AND r.createdAt < :end")
+    int deleteCreatedBetween(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    /**
+     * ARCHIVE: Results of [start, end) with their run and suite.
+     */
+    @Query("SELECT r FROM TestResult r LEFT JOIN FETCH r.testRun LEFT JOIN FETCH r.testSuite " +
+            "WHERE r.createdAt >= :start AND r.createdAt < :end ORDER BY r.id")
+    List<TestResult> findCreatedInRange(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    String RESULT_VIEW = "SELECT new com.example.test_framework_api.dto.ResultView(" +
+            "r.id, r.testName, r.status, r.duration, r.retryCount, r.errorMessage, r.createdAt, " +
+            "r.flakyScore, r.flaky, r.quarantined, r.screenshotRef, r.domRef, r.failureDetailId, " +
+            "run.id, run.name, u.id, u.username) " +
+            "FROM TestResult r LEFT JOIN r.testRun run LEFT JOIN r.executedBy u ";
+
+    /**
+     * READ MODEL: Results with run and executor, no entities loaded.
+     */
+    @Query(RESULT_VIEW + "ORDER BY r.id")
+    List<ResultView> findViews();
+
+    @Query(RESULT_VIEW + "WHERE r.testRun.id = :runId ORDER BY r.id")
+    List<ResultView> findViewsByRunId(@Param("runId") Long runId);
+
+    @Query(RESULT_VIEW + "WHERE r.executedBy.id = :userId ORDER BY r.id")
+    List<ResultView> findViewsByExecutorId(@Param("userId") Long userId);
+
+    /**
+     * READ MODEL: Results executed per user. Returns [userId, results].
+     */
+    @Query("SELECT r.executedBy.id, COUNT(r) FROM TestResult r WHERE r.executedBy IS NOT NULL " +
+            "GROUP BY r.executedBy.id")
+    List<Object[]> countByExecutor();
+
+    @Query("SELECT COUNT(r) FROM TestResult r WHERE r.executedBy.id = :userId")
+    long countByExecutorId(@Param("userId") Long userId);
+
+    @Query("SELECT COUNT(r) FROM TestResult r WHERE r.executedBy.id = :userId AND r.status = :status")
+    long countByExecutorIdAndStatus(@Param("userId") Long userId, @Param("status") TestStatus status);
+}
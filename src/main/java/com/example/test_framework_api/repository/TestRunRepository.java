@@ -1,13 +1,38 @@
 // src/main/java/com/example/test_framework_api/repository/TestRunRepository.java
 package com.example.test_framework_api.repository;
 
+import com.example.test_framework_api.dto.RunSummary;
 import com.example.test_framework_api.model.TestRun;
-import com.example.test_framework_api.model.TestResult;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import java.util.List;
+import java.util.Optional;
 public interface TestRunRepository extends JpaRepository<TestRun, Long> {
-  @Query("SELECT tr.testResults FROM TestRun tr WHERE tr.id = :testRunId")
-  List<TestResult> findTestResultsByTestRunId(@Param("testRunId") Long testRunId);
+
+  /**
+   * CACHE: The run as committed in the database. A query always reads the row,
+   * never the "runs" region, which a cancel or status change made on another
+   * node does not reach until its TTL.
+   */
+  @Query("SELECT r FROM TestRun r WHERE r.id = :id")
+  Optional<TestRun> findCurrentById(@Param("id") Long id);
+
+  /**
+   * READ MODEL: Run list with creator and result count in one query.
+   */
+  @Query("SELECT new com.example.test_framework_api.dto.RunSummary(" +
+      "r.id, r.name, r.status, r.parallelThreads, r.createdAt, r.reportPath, u.id, u.username, " +
+      "(SELECT COUNT(x) FROM TestResult x WHERE x.testRun.id = r.id)) " +
+      "FROM TestRun r LEFT JOIN r.createdBy u ORDER BY r.id")
+  List<RunSummary> findSummaries();
+
+  /**
+   * READ MODEL: Runs created per user. Returns [userId, runs].
+   */
+  @Query("SELECT r.createdBy.id, COUNT(r) FROM TestRun r WHERE r.createdBy IS NOT NULL GROUP BY r.createdBy.id")
+  List<Object[]> countByCreator();
+
+  @Query("SELECT COUNT(r) FROM TestRun r WHERE r.createdBy.id = :userId")
+  long countByCreatorId(@Param("userId") Long userId);
 }
\ No newline at end of file
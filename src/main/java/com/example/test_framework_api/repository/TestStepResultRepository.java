@@ -0,0 +1,37 @@
+package com.example.test_framework_api.repository;
+
+import com.example.test_framework_api.model.TestStepResult;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface TestStepResultRepository extends JpaRepository<TestStepResult, Long> {
+
+    /**
+     * Every scenario step of a run, grouped by result and attempt in step order.
+     */
+    @Query("SELECT s FROM TestStepResult s JOIN FETCH s.attempt a JOIN FETCH a.testResult r " +
+            "WHERE r.testRun.id = :runId ORDER BY r.id, a.attemptNumber, s.stepNumber")
+    List<TestStepResult> findByTestRunId(@Param("runId") Long runId);
+
+    /**
+     * RETENTION: Steps of results created in [start, end).
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM TestStepResult s WHERE s.attempt.id IN " +
+            "(SELECT a.id FROM TestAttempt a WHERE a.testResult.createdAt >= :start AND a.testResult.createdAt < :end)")
+    int deleteByResultCreatedBetween(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    /**
+     * ARCHIVE: Steps of results created in [start, end).
+     */
+    @Query("SELECT s FROM TestStepResult s JOIN FETCH s.attempt a " +
+            "WHERE a.testResult.createdAt >= :start AND a.testResult.createdAt < :end " +
+            "ORDER BY a.id, s.stepNumber")
+    List<TestStepResult> findByResultCreatedInRange(@Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end);
+}
@@ -1,8 +1,13 @@
 package com.example.test_framework_api.repository;
 
+import com.example.test_framework_api.dto.SuiteSummary;
 import com.example.test_framework_api.model.TestSuite;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
@@ -12,4 +17,25 @@ public interface TestSuiteRepository extends JpaRepository<TestSuite, Long> {
 
     @Query("SELECT s FROM TestSuite s LEFT JOIN FETCH s.createdBy")
     List<TestSuite> findAllWithCreator();
+
+    String SUMMARY = "SELECT new com.example.test_framework_api.dto.SuiteSummary(" +
+            "s.id, s.name, s.description, s.status, s.createdAt, " +
+            "(SELECT COUNT(c) FROM TestCase c WHERE c.testSuite.id = s.id), u.id, u.username) " +
+            "FROM TestSuite s LEFT JOIN s.createdBy u ";
+
+    /**
+     * READ MODEL: Suite list with case counts (cases themselves are not loaded).
+     * CACHE: Rows stay cached until test_suite, test_case or users is written.
+     */
+    @Query(SUMMARY + "ORDER BY s.id")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "catalog.queries")})
+    List<SuiteSummary> findSummaries();
+
+    @Query(SUMMARY + "WHERE u.id = :userId ORDER BY s.id")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "catalog.queries")})
+    List<SuiteSummary> findSummariesByCreatorId(@Param("userId") Long userId);
 }
\ No newline at end of file
@@ -1,7 +1,13 @@
 package com.example.test_framework_api.repository;
 
+import com.example.test_framework_api.dto.UserStats;
 import com.example.test_framework_api.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -9,4 +15,31 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByUsername(String username);
     boolean existsByEmail(String email);
-}
\ No newline at end of file
+
+    /**
+     * READ MODEL: Users with roles in one query (roles are otherwise loaded per user).
+     */
+    @Query("SELECT DISTINCT u FROM User u LEFT JOIN FETCH u.roles ORDER BY u.id")
+    List<User> findAllWithRoles();
+
+    /**
+     * READ MODEL: Roles of the given users. Returns [userId, role].
+     */
+    @Query("SELECT u.id, r FROM User u JOIN u.roles r WHERE u.id IN :userIds")
+    List<Object[]> findRolesByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    /**
+     * READ MODEL: Dashboard stats over the suites a user created, in one statement.
+     * Not query-cached: test_result is written by every execution, so entries would
+     * rarely be reused, and writes on another node would not invalidate them.
+     */
+    @Query("SELECT new com.example.test_framework_api.dto.UserStats(" +
+            "(SELECT COUNT(s) FROM TestSuite s WHERE s.createdBy.id = :userId), " +
+            "(SELECT COUNT(c) FROM TestCase c JOIN c.testSuite s WHERE s.createdBy.id = :userId), " +
+            "(SELECT COUNT(r) FROM TestResult r JOIN r.testSuite s " +
+            "WHERE s.createdBy.id = :userId AND r.status = com.example.test_framework_api.model.TestStatus.PASSED), " +
+            "(SELECT COUNT(r) FROM TestResult r JOIN r.testSuite s " +
+            "WHERE s.createdBy.id = :userId AND r.status = com.example.test_framework_api.model.TestStatus.FAILED)) " +
+            "FROM User u WHERE u.id = :userId")
+    UserStats findStats(@Param("userId") Long userId);
+}
@@ -0,0 +1,270 @@
+package com.example.test_framework_api.service;
+
+import com.example.test_framework_api.config.ExecutionProperties;
+import com.example.test_framework_api.model.TestAttempt;
+import com.example.test_framework_api.model.TestResult;
+import com.example.test_framework_api.model.TestStepResult;
+import com.example.test_framework_api.repository.TestAttemptRepository;
+import com.example.test_framework_api.repository.TestResultRepository;
+import com.example.test_framework_api.repository.TestStepResultRepository;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * ARCHIVE: Cold storage for results dropped by retention.
+ *
+ * Before a day's raw rows are deleted, every result of that day is written as
+ * one JSON line (run, suite, attempts, steps and the full failure text) to
+ * archive-dir/dt=YYYY-MM-DD/results.jsonl.gz. Archived days are queried in
+ * place by streaming the partitions in range; nothing is loaded back into
+ * the database.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ArchiveService {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final String PARTITION_PREFIX = "dt=";
+
+    private static final String FILE_NAME = "results.jsonl.gz";
+
+    public static final int MAX_QUERY_LIMIT = 10_000;
+
+    private final TestResultRepository resultRepository;
+    private final TestAttemptRepository attemptRepository;
+    private final TestStepResultRepository stepRepository;
+    private final FailureStore failureStore;
+    private final ExecutionProperties executionProperties;
+
+    /**
+     * Write (or rewrite) the archive partition of a day; returns the number of results archived.
+     */
+    @Transactional(readOnly = true)
+    public int archiveDay(LocalDate day) {
+        LocalDateTime start = day.atStartOfDay();
+        LocalDateTime end = day.plusDays(1).atStartOfDay();
+        List<TestResult> results = resultRepository.findCreatedInRange(start, end);
+        if (results.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, List<TestAttempt>> attempts = attemptRepository.findByResultCreatedInRange(start, end).stream()
+                .collect(Collectors.groupingBy(a -> a.getTestResult().getId()));
+        Map<Long, List<TestStepResult>> steps = stepRepository.findByResultCreatedInRange(start, end).stream()
+                .collect(Collectors.groupingBy(s -> s.getAttempt().getId()));
+        Map<Long, String> details = new HashMap<>(); // Shared failure texts, decompressed once per day
+
+        Path partition = partitionDir(day);
+        Path target = partition.resolve(FILE_NAME);
+        try {
+            Files.createDirectories(partition);
+            Path tmp = Files.createTempFile(partition, FILE_NAME, ".tmp");
+            try {
+                try (Writer out = new BufferedWriter(new OutputStreamWriter(
+                        new GZIPOutputStream(Files.newOutputStream(tmp)), StandardCharsets.UTF_8))) {
+                    for (TestResult result : results) {
+                        Map<String, Object> record = record(result, attempts.getOrDefault(result.getId(), List.of()),
+                                steps, details);
+                        out.write(MAPPER.writeValueAsString(record));
+                        out.write('\n');
+                    }
+                }
+                Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tmp); // Only still there when writing or moving failed
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Archiving " + day + " failed", e);
+        }
+        log.info("Archived {} result(s) of {} to {}", results.size(), day, target);
+        return results.size();
+    }
+
+    /**
+     * Archived results in [from, to] matching the optional filters, oldest day first.
+     */
+    public List<Map<String, Object>> query(LocalDate from, LocalDate to, Long runId, String testName,
+            String status, int limit) {
+        int max = Math.max(1, Math.min(limit, MAX_QUERY_LIMIT));
+        List<Map<String, Object>> matches = new ArrayList<>();
+        // Lines hold the name JSON-escaped (quotes, backslashes, control characters)
+        String needle = testName == null ? null : new String(JsonStringEncoder.getInstance().quoteAsString(testName));
+        for (LocalDate day : partitions(from, to)) {
+            try (BufferedReader in = new BufferedReader(new InputStreamReader(
+                    new GZIPInputStream(Files.newInputStream(partitionDir(day).resolve(FILE_NAME))),
+                    StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = in.readLine()) != null) {
+                    // Cheap substring check before parsing the line
+                    if (needle != null && !line.contains(needle)) {
+                        continue;
+                    }
+                    Map<String, Object> record = MAPPER.readValue(line, new TypeReference<>() { });
+                    if (matches(record, runId, testName, status)) {
+                        matches.add(record);
+                        if (matches.size() >= max) {
+                            return matches;
+                        }
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Reading archive of " + day + " failed", e);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Archived days in [from, to] (either bound may be null), oldest first.
+     */
+    public List<LocalDate> partitions(LocalDate from, LocalDate to) {
+        Path root = root();
+        if (!Files.isDirectory(root)) {
+            return List.of();
+        }
+        try (Stream<Path> dirs = Files.list(root)) {
+            return dirs.map(dir -> partitionDay(dir.getFileName().toString()))
+                    .filter(day -> day != null
+                            && (from == null || !day.isBefore(from))
+                            && (to == null || !day.isAfter(to))
+                            && Files.exists(partitionDir(day).resolve(FILE_NAME)))
+                    .sorted()
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public long partitionSize(LocalDate day) {
+        try {
+            return Files.size(partitionDir(day).resolve(FILE_NAME));
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private Map<String, Object> record(TestResult result, List<TestAttempt> attempts,
+            Map<Long, List<TestStepResult>> steps, Map<Long, String> details) {
+        Map<String, Object> record = new LinkedHashMap<>();
+        record.put("resultId", result.getId());
+        if (result.getTestRun() != null) {
+            record.put("runId", result.getTestRun().getId());
+            record.put("runName", result.getTestRun().getName());
+            record.put("runStatus", String.valueOf(result.getTestRun().getStatus()));
+            record.put("parentRunId", result.getTestRun().getParentRunId());
+        }
+        if (result.getTestSuite() != null) {
+            record.put("suiteId", result.getTestSuite().getId());
+            record.put("suiteName", result.getTestSuite().getName());
+        }
+        record.put("testName", result.getTestName());
+        record.put("status", String.valueOf(result.getStatus()));
+        record.put("createdAt", String.valueOf(result.getCreatedAt()));
+        record.put("duration", result.getDuration());
+        record.put("retryCount", result.getRetryCount());
+        record.put("flaky", result.getFlaky());
+        record.put("quarantined", result.getQuarantined());
+        record.put("errorMessage", result.getErrorMessage());
+        record.put("failureSignatureId", result.getFailureSignatureId());
+        record.put("errorDetail", detailText(result.getFailureDetailId(), details));
+        record.put("screenshotRef", result.getScreenshotRef());
+        record.put("domRef", result.getDomRef());
+
+        List<Map<String, Object>> attemptRecords = new ArrayList<>();
+        for (TestAttempt attempt : attempts) {
+            Map<String, Object> a = new LinkedHashMap<>();
+            a.put("attempt", attempt.getAttemptNumber());
+            a.put("status", String.valueOf(attempt.getStatus()));
+            a.put("duration", attempt.getDuration());
+            a.put("startedAt", String.valueOf(attempt.getStartedAt()));
+            a.put("errorMessage", attempt.getErrorMessage());
+            List<Map<String, Object>> stepRecords = new ArrayList<>();
+            for (TestStepResult step : steps.getOrDefault(attempt.getId(), List.of())) {
+                Map<String, Object> s = new LinkedHashMap<>();
+                s.put("step", step.getStepNumber());
+                s.put("name", step.getName());
+                s.put("action", step.getAction());
+                s.put("target", step.getTarget());
+                s.put("status", String.valueOf(step.getStatus()));
+                s.put("duration", step.getDuration());
+                s.put("errorMessage", step.getErrorMessage());
+                stepRecords.add(s);
+            }
+            if (!stepRecords.isEmpty()) {
+                a.put("steps", stepRecords);
+            }
+            attemptRecords.add(a);
+        }
+        record.put("attempts", attemptRecords);
+        return record;
+    }
+
+    private String detailText(Long detailId, Map<Long, String> details) {
+        if (detailId == null) {
+            return null;
+        }
+        return details.computeIfAbsent(detailId,
+                id -> failureStore.findDetail(id).map(failureStore::text).orElse(null));
+    }
+
+    private static boolean matches(Map<String, Object> record, Long runId, String testName, String status) {
+        if (runId != null && !(record.get("runId") instanceof Number n && n.longValue() == runId)) {
+            return false;
+        }
+        if (testName != null && !testName.equals(record.get("testName"))) {
+            return false;
+        }
+        return status == null || status.equalsIgnoreCase(String.valueOf(record.get("status")));
+    }
+
+    private Path root() {
+        return Paths.get(executionProperties.getRetention().getArchiveDir());
+    }
+
+    private Path partitionDir(LocalDate day) {
+        return root().resolve(PARTITION_PREFIX + day);
+    }
+
+    private static LocalDate partitionDay(String dirName) {
+        if (!dirName.startsWith(PARTITION_PREFIX)) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(dirName.substring(PARTITION_PREFIX.length()));
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
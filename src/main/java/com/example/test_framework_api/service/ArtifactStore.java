@@ -0,0 +1,176 @@
+package com.example.test_framework_api.service;
+
+import com.example.test_framework_api.config.ExecutionProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * ARTIFACTS: Content-addressed store for failure screenshots and page sources.
+ *
+ * The test thread only hashes the captured bytes (SHA-256) and gets the
+ * reference back immediately; compression and disk writes happen on a
+ * background writer so capture does not stretch test duration. Identical
+ * content (e.g. the same error page across hundreds of failures) is stored
+ * once: reference = hash + "." + type, file = dir/ab/abcd....type[.gz].
+ */
+@Service
+@Slf4j
+public class ArtifactStore {
+
+    public static final String SCREENSHOT = "png";
+    public static final String DOM = "html";
+
+    private static final Pattern REF = Pattern.compile("[0-9a-f]{64}\\.(png|html)");
+
+    private final ExecutionProperties.Artifacts config;
+    private final Path root;
+    private final ThreadPoolExecutor writer;
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet(); // Queued refs only, bounded by the queue
+    private final AtomicInteger pending = new AtomicInteger();
+
+    public ArtifactStore(ExecutionProperties executionProperties) {
+        this.config = executionProperties.getArtifacts();
+        this.root = Paths.get(config.getDir());
+        this.writer = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, config.getQueueCapacity())), r -> {
+                    Thread t = new Thread(r, "artifact-writer");
+                    t.setDaemon(true);
+                    t.setPriority(Thread.MIN_PRIORITY);
+                    return t;
+                });
+    }
+
+    public ExecutionProperties.Artifacts getConfig() {
+        return config;
+    }
+
+    /**
+     * Reference for the content; written in the background unless already stored.
+     *
+     * @return null when disabled, empty, or the writer queue is full (artifact dropped)
+     */
+    public String store(byte[] content, String type) {
+        if (!config.isEnabled() || content == null || content.length == 0) {
+            return null;
+        }
+        String ref = sha256(content) + "." + type;
+        if (Files.exists(pathOf(ref)) || !inFlight.add(ref)) {
+            return ref; // Stored or queued already
+        }
+        pending.incrementAndGet();
+        try {
+            writer.execute(() -> write(ref, content));
+        } catch (RejectedExecutionException e) {
+            pending.decrementAndGet();
+            inFlight.remove(ref);
+            log.warn("Artifact writer saturated, dropping {} artifact", type);
+            return null;
+        }
+        return ref;
+    }
+
+    /**
+     * Stored content (decompressed), if the reference exists.
+     */
+    public Optional<byte[]> read(String ref) {
+        if (ref == null || !REF.matcher(ref).matches()) {
+            return Optional.empty();
+        }
+        Path path = pathOf(ref);
+        if (!Files.exists(path)) {
+            return Optional.empty();
+        }
+        try (InputStream in = compressed(ref) ? new GZIPInputStream(Files.newInputStream(path))
+                : Files.newInputStream(path)) {
+            return Optional.of(in.readAllBytes());
+        } catch (IOException e) {
+            log.error("Failed to read artifact {}: {}", ref, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public static String contentType(String ref) {
+        return ref != null && ref.endsWith("." + SCREENSHOT) ? "image/png" : "text/html;charset=UTF-8";
+    }
+
+    /**
+     * Wait until queued writes are on disk.
+     */
+    public boolean flush(long timeoutMs) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMs;
+        while (pending.get() > 0) {
+            if (System.currentTimeMillis() > deadline) {
+                return false;
+            }
+            Thread.sleep(10);
+        }
+        return true;
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        writer.shutdown();
+        writer.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    private void write(String ref, byte[] content) {
+        try {
+            Path path = pathOf(ref);
+            if (Files.exists(path)) {
+                return; // Written by an earlier run
+            }
+            Files.createDirectories(path.getParent());
+            Path tmp = Files.createTempFile(path.getParent(), ref, ".tmp");
+            try (OutputStream out = compressed(ref) ? new GZIPOutputStream(Files.newOutputStream(tmp))
+                    : Files.newOutputStream(tmp)) {
+                out.write(content);
+            }
+            Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.error("Failed to write artifact {}: {}", ref, e.getMessage());
+        } finally {
+            inFlight.remove(ref); // On disk now, or free to be stored again by a later failure
+            pending.decrementAndGet();
+        }
+    }
+
+    // PNG is already compressed; page sources compress well
+    private static boolean compressed(String ref) {
+        return ref.endsWith("." + DOM);
+    }
+
+    private Path pathOf(String ref) {
+        return root.resolve(ref.substring(0, 2)).resolve(compressed(ref) ? ref + ".gz" : ref);
+    }
+
+    static String sha256(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.test_framework_api.service;
+
+import com.example.test_framework_api.model.TestRun;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * CACHE: Stats and manual eviction for the second-level and query cache regions
+ * (ehcache.xml). Writes through JPA keep the regions current on their own; eviction
+ * is for rows changed outside the application (SQL console, another node).
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CacheService {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    /**
+     * Hits, misses and puts per region since startup, plus the hit ratio.
+     */
+    public List<Map<String, Object>> regionStats() {
+        Statistics statistics = statistics();
+        return Arrays.stream(statistics.getSecondLevelCacheRegionNames())
+                .sorted()
+                .map(region -> {
+                    CacheRegionStatistics stats = statistics.getCacheRegionStatistics(region);
+                    Map<String, Object> dto = new LinkedHashMap<>();
+                    dto.put("region", region);
+                    dto.put("hits", stats.getHitCount());
+                    dto.put("misses", stats.getMissCount());
+                    dto.put("puts", stats.getPutCount());
+                    long lookups = stats.getHitCount() + stats.getMissCount();
+                    dto.put("hitRatio", lookups > 0 ? (double) stats.getHitCount() / lookups : 0.0);
+                    return dto;
+                })
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Drop every cached entity and query result; the next reads go to the database.
+     */
+    public void evictAll() {
+        sessionFactory().getCache().evictAllRegions();
+        log.info("Evicted all second-level and query cache regions");
+    }
+
+    /**
+     * Drop one cached run, e.g. after reading a newer status than the region holds
+     * (read-write regions do not overwrite an entry on load, only on write).
+     */
+    public void evictRun(Long runId) {
+        entityManagerFactory.getCache().evict(TestRun.class, runId);
+    }
+
+    private Statistics statistics() {
+        return sessionFactory().getStatistics();
+    }
+
+    private SessionFactory sessionFactory() {
+        return entityManagerFactory.unwrap(SessionFactory.class);
+    }
+}
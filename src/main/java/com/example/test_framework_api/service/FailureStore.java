@@ -0,0 +1,309 @@
+package com.example.test_framework_api.service;
+
+import com.example.test_framework_api.config.ExecutionProperties;
+import com.example.test_framework_api.dto.FailureClusterSummary;
+import com.example.test_framework_api.model.FailureCluster;
+import com.example.test_framework_api.model.FailureDetail;
+import com.example.test_framework_api.model.FailureSignature;
+import com.example.test_framework_api.model.TestAttempt;
+import com.example.test_framework_api.model.TestResult;
+import com.example.test_framework_api.model.TestStatus;
+import com.example.test_framework_api.repository.FailureClusterRepository;
+import com.example.test_framework_api.repository.FailureDetailRepository;
+import com.example.test_framework_api.repository.FailureSignatureRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * FAILURES: Out-of-row storage for error messages and stack traces.
+ *
+ * Results and attempts keep a short summary in error_message plus the id of a
+ * failure_detail row holding the full text gzip-compressed. Details are stored
+ * once per content hash and grouped by failure signature (exception class +
+ * message template), so thousands of identical failures cost one row each.
+ *
+ * CLUSTERS: Failed results are also counted into failure_cluster by run,
+ * signature, target host and failing step as they are saved.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FailureStore {
+
+    public static final int SUMMARY_CHARS = 500;
+
+    public static final String UNKNOWN_TYPE = "Failure";
+
+    private static final int TEMPLATE_CHARS = 1000;
+
+    private static final String TRUNCATED_MARKER = "\n... [truncated]";
+
+    private static final Pattern EXCEPTION_LINE = Pattern.compile(
+            "^((?:[A-Za-z_$][\\w$]*\\.)*[A-Za-z_$][\\w$]*(?:Exception|Error|Throwable))(?::\\s?(.*))?$");
+
+    private static final Pattern UUID = Pattern.compile(
+            "\\b[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}\\b");
+
+    // Session ids, hashes: long hex runs containing at least one digit
+    private static final Pattern HEX = Pattern.compile("\\b(?=[0-9a-fA-F]*\\d)[0-9a-fA-F]{16,}\\b");
+
+    // Timings, ids, ports; short integers (status codes, counts) are kept as they tell failures apart
+    private static final Pattern NUMBER = Pattern.compile("\\b(?:\\d+\\.\\d+|\\d{4,})\\b");
+
+    private final FailureSignatureRepository signatureRepository;
+    private final FailureDetailRepository detailRepository;
+    private final FailureClusterRepository clusterRepository;
+    private final ExecutionProperties executionProperties;
+
+    /**
+     * Full text of a failure as stored: "type: message" followed by the stack trace.
+     */
+    public static String describe(Throwable e) {
+        StringWriter out = new StringWriter();
+        e.printStackTrace(new PrintWriter(out));
+        return out.toString();
+    }
+
+    /**
+     * Short form kept on the result row.
+     */
+    public static String summary(String message) {
+        if (message == null || message.length() <= SUMMARY_CHARS) {
+            return message;
+        }
+        return message.substring(0, SUMMARY_CHARS - 3) + "...";
+    }
+
+    /**
+     * Exception class named on the first line of the text, or UNKNOWN_TYPE for plain messages.
+     */
+    public static String exceptionType(String text) {
+        Matcher m = EXCEPTION_LINE.matcher(firstLine(text));
+        return m.matches() ? m.group(1) : UNKNOWN_TYPE;
+    }
+
+    /**
+     * First line of the message with volatile values replaced, e.g.
+     * "Timed out after 10000 ms (session 3f2a...)" -> "Timed out after <n> ms (session <hex>)".
+     */
+    public static String template(String text) {
+        String line = firstLine(text);
+        Matcher m = EXCEPTION_LINE.matcher(line);
+        String message = m.matches() ? (m.group(2) != null ? m.group(2) : "") : line;
+        message = UUID.matcher(message).replaceAll("<uuid>");
+        message = HEX.matcher(message).replaceAll("<hex>");
+        message = NUMBER.matcher(message).replaceAll("<n>");
+        message = message.trim();
+        return message.length() > TEMPLATE_CHARS ? message.substring(0, TEMPLATE_CHARS) : message;
+    }
+
+    /**
+     * Key of a failure_signature row.
+     */
+    public static String signatureHash(String exceptionType, String template) {
+        return ArtifactStore.sha256((exceptionType + "\n" + template).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Key of a failure_detail row, over the text as stored.
+     */
+    public static String contentHash(String stored) {
+        return ArtifactStore.sha256(stored.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Move the failure text of a result out of its row and count the occurrence.
+     */
+    public void attach(TestResult result) {
+        FailureDetail detail = record(result.getErrorDetail() != null ? result.getErrorDetail() : result.getErrorMessage(),
+                true);
+        if (detail != null) {
+            result.setFailureDetailId(detail.getId());
+            result.setFailureSignatureId(detail.getSignatureId());
+            if (result.getStatus() == TestStatus.FAILED && result.getTestRun() != null) {
+                cluster(result, detail);
+            }
+        }
+        result.setErrorMessage(summary(result.getErrorMessage()));
+    }
+
+    /**
+     * Same for an attempt; attempts share the detail rows but are not counted.
+     */
+    public void attach(TestAttempt attempt) {
+        FailureDetail detail = record(attempt.getErrorDetail() != null ? attempt.getErrorDetail() : attempt.getErrorMessage(),
+                false);
+        if (detail != null) {
+            attempt.setFailureDetailId(detail.getId());
+        }
+        attempt.setErrorMessage(summary(attempt.getErrorMessage()));
+    }
+
+    /**
+     * Detail row for the text (existing one when identical text was stored before), null for no text.
+     */
+    public FailureDetail record(String text, boolean countOccurrence) {
+        if (text == null || text.isBlank() || !executionProperties.getFailures().isEnabled()) {
+            return null;
+        }
+        int maxChars = Math.max(SUMMARY_CHARS, executionProperties.getFailures().getMaxDetailChars());
+        boolean truncated = text.length() > maxChars;
+        String stored = truncated ? text.substring(0, maxChars) + TRUNCATED_MARKER : text;
+
+        try {
+            FailureSignature signature = signature(exceptionType(stored), template(stored));
+            if (countOccurrence) {
+                signatureRepository.incrementOccurrences(signature.getId(), LocalDateTime.now());
+            }
+            String contentHash = contentHash(stored);
+            return findOrCreate(() -> detailRepository.findByContentHash(contentHash), () -> {
+                FailureDetail detail = new FailureDetail();
+                detail.setContentHash(contentHash);
+                detail.setSignatureId(signature.getId());
+                detail.setCompressedText(compress(stored));
+                detail.setOriginalLength(text.length());
+                detail.setTruncated(truncated);
+                return detailRepository.saveAndFlush(detail);
+            });
+        } catch (RuntimeException e) {
+            // Never lose the result over its failure text: it still has the summary
+            log.warn("Could not store failure detail: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * CLUSTERS: Failure clusters of a run, largest first.
+     */
+    public List<FailureClusterSummary> clustersForRun(Long runId) {
+        return clusterRepository.findSummariesByRunId(runId).stream()
+                .map(FailureClusterSummary::fromRow)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * CLUSTERS: Failure clusters across every run of a suite, largest first.
+     */
+    public List<FailureClusterSummary> clustersForSuite(Long suiteId) {
+        return clusterRepository.findSummariesBySuiteId(suiteId).stream()
+                .map(FailureClusterSummary::fromRow)
+                .collect(Collectors.toList());
+    }
+
+    public Optional<FailureDetail> findDetail(Long id) {
+        return id != null ? detailRepository.findById(id) : Optional.empty();
+    }
+
+    public Optional<FailureSignature> findSignature(Long id) {
+        return id != null ? signatureRepository.findById(id) : Optional.empty();
+    }
+
+    public String text(FailureDetail detail) {
+        return decompress(detail.getCompressedText());
+    }
+
+    /**
+     * CLUSTERS: Count the failure into its (run, signature, host, step) cluster.
+     */
+    private void cluster(TestResult result, FailureDetail detail) {
+        String host = result.getTargetHost() != null ? result.getTargetHost() : "";
+        String step = result.getFailedStep() != null ? truncate(result.getFailedStep(), 255) : "";
+        Long runId = result.getTestRun().getId();
+        try {
+            FailureCluster cluster = findOrCreate(
+                    () -> clusterRepository.findByTestRunIdAndSignatureIdAndTargetHostAndStep(
+                            runId, detail.getSignatureId(), host, step),
+                    () -> {
+                        FailureCluster created = new FailureCluster();
+                        created.setTestRunId(runId);
+                        created.setTestSuiteId(result.getTestSuite() != null ? result.getTestSuite().getId() : null);
+                        created.setSignatureId(detail.getSignatureId());
+                        created.setTargetHost(host);
+                        created.setStep(step);
+                        created.setSampleTestName(result.getTestName());
+                        created.setSampleDetailId(detail.getId());
+                        return clusterRepository.saveAndFlush(created);
+                    });
+            clusterRepository.incrementFailures(cluster.getId(), LocalDateTime.now());
+        } catch (RuntimeException e) {
+            log.warn("Could not index failure cluster for {}: {}", result.getTestName(), e.getMessage());
+        }
+    }
+
+    private FailureSignature signature(String exceptionType, String template) {
+        String hash = signatureHash(exceptionType, template);
+        return findOrCreate(() -> signatureRepository.findByHash(hash), () -> {
+            FailureSignature signature = new FailureSignature();
+            signature.setHash(hash);
+            signature.setExceptionType(exceptionType);
+            signature.setMessageTemplate(template);
+            return signatureRepository.saveAndFlush(signature);
+        });
+    }
+
+    /**
+     * Insert-if-absent; a concurrent worker inserting the same hash first wins
+     * the unique constraint and its row is used.
+     */
+    private static <T> T findOrCreate(Supplier<Optional<T>> find, Supplier<T> create) {
+        Optional<T> existing = find.get();
+        if (existing.isPresent()) {
+            return existing.get();
+        }
+        try {
+            return create.get();
+        } catch (DataIntegrityViolationException e) {
+            return find.get().orElseThrow(() -> e);
+        }
+    }
+
+    private static String truncate(String value, int max) {
+        return value.length() > max ? value.substring(0, max) : value;
+    }
+
+    private static String firstLine(String text) {
+        if (text == null) {
+            return "";
+        }
+        String trimmed = text.strip();
+        int end = trimmed.indexOf('\n');
+        return (end >= 0 ? trimmed.substring(0, end) : trimmed).strip();
+    }
+
+    public static byte[] compress(String text) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            gzip.write(text.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    static String decompress(byte[] compressed) {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return new String(gzip.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.example.test_framework_api.model.TestResult;
 import com.example.test_framework_api.model.TestStatus;
 import com.example.test_framework_api.repository.TestResultRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
@@ -22,6 +23,9 @@ public class MetricsService {
 
     private final TestResultRepository repo;
 
+    @Autowired
+    private RollupService rollupService;
+
     public record Summary(
         long total, long passed, long failed,
         double passRate, double avgDurationMs,
@@ -51,17 +55,13 @@ public class MetricsService {
             .filter(r -> r.getCreatedAt() != null && r.getCreatedAt().isAfter(since))
             .collect(Collectors.toList());
         
-        if (results.isEmpty()) {
-            return new ArrayList<>();
-        }
-        
         // Group by date
         Map<String, List<TestResult>> byDate = results.stream()
             .collect(Collectors.groupingBy(
                 r -> r.getCreatedAt().toLocalDate().toString()
             ));
         
-        return byDate.entrySet().stream()
+        List<Map<String, Object>> trends = byDate.entrySet().stream()
             .map(entry -> {
                 String date = entry.getKey();
                 List<TestResult> dayResults = entry.getValue();
@@ -79,8 +79,25 @@ public class MetricsService {
                 dataPoint.put("failed", total - passed);
                 return dataPoint;
             })
-            .sorted((a, b) -> ((String) a.get("date")).compareTo((String) b.get("date")))
             .collect(Collectors.toList());
+
+        // RETENTION: Days whose raw results were dropped come from the daily rollups
+        if (rollupService != null) {
+            rollupService.dailyTotals(since.toLocalDate()).forEach((day, counts) -> {
+                if (!byDate.containsKey(day.toString())) {
+                    Map<String, Object> dataPoint = new HashMap<>();
+                    dataPoint.put("date", day.toString());
+                    dataPoint.put("passRate", counts[0] > 0 ? (counts[1] * 100.0 / counts[0]) : 0);
+                    dataPoint.put("totalTests", counts[0]);
+                    dataPoint.put("passed", counts[1]);
+                    dataPoint.put("failed", counts[0] - counts[1]);
+                    trends.add(dataPoint);
+                }
+            });
+        }
+
+        trends.sort((a, b) -> ((String) a.get("date")).compareTo((String) b.get("date")));
+        return trends;
     }
 
     /**
@@ -140,9 +157,7 @@ public class MetricsService {
                     .average()
                     .orElse(0);
                 
-                double flakyScore = (retries * 10) + 
-                    ((fails * 100.0 / totalRuns) * 5) + 
-                    (avgDuration / 1000.0);
+                double flakyScore = flakyScore(retries, fails, totalRuns, avgDuration);
                 
                 Map<String, Object> flakyData = new HashMap<>();
                 flakyData.put("testName", testName);
@@ -162,6 +177,15 @@ public class MetricsService {
             .collect(Collectors.toList());
     }
 
+    /**
+     * Flaky score (higher = more flaky): retries, failure rate and slowness.
+     * Shared with QuarantineService so both rank tests the same way.
+     */
+    public static double flakyScore(long retries, long fails, long totalRuns, double avgDurationMs) {
+        double failRate = totalRuns > 0 ? fails * 100.0 / totalRuns : 0;
+        return (retries * 10) + (failRate * 5) + (avgDurationMs / 1000.0);
+    }
+
     public List<Object[]> getTrend7Days() {
         LocalDateTime weekAgo = LocalDateTime.now().minusDays(7);
         return repo.findDailyPassRate(weekAgo);
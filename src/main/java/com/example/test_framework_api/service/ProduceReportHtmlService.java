@@ -1,5 +1,7 @@
 package com.example.test_framework_api.service;
 
+import com.example.test_framework_api.dto.FailureClusterSummary;
+import com.example.test_framework_api.dto.ResultView;
 import com.example.test_framework_api.model.TestSuite;
 import com.example.test_framework_api.model.TestRun;
 import com.example.test_framework_api.model.TestStatus;
@@ -11,6 +13,7 @@ import com.example.test_framework_api.repository.TestResultRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.web.util.HtmlUtils;
 
 import java.io.File;
 import java.nio.charset.StandardCharsets;
@@ -31,6 +34,8 @@ public class ProduceReportHtmlService {
     private final TestSuiteRepository suiteRepository;
     private final TestRunRepository runRepository;
     private final TestResultRepository resultRepository;
+    private final TestResultService resultService;
+    private final FailureStore failureStore;
 
     public String generateReport() {
         List<TestRun> runs = runRepository.findAll();
@@ -39,7 +44,10 @@ public class ProduceReportHtmlService {
     }
 
     public String generateReportforrun(TestRun run) {
-        List<TestResult> results = resultRepository.findByTestRunId(run.getId());
+        // RERUN: Reruns report the merged final attempt of every test in the chain
+        List<Long> chain = run.getParentRunId() != null ? resultService.findRunChain(run.getId()) : List.of(run.getId());
+        List<TestResult> results = chain.size() > 1 ? resultService.findFinalAttemptResults(run.getId())
+                : resultRepository.findByTestRunId(run.getId());
 
         long total = results.size();
         long passed = results.stream().filter(r -> r.getStatus() == TestStatus.PASSED).count();
@@ -88,7 +96,12 @@ public class ProduceReportHtmlService {
 
         html.append("<div class='container'>");
         html.append("<h1>🧪 Test Run Report</h1>");
-        html.append("<div class='subtitle'>").append(run.getName()).append("</div>");
+        html.append("<div class='subtitle'>").append(run.getName());
+        if (chain.size() > 1) {
+            html.append(" &middot; final attempts merged from ").append(chain.size())
+                    .append(" runs (original run ").append(chain.get(0)).append(")");
+        }
+        html.append("</div>");
 
         // Summary Cards
         html.append("<div class='summary'>");
@@ -120,6 +133,9 @@ public class ProduceReportHtmlService {
         html.append("</div>");
         html.append("</div>");
 
+        // CLUSTERS: Triage view, one row per distinct failure instead of per case
+        appendFailureClusters(html, failureStore.clustersForRun(run.getId()));
+
         // Results Table
         html.append("<table>");
         html.append("<thead><tr>");
@@ -127,13 +143,20 @@ public class ProduceReportHtmlService {
         html.append("<th>Status</th>");
         html.append("<th>Duration</th>");
         html.append("<th>Retries</th>");
+        if (chain.size() > 1) {
+            html.append("<th>Run</th>");
+        }
         html.append("<th>Error Message</th>");
+        html.append("<th>Artifacts</th>");
         html.append("</tr></thead>");
         html.append("<tbody>");
 
         for (TestResult result : results) {
             String status = result.getStatus().toString();
             String statusClass = status.equals("PASSED") ? "passed" : "failed";
+            if (Boolean.TRUE.equals(result.getQuarantined())) {
+                status += " (quarantined)"; // Excluded from run/suite status
+            }
             double duration = (double) (result.getDuration() != null ? result.getDuration() : 0) / 1000;
             String errorMsg = result.getErrorMessage() != null ? result.getErrorMessage() : "-";
             if (errorMsg.length() > 100) {
@@ -146,7 +169,12 @@ public class ProduceReportHtmlService {
                     .append(status).append("</span></td>");
             html.append("<td>").append(String.format("%.2f s", duration)).append("</td>");
             html.append("<td>").append(result.getRetryCount()).append("</td>");
+            if (chain.size() > 1) {
+                html.append("<td>").append(result.getTestRun() != null ? result.getTestRun().getId() : "-")
+                        .append("</td>");
+            }
             html.append("<td style='color: #e53e3e; font-size: 0.9em;'>").append(errorMsg).append("</td>");
+            appendArtifactLinks(html, result);
             html.append("</tr>");
         }
 
@@ -268,6 +296,66 @@ public class ProduceReportHtmlService {
         return csv.toString().getBytes(StandardCharsets.UTF_8);
     }
 
+    /**
+     * CLUSTERS: Failure clusters table (nothing when there are no failures).
+     */
+    private void appendFailureClusters(StringBuilder html, List<FailureClusterSummary> clusters) {
+        if (clusters.isEmpty()) {
+            return;
+        }
+        html.append("<h2>Failure Clusters</h2>");
+        html.append("<table>");
+        html.append("<thead><tr>");
+        html.append("<th>Failures</th>");
+        html.append("<th>Error</th>");
+        html.append("<th>Host</th>");
+        html.append("<th>Step</th>");
+        html.append("<th>Example</th>");
+        html.append("</tr></thead>");
+        html.append("<tbody>");
+        for (FailureClusterSummary cluster : clusters) {
+            html.append("<tr>");
+            html.append("<td><strong>").append(cluster.failures()).append("</strong></td>");
+            html.append("<td style='color: #e53e3e; font-size: 0.9em;'>")
+                    .append(HtmlUtils.htmlEscape(simpleName(cluster.exceptionType())));
+            if (cluster.messageTemplate() != null && !cluster.messageTemplate().isEmpty()) {
+                html.append(": ").append(HtmlUtils.htmlEscape(cluster.messageTemplate()));
+            }
+            html.append("</td>");
+            html.append("<td>").append(cluster.targetHost().isEmpty() ? "-" : HtmlUtils.htmlEscape(cluster.targetHost()))
+                    .append("</td>");
+            html.append("<td>").append(cluster.step().isEmpty() ? "-" : HtmlUtils.htmlEscape(cluster.step()))
+                    .append("</td>");
+            html.append("<td>").append(HtmlUtils.htmlEscape(String.valueOf(cluster.sampleTestName()))).append("</td>");
+            html.append("</tr>");
+        }
+        html.append("</tbody></table>");
+    }
+
+    /**
+     * ARTIFACTS: Screenshot / page source links for a result (GET /api/runs/artifacts/{ref}).
+     */
+    private void appendArtifactLinks(StringBuilder html, TestResult result) {
+        String screenshotUrl = ResultView.artifactUrl(result.getScreenshotRef());
+        String domUrl = ResultView.artifactUrl(result.getDomRef());
+        html.append("<td>");
+        if (screenshotUrl == null && domUrl == null) {
+            html.append("-");
+        }
+        if (screenshotUrl != null) {
+            html.append("<a href='").append(HtmlUtils.htmlEscape(screenshotUrl)).append("' target='_blank'>Screenshot</a>");
+        }
+        if (domUrl != null) {
+            html.append(screenshotUrl != null ? " | " : "")
+                    .append("<a href='").append(HtmlUtils.htmlEscape(domUrl)).append("' target='_blank'>DOM</a>");
+        }
+        html.append("</td>");
+    }
+
+    private static String simpleName(String exceptionType) {
+        return exceptionType.substring(exceptionType.lastIndexOf('.') + 1);
+    }
+
     private List<TestResult> getResultsForSuite(TestSuite suite) {
         // Try new way first (test_suite_id)
         List<TestResult> results = resultRepository.findByTestSuiteId(suite.getId());
@@ -446,6 +534,8 @@ public class ProduceReportHtmlService {
         html.append("</div>");
         html.append("</div>");
 
+        appendFailureClusters(html, failureStore.clustersForSuite(suite.getId()));
+
         // Results Table
         html.append("<table>");
         html.append("<thead><tr>");
@@ -454,6 +544,7 @@ public class ProduceReportHtmlService {
         html.append("<th>Type</th>");
         html.append("<th>Result</th>");
         html.append("<th>Duration</th>");
+        html.append("<th>Artifacts</th>");
         html.append("</tr></thead>");
         html.append("<tbody>");
 
@@ -474,6 +565,7 @@ public class ProduceReportHtmlService {
                 html.append("<td>").append(tc.getTestType()).append("</td>");
                 html.append("<td><strong>").append(status).append("</strong></td>");
                 html.append("<td>").append(duration).append("</td>");
+                appendArtifactLinks(html, result);
                 html.append("</tr>");
             }
         }
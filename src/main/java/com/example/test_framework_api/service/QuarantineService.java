@@ -0,0 +1,150 @@
+package com.example.test_framework_api.service;
+
+import com.example.test_framework_api.config.ExecutionProperties;
+import com.example.test_framework_api.model.QuarantinedTest;
+import com.example.test_framework_api.model.TestCase;
+import com.example.test_framework_api.model.TestResult;
+import com.example.test_framework_api.model.TestStatus;
+import com.example.test_framework_api.repository.QuarantinedTestRepository;
+import com.example.test_framework_api.repository.TestResultRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * QUARANTINE: Moves flaky tests out of the critical path.
+ *
+ * Before a suite runs, tests whose flaky score (MetricsService.flakyScore) crosses
+ * the threshold are quarantined: they execute in the low-priority quarantine lane
+ * and their results no longer affect run/suite status or fail-fast policies.
+ * After promoteAfterPasses consecutive passes in quarantine they are released.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class QuarantineService {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final QuarantinedTestRepository quarantineRepository;
+    private final TestResultRepository resultRepository;
+    private final ExecutionProperties executionProperties;
+
+    /**
+     * Quarantine newly flaky tests among the cases.
+     *
+     * @return test names of the cases that must run in the quarantine lane
+     */
+    @Transactional
+    public synchronized Set<String> refresh(Collection<TestCase> cases) {
+        ExecutionProperties.Quarantine settings = executionProperties.getQuarantine();
+        if (!settings.isEnabled() || cases == null || cases.isEmpty()) {
+            return Set.of();
+        }
+        List<String> testNames = cases.stream()
+                .map(TestCase::getTestName)
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(Collectors.toList());
+
+        Set<String> quarantined = new HashSet<>();
+        for (int from = 0; from < testNames.size(); from += BATCH_SIZE) {
+            List<String> batch = testNames.subList(from, Math.min(from + BATCH_SIZE, testNames.size()));
+            quarantined.addAll(quarantineRepository.findActiveTestNames(batch));
+
+            for (Object[] row : resultRepository.findFlakyStatsByTestNames(batch)) {
+                String testName = (String) row[0];
+                if (quarantined.contains(testName)) {
+                    continue;
+                }
+                long totalRuns = ((Number) row[1]).longValue();
+                long passes = ((Number) row[2]).longValue();
+                long fails = ((Number) row[3]).longValue();
+                long retries = ((Number) row[4]).longValue();
+                double avgDuration = row[5] != null ? ((Number) row[5]).doubleValue() : 0;
+
+                // Only tests that do pass sometimes: consistently failing tests are real failures
+                boolean flaky = passes > 0 && (fails > 0 || retries > 0);
+                double score = MetricsService.flakyScore(retries, fails, totalRuns, avgDuration);
+                if (flaky && totalRuns >= settings.getMinRuns() && score >= settings.getFlakyScoreThreshold()) {
+                    quarantine(testName, score);
+                    quarantined.add(testName);
+                }
+            }
+        }
+        return quarantined;
+    }
+
+    /**
+     * Count a quarantined result towards promotion: consecutive passes release
+     * the test, a failure resets the streak. Non-quarantined results are ignored.
+     */
+    @Transactional
+    public synchronized TestResult recordResult(TestResult result) {
+        if (result == null || !Boolean.TRUE.equals(result.getQuarantined())
+                || result.getStatus() == TestStatus.CANCELLED) {
+            return result;
+        }
+        quarantineRepository.findByTestName(result.getTestName())
+                .filter(q -> Boolean.TRUE.equals(q.getActive()))
+                .ifPresent(q -> {
+                    if (result.getStatus() == TestStatus.PASSED) {
+                        q.setConsecutivePasses(q.getConsecutivePasses() + 1);
+                        if (q.getConsecutivePasses() >= executionProperties.getQuarantine().getPromoteAfterPasses()) {
+                            q.setActive(false);
+                            q.setReleasedAt(LocalDateTime.now());
+                            log.info("Test '{}' promoted out of quarantine after {} consecutive passes",
+                                    q.getTestName(), q.getConsecutivePasses());
+                        }
+                    } else {
+                        q.setConsecutivePasses(0);
+                    }
+                    quarantineRepository.save(q);
+                });
+        return result;
+    }
+
+    public List<QuarantinedTest> getQuarantinedTests() {
+        return quarantineRepository.findByActiveTrueOrderByQuarantinedAtDesc();
+    }
+
+    /**
+     * Manually return a test to the normal lanes.
+     *
+     * @return false if the test was not quarantined
+     */
+    @Transactional
+    public synchronized boolean release(String testName) {
+        return quarantineRepository.findByTestName(testName)
+                .filter(q -> Boolean.TRUE.equals(q.getActive()))
+                .map(q -> {
+                    q.setActive(false);
+                    q.setReleasedAt(LocalDateTime.now());
+                    quarantineRepository.save(q);
+                    log.info("Test '{}' released from quarantine manually", testName);
+                    return true;
+                })
+                .orElse(false);
+    }
+
+    private void quarantine(String testName, double score) {
+        QuarantinedTest q = quarantineRepository.findByTestName(testName).orElseGet(QuarantinedTest::new);
+        q.setTestName(testName);
+        q.setActive(true);
+        q.setFlakyScore(score);
+        q.setConsecutivePasses(0);
+        q.setQuarantinedAt(LocalDateTime.now());
+        q.setReleasedAt(null);
+        quarantineRepository.save(q);
+        log.warn("Test '{}' quarantined (flaky score {})", testName, String.format("%.1f", score));
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.test_framework_api.service;
+
+import com.example.test_framework_api.config.ExecutionProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * RETENTION: Nightly rollup of completed days and removal of raw results past
+ * execution.retention.raw-days (archived first, see ArchiveService). Each day
+ * is its own transaction, so an interrupted job resumes where it stopped on
+ * the next run.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RetentionJob {
+
+    private final RollupService rollupService;
+    private final ArchiveService archiveService;
+    private final ExecutionProperties executionProperties;
+
+    @Scheduled(cron = "${execution.retention.cron:0 15 2 * * *}")
+    public void runNightly() {
+        if (executionProperties.getRetention().isEnabled()) {
+            run(LocalDate.now());
+        }
+    }
+
+    /**
+     * Roll up every completed day not yet rolled up (re-rolling the last one for
+     * late results), then drop raw days older than the retention window.
+     */
+    public void run(LocalDate today) {
+        ExecutionProperties.Retention config = executionProperties.getRetention();
+        LocalDate oldestRaw = rollupService.oldestRawDay();
+        if (oldestRaw == null) {
+            return;
+        }
+
+        LocalDate lastRolled = rollupService.lastRolledDay();
+        LocalDate from = lastRolled != null && lastRolled.isAfter(oldestRaw) ? lastRolled : oldestRaw;
+        int rolledDays = 0;
+        for (LocalDate day = from; day.isBefore(today); day = day.plusDays(1)) {
+            rollupService.rollupDay(day);
+            rolledDays++;
+        }
+
+        int purged = 0;
+        if (config.getRawDays() > 0) {
+            LocalDate cutoff = today.minusDays(config.getRawDays());
+            for (LocalDate day = oldestRaw; day.isBefore(cutoff); day = day.plusDays(1)) {
+                if (config.isArchive()) {
+                    try {
+                        archiveService.archiveDay(day);
+                    } catch (RuntimeException e) {
+                        // Never drop what could not be archived; retried on the next run
+                        log.error("Retention: archiving {} failed, raw results kept: {}", day, e.getMessage());
+                        break;
+                    }
+                }
+                purged += rollupService.purgeDay(day);
+            }
+            if (purged > 0) {
+                rollupService.purgeUnreferencedFailureDetails();
+            }
+        }
+        if (config.getDailyRollupDays() > 0) {
+            rollupService.purgeDailyRollupsBefore(today.minusDays(config.getDailyRollupDays()));
+        }
+        log.info("Retention: rolled up {} day(s), dropped {} raw result(s) older than {} days",
+                rolledDays, purged, config.getRawDays());
+    }
+}
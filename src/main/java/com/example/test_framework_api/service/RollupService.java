@@ -0,0 +1,157 @@
+package com.example.test_framework_api.service;
+
+import com.example.test_framework_api.model.ResultRollup;
+import com.example.test_framework_api.model.RollupPeriod;
+import com.example.test_framework_api.repository.FailureDetailRepository;
+import com.example.test_framework_api.repository.ResultRollupRepository;
+import com.example.test_framework_api.repository.TestAttemptRepository;
+import com.example.test_framework_api.repository.TestResultRepository;
+import com.example.test_framework_api.repository.TestStepResultRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * RETENTION: Daily/weekly rollups of test results and day-by-day removal of raw rows.
+ *
+ * A calendar day is the partition unit: it is rolled up into result_rollup,
+ * then (once past execution.retention.raw-days) its results, attempts and
+ * steps are dropped together. Weekly rows are rebuilt from daily rows, so they
+ * stay correct after the raw data is gone. Scheduled by RetentionJob.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RollupService {
+
+    private final TestResultRepository resultRepository;
+    private final TestAttemptRepository attemptRepository;
+    private final TestStepResultRepository stepRepository;
+    private final FailureDetailRepository detailRepository;
+    private final ResultRollupRepository rollupRepository;
+
+    public static LocalDate weekStart(LocalDate day) {
+        return day.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    /**
+     * Rebuild the daily rollup of a day and the weekly rollup of its week (idempotent).
+     */
+    @Transactional
+    public int rollupDay(LocalDate day) {
+        rollupRepository.deletePeriod(RollupPeriod.DAILY, day);
+        List<ResultRollup> daily = toRollups(RollupPeriod.DAILY, day,
+                resultRepository.rollupByTest(day.atStartOfDay(), day.plusDays(1).atStartOfDay()));
+        rollupRepository.saveAll(daily);
+        rollupRepository.flush();
+
+        LocalDate week = weekStart(day);
+        rollupRepository.deletePeriod(RollupPeriod.WEEKLY, week);
+        rollupRepository.saveAll(toRollups(RollupPeriod.WEEKLY, week,
+                rollupRepository.sumDailyByTest(week, week.plusWeeks(1))));
+        return daily.size();
+    }
+
+    /**
+     * Drop the raw results of a day (with their attempts and steps). The day must be rolled up first.
+     */
+    @Transactional
+    public int purgeDay(LocalDate day) {
+        LocalDateTime start = day.atStartOfDay();
+        LocalDateTime end = day.plusDays(1).atStartOfDay();
+        stepRepository.deleteByResultCreatedBetween(start, end);
+        attemptRepository.deleteByResultCreatedBetween(start, end);
+        return resultRepository.deleteCreatedBetween(start, end);
+    }
+
+    /**
+     * Failure details whose results have all been purged.
+     */
+    @Transactional
+    public int purgeUnreferencedFailureDetails() {
+        return detailRepository.deleteUnreferenced();
+    }
+
+    @Transactional
+    public int purgeDailyRollupsBefore(LocalDate day) {
+        return rollupRepository.deleteOlderThan(RollupPeriod.DAILY, day);
+    }
+
+    /**
+     * Day of the oldest raw result still stored (null when there are none).
+     */
+    public LocalDate oldestRawDay() {
+        LocalDateTime oldest = resultRepository.findOldestCreatedAt();
+        return oldest != null ? oldest.toLocalDate() : null;
+    }
+
+    public LocalDate lastRolledDay() {
+        return rollupRepository.findLatestPeriodStart(RollupPeriod.DAILY);
+    }
+
+    /**
+     * Daily totals across all suites: date -> [total, passed, failed].
+     */
+    public Map<LocalDate, long[]> dailyTotals(LocalDate since) {
+        Map<LocalDate, long[]> totals = new HashMap<>();
+        for (Object[] row : rollupRepository.findTotals(RollupPeriod.DAILY, since)) {
+            totals.put((LocalDate) row[0], new long[] { toLong(row[1]), toLong(row[2]), toLong(row[3]) });
+        }
+        return totals;
+    }
+
+    /**
+     * Per-period totals of one suite, oldest first.
+     */
+    public List<Map<String, Object>> suiteRollups(Long suiteId, RollupPeriod period, LocalDate since) {
+        List<Map<String, Object>> points = new ArrayList<>();
+        for (Object[] row : rollupRepository.findSuiteTotals(suiteId, period, since)) {
+            long total = toLong(row[1]);
+            long passed = toLong(row[2]);
+            Map<String, Object> point = new HashMap<>();
+            point.put("periodStart", row[0].toString());
+            point.put("total", total);
+            point.put("passed", passed);
+            point.put("failed", toLong(row[3]));
+            point.put("flaky", toLong(row[4]));
+            point.put("passRate", total > 0 ? passed * 100.0 / total : 0);
+            point.put("avgDurationMs", total > 0 ? (double) toLong(row[5]) / total : 0);
+            points.add(point);
+        }
+        return points;
+    }
+
+    private static List<ResultRollup> toRollups(RollupPeriod period, LocalDate periodStart, List<Object[]> rows) {
+        List<ResultRollup> rollups = new ArrayList<>();
+        for (Object[] row : rows) {
+            ResultRollup rollup = new ResultRollup();
+            rollup.setPeriod(period);
+            rollup.setPeriodStart(periodStart);
+            rollup.setTestSuiteId((Long) row[0]);
+            rollup.setTestName((String) row[1]);
+            rollup.setTotal(toLong(row[2]));
+            rollup.setPassed(toLong(row[3]));
+            rollup.setFailed(toLong(row[4]));
+            rollup.setFlaky(toLong(row[5]));
+            rollup.setRetries(toLong(row[6]));
+            rollup.setTotalDuration(toLong(row[7]));
+            rollup.setMaxDuration(toLong(row[8]));
+            rollups.add(rollup);
+        }
+        return rollups;
+    }
+
+    private static long toLong(Object value) {
+        return value != null ? ((Number) value).longValue() : 0;
+    }
+}
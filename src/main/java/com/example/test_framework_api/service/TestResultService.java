@@ -25,21 +25,61 @@
 
 package com.example.test_framework_api.service;
 
+import com.example.test_framework_api.dto.RerunScope;
+import com.example.test_framework_api.dto.ResultView;
+import com.example.test_framework_api.model.TestAttempt;
 import com.example.test_framework_api.model.TestResult;
+import com.example.test_framework_api.model.TestRun;
+import com.example.test_framework_api.model.TestStatus;
+import com.example.test_framework_api.model.TestStepResult;
+import com.example.test_framework_api.repository.TestAttemptRepository;
 import com.example.test_framework_api.repository.TestResultRepository;
+import com.example.test_framework_api.repository.TestRunRepository;
+import com.example.test_framework_api.repository.TestStepResultRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 public class TestResultService {
 
+    // Guards against a corrupted parent_run_id cycle
+    private static final int MAX_RERUN_DEPTH = 50;
+
     @Autowired
     private TestResultRepository testResultRepository;
 
-    public List<TestResult> getAllTestResults() {
-        return testResultRepository.findAll();
+    @Autowired
+    private TestRunRepository testRunRepository;
+
+    @Autowired
+    private TestAttemptRepository testAttemptRepository;
+
+    @Autowired
+    private TestStepResultRepository testStepResultRepository;
+
+    @Autowired
+    private FailureStore failureStore;
+
+    /**
+     * READ MODEL: All results for listing (one query, no entities).
+     */
+    public List<ResultView> getResultViews() {
+        return testResultRepository.findViews();
+    }
+
+    public List<ResultView> getResultViewsByTestRunId(Long testRunId) {
+        return testResultRepository.findViewsByRunId(testRunId);
     }
 
     public TestResult saveTestResult(TestResult testResult) {
@@ -47,16 +87,126 @@ public class TestResultService {
         if (testResult.getTestRun() == null) {
             System.err.println("WARNING: Attempting to save TestResult without TestRun linkage!");
         }
+        if (failureStore != null) {
+            failureStore.attach(testResult); // Narrow row: full failure text stored compressed, once
+        }
         TestResult saved = testResultRepository.save(testResult);
         System.out.println("Saved TestResult ID " + saved.getId() + " for test: " + 
             saved.getTestName() + " | Status: " + saved.getStatus());
         return saved;
     }
 
+    /**
+     * RETRY: Save the final result of a case together with every attempt that produced it.
+     */
+    public TestResult saveTestResult(TestResult testResult, List<TestAttempt> attempts) {
+        TestResult saved = saveTestResult(testResult);
+        if (attempts != null && !attempts.isEmpty()) {
+            attempts.forEach(a -> {
+                a.setTestResult(saved);
+                if (failureStore != null) {
+                    failureStore.attach(a);
+                }
+            });
+            testAttemptRepository.saveAll(attempts);
+            saveSteps(attempts);
+        }
+        return saved;
+    }
+
+    // SCENARIO: Per-step results of multi-step UI cases
+    private void saveSteps(List<TestAttempt> attempts) {
+        List<TestStepResult> steps = new ArrayList<>();
+        for (TestAttempt attempt : attempts) {
+            if (attempt.getSteps() != null) {
+                attempt.getSteps().forEach(s -> s.setAttempt(attempt));
+                steps.addAll(attempt.getSteps());
+            }
+        }
+        if (!steps.isEmpty() && testStepResultRepository != null) {
+            testStepResultRepository.saveAll(steps);
+        }
+    }
+
+    public List<TestAttempt> findAttemptsByTestRunId(Long testRunId) {
+        return testAttemptRepository.findByTestRunId(testRunId);
+    }
+
+    public List<TestStepResult> findStepsByTestRunId(Long testRunId) {
+        return testStepResultRepository.findByTestRunId(testRunId);
+    }
+
     /**
      * FIXED #2: New method to find results by run ID and test name
      */
     public List<TestResult> findByTestRunIdAndTestName(Long testRunId, String testName) {
         return testResultRepository.findByTestRunIdAndTestName(testRunId, testName);
     }
-}
\ No newline at end of file
+
+    /**
+     * RERUN: Run chain from the original full run down to the given run
+     * (follows parent_run_id; a plain run is a chain of one).
+     */
+    public List<Long> findRunChain(Long runId) {
+        List<Long> chain = new ArrayList<>();
+        Set<Long> seen = new HashSet<>();
+        Long current = runId;
+        while (current != null && seen.add(current) && chain.size() < MAX_RERUN_DEPTH) {
+            TestRun run = testRunRepository.findById(current).orElse(null);
+            if (run == null) {
+                break;
+            }
+            chain.add(current);
+            current = run.getParentRunId();
+        }
+        Collections.reverse(chain);
+        return chain;
+    }
+
+    /**
+     * RERUN: Merged outcome of a run and the reruns leading to it.
+     * One result per test name: the final attempt wins (later run, then later result),
+     * listed in the order the original run executed them.
+     */
+    public List<TestResult> findFinalAttemptResults(Long runId) {
+        Map<String, TestResult> finalAttempts = new LinkedHashMap<>();
+        for (Long id : findRunChain(runId)) {
+            testResultRepository.findByTestRunId(id).stream()
+                    .sorted(Comparator.comparing(TestResult::getId))
+                    .forEach(r -> finalAttempts.put(r.getTestName(), r)); // Keeps original run order
+        }
+        return new ArrayList<>(finalAttempts.values());
+    }
+
+    /**
+     * RERUN: Test names whose final attempt in the run (chain) failed.
+     * FAILED_FLAKY keeps only those that are also flaky: retried in that attempt,
+     * or with both passes and failures in their history.
+     */
+    public List<String> findRerunTestNames(Long runId, RerunScope scope) {
+        List<TestResult> failed = findFinalAttemptResults(runId).stream()
+                .filter(r -> r.getStatus() == TestStatus.FAILED)
+                .collect(Collectors.toList());
+        if (failed.isEmpty() || scope != RerunScope.FAILED_FLAKY) {
+            return failed.stream().map(TestResult::getTestName).collect(Collectors.toList());
+        }
+
+        Set<String> mixedHistory = new HashSet<>(testResultRepository.findFlakyTestNames(
+                failed.stream().map(TestResult::getTestName).collect(Collectors.toList())));
+        return failed.stream()
+                .filter(r -> (r.getRetryCount() != null && r.getRetryCount() > 0)
+                        || mixedHistory.contains(r.getTestName()))
+                .map(TestResult::getTestName)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * RERUN: Suite the run executed (null when it has no results).
+     */
+    public Long findSuiteIdForRun(Long runId) {
+        return testResultRepository.findSuiteIdsByTestRunId(runId).stream()
+                .filter(Objects::nonNull)
+                .findFirst()
+                .orElse(null);
+    }
+}
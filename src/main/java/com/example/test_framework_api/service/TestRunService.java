@@ -1,21 +1,31 @@
 // src/main/java/com/example/test_framework_api/service/TestRunService.java
 package com.example.test_framework_api.service;
 
+import com.example.test_framework_api.dto.RerunScope;
+import com.example.test_framework_api.dto.RunSummary;
+import com.example.test_framework_api.dto.TestCaseExecutionRequest;
+import com.example.test_framework_api.model.TestCase;
 import com.example.test_framework_api.model.TestRun;
 import com.example.test_framework_api.model.TestRunRequest;
 import com.example.test_framework_api.model.TestStatus;
-import com.example.test_framework_api.model.TestResult;
+import com.example.test_framework_api.repository.TestCaseRepository;
 import com.example.test_framework_api.repository.TestRunRepository;
+import com.example.test_framework_api.worker.RunRegistry;
 
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.springframework.cache.annotation.Cacheable;
 import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.example.test_framework_api.config.RabbitMQConfig.TEST_SUITE_QUEUE;
 
 @Service
 @RequiredArgsConstructor
@@ -24,6 +34,18 @@ public class TestRunService {
     private RabbitTemplate rabbitTemplate; // ADD THIS
     private final TestRunRepository runRepository; // FIXED: Unified repository reference (removed duplicate @Autowired)
 
+    @Autowired
+    private RunRegistry runRegistry;
+
+    @Autowired
+    private TestResultService resultService;
+
+    @Autowired
+    private TestCaseRepository caseRepository;
+
+    @Autowired
+    private CacheService cacheService;
+
     public static final String EXCHANGE = "testRunExchange";
     public static final String ROUTING_KEY = "testRunKey";
 
@@ -46,22 +68,108 @@ public class TestRunService {
         return runRepository.save(run);
     }
 
-    public List<TestRun> getAllTestRuns() {
-        return runRepository.findAll();
+    /**
+     * READ MODEL: Run list with creator and result count (one query).
+     */
+    public List<RunSummary> getRunSummaries() {
+        return runRepository.findSummaries();
     }
 
-    @Cacheable(value = "testRuns", key = "#id")
+    // CACHE: Served from the "runs" second-level region; each caller gets its own copy
     public TestRun getTestRunById(Long id) {
         Optional<TestRun> optionalTestRun = runRepository.findById(id);
         return optionalTestRun.orElse(null);
     }
 
-    public List<TestResult> getTestResultsByTestRunId(Long testRunId) {
-
-        return runRepository.findTestResultsByTestRunId(testRunId); // Implement this in TestRunRepository
+    /**
+     * CACHE: Fresh from the database; use before acting on the run's status
+     * (skip if cancelled, cancel, rerun), since getTestRunById may be up to the
+     * region TTL behind a change made on another node.
+     */
+    public TestRun getCurrentTestRun(Long id) {
+        TestRun run = runRepository.findCurrentById(id).orElse(null);
+        cacheService.evictRun(id); // Next getTestRunById reloads the committed row too
+        return run;
     }
 
     public TestRun updateTestRun(TestRun run) {
         return runRepository.save(run);
     }
-}
\ No newline at end of file
+
+    /**
+     * Cancel a queued or executing run.
+     * Runs executing on this node stop dispatching and kill in-flight cases; the
+     * worker then marks them CANCELLED. Otherwise the run is marked CANCELLED
+     * immediately: a queued run is skipped when it is received, and a node
+     * executing it sees the status before its next case and keeps it.
+     *
+     * @return the run, or null if not found (unchanged when already finished)
+     */
+    public TestRun cancelTestRun(Long id, String reason) {
+        TestRun run = getCurrentTestRun(id);
+        if (run == null || !isActive(run)) {
+            return run;
+        }
+        boolean executing = runRegistry.cancel(id, reason);
+        if (!executing) {
+            run.setStatus(TestStatus.CANCELLED);
+            run.setTerminationReason(reason);
+            run = runRepository.save(run);
+        }
+        return run;
+    }
+
+    public boolean isActive(TestRun run) {
+        return run.getStatus() == TestStatus.PENDING || run.getStatus() == TestStatus.RUNNING;
+    }
+
+    /**
+     * RERUN: Queue a new run with only the cases that failed (or failed and are flaky)
+     * in a finished run. The new run links back via parentRunId and goes through the
+     * normal testSuiteQueue path; its report merges final attempts across the chain.
+     *
+     * @return the queued run, or null when nothing matched the scope
+     * @throws IllegalArgumentException if the run is unknown or has no suite results
+     * @throws IllegalStateException if the run is still queued or executing
+     */
+    public TestRun rerunFailed(Long parentRunId, RerunScope scope, int parallelThreads) {
+        TestRun parent = Optional.ofNullable(getCurrentTestRun(parentRunId))
+                .orElseThrow(() -> new IllegalArgumentException("Run not found: " + parentRunId));
+        if (isActive(parent)) {
+            throw new IllegalStateException("Run " + parentRunId + " is still " + parent.getStatus());
+        }
+
+        // Reruns have results for the re-executed cases only; the suite comes from the original run
+        Long suiteId = resultService.findRunChain(parentRunId).stream()
+                .map(resultService::findSuiteIdForRun)
+                .filter(Objects::nonNull)
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Run " + parentRunId + " has no suite results"));
+
+        Set<String> testNames = new HashSet<>(resultService.findRerunTestNames(parentRunId, scope));
+        List<String> caseIds = caseRepository.findByTestSuiteId(suiteId).stream()
+                .filter(tc -> testNames.contains(tc.getTestName()))
+                .map(TestCase::getTestCaseId)
+                .collect(Collectors.toList());
+        if (caseIds.isEmpty()) {
+            return null;
+        }
+
+        TestRun rerun = new TestRun();
+        rerun.setName(parent.getName() + "-Rerun");
+        rerun.setStatus(TestStatus.PENDING);
+        rerun.setCreatedAt(LocalDateTime.now());
+        rerun.setParallelThreads(parallelThreads);
+        rerun.setParentRunId(parentRunId);
+        rerun.setCreatedBy(parent.getCreatedBy());
+        rerun = runRepository.save(rerun);
+
+        TestCaseExecutionRequest request = new TestCaseExecutionRequest();
+        request.setTestSuiteId(suiteId);
+        request.setTestRunId(rerun.getId());
+        request.setParallelThreads(parallelThreads);
+        request.setTestCaseIds(caseIds);
+        rabbitTemplate.convertAndSend(TEST_SUITE_QUEUE, request);
+        return rerun;
+    }
+}
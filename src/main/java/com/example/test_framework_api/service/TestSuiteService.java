@@ -1,5 +1,9 @@
 package com.example.test_framework_api.service;
 
+import com.example.test_framework_api.config.ExecutionProperties;
+import com.example.test_framework_api.dto.ExecutionOrder;
+import com.example.test_framework_api.dto.SuiteSummary;
+import com.example.test_framework_api.dto.TestCaseExecutionRequest;
 import com.example.test_framework_api.model.TestCase;
 import com.example.test_framework_api.model.TestStatus;
 import com.example.test_framework_api.model.TestSuite;
@@ -10,11 +14,22 @@ import com.example.test_framework_api.repository.TestCaseRepository;
 import com.example.test_framework_api.repository.TestResultRepository;
 import com.example.test_framework_api.repository.TestSuiteRepository;
 import com.example.test_framework_api.repository.UserRepository;
+import com.example.test_framework_api.worker.CaseDispatcher;
+import com.example.test_framework_api.worker.CasePriority;
+import com.example.test_framework_api.worker.ConcurrencyLimiter;
+import com.example.test_framework_api.worker.EarlyTerminationPolicy;
+import com.example.test_framework_api.worker.FailureHistory;
+import com.example.test_framework_api.worker.HostRateLimiter;
+import com.example.test_framework_api.worker.RunHandle;
+import com.example.test_framework_api.worker.RunRegistry;
+import com.example.test_framework_api.worker.StaticPageExecutor;
 import com.example.test_framework_api.worker.TestExecutor;
 import com.opencsv.CSVReader;
 import com.opencsv.exceptions.CsvValidationException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -22,8 +37,15 @@ import org.springframework.web.multipart.MultipartFile;
 import org.springframework.security.core.Authentication;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
@@ -37,6 +59,8 @@ import java.util.stream.Collectors;
 @Slf4j
 public class TestSuiteService {
 
+    private static final int HISTORY_BATCH_SIZE = 500;
+
     private final TestSuiteRepository suiteRepository;
     private final TestCaseRepository caseRepository;
     private final TestResultRepository resultRepository;
@@ -45,6 +69,25 @@ public class TestSuiteService {
     private final Executor apiTestExecutor;
     private final UserRepository userRepository;
 
+    @Autowired
+    private ExecutionProperties executionProperties;
+
+    @Autowired
+    private HostRateLimiter globalHostRateLimiter;
+
+    @Autowired
+    private RunRegistry runRegistry;
+
+    @Autowired
+    private TestRunService runService;
+
+    @Autowired
+    private QuarantineService quarantineService;
+
+    @Autowired
+    @Qualifier("quarantineTestExecutor")
+    private Executor quarantineTestExecutor;
+
     /**
      * FIXED ISSUE #1: Auto-update suite status when test cases are loaded
      */
@@ -52,6 +95,16 @@ public class TestSuiteService {
     public TestSuite importFromCsv(MultipartFile file, String suiteName, String description,
             Authentication authentication)
             throws IOException, CsvValidationException {
+        return importFromCsv(file, suiteName, description, null, authentication);
+    }
+
+    /**
+     * BROWSER: Import with a browser profile used by the suite's UI cases.
+     */
+    @Transactional
+    public TestSuite importFromCsv(MultipartFile file, String suiteName, String description,
+            String browserProfile, Authentication authentication)
+            throws IOException, CsvValidationException {
         if (file.isEmpty())
             throw new IllegalArgumentException("CSV file is empty");
 
@@ -63,6 +116,7 @@ public class TestSuiteService {
         suite.setDescription(description);
         suite.setStatus(TestStatus.PENDING);
         suite.setCreatedBy(currentUser); // FIXED #4: Track creator
+        suite.setBrowserProfile(browserProfile);
         suite = suiteRepository.save(suite);
 
         List<TestCase> cases = new ArrayList<>();
@@ -108,6 +162,8 @@ public class TestSuiteService {
                 tc.setDescription(row.length > 11 ? row[11] : "");
                 if (row.length > 12)
                     tc.setActionsJson(row[12]);
+                if (row.length > 13)
+                    tc.setStaticPage("YES".equalsIgnoreCase(row[13].trim()) || Boolean.parseBoolean(row[13].trim()));
 
                 tc.setTestSuite(suite);
                 cases.add(tc);
@@ -126,8 +182,11 @@ public class TestSuiteService {
         return suite;
     }
 
-    public List<TestSuite> getAllSuites() {
-        return suiteRepository.findAll();
+    /**
+     * READ MODEL: Suite list with case counts and creators (two queries, cases not loaded).
+     */
+    public List<SuiteSummary> getSuiteSummaries() {
+        return withCreatorRoles(suiteRepository.findSummaries());
     }
 
     public TestSuite getSuiteById(Long id) {
@@ -136,7 +195,19 @@ public class TestSuiteService {
 
     @Async("generalExecutor")
     public CompletableFuture<Void> executeSuiteParallel(Long suiteId, TestRun run, int parallelThreads) {
-        log.info("Starting execution for suite {} with {} threads", suiteId, parallelThreads);
+        TestCaseExecutionRequest request = new TestCaseExecutionRequest();
+        request.setTestSuiteId(suiteId);
+        request.setTestRunId(run.getId());
+        request.setParallelThreads(parallelThreads);
+        return executeSuiteParallel(request, run);
+    }
+
+    @Async("generalExecutor")
+    public CompletableFuture<Void> executeSuiteParallel(TestCaseExecutionRequest request, TestRun run) {
+        Long suiteId = request.getTestSuiteId();
+        int parallelThreads = request.getParallelThreads();
+        log.info("Starting execution for suite {} with {} threads{}", suiteId, parallelThreads,
+                request.isAdaptiveConcurrency() ? " (adaptive)" : "");
 
         if (parallelThreads < 1 || parallelThreads > 8) {
             log.warn("Invalid parallelThreads {} for suite {}, defaulting to 1", parallelThreads, suiteId);
@@ -152,7 +223,7 @@ public class TestSuiteService {
             return CompletableFuture.completedFuture(null);
         }
 
-        List<TestCase> enabledCases = allCases.stream()
+        List<TestCase> enabledCases = selectRequestedCases(allCases, request).stream()
                 .filter(tc -> Boolean.TRUE.equals(tc.getRun()))
                 .collect(Collectors.toList());
 
@@ -163,29 +234,240 @@ public class TestSuiteService {
             return CompletableFuture.completedFuture(null);
         }
 
-        if (parallelThreads == 1) {
+        RunHandle handle = startRun(request);
+        CasePriority priority = casePriorityFor(enabledCases, request.getOrdering());
+        if (priority != null) {
+            priority.sort(enabledCases);
+        }
+        Set<String> quarantined = quarantinedFor(enabledCases);
+
+        if (parallelThreads == 1 && !request.isAdaptiveConcurrency()) {
             log.info("Executing suite {} in SEQUENTIAL mode", suiteId);
-            return executeSequential(enabledCases, run, suiteId);
+            return executeSequential(quarantinedLast(enabledCases, quarantined), run, suiteId,
+                    hostLimiterFor(request), handle, quarantined);
         }
 
         log.info("Executing suite {} in PARALLEL mode ({} threads)", suiteId, parallelThreads);
-        return executeParallel(enabledCases, run, suiteId);
+        return executeParallel(enabledCases, run, suiteId, parallelThreads, request.isAdaptiveConcurrency(),
+                hostLimiterFor(request), handle, priority, quarantined);
+    }
+
+    /**
+     * RERUN: Cases a request is restricted to (all of them when testCaseIds is null).
+     */
+    public List<TestCase> selectRequestedCases(List<TestCase> cases, TestCaseExecutionRequest request) {
+        if (cases == null || request == null || request.getTestCaseIds() == null) {
+            return cases;
+        }
+        Set<String> requested = new HashSet<>(request.getTestCaseIds());
+        return cases.stream()
+                .filter(tc -> requested.contains(tc.getTestCaseId()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Scheduling key for a run (null for LIST order):
+     * PRIORITY uses TestCase.priority then each test's historical failure rate,
+     * FAILURE_FIRST uses the failure risk score from recent history.
+     */
+    public CasePriority casePriorityFor(List<TestCase> cases, ExecutionOrder order) {
+        if (order == null || order == ExecutionOrder.LIST) {
+            return null;
+        }
+        List<String> testNames = cases.stream()
+                .map(TestCase::getTestName)
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(Collectors.toList());
+
+        if (order == ExecutionOrder.FAILURE_FIRST) {
+            return failureFirstPriority(testNames);
+        }
+
+        Map<String, Double> failureProbability = new HashMap<>();
+        for (int i = 0; i < testNames.size(); i += HISTORY_BATCH_SIZE) {
+            List<String> batch = testNames.subList(i, Math.min(i + HISTORY_BATCH_SIZE, testNames.size()));
+            for (Object[] row : resultRepository.findFailureCountsByTestNames(batch)) {
+                failureProbability.put((String) row[0], CasePriority.smoothedFailureRate(
+                        ((Number) row[1]).longValue(), ((Number) row[2]).longValue()));
+            }
+        }
+        return new CasePriority(failureProbability);
+    }
+
+    private CasePriority failureFirstPriority(List<String> testNames) {
+        ExecutionProperties.FailureFirst settings = executionProperties.getFailureFirst();
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime since = now.minusDays(settings.getLookbackDays());
+        LocalDateTime recentSince = now.minusDays(settings.getRecentDays());
+
+        Map<String, Double> risk = new HashMap<>();
+        for (int i = 0; i < testNames.size(); i += HISTORY_BATCH_SIZE) {
+            List<String> batch = testNames.subList(i, Math.min(i + HISTORY_BATCH_SIZE, testNames.size()));
+            for (Object[] row : resultRepository.findFailureHistoryByTestNames(batch, since, recentSince)) {
+                FailureHistory history = new FailureHistory(
+                        ((Number) row[1]).longValue(),
+                        ((Number) row[2]).longValue(),
+                        ((Number) row[3]).longValue(),
+                        ((Number) row[4]).longValue(),
+                        (LocalDateTime) row[5],
+                        (LocalDateTime) row[6],
+                        row[7] != null ? ((Number) row[7]).doubleValue() : 0);
+                risk.put((String) row[0], history.risk(now, settings.getRecencyHalfLifeHours()));
+            }
+        }
+        return CasePriority.failureFirst(risk,
+                FailureHistory.NONE.risk(now, settings.getRecencyHalfLifeHours()));
+    }
+
+    /**
+     * QUARANTINE: Test names of the cases that must run in the quarantine lane
+     * (newly flaky tests are quarantined first).
+     */
+    public Set<String> quarantinedFor(List<TestCase> cases) {
+        return quarantineService != null ? quarantineService.refresh(cases) : Set.of();
+    }
+
+    /**
+     * QUARANTINE: Sequential order with quarantined cases moved to the end (otherwise unchanged).
+     */
+    public List<TestCase> quarantinedLast(List<TestCase> cases, Set<String> quarantined) {
+        if (quarantined.isEmpty()) {
+            return cases;
+        }
+        List<TestCase> ordered = new ArrayList<>(cases);
+        ordered.sort(Comparator.comparing(tc -> quarantined.contains(tc.getTestName())));
+        return ordered;
+    }
+
+    /**
+     * QUARANTINE: Execute a quarantined case; its result is flagged and counts towards promotion.
+     */
+    public TestResult runQuarantined(TestCase testCase, TestRun run) {
+        return quarantineService.recordResult(testExecutor.runTestCase(testCase, run, true));
+    }
+
+    /**
+     * Register the run for cancellation, deadline enforcement and
+     * early termination (idempotent).
+     */
+    public RunHandle startRun(TestCaseExecutionRequest request) {
+        if (runRegistry == null || request.getTestRunId() == null) {
+            return null;
+        }
+        RunHandle handle = runRegistry.register(request.getTestRunId(), request.getCaseTimeoutSeconds(),
+                request.getSuiteTimeoutSeconds());
+        handle.setBrowserProfile(browserProfileFor(request));
+        handle.setTerminationPolicy(EarlyTerminationPolicy.of(request.getMaxFailures(),
+                request.getMaxFailureRate(), request.isStopOnCriticalFailure(), executionProperties.getFailFast()));
+        return handle;
     }
 
-    private CompletableFuture<Void> executeSequential(List<TestCase> cases, TestRun run, Long suiteId) {
+    /**
+     * BROWSER: Run override, else the suite's profile (null = default profile).
+     */
+    private String browserProfileFor(TestCaseExecutionRequest request) {
+        if (request.getBrowserProfile() != null && !request.getBrowserProfile().isBlank()) {
+            return request.getBrowserProfile();
+        }
+        if (request.getTestSuiteId() == null) {
+            return null;
+        }
+        return suiteRepository.findById(request.getTestSuiteId())
+                .map(TestSuite::getBrowserProfile)
+                .orElse(null);
+    }
+
+    /**
+     * CANCEL: Checked before each case. A cancel handled by another node only
+     * reaches this one as the persisted CANCELLED status (TestRunService.cancelTestRun),
+     * so the run is re-read and the local handle stopped when it is seen.
+     */
+    private boolean isCancelled(TestRun run, RunHandle handle) {
+        if (handle == null) {
+            return false;
+        }
+        if (handle.isCancelled()) {
+            return true;
+        }
+        TestRun persisted = runService.getCurrentTestRun(run.getId());
+        if (persisted == null || persisted.getStatus() != TestStatus.CANCELLED) {
+            return false;
+        }
+        handle.cancel(persisted.getTerminationReason() != null ? persisted.getTerminationReason() : "Cancelled");
+        return true;
+    }
+
+    private void endRun(TestRun run, RunHandle handle) {
+        if (handle == null) {
+            return;
+        }
+        if (handle.isCancelled()) {
+            run.setStatus(handle.getOutcome());
+            run.setTerminationReason(handle.getReason());
+        }
+        runRegistry.complete(handle.getRunId());
+    }
+
+    /**
+     * Host limiter for one run: the global limiter, or suite-level limits
+     * (applied to every target host) chained in front of it.
+     */
+    public HostRateLimiter hostLimiterFor(TestCaseExecutionRequest request) {
+        if (request.getHostRequestsPerSecond() <= 0 && request.getHostMaxConcurrency() <= 0) {
+            return globalHostRateLimiter;
+        }
+        ExecutionProperties.HostLimit suiteLimit = new ExecutionProperties.HostLimit();
+        suiteLimit.setRequestsPerSecond(Math.max(0, request.getHostRequestsPerSecond()));
+        suiteLimit.setMaxConcurrent(Math.max(0, request.getHostMaxConcurrency()));
+        return new HostRateLimiter("run-" + request.getTestRunId(), suiteLimit, null, globalHostRateLimiter);
+    }
+
+    /**
+     * EDGE CASE 1 & 4: Sequential execution with mixed failure tracking; the single
+     * sequential path for both the queue worker and executeSuiteParallel. Sets the
+     * run's final status (CANCELLED when stopped or interrupted); the caller saves it.
+     */
+    public CompletableFuture<Void> executeSequential(List<TestCase> cases, TestRun run, Long suiteId,
+            HostRateLimiter hostLimiter, RunHandle handle, Set<String> quarantined) {
         int executed = 0;
         int passed = 0;
         int failed = 0;
+        String interruptReason = null;
 
         for (TestCase tc : cases) {
             if (!Boolean.TRUE.equals(tc.getRun())) {
                 log.debug("Skipping disabled test case: {}", tc.getTestCaseId());
                 continue;
             }
+            if (isCancelled(run, handle)) {
+                log.info("Run {} cancelled: skipping remaining test cases", run.getId());
+                break;
+            }
 
             try {
                 log.info("Sequential execution: {} - {}", tc.getTestCaseId(), tc.getTestName());
-                testExecutor.executeTestCase(tc, run);
+                boolean inQuarantine = quarantined.contains(tc.getTestName());
+                String host = HostRateLimiter.hostOf(tc.getUrlEndpoint());
+                if (hostLimiter != null) {
+                    hostLimiter.acquire(host);
+                }
+                try {
+                    if (inQuarantine) {
+                        runQuarantined(tc, run);
+                    } else {
+                        testExecutor.executeTestCase(tc, run);
+                    }
+                } finally {
+                    if (hostLimiter != null) {
+                        hostLimiter.release(host);
+                    }
+                }
+
+                if (inQuarantine) {
+                    log.info("⚑ QUARANTINED: {} (not counted)", tc.getTestCaseId());
+                    continue;
+                }
 
                 List<TestResult> results = resultRepository.findByTestRunIdAndTestName(
                         run.getId(), tc.getTestName());
@@ -205,9 +487,29 @@ public class TestSuiteService {
                 }
 
                 executed++;
+            } catch (InterruptedException e) {
+                // Worker shutting down while waiting for a host slot: stop the run, not a test failure
+                Thread.currentThread().interrupt();
+                interruptReason = "Interrupted before " + tc.getTestCaseId();
+                log.warn("Run {} interrupted: skipping remaining test cases", run.getId());
+                if (handle != null) {
+                    handle.cancel(interruptReason);
+                }
+                break;
             } catch (Exception e) {
                 failed++;
                 log.error("✗ EXCEPTION in test case {}: {}", tc.getTestCaseId(), e.getMessage());
+
+                TestResult failureResult = new TestResult();
+                failureResult.setTestName(tc.getTestName());
+                failureResult.setStatus(TestStatus.FAILED);
+                failureResult.setErrorMessage("Exception: " + e.getMessage());
+                failureResult.setTestRun(run);
+                failureResult.setTestSuite(tc.getTestSuite()); // CRITICAL: Link result to suite
+                failureResult.setDuration(0L);
+                failureResult.setRetryCount(0);
+                failureResult.setCreatedAt(LocalDateTime.now());
+                resultRepository.save(failureResult);
             }
         }
 
@@ -223,50 +525,73 @@ public class TestSuiteService {
             run.setStatus(TestStatus.FAILED);
             log.warn("Sequential suite FAILED: 0/{} passed", executed);
         }
+        if (interruptReason != null && handle == null) {
+            run.setStatus(TestStatus.CANCELLED);
+            run.setTerminationReason(interruptReason);
+        }
 
+        endRun(run, handle);
         updateSuiteStatus(suiteId);
         return CompletableFuture.completedFuture(null);
     }
 
-    private CompletableFuture<Void> executeParallel(List<TestCase> cases, TestRun run, Long suiteId) {
-        List<TestCase> uiCases = cases.stream()
-                .filter(tc -> "UI".equals(tc.getTestType()))
-                .collect(Collectors.toList());
-
-        List<TestCase> apiCases = cases.stream()
-                .filter(tc -> "API".equals(tc.getTestType()))
+    /**
+     * Each lane (UI/API) is fed through a CaseDispatcher so that in-flight cases
+     * never exceed the lane limit: parallelThreads in fixed mode, or an AIMD
+     * limit bounded by the pool size in adaptive mode. Cases are additionally
+     * gated per target host by the run's HostRateLimiter, and started in
+     * CasePriority order (null = list order). Quarantined cases of either type
+     * run one at a time in the separate low-priority quarantine lane.
+     */
+    private CompletableFuture<Void> executeParallel(List<TestCase> cases, TestRun run, Long suiteId,
+            int parallelThreads, boolean adaptive, HostRateLimiter hostLimiter, RunHandle handle,
+            CasePriority priority, Set<String> quarantined) {
+        List<TestCase> quarantineCases = cases.stream()
+                .filter(tc -> quarantined.contains(tc.getTestName()))
                 .collect(Collectors.toList());
 
-        log.info("Executing {} UI tests and {} API tests in parallel", uiCases.size(), apiCases.size());
-
-        List<CompletableFuture<Void>> uiFutures = uiCases.stream()
-                .map(tc -> CompletableFuture.runAsync(() -> {
-                    try {
-                        log.debug("Executing UI test: {}", tc.getTestCaseId());
-                        testExecutor.executeTestCase(tc, run);
-                    } catch (Exception e) {
-                        log.error("UI test {} failed: {}", tc.getTestCaseId(), e.getMessage());
-                    }
-                }, uiTestExecutor))
+        // STATIC: browserless UI checks run at API speed in the API lane
+        ExecutionProperties.StaticPages staticPages = executionProperties.getStaticPages();
+        List<TestCase> uiCases = cases.stream()
+                .filter(tc -> "UI".equals(tc.getTestType()) && !quarantined.contains(tc.getTestName())
+                        && !StaticPageExecutor.supports(tc, staticPages))
                 .collect(Collectors.toList());
 
-        List<CompletableFuture<Void>> apiFutures = apiCases.stream()
-                .map(tc -> CompletableFuture.runAsync(() -> {
-                    try {
-                        log.debug("Executing API test: {}", tc.getTestCaseId());
-                        testExecutor.executeTestCase(tc, run);
-                    } catch (Exception e) {
-                        log.error("API test {} failed: {}", tc.getTestCaseId(), e.getMessage());
-                    }
-                }, apiTestExecutor))
+        List<TestCase> apiCases = cases.stream()
+                .filter(tc -> ("API".equals(tc.getTestType()) || StaticPageExecutor.supports(tc, staticPages))
+                        && !quarantined.contains(tc.getTestName()))
                 .collect(Collectors.toList());
 
-        List<CompletableFuture<Void>> allFutures = new ArrayList<>();
-        allFutures.addAll(uiFutures);
-        allFutures.addAll(apiFutures);
-
-        CompletableFuture<Void> allOf = CompletableFuture.allOf(
-                allFutures.toArray(new CompletableFuture[0]));
+        log.info("Executing {} UI tests and {} API/static tests in parallel ({} quarantined)",
+                uiCases.size(), apiCases.size(), quarantineCases.size());
+
+        ExecutionProperties.Adaptive settings = executionProperties.getAdaptive();
+        // BROWSER: shared-browser contexts allow more UI cases in flight than one Chrome per case
+        int uiMax = executionProperties.getBrowser().uiMaxConcurrency(settings.getUiMaxConcurrency());
+        ConcurrencyLimiter uiLimiter = adaptive
+                ? ConcurrencyLimiter.adaptive("suite-" + suiteId + "-ui", parallelThreads,
+                        uiMax, settings, ConcurrencyLimiter.SYSTEM_PROBE)
+                : ConcurrencyLimiter.fixed("suite-" + suiteId + "-ui", Math.min(parallelThreads, uiMax));
+        ConcurrencyLimiter apiLimiter = adaptive
+                ? ConcurrencyLimiter.adaptive("suite-" + suiteId + "-api", parallelThreads,
+                        settings.getApiMaxConcurrency(), settings, ConcurrencyLimiter.SYSTEM_PROBE)
+                : ConcurrencyLimiter.fixed("suite-" + suiteId + "-api", parallelThreads);
+
+        CompletableFuture<Void> uiDone = new CaseDispatcher("UI", uiCases, uiTestExecutor, uiLimiter,
+                hostLimiter, handle, priority, tc -> isCancelled(run, handle) ? null : testExecutor.runTestCase(tc, run))
+                .start();
+        CompletableFuture<Void> apiDone = new CaseDispatcher("API", apiCases, apiTestExecutor, apiLimiter,
+                hostLimiter, handle, priority, tc -> isCancelled(run, handle) ? null : testExecutor.runTestCase(tc, run))
+                .start();
+
+        CompletableFuture<Void> quarantineDone = quarantineCases.isEmpty()
+                ? CompletableFuture.completedFuture(null)
+                : new CaseDispatcher("QUARANTINE", quarantineCases, quarantineTestExecutor,
+                        ConcurrencyLimiter.fixed("suite-" + suiteId + "-quarantine", 1),
+                        hostLimiter, handle, priority, tc -> isCancelled(run, handle) ? null : runQuarantined(tc, run))
+                        .start();
+
+        CompletableFuture<Void> allOf = CompletableFuture.allOf(uiDone, apiDone, quarantineDone);
 
         return allOf.whenComplete((result, ex) -> {
             if (ex != null) {
@@ -275,6 +600,7 @@ public class TestSuiteService {
                 log.info("Suite {} parallel execution completed successfully", suiteId);
             }
 
+            endRun(run, handle);
             updateSuiteStatus(suiteId);
         });
     }
@@ -296,14 +622,18 @@ public class TestSuiteService {
             log.warn("No test results found for run ID {} (suite {})", runId, suiteId);
             suite.setStatus(TestStatus.PENDING);
         } else {
+            // QUARANTINE: quarantined results neither pass nor fail the suite
+            long quarantined = results.stream()
+                    .filter(r -> Boolean.TRUE.equals(r.getQuarantined()))
+                    .count();
             long total = suite.getTestCases().stream()
                     .filter(tc -> Boolean.TRUE.equals(tc.getRun()))
-                    .count();
+                    .count() - quarantined;
             long passed = results.stream()
-                    .filter(r -> r.getStatus() == TestStatus.PASSED)
+                    .filter(r -> r.getStatus() == TestStatus.PASSED && !Boolean.TRUE.equals(r.getQuarantined()))
                     .count();
             long failed = results.stream()
-                    .filter(r -> r.getStatus() == TestStatus.FAILED)
+                    .filter(r -> r.getStatus() == TestStatus.FAILED && !Boolean.TRUE.equals(r.getQuarantined()))
                     .count();
 
             if (passed == total && failed == 0) {
@@ -322,7 +652,27 @@ public class TestSuiteService {
         suiteRepository.save(suite);
     }
 
-    public List<TestSuite> getSuitesByUser(Long userId) {
-        return suiteRepository.findByCreatedById(userId);
+    public List<SuiteSummary> getSuiteSummariesByUser(Long userId) {
+        return withCreatorRoles(suiteRepository.findSummariesByCreatorId(userId));
+    }
+
+    // One roles query for all creators on the page
+    private List<SuiteSummary> withCreatorRoles(List<SuiteSummary> suites) {
+        Set<Long> creatorIds = suites.stream()
+                .map(SuiteSummary::createdBy)
+                .filter(Objects::nonNull)
+                .map(SuiteSummary.Creator::userId)
+                .collect(Collectors.toSet());
+        if (creatorIds.isEmpty()) {
+            return suites;
+        }
+        Map<Long, Set<String>> roles = new HashMap<>();
+        for (Object[] row : userRepository.findRolesByUserIds(creatorIds)) {
+            roles.computeIfAbsent((Long) row[0], id -> new HashSet<>()).add((String) row[1]);
+        }
+        return suites.stream()
+                .map(s -> s.createdBy() == null ? s
+                        : s.withCreatorRoles(roles.getOrDefault(s.createdBy().userId(), Set.of())))
+                .collect(Collectors.toList());
     }
 }
\ No newline at end of file
@@ -0,0 +1,193 @@
+package com.example.test_framework_api.worker;
+
+import com.example.test_framework_api.config.ExecutionProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Isolated browser contexts inside shared Chrome processes
+ * (execution.browser.isolation=context).
+ *
+ * Per profile, a host ChromeDriver launches one Chrome process. Each UI case gets
+ * a fresh incognito-like browser context (CDP Target.createBrowserContext: own
+ * cookies, storage and cache) with one page, driven by a lightweight ChromeDriver
+ * session attached to the host through its debuggerAddress. A host serves up to
+ * contexts-per-browser cases at a time; further cases launch another host.
+ */
+@Slf4j
+public class BrowserContextPool {
+
+    /**
+     * Launches the Chrome process that hosts contexts for a profile.
+     */
+    public interface HostLauncher {
+        ChromeDriver launch(String profileName);
+    }
+
+    /**
+     * Opens a session attached to an already running Chrome (no new process).
+     */
+    public interface SessionAttacher {
+        ChromeDriver attach(String debuggerAddress, String profileName, String action);
+    }
+
+    private final int contextsPerBrowser;
+    private final HostLauncher hostLauncher;
+    private final SessionAttacher sessionAttacher;
+    private final Map<String, List<Host>> hostsByProfile = new HashMap<>();
+    private final Map<WebDriver, Lease> leases = new ConcurrentHashMap<>();
+
+    public BrowserContextPool(int contextsPerBrowser, HostLauncher hostLauncher, SessionAttacher sessionAttacher) {
+        this.contextsPerBrowser = Math.max(1, contextsPerBrowser);
+        this.hostLauncher = hostLauncher;
+        this.sessionAttacher = sessionAttacher;
+    }
+
+    /**
+     * Session whose current window is a page in a new, isolated browser context.
+     * Must be handed back through release().
+     */
+    public ChromeDriver open(String profileName, ExecutionProperties.BrowserProfile profile, String action) {
+        Host host = reserve(profileName);
+        String contextId;
+        String targetId;
+        try {
+            contextId = host.createContext();
+            targetId = host.createTarget(contextId, profile.getWindowWidth(), profile.getWindowHeight());
+        } catch (RuntimeException e) {
+            discard(host);
+            throw e;
+        }
+
+        ChromeDriver session = null;
+        try {
+            session = sessionAttacher.attach(host.debuggerAddress, profileName, action);
+            session.switchTo().window(targetId);
+        } catch (RuntimeException e) {
+            if (session != null) {
+                quietly(session::quit);
+            }
+            host.disposeContext(contextId);
+            unreserve(host);
+            throw e;
+        }
+        leases.put(session, new Lease(host, contextId));
+        log.debug("Opened browser context {} on host {} ({}/{} in use)", contextId, host.debuggerAddress,
+                host.inUse, contextsPerBrowser);
+        return session;
+    }
+
+    /**
+     * Close the context and its session; false when the driver was not opened here.
+     */
+    public boolean release(WebDriver driver) {
+        Lease lease = leases.remove(driver);
+        if (lease == null) {
+            return false;
+        }
+        // Disposing the context closes its pages; the attached session never owns the Chrome process
+        lease.host.disposeContext(lease.contextId);
+        quietly(driver::quit);
+        unreserve(lease.host);
+        return true;
+    }
+
+    public int getOpenContexts() {
+        return leases.size();
+    }
+
+    public synchronized int getHostCount() {
+        return hostsByProfile.values().stream().mapToInt(List::size).sum();
+    }
+
+    public synchronized void shutdown() {
+        leases.keySet().forEach(driver -> quietly(driver::quit));
+        leases.clear();
+        hostsByProfile.values().forEach(hosts -> hosts.forEach(h -> quietly(h.driver::quit)));
+        hostsByProfile.clear();
+    }
+
+    private synchronized Host reserve(String profileName) {
+        List<Host> hosts = hostsByProfile.computeIfAbsent(profileName, p -> new ArrayList<>());
+        for (Host host : hosts) {
+            if (host.inUse < contextsPerBrowser) {
+                host.inUse++;
+                return host;
+            }
+        }
+        ChromeDriver driver = hostLauncher.launch(profileName);
+        Host host = new Host(driver, debuggerAddress(driver));
+        host.inUse = 1;
+        hosts.add(host);
+        log.info("Launched shared browser #{} for profile {} at {}", hosts.size(), profileName, host.debuggerAddress);
+        return host;
+    }
+
+    private synchronized void unreserve(Host host) {
+        host.inUse = Math.max(0, host.inUse - 1);
+    }
+
+    // Host no longer accepts CDP commands (e.g. Chrome crashed): stop handing it out
+    private synchronized void discard(Host host) {
+        hostsByProfile.values().forEach(hosts -> hosts.remove(host));
+        quietly(host.driver::quit);
+        log.warn("Discarded shared browser at {}", host.debuggerAddress);
+    }
+
+    private static String debuggerAddress(ChromeDriver driver) {
+        Object options = driver.getCapabilities().getCapability("goog:chromeOptions");
+        Object address = options instanceof Map<?, ?> map ? map.get("debuggerAddress") : null;
+        if (address == null) {
+            quietly(driver::quit);
+            throw new IllegalStateException("Shared browser did not report a debuggerAddress");
+        }
+        return address.toString();
+    }
+
+    private static void quietly(Runnable action) {
+        try {
+            action.run();
+        } catch (RuntimeException e) {
+            log.debug("Ignoring browser cleanup error: {}", e.getMessage());
+        }
+    }
+
+    private record Lease(Host host, String contextId) {
+    }
+
+    private static class Host {
+        final ChromeDriver driver;
+        final String debuggerAddress;
+        int inUse;
+
+        Host(ChromeDriver driver, String debuggerAddress) {
+            this.driver = driver;
+            this.debuggerAddress = debuggerAddress;
+        }
+
+        // Host session commands are serialized; these calls are short
+        synchronized String createContext() {
+            Map<String, Object> result = driver.executeCdpCommand("Target.createBrowserContext",
+                    Map.of("disposeOnDetach", false));
+            return (String) result.get("browserContextId");
+        }
+
+        synchronized String createTarget(String contextId, int width, int height) {
+            Map<String, Object> result = driver.executeCdpCommand("Target.createTarget", Map.of(
+                    "url", "about:blank", "browserContextId", contextId, "width", width, "height", height));
+            return (String) result.get("targetId");
+        }
+
+        synchronized void disposeContext(String contextId) {
+            quietly(() -> driver.executeCdpCommand("Target.disposeBrowserContext",
+                    Map.of("browserContextId", contextId)));
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.example.test_framework_api.worker;
+
+import com.example.test_framework_api.model.TestCase;
+import com.example.test_framework_api.model.TestResult;
+import com.example.test_framework_api.model.TestStatus;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Feeds one lane (UI or API) of a suite run into its executor without
+ * blocking a thread: cases are submitted only while the lane limiter and
+ * the target host's rate/concurrency limiter have room, and every completion
+ * (or token refill) pumps the next ones. Cancelling the run drops every
+ * case that has not started yet. With a CasePriority, queued cases (and the
+ * tasks handed to the pool's priority queue) are ordered by it.
+ */
+@Slf4j
+public class CaseDispatcher {
+
+    private static final long RETRY_DELAY_MS = 200;
+    private static final long HOST_RELEASE_POLL_MS = 50;
+
+    private final String lane;
+    private final Map<String, Deque<TestCase>> pending = new LinkedHashMap<>();
+    private final Executor executor;
+    private final ConcurrencyLimiter limiter;
+    private final HostRateLimiter hostLimiter;
+    private final RunHandle runHandle;
+    private final CasePriority priority;
+    private final Function<TestCase, TestResult> task;
+    private final CompletableFuture<Void> done = new CompletableFuture<>();
+
+    private int pendingCount;
+    private int inFlight;
+    private boolean retryScheduled;
+
+    public CaseDispatcher(String lane, List<TestCase> cases, Executor executor,
+            ConcurrencyLimiter limiter, Function<TestCase, TestResult> task) {
+        this(lane, cases, executor, limiter, null, null, null, task);
+    }
+
+    public CaseDispatcher(String lane, List<TestCase> cases, Executor executor, ConcurrencyLimiter limiter,
+            HostRateLimiter hostLimiter, RunHandle runHandle, CasePriority priority,
+            Function<TestCase, TestResult> task) {
+        this.lane = lane;
+        this.executor = executor;
+        this.limiter = limiter;
+        this.hostLimiter = hostLimiter;
+        this.runHandle = runHandle;
+        this.priority = priority;
+        this.task = task;
+        List<TestCase> ordered = new ArrayList<>(cases);
+        if (priority != null) {
+            priority.sort(ordered);
+        }
+        // Without host limits every case shares one queue, preserving (priority) order
+        for (TestCase tc : ordered) {
+            pending.computeIfAbsent(hostKey(tc), k -> new ArrayDeque<>()).add(tc);
+        }
+        this.pendingCount = cases.size();
+    }
+
+    public CompletableFuture<Void> start() {
+        if (runHandle != null) {
+            runHandle.onCancel(this::pump);
+        }
+        pump();
+        return done;
+    }
+
+    private void pump() {
+        synchronized (this) {
+            if (runHandle != null && runHandle.isCancelled() && pendingCount > 0) {
+                log.info("Run {} cancelled: dropping {} queued {} case(s)", runHandle.getRunId(), pendingCount, lane);
+                pending.clear();
+                pendingCount = 0;
+            }
+            long retryIn = 0;
+            while (pendingCount > 0 && limiter.tryAcquire()) {
+                String host = null;
+                TestCase tc = null;
+                for (Map.Entry<String, Deque<TestCase>> entry : hostsInOrder()) {
+                    long wait = hostLimiter != null ? hostLimiter.tryAcquire(entry.getKey()) : 0;
+                    if (wait == 0) {
+                        host = entry.getKey();
+                        tc = entry.getValue().poll();
+                        if (entry.getValue().isEmpty()) {
+                            pending.remove(host);
+                        }
+                        break;
+                    }
+                    long delay = wait > 0 ? wait : HOST_RELEASE_POLL_MS;
+                    retryIn = retryIn == 0 ? delay : Math.min(retryIn, delay);
+                }
+                if (tc == null) {
+                    // Every remaining host is throttled: hand the lane slot back and wait
+                    limiter.abandon();
+                    break;
+                }
+
+                pendingCount--;
+                inFlight++;
+                final String targetHost = host;
+                final TestCase next = tc;
+                try {
+                    Runnable work = () -> run(next, targetHost);
+                    executor.execute(priority != null ? priority.wrap(next, work) : work);
+                } catch (RejectedExecutionException e) {
+                    // Pool saturated by other suites: put the case back and retry on next completion
+                    inFlight--;
+                    limiter.abandon();
+                    releaseHost(targetHost);
+                    pending.computeIfAbsent(targetHost, k -> new ArrayDeque<>()).addFirst(next);
+                    pendingCount++;
+                    if (inFlight == 0) {
+                        retryIn = RETRY_DELAY_MS;
+                    }
+                    break;
+                }
+            }
+            if (retryIn > 0 && !retryScheduled) {
+                retryScheduled = true;
+                CompletableFuture.delayedExecutor(retryIn, TimeUnit.MILLISECONDS).execute(() -> {
+                    synchronized (this) {
+                        retryScheduled = false;
+                    }
+                    pump();
+                });
+            }
+            if (pendingCount == 0 && inFlight == 0) {
+                done.complete(null);
+            }
+        }
+    }
+
+    private void run(TestCase tc, String host) {
+        long start = System.currentTimeMillis();
+        boolean success = false;
+        try {
+            log.debug("Executing {} test: {}", lane, tc.getTestCaseId());
+            TestResult result = task.apply(tc);
+            success = result == null || result.getStatus() == TestStatus.PASSED;
+        } catch (Exception e) {
+            log.error("{} test {} failed: {}", lane, tc.getTestCaseId(), e.getMessage());
+        } finally {
+            limiter.release(System.currentTimeMillis() - start, success);
+            releaseHost(host);
+            synchronized (this) {
+                inFlight--;
+            }
+            pump();
+        }
+    }
+
+    /**
+     * Host queues to try, best head case first when prioritised.
+     */
+    private List<Map.Entry<String, Deque<TestCase>>> hostsInOrder() {
+        List<Map.Entry<String, Deque<TestCase>>> hosts = new ArrayList<>(pending.entrySet());
+        if (priority != null && hosts.size() > 1) {
+            Comparator<TestCase> order = priority.comparator();
+            hosts.sort((a, b) -> order.compare(a.getValue().peek(), b.getValue().peek()));
+        }
+        return hosts;
+    }
+
+    private String hostKey(TestCase tc) {
+        return hostLimiter != null ? HostRateLimiter.hostOf(tc.getUrlEndpoint()) : "";
+    }
+
+    private void releaseHost(String host) {
+        if (hostLimiter != null) {
+            hostLimiter.release(host);
+        }
+    }
+
+    public String getLane() {
+        return lane;
+    }
+}
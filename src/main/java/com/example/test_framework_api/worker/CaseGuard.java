@@ -0,0 +1,155 @@
+package com.example.test_framework_api.worker;
+
+import com.example.test_framework_api.model.TestCase;
+import com.example.test_framework_api.model.TestResult;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tracks one in-flight test case so the run watchdog (or a cancel request)
+ * can tear it down: registered resources (e.g. WebDriver.quit) are closed
+ * and the executing thread is interrupted.
+ */
+@Slf4j
+public class CaseGuard {
+
+    private final String testCaseId;
+    private final long timeoutMs;
+    private final long deadline;
+    private final RunHandle owner;
+    private final Thread thread;
+    private final List<Runnable> killers = new ArrayList<>();
+
+    private boolean closed;
+    private volatile String killReason;
+    private volatile boolean cancelled;
+
+    CaseGuard(String testCaseId, long timeoutMs, RunHandle owner) {
+        this.testCaseId = testCaseId;
+        this.timeoutMs = timeoutMs;
+        this.deadline = timeoutMs > 0 ? System.currentTimeMillis() + timeoutMs : Long.MAX_VALUE;
+        this.owner = owner;
+        this.thread = Thread.currentThread();
+    }
+
+    /**
+     * Guard for cases executed outside a registered run (no watchdog, no cancel).
+     */
+    public static CaseGuard untracked(String testCaseId, long timeoutMs) {
+        return new CaseGuard(testCaseId, timeoutMs, null);
+    }
+
+    /**
+     * Register a resource to close if the case is killed (e.g. driver::quit).
+     * Runs immediately when the case has already been killed.
+     */
+    public void onKill(Runnable killer) {
+        synchronized (this) {
+            if (killReason == null) {
+                killers.add(killer);
+                return;
+            }
+        }
+        runQuietly(killer);
+    }
+
+    /**
+     * Milliseconds left before the case deadline (for driver/HTTP timeouts).
+     */
+    public long remainingMs() {
+        if (deadline == Long.MAX_VALUE) {
+            return Long.MAX_VALUE;
+        }
+        return Math.max(1, deadline - System.currentTimeMillis());
+    }
+
+    /**
+     * Timeout to hand to a blocking call: remaining time, capped at the given default.
+     */
+    public int boundedTimeoutMs(long defaultMs) {
+        return (int) Math.min(Integer.MAX_VALUE, Math.min(defaultMs, remainingMs()));
+    }
+
+    boolean isOverdue(long now) {
+        return now > deadline;
+    }
+
+    void kill(String reason, boolean cancel) {
+        List<Runnable> toRun;
+        synchronized (this) {
+            if (closed || killReason != null) {
+                return;
+            }
+            killReason = reason;
+            cancelled = cancel;
+            toRun = new ArrayList<>(killers);
+            killers.clear();
+        }
+        log.warn("Killing test case {}: {}", testCaseId, reason);
+        toRun.forEach(this::runQuietly);
+        thread.interrupt();
+    }
+
+    /**
+     * Report the saved result of the case to its run (early-termination policy).
+     */
+    public void recordResult(TestCase testCase, TestResult result) {
+        if (owner != null) {
+            owner.recordResult(testCase, result);
+        }
+    }
+
+    /**
+     * Must be called by the executing thread when the case finishes.
+     */
+    public void close() {
+        synchronized (this) {
+            closed = true;
+            killers.clear();
+        }
+        if (killReason != null) {
+            // Do not leak the interrupt into the next task on this pool thread
+            Thread.interrupted();
+        }
+        if (owner != null) {
+            owner.finished(this);
+        }
+    }
+
+    public boolean isKilled() {
+        return killReason != null;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    public String getKillReason() {
+        return killReason;
+    }
+
+    /**
+     * Browser profile of the owning run (null = default profile).
+     */
+    public String getBrowserProfile() {
+        return owner != null ? owner.getBrowserProfile() : null;
+    }
+
+    public long getTimeoutMs() {
+        return timeoutMs;
+    }
+
+    public String getTestCaseId() {
+        return testCaseId;
+    }
+
+    private void runQuietly(Runnable killer) {
+        try {
+            killer.run();
+        } catch (Exception e) {
+            log.debug("Kill hook for {} failed: {}", testCaseId, e.getMessage());
+        }
+    }
+}
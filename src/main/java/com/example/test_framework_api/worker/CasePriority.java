@@ -0,0 +1,85 @@
+package com.example.test_framework_api.worker;
+
+import com.example.test_framework_api.model.TestCase;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Scheduling key for the cases of one run.
+ *
+ * PRIORITY: TestCase.priority (High/Medium/Low) first, then the historical
+ * failure probability of the test (by test name).
+ * FAILURE_FIRST: highest failure risk score first (see FailureHistory),
+ * static priority only breaks ties. Minimises time-to-first-failure.
+ */
+public class CasePriority {
+
+    /**
+     * Failure probability assumed for tests with no history.
+     */
+    public static final double UNKNOWN_FAILURE_PROBABILITY = 0.5;
+
+    private final Map<String, Double> failureProbability;
+    private final boolean priorityFirst;
+    private final double unknownScore;
+
+    public CasePriority(Map<String, Double> failureProbability) {
+        this(failureProbability, true, UNKNOWN_FAILURE_PROBABILITY);
+    }
+
+    private CasePriority(Map<String, Double> failureProbability, boolean priorityFirst, double unknownScore) {
+        this.failureProbability = failureProbability;
+        this.priorityFirst = priorityFirst;
+        this.unknownScore = unknownScore;
+    }
+
+    /**
+     * Order purely by failure risk score (tests without history get unknownScore).
+     */
+    public static CasePriority failureFirst(Map<String, Double> riskScores, double unknownScore) {
+        return new CasePriority(riskScores, false, unknownScore);
+    }
+
+    public static int rank(String priority) {
+        if (priority == null) {
+            return 1;
+        }
+        return switch (priority.trim().toLowerCase()) {
+            case "high", "critical" -> 0;
+            case "low" -> 2;
+            default -> 1;
+        };
+    }
+
+    /**
+     * Laplace-smoothed failure rate: (failures + 1) / (runs + 2).
+     */
+    public static double smoothedFailureRate(long runs, long failures) {
+        return (failures + 1.0) / (runs + 2.0);
+    }
+
+    public double failureProbability(TestCase testCase) {
+        return failureProbability.getOrDefault(testCase.getTestName(), unknownScore);
+    }
+
+    public Comparator<TestCase> comparator() {
+        Comparator<TestCase> byPriority = Comparator.comparingInt(tc -> rank(tc.getPriority()));
+        Comparator<TestCase> byRisk = Comparator.comparingDouble(this::failureProbability).reversed();
+        return priorityFirst ? byPriority.thenComparing(byRisk) : byRisk.thenComparing(byPriority);
+    }
+
+    /**
+     * Stable in-place sort (ties keep list order).
+     */
+    public void sort(List<TestCase> cases) {
+        cases.sort(comparator());
+    }
+
+    public PrioritizedTask wrap(TestCase testCase, Runnable task) {
+        // Failure-first cases share one rank so the pool queue orders them by risk alone
+        int rank = priorityFirst ? rank(testCase.getPriority()) : rank(null);
+        return new PrioritizedTask(rank, failureProbability(testCase), task);
+    }
+}
@@ -0,0 +1,170 @@
+package com.example.test_framework_api.worker;
+
+import com.example.test_framework_api.config.ExecutionProperties;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Caps the number of in-flight test cases for one execution lane.
+ *
+ * Fixed mode: limit never changes (parallelThreads).
+ * Adaptive mode: AIMD on every completed window of cases -
+ * +1 when healthy, * backoffRatio when latency, error rate, CPU or memory
+ * headroom cross their thresholds.
+ */
+@Slf4j
+public class ConcurrencyLimiter {
+
+    /**
+     * Source of system headroom readings (replaceable in tests).
+     */
+    public interface HeadroomProbe {
+        double cpuLoad();
+
+        double freeMemoryRatio();
+    }
+
+    public static final HeadroomProbe SYSTEM_PROBE = new HeadroomProbe() {
+        @Override
+        public double cpuLoad() {
+            if (ManagementFactory.getOperatingSystemMXBean() instanceof com.sun.management.OperatingSystemMXBean os) {
+                double load = os.getCpuLoad();
+                return load < 0 ? 0 : load;
+            }
+            return 0;
+        }
+
+        @Override
+        public double freeMemoryRatio() {
+            Runtime rt = Runtime.getRuntime();
+            double heapFree = 1.0 - (double) (rt.totalMemory() - rt.freeMemory()) / rt.maxMemory();
+            if (ManagementFactory.getOperatingSystemMXBean() instanceof com.sun.management.OperatingSystemMXBean os
+                    && os.getTotalMemorySize() > 0) {
+                double systemFree = (double) os.getFreeMemorySize() / os.getTotalMemorySize();
+                return Math.min(heapFree, systemFree);
+            }
+            return heapFree;
+        }
+    };
+
+    private final String name;
+    private final boolean adaptive;
+    private final int minLimit;
+    private final int maxLimit;
+    private final ExecutionProperties.Adaptive settings;
+    private final HeadroomProbe probe;
+
+    private int limit;
+    private int inFlight;
+
+    // Current evaluation window
+    private int windowCount;
+    private int windowFailures;
+    private long windowLatencySum;
+    private double baselineLatencyMs = -1;
+
+    private ConcurrencyLimiter(String name, boolean adaptive, int initial, int min, int max,
+            ExecutionProperties.Adaptive settings, HeadroomProbe probe) {
+        this.name = name;
+        this.adaptive = adaptive;
+        this.minLimit = Math.max(1, min);
+        this.maxLimit = Math.max(this.minLimit, max);
+        this.limit = Math.min(this.maxLimit, Math.max(this.minLimit, initial));
+        this.settings = settings;
+        this.probe = probe;
+    }
+
+    public static ConcurrencyLimiter fixed(String name, int limit) {
+        return new ConcurrencyLimiter(name, false, limit, limit, limit, null, null);
+    }
+
+    public static ConcurrencyLimiter adaptive(String name, int initial, int max,
+            ExecutionProperties.Adaptive settings, HeadroomProbe probe) {
+        return new ConcurrencyLimiter(name, true, initial, settings.getMinConcurrency(), max, settings, probe);
+    }
+
+    public synchronized boolean tryAcquire() {
+        if (inFlight >= limit) {
+            return false;
+        }
+        inFlight++;
+        return true;
+    }
+
+    /**
+     * Give back a slot that was never used (no sample recorded).
+     */
+    public synchronized void abandon() {
+        inFlight = Math.max(0, inFlight - 1);
+    }
+
+    /**
+     * Release a slot and feed the case outcome into the controller.
+     */
+    public synchronized void release(long latencyMs, boolean success) {
+        inFlight = Math.max(0, inFlight - 1);
+        if (!adaptive) {
+            return;
+        }
+
+        windowCount++;
+        windowLatencySum += Math.max(0, latencyMs);
+        if (!success) {
+            windowFailures++;
+        }
+        if (windowCount >= limit) {
+            evaluateWindow();
+        }
+    }
+
+    private void evaluateWindow() {
+        double avgLatency = (double) windowLatencySum / windowCount;
+        double errorRate = (double) windowFailures / windowCount;
+
+        if (baselineLatencyMs < 0 || avgLatency < baselineLatencyMs) {
+            baselineLatencyMs = avgLatency;
+        } else {
+            // Drift slowly upwards so one lucky window does not pin the baseline forever
+            baselineLatencyMs += (avgLatency - baselineLatencyMs) * 0.1;
+        }
+
+        String reason = null;
+        if (errorRate > settings.getMaxErrorRate()) {
+            reason = String.format("error rate %.0f%%", errorRate * 100);
+        } else if (baselineLatencyMs > 0 && avgLatency > baselineLatencyMs * settings.getLatencyTolerance()) {
+            reason = String.format("latency %.0fms vs baseline %.0fms", avgLatency, baselineLatencyMs);
+        } else if (probe.cpuLoad() > settings.getMaxCpuLoad()) {
+            reason = "cpu load";
+        } else if (probe.freeMemoryRatio() < settings.getMinFreeMemoryRatio()) {
+            reason = "memory headroom";
+        }
+
+        int previous = limit;
+        if (reason != null) {
+            limit = Math.max(minLimit, (int) Math.floor(limit * settings.getBackoffRatio()));
+        } else {
+            limit = Math.min(maxLimit, limit + 1);
+        }
+        if (limit != previous) {
+            log.info("Adaptive limit [{}] {} -> {}{}", name, previous, limit,
+                    reason != null ? " (" + reason + ")" : "");
+        }
+
+        windowCount = 0;
+        windowFailures = 0;
+        windowLatencySum = 0;
+    }
+
+    public synchronized int getLimit() {
+        return limit;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    public boolean isAdaptive() {
+        return adaptive;
+    }
+}
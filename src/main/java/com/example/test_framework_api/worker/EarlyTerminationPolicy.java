@@ -0,0 +1,78 @@
+package com.example.test_framework_api.worker;
+
+import com.example.test_framework_api.config.ExecutionProperties;
+import com.example.test_framework_api.model.TestCase;
+import com.example.test_framework_api.model.TestResult;
+import com.example.test_framework_api.model.TestStatus;
+
+/**
+ * Fail-fast rules for a suite run. Fed every finished case; returns a reason
+ * once the run should stop (outstanding work is then cancelled).
+ *
+ * 1. maxFailures: stop after N failed cases
+ * 2. maxFailureRate: stop when failed/finished exceeds X% (after minSamples cases)
+ * 3. stopOnCriticalFailure: stop as soon as a High priority case fails
+ */
+public class EarlyTerminationPolicy {
+
+    private final int maxFailures;
+    private final double maxFailureRate;
+    private final int minSamples;
+    private final boolean stopOnCriticalFailure;
+
+    private int finished;
+    private int failed;
+
+    public EarlyTerminationPolicy(int maxFailures, double maxFailureRate, int minSamples,
+            boolean stopOnCriticalFailure) {
+        this.maxFailures = Math.max(0, maxFailures);
+        this.maxFailureRate = Math.max(0, maxFailureRate);
+        this.minSamples = Math.max(1, minSamples);
+        this.stopOnCriticalFailure = stopOnCriticalFailure;
+    }
+
+    /**
+     * Request values override the configured defaults when set (> 0 / true).
+     */
+    public static EarlyTerminationPolicy of(int maxFailures, double maxFailureRate, boolean stopOnCriticalFailure,
+            ExecutionProperties.FailFast defaults) {
+        return new EarlyTerminationPolicy(
+                maxFailures > 0 ? maxFailures : defaults.getMaxFailures(),
+                maxFailureRate > 0 ? maxFailureRate : defaults.getMaxFailureRate(),
+                defaults.getMinSamples(),
+                stopOnCriticalFailure || defaults.isStopOnCriticalFailure());
+    }
+
+    public boolean isEnabled() {
+        return maxFailures > 0 || maxFailureRate > 0 || stopOnCriticalFailure;
+    }
+
+    /**
+     * @return why the run should stop, or null to keep going
+     */
+    public synchronized String evaluate(TestCase testCase, TestResult result) {
+        if (result == null || result.getStatus() == TestStatus.CANCELLED) {
+            return null; // Casualties of a stop already in progress
+        }
+        if (Boolean.TRUE.equals(result.getQuarantined())) {
+            return null; // Quarantined flaky tests never stop a run
+        }
+        finished++;
+        if (result.getStatus() != TestStatus.FAILED) {
+            return null;
+        }
+        failed++;
+
+        if (stopOnCriticalFailure && "High".equalsIgnoreCase(testCase.getPriority())) {
+            return "critical test " + testCase.getTestCaseId() + " failed";
+        }
+        if (maxFailures > 0 && failed >= maxFailures) {
+            return failed + " failures (max " + maxFailures + ")";
+        }
+        double rate = failed * 100.0 / finished;
+        if (maxFailureRate > 0 && finished >= minSamples && rate > maxFailureRate) {
+            return String.format("failure rate %.0f%% over %d cases (max %.0f%%)", rate, finished, maxFailureRate);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.test_framework_api.worker;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Aggregated past results of one test (by name) used for failure-first ordering.
+ *
+ * risk() blends, in [0, 1]:
+ * - recent failure rate (smoothed)          0.35
+ * - time since last failure (exp. decay)    0.25
+ * - overall failure rate (smoothed)         0.15
+ * - last recorded run failed                0.15
+ * - flaky score (retries/duration)          0.10
+ */
+public record FailureHistory(long runs, long failures, long recentRuns, long recentFailures,
+        LocalDateTime lastFailure, LocalDateTime lastRun, double avgFlakyScore) {
+
+    /**
+     * History for a test that has never run: only the smoothed-rate priors count.
+     */
+    public static final FailureHistory NONE = new FailureHistory(0, 0, 0, 0, null, null, 0);
+
+    public double risk(LocalDateTime now, double recencyHalfLifeHours) {
+        double recentRate = CasePriority.smoothedFailureRate(recentRuns, recentFailures);
+        double overallRate = CasePriority.smoothedFailureRate(runs, failures);
+
+        double recency = 0;
+        if (lastFailure != null) {
+            double hours = Math.max(0, Duration.between(lastFailure, now).toMinutes() / 60.0);
+            recency = Math.pow(0.5, hours / Math.max(1e-3, recencyHalfLifeHours));
+        }
+
+        boolean lastRunFailed = lastFailure != null && lastRun != null && !lastFailure.isBefore(lastRun);
+        double flaky = avgFlakyScore / (avgFlakyScore + 10.0);
+
+        return 0.35 * recentRate
+                + 0.25 * recency
+                + 0.15 * overallRate
+                + 0.15 * (lastRunFailed ? 1 : 0)
+                + 0.10 * flaky;
+    }
+}
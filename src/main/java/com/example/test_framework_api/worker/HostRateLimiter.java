@@ -0,0 +1,178 @@
+package com.example.test_framework_api.worker;
+
+import com.example.test_framework_api.config.ExecutionProperties;
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * Per target host token bucket + concurrency cap.
+ *
+ * One global instance protects every system under test across all runs
+ * (execution.host-limits.*); a suite run may add its own tighter limits
+ * by chaining a run-scoped instance in front of the global one.
+ * A permit is granted only when every limiter in the chain grants it.
+ */
+@Slf4j
+public class HostRateLimiter {
+
+    /**
+     * Returned by tryAcquire when the host is at its concurrency cap:
+     * the caller should retry once an in-flight case on that host finishes.
+     */
+    public static final long WAIT_FOR_RELEASE = -1;
+
+    private static final long BLOCKING_POLL_MS = 50;
+
+    private final String name;
+    private final ExecutionProperties.HostLimit defaults;
+    private final Map<String, ExecutionProperties.HostLimit> overrides;
+    private final HostRateLimiter parent;
+    private final LongSupplier nanoClock;
+    private final Map<String, HostState> hosts = new HashMap<>();
+
+    public HostRateLimiter(String name, ExecutionProperties.HostLimit defaults,
+            Map<String, ExecutionProperties.HostLimit> overrides, HostRateLimiter parent) {
+        this(name, defaults, overrides, parent, System::nanoTime);
+    }
+
+    public HostRateLimiter(String name, ExecutionProperties.HostLimit defaults,
+            Map<String, ExecutionProperties.HostLimit> overrides, HostRateLimiter parent,
+            LongSupplier nanoClock) {
+        this.name = name;
+        this.defaults = defaults != null ? defaults : new ExecutionProperties.HostLimit();
+        this.overrides = new HashMap<>();
+        if (overrides != null) {
+            overrides.forEach((host, limit) -> this.overrides.put(host.toLowerCase(Locale.ROOT), limit));
+        }
+        this.parent = parent;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Host key used for limiting ("" when the URL has no host, e.g. relative API paths).
+     */
+    public static String hostOf(String url) {
+        if (url == null || url.isBlank()) {
+            return "";
+        }
+        try {
+            String host = URI.create(url.trim()).getHost();
+            return host != null ? host.toLowerCase(Locale.ROOT) : "";
+        } catch (IllegalArgumentException e) {
+            return "";
+        }
+    }
+
+    /**
+     * Try to take a permit for the host without blocking.
+     *
+     * @return 0 when granted, WAIT_FOR_RELEASE when capped by concurrency,
+     *         otherwise milliseconds until the next token is available
+     */
+    public long tryAcquire(String host) {
+        long wait = tryAcquireLocal(host);
+        if (wait != 0 || parent == null) {
+            return wait;
+        }
+        long parentWait = parent.tryAcquire(host);
+        if (parentWait != 0) {
+            refund(host);
+        }
+        return parentWait;
+    }
+
+    /**
+     * Blocking variant for sequential execution.
+     */
+    public void acquire(String host) throws InterruptedException {
+        long wait;
+        while ((wait = tryAcquire(host)) != 0) {
+            Thread.sleep(wait > 0 ? wait : BLOCKING_POLL_MS);
+        }
+    }
+
+    /**
+     * Give back the concurrency slot taken by a granted permit.
+     */
+    public void release(String host) {
+        synchronized (this) {
+            HostState state = hosts.get(host);
+            if (state != null && state.inFlight > 0) {
+                state.inFlight--;
+            }
+        }
+        if (parent != null) {
+            parent.release(host);
+        }
+    }
+
+    public synchronized int getInFlight(String host) {
+        HostState state = hosts.get(host);
+        return state != null ? state.inFlight : 0;
+    }
+
+    private synchronized long tryAcquireLocal(String host) {
+        HostState state = hosts.computeIfAbsent(host, this::newState);
+
+        if (state.maxConcurrent > 0 && state.inFlight >= state.maxConcurrent) {
+            return WAIT_FOR_RELEASE;
+        }
+
+        if (state.ratePerNano > 0) {
+            long now = nanoClock.getAsLong();
+            state.tokens = Math.min(state.capacity, state.tokens + (now - state.lastRefill) * state.ratePerNano);
+            state.lastRefill = now;
+            if (state.tokens < 1) {
+                long waitNanos = (long) Math.ceil((1 - state.tokens) / state.ratePerNano);
+                return Math.max(1, waitNanos / 1_000_000);
+            }
+            state.tokens -= 1;
+        }
+
+        state.inFlight++;
+        return 0;
+    }
+
+    private synchronized void refund(String host) {
+        HostState state = hosts.get(host);
+        if (state == null) {
+            return;
+        }
+        state.inFlight = Math.max(0, state.inFlight - 1);
+        if (state.ratePerNano > 0) {
+            state.tokens = Math.min(state.capacity, state.tokens + 1);
+        }
+    }
+
+    private HostState newState(String host) {
+        ExecutionProperties.HostLimit limit = overrides.getOrDefault(host, defaults);
+        HostState state = new HostState();
+        state.maxConcurrent = limit.getMaxConcurrent();
+        if (limit.getRequestsPerSecond() > 0) {
+            state.ratePerNano = limit.getRequestsPerSecond() / 1_000_000_000d;
+            state.capacity = limit.getBurst() > 0 ? limit.getBurst()
+                    : Math.max(1, Math.ceil(limit.getRequestsPerSecond()));
+            state.tokens = state.capacity;
+            state.lastRefill = nanoClock.getAsLong();
+        }
+        if (state.maxConcurrent > 0 || state.ratePerNano > 0) {
+            log.info("Host limit [{}] {}: {} req/s, max {} concurrent", name,
+                    host.isEmpty() ? "<relative>" : host, limit.getRequestsPerSecond(), state.maxConcurrent);
+        }
+        return state;
+    }
+
+    private static class HostState {
+        int maxConcurrent;
+        int inFlight;
+        double ratePerNano;
+        double capacity;
+        double tokens;
+        long lastRefill;
+    }
+}
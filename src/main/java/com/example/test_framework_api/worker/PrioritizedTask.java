@@ -0,0 +1,49 @@
+package com.example.test_framework_api.worker;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Executor task carrying its case's scheduling key so the pool queue
+ * (PriorityTaskQueue) hands out the most important work first.
+ * Lower rank first, then higher score, then submission order.
+ */
+public class PrioritizedTask implements Runnable, Comparable<PrioritizedTask> {
+
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+
+    private final int rank;
+    private final double score;
+    private final long sequence;
+    private final Runnable task;
+
+    public PrioritizedTask(int rank, double score, Runnable task) {
+        this.rank = rank;
+        this.score = score;
+        this.sequence = SEQUENCE.getAndIncrement();
+        this.task = task;
+    }
+
+    @Override
+    public void run() {
+        task.run();
+    }
+
+    @Override
+    public int compareTo(PrioritizedTask other) {
+        if (rank != other.rank) {
+            return Integer.compare(rank, other.rank);
+        }
+        if (score != other.score) {
+            return Double.compare(other.score, score);
+        }
+        return Long.compare(sequence, other.sequence);
+    }
+
+    public int getRank() {
+        return rank;
+    }
+
+    public double getScore() {
+        return score;
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.test_framework_api.worker;
+
+import java.util.Comparator;
+import java.util.concurrent.PriorityBlockingQueue;
+
+/**
+ * Bounded priority work queue for the test executors.
+ * PrioritizedTask instances are ordered by their key; plain runnables
+ * (e.g. @Async or submit() wrappers) rank as Medium with no score.
+ * Offers beyond capacity fail so the pool keeps its grow-then-reject behaviour.
+ */
+public class PriorityTaskQueue extends PriorityBlockingQueue<Runnable> {
+
+    private static final int DEFAULT_RANK = CasePriority.rank("Medium");
+
+    private static final Comparator<Runnable> ORDER = (a, b) -> {
+        if (a instanceof PrioritizedTask pa && b instanceof PrioritizedTask pb) {
+            return pa.compareTo(pb);
+        }
+        int rankA = a instanceof PrioritizedTask pa ? pa.getRank() : DEFAULT_RANK;
+        int rankB = b instanceof PrioritizedTask pb ? pb.getRank() : DEFAULT_RANK;
+        return Integer.compare(rankA, rankB);
+    };
+
+    private final int capacity;
+
+    public PriorityTaskQueue(int capacity) {
+        super(Math.max(1, Math.min(capacity, 11)), ORDER);
+        this.capacity = capacity;
+    }
+
+    @Override
+    public synchronized boolean offer(Runnable task) {
+        if (size() >= capacity) {
+            return false;
+        }
+        return super.offer(task);
+    }
+
+    @Override
+    public int remainingCapacity() {
+        return Math.max(0, capacity - size());
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.test_framework_api.worker;
+
+import com.example.test_framework_api.config.ExecutionProperties;
+import com.example.test_framework_api.model.TestCase;
+
+import java.util.Map;
+
+/**
+ * How often a failing test case is re-attempted before its result is final.
+ * Resolved per case from execution.retry: by priority, then by type, then the default.
+ */
+public class RetryPolicy {
+
+    private static final RetryPolicy NONE = new RetryPolicy(0, 0, 0);
+
+    private final int maxRetries;
+    private final long backoffMs;
+    private final long maxBackoffMs;
+
+    public RetryPolicy(int maxRetries, long backoffMs, long maxBackoffMs) {
+        this.maxRetries = Math.max(0, maxRetries);
+        this.backoffMs = Math.max(0, backoffMs);
+        this.maxBackoffMs = Math.max(this.backoffMs, maxBackoffMs);
+    }
+
+    public static RetryPolicy none() {
+        return NONE;
+    }
+
+    public static RetryPolicy forCase(TestCase testCase, ExecutionProperties.Retry config) {
+        if (config == null) {
+            return NONE;
+        }
+        Integer retries = lookup(config.getByPriority(), testCase.getPriority());
+        if (retries == null) {
+            retries = lookup(config.getByType(), testCase.getTestType());
+        }
+        return new RetryPolicy(retries != null ? retries : config.getMaxRetries(),
+                config.getBackoffMs(), config.getMaxBackoffMs());
+    }
+
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    /**
+     * Delay before the given retry (1-based): backoff doubled per retry, capped.
+     */
+    public long backoffMs(int retry) {
+        if (backoffMs == 0 || retry < 1) {
+            return 0;
+        }
+        long delay = backoffMs << Math.min(retry - 1, 20);
+        return Math.min(delay, maxBackoffMs);
+    }
+
+    // Config keys are matched case-insensitively ("UI" / "ui", "High" / "HIGH")
+    private static Integer lookup(Map<String, Integer> overrides, String key) {
+        if (overrides == null || key == null) {
+            return null;
+        }
+        String wanted = key.trim();
+        for (Map.Entry<String, Integer> entry : overrides.entrySet()) {
+            if (entry.getKey().equalsIgnoreCase(wanted)) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+}
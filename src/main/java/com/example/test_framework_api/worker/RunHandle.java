@@ -0,0 +1,164 @@
+package com.example.test_framework_api.worker;
+
+import com.example.test_framework_api.model.TestCase;
+import com.example.test_framework_api.model.TestResult;
+import com.example.test_framework_api.model.TestStatus;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Live state of one executing suite run: cancellation flag, suite deadline,
+ * early-termination policy and the guards of its in-flight cases.
+ */
+@Slf4j
+public class RunHandle {
+
+    private final Long runId;
+    private final long caseTimeoutMs;
+    private final long suiteTimeoutMs;
+    private final long suiteDeadline;
+    private final Set<CaseGuard> inFlight = ConcurrentHashMap.newKeySet();
+    private final List<Runnable> cancelListeners = new ArrayList<>();
+
+    private volatile EarlyTerminationPolicy terminationPolicy;
+    private volatile boolean cancelled;
+    private volatile String reason;
+    private volatile TestStatus outcome = TestStatus.CANCELLED;
+    private volatile String browserProfile;
+
+    RunHandle(Long runId, long caseTimeoutMs, long suiteTimeoutMs) {
+        this.runId = runId;
+        this.caseTimeoutMs = caseTimeoutMs;
+        this.suiteTimeoutMs = suiteTimeoutMs;
+        this.suiteDeadline = suiteTimeoutMs > 0 ? System.currentTimeMillis() + suiteTimeoutMs : Long.MAX_VALUE;
+    }
+
+    /**
+     * Start guarding a case on the current thread.
+     */
+    public CaseGuard begin(String testCaseId) {
+        CaseGuard guard = new CaseGuard(testCaseId, caseTimeoutMs, this);
+        inFlight.add(guard);
+        if (cancelled) {
+            guard.kill("Run cancelled: " + reason, true);
+        }
+        return guard;
+    }
+
+    /**
+     * Stop the run: no new cases start and in-flight cases are killed.
+     *
+     * @return false if the run was already cancelled
+     */
+    public boolean cancel(String reason) {
+        return stop(reason, TestStatus.CANCELLED);
+    }
+
+    /**
+     * Stop the run and have it end with the given status
+     * (FAILED for early termination, CANCELLED for cancel requests).
+     */
+    public boolean stop(String reason, TestStatus outcome) {
+        List<Runnable> listeners;
+        synchronized (this) {
+            if (cancelled) {
+                return false;
+            }
+            this.reason = reason;
+            this.outcome = outcome;
+            this.cancelled = true;
+            listeners = new ArrayList<>(cancelListeners);
+        }
+        log.warn("Cancelling run {}: {} ({} case(s) in flight)", runId, reason, inFlight.size());
+        for (CaseGuard guard : inFlight) {
+            guard.kill("Run cancelled: " + reason, true);
+        }
+        listeners.forEach(Runnable::run);
+        return true;
+    }
+
+    /**
+     * Callback fired once on cancellation (e.g. to drain a dispatcher queue).
+     */
+    public void onCancel(Runnable listener) {
+        synchronized (this) {
+            if (!cancelled) {
+                cancelListeners.add(listener);
+                return;
+            }
+        }
+        listener.run();
+    }
+
+    /**
+     * Feed a finished case into the early-termination policy.
+     */
+    public void recordResult(TestCase testCase, TestResult result) {
+        EarlyTerminationPolicy policy = terminationPolicy;
+        if (policy == null || cancelled) {
+            return;
+        }
+        String stopReason = policy.evaluate(testCase, result);
+        if (stopReason != null) {
+            stop("Early termination: " + stopReason, TestStatus.FAILED);
+        }
+    }
+
+    public void setTerminationPolicy(EarlyTerminationPolicy terminationPolicy) {
+        this.terminationPolicy = terminationPolicy != null && terminationPolicy.isEnabled()
+                ? terminationPolicy : null;
+    }
+
+    /**
+     * Browser profile (execution.browser.profiles) used by the run's UI cases.
+     */
+    public String getBrowserProfile() {
+        return browserProfile;
+    }
+
+    public void setBrowserProfile(String browserProfile) {
+        this.browserProfile = browserProfile;
+    }
+
+    void checkDeadlines(long now) {
+        if (!cancelled && now > suiteDeadline) {
+            cancel("suite exceeded timeout of " + suiteTimeoutMs / 1000 + "s");
+        }
+        for (CaseGuard guard : inFlight) {
+            if (guard.isOverdue(now)) {
+                guard.kill("Test case exceeded timeout of " + guard.getTimeoutMs() / 1000 + "s", false);
+            }
+        }
+    }
+
+    void finished(CaseGuard guard) {
+        inFlight.remove(guard);
+    }
+
+    public Long getRunId() {
+        return runId;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    /**
+     * Final run status once stopped.
+     */
+    public TestStatus getOutcome() {
+        return outcome;
+    }
+
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+}
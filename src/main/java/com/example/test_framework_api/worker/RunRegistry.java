@@ -0,0 +1,126 @@
+package com.example.test_framework_api.worker;
+
+import com.example.test_framework_api.config.ExecutionProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Registry of executing suite runs.
+ * Backs the cancel endpoint and runs a watchdog that enforces per-case and
+ * per-suite deadlines, killing stuck drivers/threads so pool capacity is
+ * reclaimed instead of being held by zombie tests.
+ */
+@Component
+@Slf4j
+public class RunRegistry {
+
+    private final ExecutionProperties executionProperties;
+    private final Map<Long, RunHandle> runs = new ConcurrentHashMap<>();
+    // Cancel requests for runs not executing here (queued, or on another node), applied
+    // if this node registers the run; the watchdog drops them after pending-cancel-seconds
+    private final Map<Long, PendingCancel> pendingCancels = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService watchdog;
+
+    public RunRegistry(ExecutionProperties executionProperties) {
+        this.executionProperties = executionProperties;
+        this.watchdog = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "run-watchdog");
+            t.setDaemon(true);
+            return t;
+        });
+        long interval = Math.max(100, executionProperties.getTimeouts().getWatchdogIntervalMs());
+        watchdog.scheduleWithFixedDelay(this::checkDeadlines, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Register a run as executing (returns the existing handle if already registered).
+     * Timeouts <= 0 fall back to execution.timeouts.* (where 0 means no limit).
+     */
+    public RunHandle register(Long runId, int caseTimeoutSeconds, int suiteTimeoutSeconds) {
+        ExecutionProperties.Timeouts defaults = executionProperties.getTimeouts();
+        long caseMs = (caseTimeoutSeconds > 0 ? caseTimeoutSeconds : defaults.getCaseTimeoutSeconds()) * 1000L;
+        long suiteMs = (suiteTimeoutSeconds > 0 ? suiteTimeoutSeconds : defaults.getSuiteTimeoutSeconds()) * 1000L;
+        RunHandle handle = runs.computeIfAbsent(runId, id -> new RunHandle(id, caseMs, suiteMs));
+        PendingCancel pending = pendingCancels.remove(runId);
+        if (pending != null && !pending.isExpired(System.currentTimeMillis())) {
+            handle.cancel(pending.reason());
+        }
+        return handle;
+    }
+
+    public RunHandle get(Long runId) {
+        return runId != null ? runs.get(runId) : null;
+    }
+
+    /**
+     * Guard for a case of the given run (untracked when the run is not registered).
+     */
+    public CaseGuard begin(Long runId, String testCaseId) {
+        RunHandle handle = get(runId);
+        if (handle != null) {
+            return handle.begin(testCaseId);
+        }
+        return CaseGuard.untracked(testCaseId, executionProperties.getTimeouts().getCaseTimeoutSeconds() * 1000L);
+    }
+
+    /**
+     * Cancel a run. If it is not executing here the request is kept for
+     * execution.timeouts.pending-cancel-seconds and applied if this node
+     * registers the run; other nodes learn of it from the persisted status
+     * (TestRunService.cancelTestRun).
+     *
+     * @return true if the run was executing and is now cancelled
+     */
+    public boolean cancel(Long runId, String reason) {
+        RunHandle handle = get(runId);
+        if (handle == null) {
+            long ttlMs = executionProperties.getTimeouts().getPendingCancelSeconds() * 1000L;
+            pendingCancels.put(runId, new PendingCancel(reason, System.currentTimeMillis() + ttlMs));
+            return false;
+        }
+        return handle.cancel(reason);
+    }
+
+    public boolean isCancelled(Long runId) {
+        RunHandle handle = get(runId);
+        return handle != null && handle.isCancelled();
+    }
+
+    public void complete(Long runId) {
+        if (runId != null) {
+            runs.remove(runId);
+            pendingCancels.remove(runId);
+        }
+    }
+
+    public void checkDeadlines() {
+        long now = System.currentTimeMillis();
+        pendingCancels.values().removeIf(pending -> pending.isExpired(now));
+        for (RunHandle handle : runs.values()) {
+            try {
+                handle.checkDeadlines(now);
+            } catch (Exception e) {
+                log.error("Watchdog check failed for run {}: {}", handle.getRunId(), e.getMessage());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        watchdog.shutdownNow();
+    }
+
+    private record PendingCancel(String reason, long expiresAt) {
+
+        boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+}
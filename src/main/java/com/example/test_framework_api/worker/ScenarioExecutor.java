@@ -0,0 +1,207 @@
+package com.example.test_framework_api.worker;
+
+import com.example.test_framework_api.config.ExecutionProperties;
+import com.example.test_framework_api.model.TestStatus;
+import com.example.test_framework_api.model.TestStepResult;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.By;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.interactions.Actions;
+import org.openqa.selenium.support.ui.FluentWait;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+/**
+ * Runs a multi-step UI scenario inside one browser session, so page state
+ * (cookies, login, form input) carries over between steps and the scenario
+ * costs one browser launch instead of one per step.
+ *
+ * Each executed step is recorded with its timing; the first failing step
+ * stops the scenario and fails the case.
+ */
+@Slf4j
+public class ScenarioExecutor {
+
+    private final WebDriver driver;
+    private final ExecutionProperties.Waits waits;
+    private final CaseGuard guard;
+
+    public ScenarioExecutor(WebDriver driver, ExecutionProperties.Waits waits, CaseGuard guard) {
+        this.driver = driver;
+        this.waits = waits != null ? waits : new ExecutionProperties.Waits();
+        this.guard = guard;
+    }
+
+    /**
+     * Execute steps in order, appending one result per executed step.
+     *
+     * @param defaultLocatorType  locator for steps without their own (may be null)
+     * @param defaultLocatorValue locator for steps without their own (may be null)
+     * @throws IllegalStateException when a step fails (after it is recorded)
+     */
+    public void run(List<ScenarioStep> steps, String defaultLocatorType, String defaultLocatorValue,
+            List<TestStepResult> results) {
+        for (int i = 0; i < steps.size(); i++) {
+            ScenarioStep step = steps.get(i);
+            int number = i + 1;
+            TestStepResult result = new TestStepResult();
+            result.setStepNumber(number);
+            result.setName(step.displayName(number));
+            result.setAction(step.getType());
+            result.setStartedAt(LocalDateTime.now());
+            long start = System.currentTimeMillis();
+            try {
+                if (guard != null && guard.isKilled()) {
+                    throw new IllegalStateException(guard.getKillReason());
+                }
+                result.setTarget(runStep(step, defaultLocatorType, defaultLocatorValue));
+                result.setStatus(TestStatus.PASSED);
+            } catch (RuntimeException e) {
+                result.setStatus(TestStatus.FAILED);
+                result.setErrorMessage(e.getMessage());
+            }
+            result.setDuration(System.currentTimeMillis() - start);
+            results.add(result);
+            log.debug("Scenario step {}/{} {}: {} in {}ms", number, steps.size(), result.getName(),
+                    result.getStatus(), result.getDuration());
+
+            if (result.getStatus() == TestStatus.FAILED) {
+                throw new IllegalStateException(result.getName() + " failed: " + result.getErrorMessage());
+            }
+        }
+    }
+
+    private String runStep(ScenarioStep step, String defaultLocatorType, String defaultLocatorValue) {
+        String type = step.getType() != null ? step.getType().trim() : "";
+        String action = type.toLowerCase(Locale.ROOT);
+        long timeoutMs = stepTimeoutMs(step);
+        String target;
+
+        switch (action) {
+            case "navigate", "open" -> {
+                target = step.getUrl() != null ? step.getUrl() : step.getValue();
+                if (target == null || target.isBlank()) {
+                    throw new IllegalArgumentException("URL is required for " + type);
+                }
+                driver.get(target);
+            }
+            case "asserttitle" -> {
+                target = "title";
+                awaitText(() -> driver.getTitle(), assertionText(step), "Title", timeoutMs);
+            }
+            case "asserturl" -> {
+                target = "url";
+                awaitText(() -> driver.getCurrentUrl(), assertionText(step), "URL", timeoutMs);
+            }
+            default -> {
+                By locator = locator(step.getLocatorType() != null ? step.getLocatorType() : defaultLocatorType,
+                        step.getLocatorValue() != null ? step.getLocatorValue() : defaultLocatorValue);
+                target = locator.toString();
+                SmartWait wait = new SmartWait(driver, waits, timeoutMs);
+                switch (action) {
+                    case "waitfor", "assertpresent" -> wait.element(locator, null);
+                    case "assertvisible" -> wait.element(locator, "hover");
+                    case "asserttext" -> {
+                        WebElement element = wait.element(locator, null);
+                        awaitText(element::getText, assertionText(step), "Text of " + locator, timeoutMs);
+                    }
+                    default -> perform(driver, wait.element(locator, action), action, step.getValue());
+                }
+            }
+        }
+
+        // Optional post-condition for any step: page title, URL or body text
+        if (step.getExpected() != null && !step.getExpected().isBlank() && !action.startsWith("assert")) {
+            awaitText(this::pageText, step.getExpected(), "Page", timeoutMs);
+        }
+        return target;
+    }
+
+    private long stepTimeoutMs(ScenarioStep step) {
+        long timeout = step.getTimeoutMs() > 0 ? step.getTimeoutMs() : waits.getElementTimeoutMs();
+        return guard != null ? guard.boundedTimeoutMs(timeout) : timeout;
+    }
+
+    private static String assertionText(ScenarioStep step) {
+        String text = step.getValue() != null ? step.getValue() : step.getExpected();
+        if (text == null) {
+            throw new IllegalArgumentException("Expected text is required for " + step.getType());
+        }
+        return text;
+    }
+
+    private String pageText() {
+        String body = driver.findElements(By.tagName("body")).stream().findFirst()
+                .map(WebElement::getText).orElse("");
+        return driver.getTitle() + "\n" + driver.getCurrentUrl() + "\n" + body;
+    }
+
+    private void awaitText(Supplier<String> actual, String expected, String what, long timeoutMs) {
+        try {
+            new FluentWait<>(driver)
+                    .withTimeout(Duration.ofMillis(timeoutMs))
+                    .pollingEvery(Duration.ofMillis(Math.max(10, waits.getPollingMs())))
+                    .until(d -> {
+                        String value = actual.get();
+                        return value != null && value.contains(expected);
+                    });
+        } catch (TimeoutException e) {
+            throw new IllegalStateException(what + " does not contain '" + expected + "' (actual: '"
+                    + abbreviate(actual.get()) + "')");
+        }
+    }
+
+    private static String abbreviate(String value) {
+        if (value == null) {
+            return "";
+        }
+        return value.length() > 200 ? value.substring(0, 200) + "..." : value;
+    }
+
+    /**
+     * Locator from a CSV/step locator type and value.
+     */
+    public static By locator(String locatorType, String locatorValue) {
+        if (locatorType == null || locatorValue == null) {
+            throw new IllegalArgumentException("Locator type and value required for UI tests");
+        }
+        return switch (locatorType.toLowerCase(Locale.ROOT)) {
+            case "id" -> By.id(locatorValue);
+            case "name" -> By.name(locatorValue);
+            case "xpath" -> By.xpath(locatorValue);
+            case "css", "cssselector" -> By.cssSelector(locatorValue);
+            case "classname" -> By.className(locatorValue);
+            case "tagname" -> By.tagName(locatorValue);
+            default -> throw new IllegalArgumentException("Unsupported locator type: " + locatorType);
+        };
+    }
+
+    /**
+     * Perform a UI action on an element.
+     */
+    public static void perform(WebDriver driver, WebElement element, String action, String inputData) {
+        Actions actions = new Actions(driver);
+
+        switch (action) {
+            case "click" -> element.click();
+            case "doubleclick" -> actions.doubleClick(element).perform();
+            case "rightclick" -> actions.contextClick(element).perform();
+            case "type" -> {
+                element.clear();
+                element.sendKeys(inputData != null ? inputData : "");
+            }
+            case "clear" -> element.clear();
+            case "submit" -> element.submit();
+            case "hover" -> actions.moveToElement(element).perform();
+            default -> throw new IllegalArgumentException("Unsupported action: " + action);
+        }
+
+        log.debug("Performed action: {}", action);
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.test_framework_api.worker;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One step of a multi-step UI scenario (TestCase.actionsJson / element test "actions").
+ *
+ * Example:
+ * [
+ *   {"type": "type", "locatorType": "id", "locatorValue": "username", "value": "admin"},
+ *   {"type": "click", "locatorType": "css", "locatorValue": "button[type=submit]", "expected": "Dashboard"},
+ *   {"type": "assertText", "locatorType": "id", "locatorValue": "welcome", "value": "Hello"}
+ * ]
+ *
+ * Steps without a locator use the case's locator; timeoutMs overrides
+ * execution.waits.element-timeout-ms for that step.
+ */
+@Data
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ScenarioStep {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private String name;
+
+    @JsonAlias("action")
+    private String type;         // click, type, ..., navigate, waitFor, assertText, assertTitle, assertUrl, assertVisible
+
+    private String locatorType;
+    private String locatorValue;
+
+    private String value;        // Input text, navigate URL or assertion text
+
+    private String url;          // navigate target (alternative to value)
+
+    private String expected;     // Page title/URL/text expected after the step
+
+    private long timeoutMs = 0;  // 0 = execution.waits.element-timeout-ms
+
+    public static List<ScenarioStep> parse(String actionsJson) {
+        if (actionsJson == null || actionsJson.isBlank()) {
+            return new ArrayList<>();
+        }
+        try {
+            return MAPPER.readValue(actionsJson, new TypeReference<List<ScenarioStep>>() { });
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Invalid scenario steps JSON: " + e.getMessage(), e);
+        }
+    }
+
+    public static String toJson(List<ScenarioStep> steps) {
+        try {
+            return MAPPER.writeValueAsString(steps);
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Cannot serialize scenario steps: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Steps from a queue payload (list of maps with at least "type").
+     */
+    public static List<ScenarioStep> fromMaps(List<Map<String, Object>> steps) {
+        List<ScenarioStep> result = new ArrayList<>();
+        for (Map<String, Object> step : steps) {
+            result.add(MAPPER.convertValue(step, ScenarioStep.class));
+        }
+        return result;
+    }
+
+    public String displayName(int number) {
+        return name != null && !name.isBlank() ? name : "Step " + number + " (" + type + ")";
+    }
+}
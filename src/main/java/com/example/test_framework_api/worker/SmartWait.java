@@ -0,0 +1,150 @@
+package com.example.test_framework_api.worker;
+
+import com.example.test_framework_api.config.ExecutionProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.logging.LogEntry;
+import org.openqa.selenium.logging.LogType;
+import org.openqa.selenium.support.ui.FluentWait;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Condition-based waits for UI cases (replaces implicit wait + WebDriverWait).
+ *
+ * Implicit and explicit waits compound: every findElement poll inside a
+ * WebDriverWait blocked for the full implicit timeout, so a missing element
+ * took far longer than the explicit timeout to fail. Here the driver keeps
+ * implicit wait at 0 and one FluentWait polls at execution.waits.polling-ms.
+ *
+ * While the element is missing each poll also checks terminal conditions and
+ * fails immediately instead of waiting out the timeout:
+ * - error page (Chrome error URL or a title matching error-page-patterns)
+ * - uncaught JS error in the browser log (after js-error-grace-ms)
+ */
+@Slf4j
+public class SmartWait {
+
+    // Actions that need a visible, enabled element rather than mere presence
+    private static final Set<String> INTERACTIVE_ACTIONS = Set.of(
+            "click", "doubleclick", "rightclick", "type", "clear", "submit", "hover");
+
+    private final WebDriver driver;
+    private final ExecutionProperties.Waits config;
+    private final long timeoutMs;
+    private final List<String> jsErrors = new ArrayList<>();
+    private boolean browserLogAvailable = true;
+
+    /**
+     * @param timeoutMs element timeout, already bounded by the case deadline
+     */
+    public SmartWait(WebDriver driver, ExecutionProperties.Waits config, long timeoutMs) {
+        this.driver = driver;
+        this.config = config != null ? config : new ExecutionProperties.Waits();
+        this.timeoutMs = timeoutMs;
+        driver.manage().timeouts().implicitlyWait(Duration.ZERO);
+    }
+
+    /**
+     * Wait for the element the action needs: present, and for interactive
+     * actions also displayed and enabled.
+     *
+     * @throws org.openqa.selenium.TimeoutException when the element never becomes ready
+     * @throws IllegalStateException on a terminal page condition (fast-fail)
+     */
+    public WebElement element(By locator, String action) {
+        boolean interactive = action != null && INTERACTIVE_ACTIONS.contains(action.trim().toLowerCase(Locale.ROOT));
+        long start = System.currentTimeMillis();
+
+        return new FluentWait<>(driver)
+                .withTimeout(Duration.ofMillis(timeoutMs))
+                .pollingEvery(Duration.ofMillis(Math.max(10, config.getPollingMs())))
+                .ignoring(NoSuchElementException.class)
+                .ignoring(StaleElementReferenceException.class)
+                .withMessage(() -> "Element " + locator + " not " + (interactive ? "interactable" : "present")
+                        + " after " + timeoutMs + "ms")
+                .until(d -> {
+                    for (WebElement element : d.findElements(locator)) {
+                        if (!interactive || (element.isDisplayed() && element.isEnabled())) {
+                            return element;
+                        }
+                    }
+                    failOnTerminalCondition(System.currentTimeMillis() - start);
+                    return null;
+                });
+    }
+
+    private void failOnTerminalCondition(long elapsedMs) {
+        if (config.isFailFastOnErrorPage()) {
+            String reason = errorPageReason(driver.getCurrentUrl(), driver.getTitle(), config.getErrorPagePatterns());
+            if (reason != null) {
+                throw new IllegalStateException("Fast-fail: " + reason);
+            }
+        }
+        if (config.isFailFastOnJsError()) {
+            collectJsErrors();
+            if (!jsErrors.isEmpty() && elapsedMs >= config.getJsErrorGraceMs()) {
+                throw new IllegalStateException("Fast-fail: JS error: " + jsErrors.get(0));
+            }
+        }
+    }
+
+    // Browser log entries are drained on read, so keep what was seen across polls
+    private void collectJsErrors() {
+        if (!browserLogAvailable) {
+            return;
+        }
+        try {
+            List<String> messages = new ArrayList<>();
+            for (LogEntry entry : driver.manage().logs().get(LogType.BROWSER).getAll()) {
+                messages.add(entry.getMessage());
+            }
+            jsErrors.addAll(jsErrors(messages));
+        } catch (WebDriverException | UnsupportedOperationException e) {
+            log.debug("Browser log unavailable, JS error fast-fail disabled: {}", e.getMessage());
+            browserLogAvailable = false;
+        }
+    }
+
+    /**
+     * Reason when the current page is an error page, otherwise null.
+     */
+    public static String errorPageReason(String url, String title, List<String> patterns) {
+        if (url != null && url.startsWith("chrome-error://")) {
+            return "browser error page for navigation";
+        }
+        if (title == null || title.isBlank() || patterns == null) {
+            return null;
+        }
+        String normalized = title.toLowerCase(Locale.ROOT);
+        for (String pattern : patterns) {
+            if (!pattern.isBlank() && normalized.contains(pattern.toLowerCase(Locale.ROOT))) {
+                return "error page '" + title.trim() + "'";
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Uncaught script errors among browser log messages (failed resource
+     * loads, e.g. blocked analytics, are not terminal).
+     */
+    public static List<String> jsErrors(List<String> messages) {
+        List<String> errors = new ArrayList<>();
+        for (String message : messages) {
+            if (message != null && message.contains("Uncaught")) {
+                errors.add(message);
+            }
+        }
+        return errors;
+    }
+}
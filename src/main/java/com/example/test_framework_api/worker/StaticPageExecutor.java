@@ -0,0 +1,128 @@
+package com.example.test_framework_api.worker;
+
+import com.example.test_framework_api.config.ExecutionProperties;
+import com.example.test_framework_api.model.TestCase;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.Connection;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Elements;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * HTML-only execution of UI cases marked static (TestCase.staticPage):
+ * the page is fetched over HTTP and the locator evaluated on the parsed DOM,
+ * without launching Chrome. Only checks are supported (element present,
+ * title, element text); cases that interact with the page still need a browser.
+ *
+ * Actions: exists/present/verify/check (default), assertTitle, assertText.
+ */
+@Slf4j
+public class StaticPageExecutor {
+
+    private static final Set<String> CHECK_ACTIONS = Set.of(
+            "", "exists", "present", "verify", "check", "get", "asserttitle", "title", "asserttext");
+
+    private final ExecutionProperties.StaticPages config;
+
+    public StaticPageExecutor(ExecutionProperties.StaticPages config) {
+        this.config = config != null ? config : new ExecutionProperties.StaticPages();
+    }
+
+    /**
+     * True when the case can run without a browser in this configuration.
+     */
+    public static boolean supports(TestCase testCase, ExecutionProperties.StaticPages config) {
+        if (config == null || !config.isEnabled() || !Boolean.TRUE.equals(testCase.getStaticPage())
+                || !"UI".equalsIgnoreCase(testCase.getTestType())) {
+            return false;
+        }
+        if (testCase.getActionsJson() != null && !testCase.getActionsJson().isBlank()) {
+            return false;
+        }
+        String action = testCase.getHttpMethodAction();
+        return CHECK_ACTIONS.contains(action != null ? action.trim().toLowerCase(Locale.ROOT) : "");
+    }
+
+    /**
+     * Fetch and check the page.
+     *
+     * @throws IllegalStateException when the page, element or expectation does not match
+     */
+    public void execute(TestCase testCase, CaseGuard guard) throws IOException {
+        String url = testCase.getUrlEndpoint();
+        if (url == null || url.trim().isEmpty()) {
+            throw new IllegalArgumentException("URL is required for UI tests");
+        }
+        int timeout = guard != null ? guard.boundedTimeoutMs(config.getTimeoutMs()) : (int) config.getTimeoutMs();
+        Connection.Response response = Jsoup.connect(url.trim())
+                .timeout(timeout)
+                .userAgent(config.getUserAgent())
+                .maxBodySize(config.getMaxBodyBytes())
+                .followRedirects(true)
+                .ignoreHttpErrors(true)
+                .execute();
+        if (response.statusCode() >= 400) {
+            throw new IllegalStateException("HTTP " + response.statusCode() + " for " + url);
+        }
+        evaluate(response.parse(), testCase);
+        log.debug("Static check passed: {}", testCase.getTestCaseId());
+    }
+
+    /**
+     * Check a parsed page against the case's locator and expectation.
+     */
+    public static void evaluate(Document document, TestCase testCase) {
+        String action = testCase.getHttpMethodAction() != null
+                ? testCase.getHttpMethodAction().trim().toLowerCase(Locale.ROOT) : "";
+        String expected = testCase.getExpectedResult();
+
+        if (action.equals("asserttitle") || action.equals("title")) {
+            if (expected != null && !expected.isBlank() && !document.title().contains(expected)) {
+                throw new IllegalStateException("Title does not contain '" + expected + "' (actual: '"
+                        + document.title() + "')");
+            }
+            if (isBlank(testCase.getLocatorType()) || isBlank(testCase.getLocatorValue())) {
+                return;
+            }
+        }
+
+        Elements elements = locate(document, testCase.getLocatorType(), testCase.getLocatorValue());
+        if (elements.isEmpty()) {
+            throw new IllegalStateException("Element not found in static HTML: "
+                    + testCase.getLocatorType() + "=" + testCase.getLocatorValue());
+        }
+
+        if (action.equals("asserttext") && expected != null && !expected.isBlank()
+                && elements.stream().map(Element::text).noneMatch(t -> t.contains(expected))) {
+            throw new IllegalStateException("Text of " + testCase.getLocatorType() + "=" + testCase.getLocatorValue()
+                    + " does not contain '" + expected + "'");
+        }
+    }
+
+    static Elements locate(Document document, String locatorType, String locatorValue) {
+        if (isBlank(locatorType) || isBlank(locatorValue)) {
+            throw new IllegalArgumentException("Locator type and value required for UI tests");
+        }
+        return switch (locatorType.toLowerCase(Locale.ROOT)) {
+            case "id" -> {
+                Element element = document.getElementById(locatorValue);
+                yield element != null ? new Elements(element) : new Elements();
+            }
+            case "name" -> document.getElementsByAttributeValue("name", locatorValue);
+            case "xpath" -> document.selectXpath(locatorValue);
+            case "css", "cssselector" -> document.select(locatorValue);
+            case "classname" -> document.getElementsByClass(locatorValue);
+            case "tagname" -> document.getElementsByTag(locatorValue);
+            default -> throw new IllegalArgumentException("Unsupported locator type: " + locatorType);
+        };
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
@@ -1,31 +1,33 @@
 package com.example.test_framework_api.worker;
 
+import com.example.test_framework_api.config.ExecutionProperties;
+import com.example.test_framework_api.model.TestAttempt;
 import com.example.test_framework_api.model.TestCase;
 import com.example.test_framework_api.model.TestResult;
 import com.example.test_framework_api.model.TestRun;
 import com.example.test_framework_api.model.TestStatus;
+import com.example.test_framework_api.model.TestStepResult;
+import com.example.test_framework_api.service.ArtifactStore;
+import com.example.test_framework_api.service.FailureStore;
 import com.example.test_framework_api.service.TestResultService;
-import io.github.bonigarcia.wdm.WebDriverManager;
 import io.restassured.RestAssured;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.specification.RequestSpecification;
 import io.restassured.response.Response;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.openqa.selenium.*;
-import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.chrome.ChromeOptions;
-import org.openqa.selenium.interactions.Actions;
-import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
 // import org.springframework.retry.support.RetryTemplate;
 import org.springframework.stereotype.Component;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 // import com.example.test_framework_api.model.User;
 import com.example.test_framework_api.repository.UserRepository;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -39,19 +41,41 @@ import java.util.Map;
 @Slf4j
 public class TestExecutor {
 
+    private static final long PAGE_LOAD_TIMEOUT_MS = 60_000;
+
     private final TestResultService testResultService;
     // private final RetryTemplate retryTemplate;
-
-    @Autowired
-    private UserRepository userRepository;
+    private final UserRepository userRepository;
+    private final RunRegistry runRegistry;
+    private final ExecutionProperties executionProperties;
+    private final WebDriverFactory webDriverFactory;
+    private final ArtifactStore artifactStore;
 
     /**
      * Execute a single test case (UI or API)
      */
     public void executeTestCase(TestCase testCase, TestRun testRun) {
+        runTestCase(testCase, testRun);
+    }
+
+    /**
+     * Execute a single test case and return the saved result.
+     * Failing attempts are retried per execution.retry (fresh driver each attempt);
+     * every attempt is recorded and a pass after a failure marks the result flaky.
+     */
+    public TestResult runTestCase(TestCase testCase, TestRun testRun) {
+        return runTestCase(testCase, testRun, false);
+    }
+
+    /**
+     * Same as runTestCase; quarantined results are flagged so they do not count
+     * towards run status or early termination.
+     */
+    public TestResult runTestCase(TestCase testCase, TestRun testRun, boolean quarantined) {
         long startTime = System.currentTimeMillis();
         TestResult result = new TestResult();
         result.setTestName(testCase.getTestName());
+        result.setQuarantined(quarantined);
         result.setTestRun(testRun);
         result.setTestSuite(testCase.getTestSuite());
         result.setCreatedAt(LocalDateTime.now());
@@ -63,44 +87,174 @@ public class TestExecutor {
             userRepository.findByUsername(username).ifPresent(result::setExecutedBy);
         }
 
+        RetryPolicy retryPolicy = RetryPolicy.forCase(testCase, executionProperties.getRetry());
+        List<TestAttempt> attempts = new ArrayList<>();
+
+        CaseGuard guard = runRegistry.begin(testRun != null ? testRun.getId() : null, testCase.getTestCaseId());
         try {
             log.info("Executing {} test: {}", testCase.getTestType(), testCase.getTestCaseId());
+            for (int number = 1; ; number++) {
+                TestAttempt attempt = runAttempt(testCase, guard, number);
+                attempts.add(attempt);
+
+                // Killed (cancel/timeout) cases are never retried
+                if (attempt.getStatus() == TestStatus.PASSED || guard.isKilled()
+                        || number > retryPolicy.getMaxRetries()) {
+                    break;
+                }
+                log.info("↻ RETRY {}/{}: {} - {}", number, retryPolicy.getMaxRetries(),
+                        testCase.getTestCaseId(), attempt.getErrorMessage());
+                if (!backoff(retryPolicy.backoffMs(number))) {
+                    break;
+                }
+            }
+        } finally {
+            guard.close();
+        }
+
+        TestAttempt last = attempts.get(attempts.size() - 1);
+        boolean flaky = last.getStatus() == TestStatus.PASSED && attempts.size() > 1;
+        result.setStatus(last.getStatus());
+        result.setErrorMessage(last.getErrorMessage());
+        result.setErrorDetail(last.getErrorDetail());
+        result.setTargetHost(HostRateLimiter.hostOf(testCase.getUrlEndpoint()));
+        result.setFailedStep(failedStep(last));
+        result.setDuration(System.currentTimeMillis() - startTime);
+        result.setRetryCount(attempts.size() - 1);
+        result.setFlaky(flaky);
+        result.setScreenshotRef(last.getScreenshotRef());
+        result.setDomRef(last.getDomRef());
+        if (flaky) {
+            log.warn("⚠ FLAKY: {} passed on attempt {}", testCase.getTestCaseId(), attempts.size());
+        }
+
+        TestResult saved = testResultService.saveTestResult(result, attempts);
+        guard.recordResult(testCase, saved);
+        return saved;
+    }
 
-            if ("UI".equalsIgnoreCase(testCase.getTestType())) {
-                executeUITest(testCase);
+    /**
+     * One attempt of a test case; failures are captured, never thrown.
+     */
+    private TestAttempt runAttempt(TestCase testCase, CaseGuard guard, int number) {
+        long startTime = System.currentTimeMillis();
+        TestAttempt attempt = new TestAttempt();
+        attempt.setAttemptNumber(number);
+        attempt.setStartedAt(LocalDateTime.now());
+        try {
+            if (guard.isKilled()) {
+                throw new IllegalStateException(guard.getKillReason());
+            }
+
+            if (StaticPageExecutor.supports(testCase, staticPages())) {
+                new StaticPageExecutor(staticPages()).execute(testCase, guard);
+            } else if ("UI".equalsIgnoreCase(testCase.getTestType())) {
+                executeUITest(testCase, guard, attempt);
             } else if ("API".equalsIgnoreCase(testCase.getTestType())) {
-                executeAPITest(testCase);
+                executeAPITest(testCase, guard);
             } else {
                 throw new IllegalArgumentException("Invalid test type: " + testCase.getTestType());
             }
 
-            result.setStatus(TestStatus.PASSED);
-            result.setDuration(System.currentTimeMillis() - startTime);
-            result.setRetryCount(0);
+            attempt.setStatus(TestStatus.PASSED);
             log.info("✓ PASSED: {}", testCase.getTestCaseId());
 
         } catch (Exception e) {
-            result.setStatus(TestStatus.FAILED);
-            result.setDuration(System.currentTimeMillis() - startTime);
-            result.setErrorMessage(e.getMessage());
-            result.setRetryCount(0);
-            log.error("✗ FAILED: {} - {}", testCase.getTestCaseId(), e.getMessage());
+            if (guard.isKilled()) {
+                // Killed by cancel/watchdog: report the reason, not the resulting driver/IO error
+                attempt.setStatus(guard.isCancelled() ? TestStatus.CANCELLED : TestStatus.FAILED);
+                attempt.setErrorMessage(guard.getKillReason());
+                log.warn("✗ {}: {} - {}", attempt.getStatus(), testCase.getTestCaseId(), guard.getKillReason());
+            } else {
+                attempt.setStatus(TestStatus.FAILED);
+                attempt.setErrorMessage(e.getMessage());
+                attempt.setErrorDetail(FailureStore.describe(e));
+                log.error("✗ FAILED: {} - {}", testCase.getTestCaseId(), e.getMessage());
+            }
+        }
+        attempt.setDuration(System.currentTimeMillis() - startTime);
+        return attempt;
+    }
+
+    /**
+     * CLUSTERS: Name of the scenario step the attempt failed on (null for single-action cases).
+     */
+    private static String failedStep(TestAttempt attempt) {
+        if (attempt.getSteps() == null) {
+            return null;
+        }
+        return attempt.getSteps().stream()
+                .filter(s -> s.getStatus() == TestStatus.FAILED)
+                .map(TestStepResult::getName)
+                .reduce((first, second) -> second)
+                .orElse(null);
+    }
+
+    /**
+     * Wait before the next attempt; false when interrupted (e.g. the case was killed).
+     */
+    private boolean backoff(long delayMs) {
+        if (delayMs <= 0) {
+            return true;
         }
+        try {
+            Thread.sleep(delayMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private ExecutionProperties.Waits waits() {
+        return executionProperties.getWaits();
+    }
+
+    /**
+     * ARTIFACTS: Screenshot and page source of a failed UI attempt. Only the
+     * capture runs here; hashing is cheap and the write happens in the background.
+     */
+    private void captureFailure(WebDriver driver, TestAttempt attempt) {
+        if (driver == null) {
+            return;
+        }
+        ExecutionProperties.Artifacts config = artifactStore.getConfig();
+        try {
+            if (config.isCaptureScreenshot() && driver instanceof TakesScreenshot screenshots) {
+                attempt.setScreenshotRef(artifactStore.store(screenshots.getScreenshotAs(OutputType.BYTES),
+                        ArtifactStore.SCREENSHOT));
+            }
+            if (config.isCaptureDom()) {
+                String source = driver.getPageSource();
+                if (source != null) {
+                    attempt.setDomRef(artifactStore.store(source.getBytes(StandardCharsets.UTF_8), ArtifactStore.DOM));
+                }
+            }
+        } catch (RuntimeException e) {
+            log.debug("Failure capture unavailable: {}", e.getMessage());
+        }
+    }
+
+    private ExecutionProperties.StaticPages staticPages() {
+        return executionProperties.getStaticPages();
+    }
 
-        testResultService.saveTestResult(result);
+    private SmartWait smartWait(WebDriver driver, long timeoutMs) {
+        return new SmartWait(driver, waits(), timeoutMs);
     }
 
     /**
-     * Execute UI test with dynamic URL and element interaction
+     * Execute UI test with dynamic URL and element interaction.
+     * SCENARIO: cases with actionsJson run every step in this one session.
      */
-    private void executeUITest(TestCase testCase) {
+    private void executeUITest(TestCase testCase, CaseGuard guard, TestAttempt attempt) {
         WebDriver driver = null;
         try {
-            WebDriverManager.chromedriver().setup();
-            ChromeOptions options = new ChromeOptions();
-            options.addArguments("--headless", "--no-sandbox", "--disable-dev-shm-usage");
-            driver = new ChromeDriver(options);
-            driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(10));
+            // BROWSER: run's profile; click-only cases skip waiting for full page load
+            driver = webDriverFactory.create(guard.getBrowserProfile(), testCase.getHttpMethodAction());
+            WebDriver session = driver;
+            guard.onKill(() -> webDriverFactory.release(session)); // Cancel/timeout aborts any pending Selenium call
+            driver.manage().timeouts().pageLoadTimeout(Duration.ofMillis(guard.boundedTimeoutMs(PAGE_LOAD_TIMEOUT_MS)));
 
             String url = testCase.getUrlEndpoint();
             if (url == null || url.trim().isEmpty()) {
@@ -110,13 +264,22 @@ public class TestExecutor {
             log.debug("Navigating to: {}", url);
             driver.get(url);
 
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(15));
-
-            // Find element using locator
-            WebElement element = findElement(driver, wait, testCase);
+            List<ScenarioStep> scenario = ScenarioStep.parse(testCase.getActionsJson());
+            if (!scenario.isEmpty()) {
+                new ScenarioExecutor(driver, waits(), guard)
+                        .run(scenario, testCase.getLocatorType(), testCase.getLocatorValue(), attempt.getSteps());
+                if (testCase.getExpectedResult() != null && !testCase.getExpectedResult().isEmpty()) {
+                    validateUIResult(driver, testCase.getExpectedResult());
+                }
+                return;
+            }
 
             // Perform action
             String action = testCase.getHttpMethodAction().toLowerCase();
+
+            // Find element using locator (explicit wait only, fast-fail on error pages)
+            SmartWait wait = smartWait(driver, guard.boundedTimeoutMs(waits().getElementTimeoutMs()));
+            WebElement element = findElement(wait, testCase, action);
             performUIAction(driver, element, action, testCase.getInputData());
 
             // Validate expected result if provided
@@ -124,17 +287,20 @@ public class TestExecutor {
                 validateUIResult(driver, testCase.getExpectedResult());
             }
 
-        } finally {
-            if (driver != null) {
-                driver.quit();
+        } catch (RuntimeException e) {
+            if (!guard.isKilled()) {
+                captureFailure(driver, attempt);
             }
+            throw e;
+        } finally {
+            webDriverFactory.release(driver);
         }
     }
 
     /**
      * Execute API test with full HTTP method support
      */
-    private void executeAPITest(TestCase testCase) {
+    private void executeAPITest(TestCase testCase, CaseGuard guard) {
         String url = testCase.getUrlEndpoint();
         String method = testCase.getHttpMethodAction().toUpperCase();
         String inputData = testCase.getInputData();
@@ -144,29 +310,29 @@ public class TestExecutor {
         Response response;
         try {
             response = switch (method) {
-                case "GET" -> RestAssured.given()
+                case "GET" -> request(guard)
                         .when()
                         .get(url);
 
-                case "POST" -> RestAssured.given()
+                case "POST" -> request(guard)
                         .contentType("application/json")
                         .body(inputData != null ? inputData : "{}")
                         .when()
                         .post(url);
 
-                case "PUT" -> RestAssured.given()
+                case "PUT" -> request(guard)
                         .contentType("application/json")
                         .body(inputData != null ? inputData : "{}")
                         .when()
                         .put(url);
 
-                case "PATCH" -> RestAssured.given()
+                case "PATCH" -> request(guard)
                         .contentType("application/json")
                         .body(inputData != null ? inputData : "{}")
                         .when()
                         .patch(url);
 
-                case "DELETE" -> RestAssured.given()
+                case "DELETE" -> request(guard)
                         .when()
                         .delete(url);
 
@@ -183,51 +349,31 @@ public class TestExecutor {
         }
     }
 
+    /**
+     * Request spec whose connect/read timeouts never outlive the case deadline
+     */
+    private RequestSpecification request(CaseGuard guard) {
+        int timeout = guard.boundedTimeoutMs(Integer.MAX_VALUE);
+        return RestAssured.given().config(RestAssured.config().httpClient(HttpClientConfig.httpClientConfig()
+                .setParam("http.connection.timeout", timeout)
+                .setParam("http.socket.timeout", timeout)));
+    }
+
     /**
      * Find element using locator type and value
      */
-    private WebElement findElement(WebDriver driver, WebDriverWait wait, TestCase testCase) {
+    private WebElement findElement(SmartWait wait, TestCase testCase, String action) {
         String locatorType = testCase.getLocatorType();
         String locatorValue = testCase.getLocatorValue();
 
-        if (locatorType == null || locatorValue == null) {
-            throw new IllegalArgumentException("Locator type and value required for UI tests");
-        }
-
-        By locator = switch (locatorType.toLowerCase()) {
-            case "id" -> By.id(locatorValue);
-            case "name" -> By.name(locatorValue);
-            case "xpath" -> By.xpath(locatorValue);
-            case "css", "cssselector" -> By.cssSelector(locatorValue);
-            case "classname" -> By.className(locatorValue);
-            case "tagname" -> By.tagName(locatorValue);
-            default -> throw new IllegalArgumentException("Unsupported locator type: " + locatorType);
-        };
-
-        return wait.until(ExpectedConditions.presenceOfElementLocated(locator));
+        return wait.element(ScenarioExecutor.locator(locatorType, locatorValue), action);
     }
 
     /**
      * Perform UI action on element
      */
     private void performUIAction(WebDriver driver, WebElement element, String action, String inputData) {
-        Actions actions = new Actions(driver);
-
-        switch (action) {
-            case "click" -> element.click();
-            case "doubleclick" -> actions.doubleClick(element).perform();
-            case "rightclick" -> actions.contextClick(element).perform();
-            case "type" -> {
-                element.clear();
-                element.sendKeys(inputData != null ? inputData : "");
-            }
-            case "clear" -> element.clear();
-            case "submit" -> element.submit();
-            case "hover" -> actions.moveToElement(element).perform();
-            default -> throw new IllegalArgumentException("Unsupported action: " + action);
-        }
-
-        log.debug("Performed action: {}", action);
+        ScenarioExecutor.perform(driver, element, action, inputData);
     }
 
     /**
@@ -291,17 +437,12 @@ public class TestExecutor {
             String expectedResult, String value) {
         WebDriver driver = null;
         try {
-            WebDriverManager.chromedriver().setup();
-            ChromeOptions options = new ChromeOptions();
-            options.addArguments("--headless", "--no-sandbox", "--disable-dev-shm-usage");
-            driver = new ChromeDriver(options);
-            driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(10));
+            driver = webDriverFactory.create(null, action);
 
             log.debug("Dynamic test: URL={}, Element={}, Action={}", url, elementId, action);
             driver.get(url);
 
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(15));
-            WebElement element = wait.until(ExpectedConditions.presenceOfElementLocated(By.id(elementId)));
+            WebElement element = smartWait(driver, waits().getElementTimeoutMs()).element(By.id(elementId), action);
 
             performUIAction(driver, element, action, value);
 
@@ -315,49 +456,35 @@ public class TestExecutor {
             log.error("✗ Dynamic test FAILED: {}", e.getMessage());
             throw new RuntimeException("Dynamic test failed: " + e.getMessage(), e);
         } finally {
-            if (driver != null) {
-                driver.quit();
-            }
+            webDriverFactory.release(driver);
         }
     }
 
     /**
-     * Execute multi-action dynamic test
+     * Execute multi-action dynamic test (one browser session for every step)
      */
     public void executeDynamicMultiAction(String url, String elementId,
             List<Map<String, Object>> actions,
             String expectedResult) {
         WebDriver driver = null;
         try {
-            WebDriverManager.chromedriver().setup();
-            ChromeOptions options = new ChromeOptions();
-            options.addArguments("--headless", "--no-sandbox", "--disable-dev-shm-usage");
-            driver = new ChromeDriver(options);
-            driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(10));
-
+            driver = webDriverFactory.create(null, null);
             driver.get(url);
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(15));
-            WebElement element = wait.until(ExpectedConditions.presenceOfElementLocated(By.id(elementId)));
 
-            for (Map<String, Object> actionStep : actions) {
-                String actionType = (String) actionStep.get("type");
-                String value = (String) actionStep.get("value");
-                performUIAction(driver, element, actionType, value);
-            }
+            List<TestStepResult> steps = new ArrayList<>();
+            new ScenarioExecutor(driver, waits(), null).run(ScenarioStep.fromMaps(actions), "id", elementId, steps);
 
             if (expectedResult != null && !expectedResult.isEmpty()) {
                 validateUIResult(driver, expectedResult);
             }
 
-            log.info("✓ Multi-action dynamic test PASSED");
+            log.info("✓ Multi-action dynamic test PASSED ({} steps)", steps.size());
 
         } catch (Exception e) {
             log.error("✗ Multi-action dynamic test FAILED: {}", e.getMessage());
             throw new RuntimeException("Multi-action test failed: " + e.getMessage(), e);
         } finally {
-            if (driver != null) {
-                driver.quit();
-            }
+            webDriverFactory.release(driver);
         }
     }
 
@@ -0,0 +1,188 @@
+package com.example.test_framework_api.worker;
+
+import com.example.test_framework_api.config.ExecutionProperties;
+import io.github.bonigarcia.wdm.WebDriverManager;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.logging.LogType;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Builds ChromeDriver sessions from execution.browser profiles:
+ * page-load strategy, blocked URL patterns (analytics/ads), images on/off,
+ * window size and per-profile Chrome flags.
+ *
+ * isolation=process (default) launches one Chrome per case; isolation=context
+ * opens an isolated browser context in a shared Chrome (BrowserContextPool).
+ * Drivers from create() must be handed back through release().
+ */
+@Component
+@Slf4j
+public class WebDriverFactory {
+
+    private static final String[] BASE_FLAGS = {"--no-sandbox", "--disable-dev-shm-usage"};
+
+    private final ExecutionProperties executionProperties;
+    private volatile boolean driverResolved;
+    private volatile BrowserContextPool contextPool;
+
+    public WebDriverFactory(ExecutionProperties executionProperties) {
+        this.executionProperties = executionProperties;
+    }
+
+    /**
+     * New Chrome session for a UI case.
+     *
+     * @param profileName execution.browser profile (null/unknown = default profile)
+     * @param action      the case action; click-only cases may use an eager page load
+     */
+    public WebDriver create(String profileName, String action) {
+        ExecutionProperties.BrowserProfile profile = profile(profileName);
+        resolveDriver();
+        ChromeDriver driver = null;
+        if (executionProperties.getBrowser().isContextIsolation()) {
+            try {
+                driver = contextPool().open(resolvedName(profileName), profile, action);
+            } catch (RuntimeException e) {
+                log.warn("Browser context unavailable, launching a dedicated browser: {}", e.getMessage());
+            }
+        }
+        if (driver == null) {
+            driver = new ChromeDriver(options(profile, action));
+        }
+        if (!profile.getBlockedUrlPatterns().isEmpty()) {
+            try {
+                driver.executeCdpCommand("Network.enable", Map.of());
+                driver.executeCdpCommand("Network.setBlockedURLs", Map.of("urls", profile.getBlockedUrlPatterns()));
+            } catch (RuntimeException e) {
+                log.warn("URL blocking unavailable for profile {}: {}", profileName, e.getMessage());
+            }
+        }
+        return driver;
+    }
+
+    /**
+     * Quit a driver from create(): closes its browser context when shared,
+     * otherwise the whole browser. Safe to call more than once.
+     */
+    public void release(WebDriver driver) {
+        if (driver == null) {
+            return;
+        }
+        if (contextPool != null && contextPool.release(driver)) {
+            return;
+        }
+        try {
+            driver.quit();
+        } catch (RuntimeException e) {
+            log.debug("Ignoring driver quit error: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (contextPool != null) {
+            contextPool.shutdown();
+        }
+    }
+
+    private BrowserContextPool contextPool() {
+        if (contextPool == null) {
+            synchronized (this) {
+                if (contextPool == null) {
+                    contextPool = new BrowserContextPool(executionProperties.getBrowser().getContextsPerBrowser(),
+                            name -> new ChromeDriver(options(profile(name), null)),
+                            (address, name, action) -> new ChromeDriver(attachOptions(address, profile(name), action)));
+                }
+            }
+        }
+        return contextPool;
+    }
+
+    /**
+     * Options for a session attached to a running shared browser: launch flags
+     * and prefs belong to the host, only session settings apply here.
+     */
+    public ChromeOptions attachOptions(String debuggerAddress, ExecutionProperties.BrowserProfile profile,
+            String action) {
+        ChromeOptions options = new ChromeOptions();
+        options.setExperimentalOption("debuggerAddress", debuggerAddress);
+        options.setPageLoadStrategy(pageLoadStrategy(profile, action));
+        options.setCapability("goog:loggingPrefs", Map.of(LogType.BROWSER, "SEVERE"));
+        return options;
+    }
+
+    private String resolvedName(String profileName) {
+        return hasProfile(profileName) ? profileName : executionProperties.getBrowser().getDefaultProfile();
+    }
+
+    public boolean hasProfile(String profileName) {
+        return profileName != null && executionProperties.getBrowser().getProfiles().containsKey(profileName);
+    }
+
+    public Set<String> getProfileNames() {
+        return new TreeSet<>(executionProperties.getBrowser().getProfiles().keySet());
+    }
+
+    public ExecutionProperties.BrowserProfile profile(String profileName) {
+        ExecutionProperties.Browser browser = executionProperties.getBrowser();
+        ExecutionProperties.BrowserProfile profile = profileName != null ? browser.getProfiles().get(profileName) : null;
+        if (profile == null) {
+            profile = browser.getProfiles().get(browser.getDefaultProfile());
+        }
+        return profile != null ? profile : new ExecutionProperties.BrowserProfile();
+    }
+
+    public ChromeOptions options(ExecutionProperties.BrowserProfile profile, String action) {
+        ChromeOptions options = new ChromeOptions();
+        if (profile.isHeadless()) {
+            options.addArguments("--headless");
+        }
+        options.addArguments(BASE_FLAGS);
+        options.addArguments("--window-size=" + profile.getWindowWidth() + "," + profile.getWindowHeight());
+        if (profile.isDisableImages()) {
+            options.addArguments("--blink-settings=imagesEnabled=false");
+            options.setExperimentalOption("prefs", Map.of("profile.managed_default_content_settings.images", 2));
+        }
+        options.addArguments(profile.getChromeFlags());
+        options.setPageLoadStrategy(pageLoadStrategy(profile, action));
+        // Browser console log feeds SmartWait's JS error fast-fail
+        options.setCapability("goog:loggingPrefs", Map.of(LogType.BROWSER, "SEVERE"));
+        return options;
+    }
+
+    static PageLoadStrategy pageLoadStrategy(ExecutionProperties.BrowserProfile profile, String action) {
+        PageLoadStrategy strategy = PageLoadStrategy.fromString(
+                profile.getPageLoadStrategy() != null ? profile.getPageLoadStrategy().toLowerCase(Locale.ROOT) : null);
+        if (strategy == null) {
+            strategy = PageLoadStrategy.NORMAL;
+        }
+        // Clicking only needs the DOM, not images/fonts/third-party scripts
+        if (strategy == PageLoadStrategy.NORMAL && profile.isEagerForClickOnly()
+                && action != null && "click".equalsIgnoreCase(action.trim())) {
+            return PageLoadStrategy.EAGER;
+        }
+        return strategy;
+    }
+
+    // WebDriverManager resolution hits the network/cache; once per JVM is enough
+    private void resolveDriver() {
+        if (!driverResolved) {
+            synchronized (this) {
+                if (!driverResolved) {
+                    WebDriverManager.chromedriver().setup();
+                    driverResolved = true;
+                }
+            }
+        }
+    }
+}
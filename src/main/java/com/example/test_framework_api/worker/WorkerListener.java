@@ -22,6 +22,7 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.time.LocalDateTime;
 import java.util.Map;
+import java.util.Set;
 import java.util.List;
 import java.util.ArrayList;
 import static com.example.test_framework_api.config.RabbitMQConfig.QUEUE;
@@ -48,6 +49,7 @@ public class WorkerListener {
     private final TestRunRepository testRunRepository;
     private final TestResultService testResultService;
     private final TestSuiteService suiteService;
+    private final RunRegistry runRegistry;
 
     @RabbitListener(queues = QUEUE, containerFactory = "rabbitListenerContainerFactory")
     public void receiveMessage(TestRunRequest request) {
@@ -79,6 +81,7 @@ public class WorkerListener {
 
     /**
      * FIXED: Type-safe casting for dynamic test payload
+     * SCENARIO: All steps in "actions" run in one browser session; per-step results are recorded
      */
     @RabbitListener(queues = "elementTestQueue", containerFactory = "rabbitListenerContainerFactory")
     public void handleElementTest(Map<String, Object> payload) {
@@ -96,23 +99,27 @@ public class WorkerListener {
 
         long startTime = System.currentTimeMillis();
         try {
+            TestCase testCase = new TestCase();
+            testCase.setTestCaseId("ELEMENT_" + testRunId);
+            testCase.setTestType("UI");
+            testCase.setUrlEndpoint(url);
+            testCase.setLocatorType("id");
+            testCase.setLocatorValue(elementId);
+            testCase.setExpectedResult(expectedResult);
             if (actionsList != null && !actionsList.isEmpty()) {
-                for (Map<String, Object> step : actionsList) {
-                    String stepAction = (String) step.get("type");
-                    String value = (String) step.get("value");
-                    testExecutor.executeDynamicTest(url, elementId, stepAction, expectedResult,
-                            value != null ? value : "");
-                }
+                testCase.setHttpMethodAction("multi");
+                testCase.setActionsJson(ScenarioStep.toJson(ScenarioStep.fromMaps(actionsList)));
             } else if (action != null) {
-                testExecutor.executeDynamicTest(url, elementId, action, expectedResult, "");
+                testCase.setHttpMethodAction(action);
             } else {
                 throw new IllegalArgumentException("No action provided");
             }
 
             TestRun testRun = testRunRepository.findById(testRunId).orElse(null);
+            testCase.setTestName(testRun != null ? testRun.getName() : "Dynamic Test: UI");
+            TestResult result = testExecutor.runTestCase(testCase, testRun);
             if (testRun != null) {
-                updateTestRun(testRun, TestStatus.PASSED);
-                saveResult(testRun, TestStatus.PASSED, System.currentTimeMillis() - startTime, 0);
+                updateTestRun(testRun, result.getStatus() == TestStatus.PASSED ? TestStatus.PASSED : TestStatus.FAILED);
             }
         } catch (Exception e) {
             long duration = System.currentTimeMillis() - startTime;
@@ -173,12 +180,20 @@ public class WorkerListener {
         log.info("Received suite execution request: Suite {}, Run {}, Threads {}", 
             request.getTestSuiteId(), request.getTestRunId(), request.getParallelThreads());
 
-        TestRun run = runService.getTestRunById(request.getTestRunId());
+        TestRun run = runService.getCurrentTestRun(request.getTestRunId()); // May have been cancelled on another node
         if (run == null) {
             log.error("TestRun not found for ID: {}", request.getTestRunId());
             return;
         }
 
+        // Cancelled while still queued
+        if (run.getStatus() == TestStatus.CANCELLED) {
+            log.info("Run {} was cancelled before execution - skipping suite {}",
+                run.getId(), request.getTestSuiteId());
+            runRegistry.complete(run.getId());
+            return;
+        }
+
         // EDGE CASE 2: Invalid threads validation
         int parallelThreads = request.getParallelThreads();
         if (parallelThreads < 1 || parallelThreads > 8) {
@@ -191,7 +206,8 @@ public class WorkerListener {
         run.setStatus(TestStatus.RUNNING);
         runService.updateTestRun(run);
 
-        List<TestCase> cases = caseRepository.findByTestSuiteId(request.getTestSuiteId());
+        List<TestCase> cases = suiteService.selectRequestedCases(
+            caseRepository.findByTestSuiteId(request.getTestSuiteId()), request);
         
         // EDGE CASE 3: Empty suite handling
         if (cases == null || cases.isEmpty()) {
@@ -202,20 +218,27 @@ public class WorkerListener {
             return;
         }
 
-        // EDGE CASE 1: Sequential fallback
-        if (parallelThreads == 1) {
+        RunHandle handle = suiteService.startRun(request);
+
+        // EDGE CASE 1: Sequential fallback (adaptive mode always dispatches in parallel)
+        if (parallelThreads == 1 && !request.isAdaptiveConcurrency()) {
             log.info("Executing suite {} in SEQUENTIAL mode", request.getTestSuiteId());
-            executeSequentialSuite(cases, run, request.getTestSuiteId());
+            CasePriority priority = suiteService.casePriorityFor(cases, request.getOrdering());
+            if (priority != null) {
+                cases = new ArrayList<>(cases);
+                priority.sort(cases);
+            }
+            Set<String> quarantined = suiteService.quarantinedFor(cases);
+            suiteService.executeSequential(suiteService.quarantinedLast(cases, quarantined), run,
+                request.getTestSuiteId(), suiteService.hostLimiterFor(request), handle, quarantined);
+            saveFinalStatus(run);
         } else {
-            log.info("Executing suite {} in PARALLEL mode ({} threads)", 
-                request.getTestSuiteId(), parallelThreads);
+            log.info("Executing suite {} in PARALLEL mode ({} threads{})", 
+                request.getTestSuiteId(), parallelThreads,
+                request.isAdaptiveConcurrency() ? ", adaptive" : "");
             
             // Delegate to service for async parallel execution
-            suiteService.executeSuiteParallel(
-                request.getTestSuiteId(), 
-                run, 
-                parallelThreads
-            ).whenComplete((result, ex) -> {
+            suiteService.executeSuiteParallel(request, run).whenComplete((result, ex) -> {
                 if (ex != null) {
                     log.error("Parallel execution failed: {}", ex.getMessage());
                     run.setStatus(TestStatus.FAILED);
@@ -223,82 +246,43 @@ public class WorkerListener {
                     // EDGE CASE 4: Mixed failure aggregation in service
                     run.setStatus(TestStatus.COMPLETED);
                 }
-                runService.updateTestRun(run);
+                markIfCancelled(run, handle);
+                saveFinalStatus(run);
                 log.info("Suite {} execution complete", request.getTestSuiteId());
             });
         }
     }
 
     /**
-     * EDGE CASE 1 & 4: Sequential execution with mixed failure tracking.
+     * A stopped run ends as CANCELLED (cancel request, suite timeout) or
+     * FAILED (early termination) whatever its partial results,
+     * and is released from the run registry.
      */
-    private void executeSequentialSuite(List<TestCase> cases, TestRun run, Long suiteId) {
-        int executed = 0;
-        int passed = 0;
-        int failed = 0;
-
-        for (TestCase tc : cases) {
-            if (!Boolean.TRUE.equals(tc.getRun())) {
-                log.debug("Skipping disabled test case: {}", tc.getTestCaseId());
-                continue;
-            }
-
-            try {
-                log.info("Sequential execution: {} - {}", tc.getTestCaseId(), tc.getTestName());
-                testExecutor.executeTestCase(tc, run);
-                
-                List<TestResult> results = testResultService.findByTestRunIdAndTestName(
-                    run.getId(), tc.getTestName()
-                );
-                
-                if (!results.isEmpty()) {
-                    TestResult latestResult = results.get(results.size() - 1);
-                    if (latestResult.getStatus() == TestStatus.PASSED) {
-                        passed++;
-                        log.info("✓ PASSED: {}", tc.getTestCaseId());
-                    } else {
-                        failed++;
-                        log.warn("✗ FAILED: {} - {}", tc.getTestCaseId(), 
-                            latestResult.getErrorMessage());
-                    }
-                } else {
-                    log.warn("⚠ WARNING: No result saved for {}", tc.getTestCaseId());
-                }
-                
-                executed++;
-            } catch (Exception e) {
-                failed++;
-                log.error("✗ EXCEPTION in test case {}: {}", tc.getTestCaseId(), e.getMessage());
-                
-                TestResult failureResult = new TestResult();
-                failureResult.setTestName(tc.getTestName());
-                failureResult.setStatus(TestStatus.FAILED);
-                failureResult.setErrorMessage("Exception: " + e.getMessage());
-                failureResult.setTestRun(run);
-                failureResult.setTestSuite(tc.getTestSuite()); // CRITICAL: Link result to suite
-                failureResult.setDuration(0L);
-                failureResult.setRetryCount(0);
-                failureResult.setCreatedAt(LocalDateTime.now());
-                testResultService.saveTestResult(failureResult);
-            }
+    private void markIfCancelled(TestRun run, RunHandle handle) {
+        if (handle == null) {
+            return;
         }
+        if (handle.isCancelled()) {
+            run.setStatus(handle.getOutcome());
+            run.setTerminationReason(handle.getReason());
+            log.warn("Run {} {}: {}", run.getId(), handle.getOutcome(), handle.getReason());
+        }
+        runRegistry.complete(run.getId());
+    }
 
-        // EDGE CASE 4: Mixed failure aggregation
-        if (failed > 0 && passed > 0) {
-            run.setStatus(TestStatus.COMPLETED); // Partial success
-            double rate = passed * 100.0 / (passed + failed);
-            log.info("Sequential suite COMPLETED (partial): {} passed, {} failed ({:.2f}%)", 
-                passed, failed, rate);
-        } else if (failed == 0) {
-            run.setStatus(TestStatus.PASSED);
-            log.info("Sequential suite PASSED: {}/{} (100%)", passed, executed);
-        } else {
-            run.setStatus(TestStatus.FAILED);
-            log.warn("Sequential suite FAILED: 0/{} passed", executed);
+    /**
+     * A run cancelled on another node while its last cases ran here is already
+     * CANCELLED in the database; that status is kept instead of overwritten.
+     */
+    private void saveFinalStatus(TestRun run) {
+        TestRun persisted = runService.getCurrentTestRun(run.getId());
+        if (persisted != null && persisted.getStatus() == TestStatus.CANCELLED
+                && run.getStatus() != TestStatus.CANCELLED) {
+            log.warn("Run {} was cancelled elsewhere: keeping CANCELLED over {}", run.getId(), run.getStatus());
+            run.setStatus(TestStatus.CANCELLED);
+            run.setTerminationReason(persisted.getTerminationReason());
         }
-        
         runService.updateTestRun(run);
-        suiteService.updateSuiteStatus(suiteId);
     }
 
     private void updateTestRun(TestRun tr, TestStatus status) {
@@ -0,0 +1,116 @@
+-- Baseline: the schema Hibernate generated (ddl-auto=update) for the entities
+-- of the last release managed that way, before the migrations existed.
+-- Databases created by it are baselined at version 1
+-- (spring.flyway.baseline-on-migrate) and continue from V2; constraint names
+-- are Hibernate's so later steps find them.
+
+create table test_case (
+    test_case_id varchar(255) not null,
+    actions_json TEXT,
+    description varchar(255),
+    expected_result varchar(255),
+    http_method_action varchar(255),
+    input_data varchar(255),
+    locator_type varchar(255),
+    locator_value varchar(255),
+    priority varchar(255),
+    run boolean,
+    test_name varchar(255) not null,
+    test_type varchar(255) not null,
+    url_endpoint varchar(255),
+    test_suite_id bigint,
+    primary key (test_case_id)
+);
+
+create table test_result (
+    id bigint generated by default as identity,
+    created_at timestamp(6),
+    duration bigint,
+    error_message TEXT,
+    flaky_score float(53),
+    retry_count integer,
+    status enum ('COMPLETED','FAILED','PASSED','PENDING','RUNNING') not null,
+    test_name varchar(255) not null,
+    executed_by_user_id bigint,
+    test_run_id bigint,
+    test_suite_id bigint,
+    primary key (id)
+);
+
+create table test_run (
+    id bigint generated by default as identity,
+    created_at timestamp(6),
+    name varchar(255),
+    parallel_threads integer,
+    report_path varchar(255),
+    status enum ('COMPLETED','FAILED','PASSED','PENDING','RUNNING') not null,
+    created_by_user_id bigint,
+    primary key (id)
+);
+
+create table test_suite (
+    id bigint generated by default as identity,
+    created_at timestamp(6),
+    description varchar(255),
+    name varchar(255) not null,
+    report_path varchar(255),
+    status enum ('COMPLETED','FAILED','PASSED','PENDING','RUNNING'),
+    created_by_user_id bigint,
+    test_run_id bigint,
+    primary key (id)
+);
+
+create table user_roles (
+    user_id bigint not null,
+    role varchar(255)
+);
+
+create table users (
+    id bigint generated by default as identity,
+    created_at timestamp(6),
+    email varchar(255) not null unique,
+    enabled boolean,
+    password varchar(255) not null,
+    username varchar(255) not null unique,
+    primary key (id)
+);
+
+alter table if exists test_case
+   add constraint FKhjc8d84sw3w3oe3ccnnlj3rde
+   foreign key (test_suite_id)
+   references test_suite;
+
+alter table if exists test_result
+   add constraint FKey22x1c3fgicntdxqhboosgeu
+   foreign key (executed_by_user_id)
+   references users;
+
+alter table if exists test_result
+   add constraint FKoqjh3usd009un5fv5wmg7vv96
+   foreign key (test_run_id)
+   references test_run;
+
+alter table if exists test_result
+   add constraint FK1vk94xl15cge1ghk2o20icq2g
+   foreign key (test_suite_id)
+   references test_suite;
+
+alter table if exists test_run
+   add constraint FKmyin36jet77j38ath6h78dp5m
+   foreign key (created_by_user_id)
+   references users;
+
+alter table if exists test_suite
+   add constraint FK80ywii6b11bxvncqmtuk3cnvl
+   foreign key (created_by_user_id)
+   references users;
+
+alter table if exists test_suite
+   add constraint FKinq8r2ay11kvhpgjoit9f0vq5
+   foreign key (test_run_id)
+   references test_run;
+
+alter table if exists user_roles
+   add constraint FKhfh9dx7w3ubf1co1vdev94g3f
+   foreign key (user_id)
+   references users;
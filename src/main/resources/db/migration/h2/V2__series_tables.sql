@@ -0,0 +1,117 @@
+-- Tables added since the baseline: attempts and steps, failure details and
+-- their clusters, quarantine, rollups. "if not exists" throughout, so a
+-- database where ddl-auto=update already created them is baselined and
+-- carries on; nothing here touches test_result.
+
+create table if not exists failure_cluster (
+    failure_count bigint not null,
+    first_seen_at timestamp(6),
+    id bigint generated by default as identity,
+    last_seen_at timestamp(6),
+    sample_detail_id bigint,
+    signature_id bigint not null,
+    test_run_id bigint not null,
+    test_suite_id bigint,
+    sample_test_name varchar(255),
+    step varchar(255) not null,
+    target_host varchar(255) not null,
+    primary key (id),
+    constraint uk_failure_cluster_key unique (test_run_id, signature_id, target_host, step)
+);
+
+create table if not exists failure_detail (
+    original_length integer,
+    truncated boolean,
+    created_at timestamp(6),
+    id bigint generated by default as identity,
+    signature_id bigint not null,
+    content_hash varchar(64) not null unique,
+    compressed_text blob not null,
+    primary key (id)
+);
+
+create table if not exists failure_signature (
+    first_seen_at timestamp(6),
+    id bigint generated by default as identity,
+    last_seen_at timestamp(6),
+    occurrence_count bigint not null,
+    hash varchar(64) not null unique,
+    message_template varchar(1000),
+    exception_type varchar(255) not null,
+    primary key (id)
+);
+
+create table if not exists quarantined_test (
+    active boolean not null,
+    consecutive_passes integer,
+    flaky_score float(53),
+    id bigint generated by default as identity,
+    quarantined_at timestamp(6),
+    released_at timestamp(6),
+    test_name varchar(255) not null unique,
+    primary key (id)
+);
+
+create table if not exists result_rollup (
+    period_start date not null,
+    failed bigint,
+    flaky bigint,
+    id bigint generated by default as identity,
+    max_duration bigint,
+    passed bigint,
+    retries bigint,
+    rolled_up_at timestamp(6),
+    test_suite_id bigint,
+    total bigint,
+    total_duration bigint,
+    test_name varchar(255) not null,
+    period enum ('DAILY','WEEKLY') not null,
+    primary key (id)
+);
+
+create table if not exists test_attempt (
+    attempt_number integer not null,
+    duration bigint,
+    failure_detail_id bigint,
+    id bigint generated by default as identity,
+    started_at timestamp(6),
+    test_result_id bigint not null,
+    error_message varchar(500),
+    dom_ref varchar(255),
+    screenshot_ref varchar(255),
+    status enum ('CANCELLED','COMPLETED','FAILED','PASSED','PENDING','RUNNING') not null,
+    primary key (id)
+);
+
+create table if not exists test_step_result (
+    step_number integer not null,
+    duration bigint,
+    id bigint generated by default as identity,
+    started_at timestamp(6),
+    test_attempt_id bigint not null,
+    action varchar(255),
+    error_message TEXT,
+    name varchar(255),
+    target varchar(255),
+    status enum ('CANCELLED','COMPLETED','FAILED','PASSED','PENDING','RUNNING') not null,
+    primary key (id)
+);
+
+create index if not exists idx_failure_cluster_suite
+   on failure_cluster (test_suite_id);
+
+create index if not exists idx_rollup_period
+   on result_rollup (period, period_start);
+
+create index if not exists idx_rollup_suite_period
+   on result_rollup (test_suite_id, period, period_start);
+
+alter table test_attempt
+   add constraint if not exists FKal8gho44oayo8aby9wqqxc2lp
+   foreign key (test_result_id)
+   references test_result;
+
+alter table test_step_result
+   add constraint if not exists FKmpk1wt0y46opgr58f1ue8qlfg
+   foreign key (test_attempt_id)
+   references test_attempt;
@@ -0,0 +1,122 @@
+-- Baseline: the schema Hibernate generated (ddl-auto=update) for the entities
+-- of the last release managed that way, before the migrations existed.
+-- Databases created by it are baselined at version 1
+-- (spring.flyway.baseline-on-migrate) and continue from V2; constraint names
+-- are Hibernate's so later steps find them.
+
+create table test_case (
+    test_case_id varchar(255) not null,
+    actions_json TEXT,
+    description varchar(255),
+    expected_result varchar(255),
+    http_method_action varchar(255),
+    input_data varchar(255),
+    locator_type varchar(255),
+    locator_value varchar(255),
+    priority varchar(255),
+    run bit,
+    test_name varchar(255) not null,
+    test_type varchar(255) not null,
+    url_endpoint varchar(255),
+    test_suite_id bigint,
+    primary key (test_case_id)
+) engine=InnoDB;
+
+create table test_result (
+    id bigint not null auto_increment,
+    created_at datetime(6),
+    duration bigint,
+    error_message TEXT,
+    flaky_score float(53),
+    retry_count integer,
+    status enum ('COMPLETED','FAILED','PASSED','PENDING','RUNNING') not null,
+    test_name varchar(255) not null,
+    executed_by_user_id bigint,
+    test_run_id bigint,
+    test_suite_id bigint,
+    primary key (id)
+) engine=InnoDB;
+
+create table test_run (
+    id bigint not null auto_increment,
+    created_at datetime(6),
+    name varchar(255),
+    parallel_threads integer,
+    report_path varchar(255),
+    status enum ('COMPLETED','FAILED','PASSED','PENDING','RUNNING') not null,
+    created_by_user_id bigint,
+    primary key (id)
+) engine=InnoDB;
+
+create table test_suite (
+    id bigint not null auto_increment,
+    created_at datetime(6),
+    description varchar(255),
+    name varchar(255) not null,
+    report_path varchar(255),
+    status enum ('COMPLETED','FAILED','PASSED','PENDING','RUNNING'),
+    created_by_user_id bigint,
+    test_run_id bigint,
+    primary key (id)
+) engine=InnoDB;
+
+create table user_roles (
+    user_id bigint not null,
+    role varchar(255)
+) engine=InnoDB;
+
+create table users (
+    id bigint not null auto_increment,
+    created_at datetime(6),
+    email varchar(255) not null,
+    enabled bit,
+    password varchar(255) not null,
+    username varchar(255) not null,
+    primary key (id)
+) engine=InnoDB;
+
+alter table users
+   add constraint UK6dotkott2kjsp8vw4d0m25fb7 unique (email);
+
+alter table users
+   add constraint UKr43af9ap4edm43mmtq01oddj6 unique (username);
+
+alter table test_case
+   add constraint FKhjc8d84sw3w3oe3ccnnlj3rde
+   foreign key (test_suite_id)
+   references test_suite (id);
+
+alter table test_result
+   add constraint FKey22x1c3fgicntdxqhboosgeu
+   foreign key (executed_by_user_id)
+   references users (id);
+
+alter table test_result
+   add constraint FKoqjh3usd009un5fv5wmg7vv96
+   foreign key (test_run_id)
+   references test_run (id);
+
+alter table test_result
+   add constraint FK1vk94xl15cge1ghk2o20icq2g
+   foreign key (test_suite_id)
+   references test_suite (id);
+
+alter table test_run
+   add constraint FKmyin36jet77j38ath6h78dp5m
+   foreign key (created_by_user_id)
+   references users (id);
+
+alter table test_suite
+   add constraint FK80ywii6b11bxvncqmtuk3cnvl
+   foreign key (created_by_user_id)
+   references users (id);
+
+alter table test_suite
+   add constraint FKinq8r2ay11kvhpgjoit9f0vq5
+   foreign key (test_run_id)
+   references test_run (id);
+
+alter table user_roles
+   add constraint FKhfh9dx7w3ubf1co1vdev94g3f
+   foreign key (user_id)
+   references users (id);
@@ -0,0 +1,111 @@
+-- Tables added since the baseline: attempts and steps, failure details and
+-- their clusters, quarantine, rollups. "if not exists" throughout, so a
+-- database where ddl-auto=update already created them is baselined and
+-- carries on; indexes and constraints are declared inline for the same
+-- reason. Nothing here touches test_result.
+
+create table if not exists failure_cluster (
+    failure_count bigint not null,
+    first_seen_at datetime(6),
+    id bigint not null auto_increment,
+    last_seen_at datetime(6),
+    sample_detail_id bigint,
+    signature_id bigint not null,
+    test_run_id bigint not null,
+    test_suite_id bigint,
+    sample_test_name varchar(255),
+    step varchar(255) not null,
+    target_host varchar(255) not null,
+    primary key (id),
+    constraint uk_failure_cluster_key unique (test_run_id, signature_id, target_host, step),
+    index idx_failure_cluster_suite (test_suite_id)
+) engine=InnoDB;
+
+create table if not exists failure_detail (
+    original_length integer,
+    truncated bit,
+    created_at datetime(6),
+    id bigint not null auto_increment,
+    signature_id bigint not null,
+    content_hash varchar(64) not null,
+    compressed_text mediumblob not null,
+    primary key (id),
+    constraint UKgkngj9t6dqbtc0qchohvymqlm unique (content_hash)
+) engine=InnoDB;
+
+create table if not exists failure_signature (
+    first_seen_at datetime(6),
+    id bigint not null auto_increment,
+    last_seen_at datetime(6),
+    occurrence_count bigint not null,
+    hash varchar(64) not null,
+    message_template varchar(1000),
+    exception_type varchar(255) not null,
+    primary key (id),
+    constraint UK8jfbfq7th6r3f9onhtdgkut9p unique (hash)
+) engine=InnoDB;
+
+create table if not exists quarantined_test (
+    active bit not null,
+    consecutive_passes integer,
+    flaky_score float(53),
+    id bigint not null auto_increment,
+    quarantined_at datetime(6),
+    released_at datetime(6),
+    test_name varchar(255) not null,
+    primary key (id),
+    constraint UKj0nwxmmhkpp9n5v0ucikgx7gl unique (test_name)
+) engine=InnoDB;
+
+create table if not exists result_rollup (
+    period_start date not null,
+    failed bigint,
+    flaky bigint,
+    id bigint not null auto_increment,
+    max_duration bigint,
+    passed bigint,
+    retries bigint,
+    rolled_up_at datetime(6),
+    test_suite_id bigint,
+    total bigint,
+    total_duration bigint,
+    test_name varchar(255) not null,
+    period enum ('DAILY','WEEKLY') not null,
+    primary key (id),
+    index idx_rollup_period (period, period_start),
+    index idx_rollup_suite_period (test_suite_id, period, period_start)
+) engine=InnoDB;
+
+create table if not exists test_attempt (
+    attempt_number integer not null,
+    duration bigint,
+    failure_detail_id bigint,
+    id bigint not null auto_increment,
+    started_at datetime(6),
+    test_result_id bigint not null,
+    error_message varchar(500),
+    dom_ref varchar(255),
+    screenshot_ref varchar(255),
+    status enum ('CANCELLED','COMPLETED','FAILED','PASSED','PENDING','RUNNING') not null,
+    primary key (id),
+    constraint FKal8gho44oayo8aby9wqqxc2lp
+       foreign key (test_result_id)
+       references test_result (id)
+) engine=InnoDB;
+
+create table if not exists test_step_result (
+    step_number integer not null,
+    duration bigint,
+    id bigint not null auto_increment,
+    started_at datetime(6),
+    test_attempt_id bigint not null,
+    action varchar(255),
+    error_message TEXT,
+    name varchar(255),
+    target varchar(255),
+    status enum ('CANCELLED','COMPLETED','FAILED','PASSED','PENDING','RUNNING') not null,
+    primary key (id),
+    constraint FKmpk1wt0y46opgr58f1ue8qlfg
+       foreign key (test_attempt_id)
+       references test_attempt (id)
+) engine=InnoDB;
@@ -0,0 +1,349 @@
+package com.example.test_framework_api.benchmark;
+
+import com.example.test_framework_api.dto.TestCaseExecutionRequest;
+import com.example.test_framework_api.model.TestResult;
+import com.example.test_framework_api.model.TestRun;
+import com.example.test_framework_api.model.TestStatus;
+import com.example.test_framework_api.repository.TestResultRepository;
+import com.example.test_framework_api.repository.TestRunRepository;
+import com.example.test_framework_api.worker.WorkerListener;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.sun.net.httpserver.HttpServer;
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathMatching;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * THROUGHPUT BENCHMARK: End-to-end cases/second for a single worker.
+ *
+ * Drives suites through the real path:
+ * HTTP -> TestSuiteController -> (in-memory broker) -> WorkerListener -> TestExecutor -> DB
+ *
+ * Everything runs locally:
+ * - WireMock stub as the API system under test
+ * - JDK HttpServer serving static/dynamic-test-page.html for UI cases
+ * - InMemoryRabbitTemplate as the broker stand-in (JSON round-trip + listener thread)
+ *
+ * Disabled by default. Run with:
+ * mvn test -Dtest=SuiteThroughputBenchmark -Dbenchmark=true
+ *
+ * Options (system properties):
+ * - benchmark.apiCases (default 100)
+ * - benchmark.uiCases (default 0, needs a local Chrome)
+ * - benchmark.threads (default 8)
+ * - benchmark.rounds (default 3)
+ * - benchmark.stubLatencyMs (default 20)
+ * - benchmark.timeoutSeconds (default 600)
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN"
+})
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@Execution(ExecutionMode.SAME_THREAD)
+class SuiteThroughputBenchmark {
+
+    private static final int API_CASES = Integer.getInteger("benchmark.apiCases", 100);
+    private static final int UI_CASES = Integer.getInteger("benchmark.uiCases", 0);
+    private static final int THREADS = Integer.getInteger("benchmark.threads", 8);
+    private static final int ROUNDS = Integer.getInteger("benchmark.rounds", 3);
+    private static final int STUB_LATENCY_MS = Integer.getInteger("benchmark.stubLatencyMs", 20);
+    private static final int TIMEOUT_SECONDS = Integer.getInteger("benchmark.timeoutSeconds", 600);
+
+    private static WireMockServer apiStub;
+    private static HttpServer htmlFixture;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRunRepository testRunRepository;
+
+    @Autowired
+    private TestResultRepository testResultRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private RabbitListenerEndpointRegistry listenerRegistry;
+
+    /**
+     * Broker stand-in: serializes the message like the real converter would and
+     * hands it to the listener on a dedicated consumer thread.
+     */
+    @TestConfiguration
+    static class InMemoryBrokerConfig {
+
+        @Bean
+        @Primary
+        RabbitTemplate inMemoryRabbitTemplate(ObjectProvider<WorkerListener> workerListener,
+                ObjectMapper objectMapper) {
+            return new InMemoryRabbitTemplate(workerListener, objectMapper);
+        }
+    }
+
+    static class InMemoryRabbitTemplate extends RabbitTemplate {
+
+        private final ObjectProvider<WorkerListener> workerListener;
+        private final ObjectMapper objectMapper;
+        private final ExecutorService consumer = Executors.newSingleThreadExecutor(
+                r -> daemon(r, "in-memory-broker"));
+
+        InMemoryRabbitTemplate(ObjectProvider<WorkerListener> workerListener, ObjectMapper objectMapper) {
+            super(new CachingConnectionFactory("localhost"));
+            this.workerListener = workerListener;
+            this.objectMapper = objectMapper;
+        }
+
+        @Override
+        public void convertAndSend(String routingKey, Object message) {
+            deliver(message);
+        }
+
+        @Override
+        public void convertAndSend(String exchange, String routingKey, Object message) {
+            deliver(message);
+        }
+
+        private void deliver(Object message) {
+            if (!(message instanceof TestCaseExecutionRequest)) {
+                return; // Only suite execution is part of the benchmark path
+            }
+            try {
+                byte[] body = objectMapper.writeValueAsBytes(message);
+                TestCaseExecutionRequest request = objectMapper.readValue(body, TestCaseExecutionRequest.class);
+                consumer.execute(() -> workerListener.getObject().handleSuiteExecution(request));
+            } catch (IOException e) {
+                throw new IllegalStateException("In-memory broker failed to convert message", e);
+            }
+        }
+    }
+
+    @BeforeAll
+    static void startTargets() throws IOException {
+        apiStub = new WireMockServer(wireMockConfig().dynamicPort());
+        apiStub.start();
+        apiStub.stubFor(get(urlPathMatching("/api/items/\\d+"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withFixedDelay(STUB_LATENCY_MS)
+                        .withBody("{\"id\":1,\"name\":\"benchmark\"}")));
+
+        byte[] page;
+        try (InputStream in = SuiteThroughputBenchmark.class
+                .getResourceAsStream("/static/dynamic-test-page.html")) {
+            page = in.readAllBytes();
+        }
+        htmlFixture = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        htmlFixture.createContext("/", exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "text/html; charset=UTF-8");
+            exchange.sendResponseHeaders(200, page.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(page);
+            }
+        });
+        htmlFixture.setExecutor(Executors.newFixedThreadPool(4, r -> daemon(r, "html-fixture")));
+        htmlFixture.start();
+    }
+
+    @AfterAll
+    static void stopTargets() {
+        if (apiStub != null) {
+            apiStub.stop();
+        }
+        if (htmlFixture != null) {
+            htmlFixture.stop(0);
+        }
+    }
+
+    @BeforeEach
+    void stopBrokerListeners() {
+        // No real broker here; the in-memory template delivers to WorkerListener directly
+        listenerRegistry.stop();
+    }
+
+    @Test
+    void suiteThroughput() throws Exception {
+        RestAssured.port = port;
+        String token = login();
+        Statistics stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("Suite throughput benchmark: %d API + %d UI cases, %d threads, %d rounds, stub latency %d ms%n",
+                API_CASES, UI_CASES, THREADS, ROUNDS, STUB_LATENCY_MS));
+
+        for (int round = 1; round <= ROUNDS; round++) {
+            Long suiteId = importSuite(token, round);
+
+            stats.clear();
+            long submittedAt = System.currentTimeMillis();
+            Long runId = executeSuite(token, suiteId);
+            List<TestResult> results = awaitResults(runId, API_CASES + UI_CASES);
+            long finishedAt = System.currentTimeMillis();
+
+            TestStatus status = testRunRepository.findById(runId).orElseThrow().getStatus();
+            assertEquals(API_CASES + UI_CASES, results.size(),
+                    "Every case must produce a result (run " + runId + " ended " + status + ")");
+            report.append(describeRound(round, runId, results, submittedAt, finishedAt, stats));
+        }
+
+        System.out.println(report);
+        Path out = Paths.get("target", "benchmark", "suite-throughput-" + System.currentTimeMillis() + ".txt");
+        Files.createDirectories(out.getParent());
+        Files.writeString(out, report.toString(), StandardCharsets.UTF_8);
+    }
+
+    private String login() {
+        return RestAssured.given()
+                .contentType(ContentType.JSON)
+                .body("{\"username\":\"admin\",\"password\":\"admin123\"}")
+                .post("/api/auth/login")
+                .then().statusCode(200)
+                .extract().path("token");
+    }
+
+    private Long importSuite(String token, int round) {
+        String apiBase = "http://localhost:" + apiStub.port();
+        String htmlBase = "http://localhost:" + htmlFixture.getAddress().getPort();
+
+        StringBuilder csv = new StringBuilder("TestCaseID,TestName,TestType,URL/Endpoint,HTTP Method/Action,"
+                + "LocatorType,LocatorValue,InputData,ExpectedResult,Priority,Run,Description\n");
+        for (int i = 1; i <= API_CASES; i++) {
+            csv.append(String.format("TC_API%d,Bench API %d,API,%s/api/items/%d,GET,,,,200,Medium,Yes,benchmark%n",
+                    i, i, apiBase, i));
+        }
+        for (int i = 1; i <= UI_CASES; i++) {
+            csv.append(String.format("TC_UI%d,Bench UI %d,UI,%s/dynamic-test-page.html,click,id,click-btn,,,Medium,Yes,benchmark%n",
+                    i, i, htmlBase));
+        }
+
+        Number id = RestAssured.given()
+                .auth().oauth2(token)
+                .multiPart("csvFile", "bench.csv", csv.toString().getBytes(StandardCharsets.UTF_8), "text/csv")
+                .multiPart("suiteName", "Benchmark round " + round)
+                .multiPart("description", "Throughput benchmark")
+                .post("/api/suites/import-csv")
+                .then().statusCode(200)
+                .extract().path("id");
+        return id.longValue();
+    }
+
+    private Long executeSuite(String token, Long suiteId) {
+        Number runId = RestAssured.given()
+                .auth().oauth2(token)
+                .queryParam("parallelThreads", THREADS)
+                .post("/api/suites/" + suiteId + "/execute-parallel")
+                .then().statusCode(200)
+                .extract().path("testRunId");
+        return runId.longValue();
+    }
+
+    private List<TestResult> awaitResults(Long runId, int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + Duration.ofSeconds(TIMEOUT_SECONDS).toMillis();
+        List<TestResult> results = List.of();
+        while (System.currentTimeMillis() < deadline) {
+            results = testResultRepository.findByTestRunId(runId);
+            TestRun run = testRunRepository.findById(runId).orElseThrow();
+            boolean finished = run.getStatus() != TestStatus.PENDING && run.getStatus() != TestStatus.RUNNING;
+            if (results.size() >= expected || (finished && run.getStatus() == TestStatus.FAILED)) {
+                return results;
+            }
+            Thread.sleep(50);
+        }
+        assertTrue(results.size() >= expected, "Timed out waiting for run " + runId);
+        return results;
+    }
+
+    private String describeRound(int round, Long runId, List<TestResult> results,
+            long submittedAt, long finishedAt, Statistics stats) {
+        long wallMs = Math.max(1, finishedAt - submittedAt);
+        long passed = results.stream().filter(r -> r.getStatus() == TestStatus.PASSED).count();
+
+        long[] execMs = results.stream()
+                .mapToLong(r -> r.getDuration() != null ? r.getDuration() : 0L)
+                .sorted().toArray();
+
+        // Completion latency = time from the execute call until the case finished
+        List<Long> completion = new ArrayList<>();
+        for (TestResult r : results) {
+            long startedAt = r.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            long duration = r.getDuration() != null ? r.getDuration() : 0L;
+            completion.add(Math.max(0, startedAt + duration - submittedAt));
+        }
+        long[] completionMs = completion.stream().mapToLong(Long::longValue).sorted().toArray();
+
+        long inserts = stats.getEntityInsertCount();
+        long updates = stats.getEntityUpdateCount();
+        long statements = stats.getPrepareStatementCount();
+        double seconds = wallMs / 1000.0;
+
+        return String.format(
+                "Round %d (run %d): %d results (%d passed) in %d ms -> %.1f cases/s%n"
+                        + "  exec latency ms:       p50=%d p90=%d p99=%d max=%d%n"
+                        + "  completion latency ms: p50=%d p90=%d p99=%d max=%d%n"
+                        + "  db: %d inserts (%.1f/s), %d updates (%.1f/s), %d statements (%.1f/s)%n",
+                round, runId, results.size(), passed, wallMs, results.size() / seconds,
+                percentile(execMs, 50), percentile(execMs, 90), percentile(execMs, 99), percentile(execMs, 100),
+                percentile(completionMs, 50), percentile(completionMs, 90), percentile(completionMs, 99),
+                percentile(completionMs, 100),
+                inserts, inserts / seconds, updates, updates / seconds, statements, statements / seconds);
+    }
+
+    private static Thread daemon(Runnable r, String name) {
+        Thread t = new Thread(r, name);
+        t.setDaemon(true);
+        return t;
+    }
+
+    private static long percentile(long[] sorted, int p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(p / 100.0 * sorted.length) - 1;
+        return sorted[Math.min(sorted.length - 1, Math.max(0, index))];
+    }
+}
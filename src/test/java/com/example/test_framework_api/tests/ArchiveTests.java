@@ -0,0 +1,173 @@
+package com.example.test_framework_api.tests;
+
+import com.example.test_framework_api.config.ExecutionProperties;
+import com.example.test_framework_api.model.TestAttempt;
+import com.example.test_framework_api.model.TestResult;
+import com.example.test_framework_api.model.TestRun;
+import com.example.test_framework_api.model.TestStatus;
+import com.example.test_framework_api.model.TestStepResult;
+import com.example.test_framework_api.repository.TestAttemptRepository;
+import com.example.test_framework_api.repository.TestResultRepository;
+import com.example.test_framework_api.repository.TestRunRepository;
+import com.example.test_framework_api.repository.TestStepResultRepository;
+import com.example.test_framework_api.service.ArchiveService;
+import com.example.test_framework_api.service.FailureStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ARCHIVE TESTS: Validates cold archive export and in-place queries
+ *
+ * Tests Cover:
+ * 1. A day is written as gzip JSON lines with run, attempts, steps and full failure text
+ * 2. Queries filter by run, test name and status across day partitions
+ * 3. Partition listing and query limits
+ * 4. Names that JSON escapes (quotes, backslashes) still match
+ * 5. A failed write leaves no temp file in the partition
+ *
+ * Each test uses its own (past) dates: methods run concurrently against the shared H2.
+ */
+@DataJpaTest
+@Import({ArchiveService.class, FailureStore.class, ExecutionProperties.class})
+class ArchiveTests {
+
+    @Autowired
+    private ArchiveService archiveService;
+
+    @Autowired
+    private FailureStore failureStore;
+
+    @Autowired
+    private ExecutionProperties executionProperties;
+
+    @Autowired
+    private TestRunRepository runRepository;
+
+    @Autowired
+    private TestResultRepository resultRepository;
+
+    @Autowired
+    private TestAttemptRepository attemptRepository;
+
+    @Autowired
+    private TestStepResultRepository stepRepository;
+
+    @TempDir
+    static Path archiveDir; // Per class: methods run concurrently on one shared properties bean
+
+    private TestRun run;
+
+    @BeforeEach
+    void setUp() {
+        executionProperties.getRetention().setArchiveDir(archiveDir.toString());
+        run = new TestRun();
+        run.setName("archived-Suite");
+        run = runRepository.save(run);
+    }
+
+    private TestResult save(String name, TestStatus status, LocalDate day, String error) {
+        TestResult result = new TestResult();
+        result.setTestName(name);
+        result.setStatus(status);
+        result.setTestRun(run);
+        result.setDuration(250L);
+        result.setCreatedAt(day.atTime(10, 0));
+        result.setErrorMessage(error);
+        failureStore.attach(result);
+        return resultRepository.save(result);
+    }
+
+    @Test
+    void testArchiveDay_FullRecord() throws Exception {
+        LocalDate day = LocalDate.of(2019, 4, 8);
+        String detail = "java.lang.AssertionError: Total mismatch\n\tat Cart.verify(Cart.java:12)";
+        TestResult failed = save("cart-total", TestStatus.FAILED, day, detail);
+        TestAttempt attempt = new TestAttempt();
+        attempt.setTestResult(failed);
+        attempt.setAttemptNumber(1);
+        attempt.setStatus(TestStatus.FAILED);
+        attempt = attemptRepository.save(attempt);
+        TestStepResult step = new TestStepResult();
+        step.setAttempt(attempt);
+        step.setStepNumber(1);
+        step.setName("Open cart");
+        step.setStatus(TestStatus.FAILED);
+        stepRepository.save(step);
+        save("cart-open", TestStatus.PASSED, day, null);
+
+        assertEquals(2, archiveService.archiveDay(day));
+        assertTrue(Files.exists(archiveDir.resolve("dt=2019-04-08").resolve("results.jsonl.gz")));
+
+        List<Map<String, Object>> records = archiveService.query(day, day, run.getId(), null, "FAILED", 10);
+        assertEquals(1, records.size());
+        Map<String, Object> record = records.get(0);
+        assertEquals("cart-total", record.get("testName"));
+        assertEquals("archived-Suite", record.get("runName"));
+        assertEquals(detail, record.get("errorDetail"));
+        List<?> attempts = (List<?>) record.get("attempts");
+        assertEquals(1, attempts.size());
+        assertEquals(1, ((List<?>) ((Map<?, ?>) attempts.get(0)).get("steps")).size());
+    }
+
+    @Test
+    void testQuery_AcrossPartitionsWithLimit() {
+        LocalDate first = LocalDate.of(2019, 9, 2);
+        LocalDate second = first.plusDays(1);
+        for (int i = 0; i < 3; i++) {
+            save("search", TestStatus.PASSED, first, null);
+            save("search", TestStatus.PASSED, second, null);
+        }
+        save("login", TestStatus.PASSED, second, null);
+        archiveService.archiveDay(first);
+        archiveService.archiveDay(second);
+
+        assertEquals(List.of(first, second), archiveService.partitions(first, second));
+        assertEquals(List.of(second), archiveService.partitions(second, null));
+        assertEquals(6, archiveService.query(first, second, null, "search", null, 100).size());
+        assertEquals(4, archiveService.query(first, second, null, null, null, 4).size());
+        assertEquals(1, archiveService.query(second, second, null, "login", null, 100).size());
+        assertTrue(archiveService.query(first.minusDays(30), first.minusDays(1), null, null, null, 100).isEmpty());
+    }
+
+    @Test
+    void testQuery_NameNeedingJsonEscapes() {
+        LocalDate day = LocalDate.of(2018, 10, 8);
+        String name = "search \"shoes\" in C:\\catalog";
+        save(name, TestStatus.PASSED, day, null);
+        save("search shoes", TestStatus.PASSED, day, null);
+        archiveService.archiveDay(day);
+
+        List<Map<String, Object>> records = archiveService.query(day, day, null, name, null, 10);
+        assertEquals(1, records.size());
+        assertEquals(name, records.get(0).get("testName"));
+    }
+
+    @Test
+    void testArchiveDay_FailedWriteLeavesNoTempFile() throws Exception {
+        LocalDate day = LocalDate.of(2018, 11, 5);
+        save("checkout", TestStatus.PASSED, day, null);
+        Path partition = archiveDir.resolve("dt=2018-11-05");
+        // A non-empty directory where the archive file goes makes the final move fail
+        Files.createDirectories(partition.resolve("results.jsonl.gz"));
+        Files.createFile(partition.resolve("results.jsonl.gz").resolve("blocker"));
+
+        assertThrows(UncheckedIOException.class, () -> archiveService.archiveDay(day));
+        try (Stream<Path> files = Files.list(partition)) {
+            assertTrue(files.noneMatch(file -> file.getFileName().toString().endsWith(".tmp")));
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.test_framework_api.tests;
+
+import com.example.test_framework_api.config.ExecutionProperties;
+import com.example.test_framework_api.model.TestResult;
+import com.example.test_framework_api.model.TestRun;
+import com.example.test_framework_api.model.TestStatus;
+import com.example.test_framework_api.repository.TestResultRepository;
+import com.example.test_framework_api.service.ArtifactStore;
+import com.example.test_framework_api.service.FailureStore;
+import com.example.test_framework_api.service.ProduceReportHtmlService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * ARTIFACT TESTS: Validates the content-addressed failure artifact store
+ *
+ * Tests Cover:
+ * 1. Identical captures share one reference and one file, also after it is written
+ * 2. Page sources are gzip-compressed on disk and read back intact
+ * 3. Invalid / unknown references are rejected
+ * 4. Disabled store returns no reference
+ * 5. Run report rows link to the stored screenshot and page source
+ */
+class ArtifactStoreTests {
+
+    @TempDir
+    Path dir;
+
+    private ExecutionProperties properties;
+    private ArtifactStore store;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ExecutionProperties();
+        properties.getArtifacts().setDir(dir.toString());
+        store = new ArtifactStore(properties);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        store.shutdown();
+    }
+
+    private long fileCount() throws Exception {
+        try (Stream<Path> files = Files.walk(dir)) {
+            return files.filter(Files::isRegularFile).count();
+        }
+    }
+
+    @Test
+    void testIdenticalContent_StoredOnce() throws Exception {
+        byte[] errorPage = "<html><title>404 Not Found</title></html>".getBytes(StandardCharsets.UTF_8);
+
+        String first = store.store(errorPage, ArtifactStore.DOM);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(first, store.store(errorPage.clone(), ArtifactStore.DOM));
+        }
+        String other = store.store(new byte[]{1, 2, 3}, ArtifactStore.SCREENSHOT);
+
+        assertTrue(store.flush(5_000));
+        assertTrue(first.matches("[0-9a-f]{64}\\.html"));
+        assertNotEquals(first, other);
+        assertEquals(2, fileCount());
+
+        // Already on disk: same reference, nothing queued or rewritten
+        assertEquals(first, store.store(errorPage, ArtifactStore.DOM));
+        assertTrue(store.flush(5_000));
+        assertEquals(2, fileCount());
+    }
+
+    @Test
+    void testDom_CompressedAndReadBack() throws Exception {
+        String html = "<html><body>" + "<div class='row'>item</div>".repeat(500) + "</body></html>";
+        byte[] bytes = html.getBytes(StandardCharsets.UTF_8);
+
+        String ref = store.store(bytes, ArtifactStore.DOM);
+        assertTrue(store.flush(5_000));
+
+        Path file = dir.resolve(ref.substring(0, 2)).resolve(ref + ".gz");
+        assertTrue(Files.size(file) < bytes.length / 10);
+        assertArrayEquals(bytes, store.read(ref).orElseThrow());
+        assertEquals("text/html;charset=UTF-8", ArtifactStore.contentType(ref));
+    }
+
+    @Test
+    void testInvalidRef_Rejected() {
+        assertTrue(store.read("../../etc/passwd").isEmpty());
+        assertTrue(store.read("0".repeat(64) + ".png").isEmpty());
+        assertTrue(store.read(null).isEmpty());
+    }
+
+    @Test
+    void testDisabled() {
+        properties.getArtifacts().setEnabled(false);
+
+        assertNull(store.store(new byte[]{1}, ArtifactStore.SCREENSHOT));
+        assertNull(store.store(new byte[0], ArtifactStore.SCREENSHOT));
+    }
+
+    @Test
+    void testRunReport_LinksArtifacts() {
+        TestRun run = new TestRun();
+        run.setId(5L);
+        run.setCreatedAt(LocalDateTime.now());
+        TestResult failed = new TestResult();
+        failed.setTestName("checkout");
+        failed.setStatus(TestStatus.FAILED);
+        failed.setScreenshotRef("a".repeat(64) + ".png");
+        failed.setDomRef("b".repeat(64) + ".html");
+        TestResult passed = new TestResult();
+        passed.setTestName("login");
+        passed.setStatus(TestStatus.PASSED);
+
+        TestResultRepository resultRepository = mock(TestResultRepository.class);
+        FailureStore failureStore = mock(FailureStore.class);
+        when(resultRepository.findByTestRunId(5L)).thenReturn(List.of(failed, passed));
+        when(failureStore.clustersForRun(5L)).thenReturn(List.of());
+        String html = new ProduceReportHtmlService(null, null, resultRepository, null, failureStore)
+                .generateReportforrun(run);
+
+        assertTrue(html.contains("<a href='/api/runs/artifacts/" + "a".repeat(64) + ".png' target='_blank'>Screenshot</a>"));
+        assertTrue(html.contains("<a href='/api/runs/artifacts/" + "b".repeat(64) + ".html' target='_blank'>DOM</a>"));
+        assertTrue(html.contains("<th>Artifacts</th>"));
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.test_framework_api.tests;
+
+import com.example.test_framework_api.config.ExecutionProperties;
+import com.example.test_framework_api.worker.BrowserContextPool;
+import com.example.test_framework_api.worker.WebDriverFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.MutableCapabilities;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * CONTEXT ISOLATION TESTS: Validates shared-browser context pooling (mocked drivers)
+ *
+ * Tests Cover:
+ * 1. Each case gets its own context/page; release disposes it
+ * 2. contexts-per-browser caps a host, extra cases launch another host
+ * 3. A host that stops answering CDP is discarded
+ * 4. Lane ceiling and attach options in context mode
+ */
+class BrowserContextTests {
+
+    private final AtomicInteger ids = new AtomicInteger();
+    private final List<ChromeDriver> hosts = new ArrayList<>();
+    private final ExecutionProperties.BrowserProfile profile = new ExecutionProperties.BrowserProfile();
+
+    private ChromeDriver host() {
+        ChromeDriver host = mock(ChromeDriver.class);
+        when(host.getCapabilities()).thenReturn(new MutableCapabilities(
+                Map.of("goog:chromeOptions", Map.of("debuggerAddress", "localhost:" + (9000 + hosts.size())))));
+        when(host.executeCdpCommand(eq("Target.createBrowserContext"), anyMap()))
+                .thenAnswer(i -> Map.of("browserContextId", "ctx-" + ids.incrementAndGet()));
+        when(host.executeCdpCommand(eq("Target.createTarget"), anyMap()))
+                .thenAnswer(i -> Map.of("targetId", "target-" + ids.get()));
+        hosts.add(host);
+        return host;
+    }
+
+    private BrowserContextPool pool(int perBrowser) {
+        return new BrowserContextPool(perBrowser, name -> host(),
+                (address, name, action) -> mock(ChromeDriver.class, RETURNS_DEEP_STUBS));
+    }
+
+    @BeforeEach
+    void setUp() {
+        ids.set(0);
+        hosts.clear();
+    }
+
+    @Test
+    void testOpen_IsolatedContextPerCase() {
+        BrowserContextPool pool = pool(4);
+
+        ChromeDriver session = pool.open("default", profile, "click");
+
+        verify(session.switchTo()).window("target-1");
+        verify(hosts.get(0)).executeCdpCommand("Target.createTarget", Map.of("url", "about:blank",
+                "browserContextId", "ctx-1", "width", 1366, "height", 768));
+        assertEquals(1, pool.getOpenContexts());
+
+        assertTrue(pool.release(session));
+        verify(hosts.get(0)).executeCdpCommand("Target.disposeBrowserContext", Map.of("browserContextId", "ctx-1"));
+        verify(session).quit();
+        verify(hosts.get(0), never()).quit();
+        assertFalse(pool.release(session));
+        assertEquals(0, pool.getOpenContexts());
+    }
+
+    @Test
+    void testContextsPerBrowser_LaunchesAnotherHost() {
+        BrowserContextPool pool = pool(2);
+
+        ChromeDriver first = pool.open("default", profile, null);
+        pool.open("default", profile, null);
+        pool.open("default", profile, null);
+        assertEquals(2, pool.getHostCount());
+
+        pool.release(first);
+        pool.open("default", profile, null);
+        assertEquals(2, pool.getHostCount()); // Freed slot reused
+
+        pool.open("fast", profile, null);
+        assertEquals(3, pool.getHostCount()); // Hosts are per profile
+
+        pool.shutdown();
+        hosts.forEach(h -> verify(h).quit());
+    }
+
+    @Test
+    void testBrokenHost_Discarded() {
+        BrowserContextPool pool = pool(4);
+        pool.release(pool.open("default", profile, null));
+        when(hosts.get(0).executeCdpCommand(eq("Target.createBrowserContext"), anyMap()))
+                .thenThrow(new WebDriverException("chrome not reachable"));
+
+        assertThrows(WebDriverException.class, () -> pool.open("default", profile, null));
+        verify(hosts.get(0)).quit();
+        assertEquals(0, pool.getHostCount());
+
+        assertNotNull(pool.open("default", profile, null));
+        assertEquals(2, hosts.size());
+    }
+
+    @Test
+    void testContextMode_Settings() {
+        ExecutionProperties properties = new ExecutionProperties();
+        ExecutionProperties.Browser browser = properties.getBrowser();
+        assertEquals(4, browser.uiMaxConcurrency(4));
+
+        browser.setIsolation("CONTEXT");
+        browser.setMaxContexts(24);
+        assertEquals(24, browser.uiMaxConcurrency(4));
+
+        ChromeOptions options = new WebDriverFactory(properties).attachOptions("localhost:9222", profile, "click");
+        @SuppressWarnings("unchecked")
+        Map<String, Object> chrome = (Map<String, Object>) options.getCapability(ChromeOptions.CAPABILITY);
+        assertEquals("localhost:9222", chrome.get("debuggerAddress"));
+        assertTrue(((List<?>) chrome.get("args")).isEmpty());
+    }
+}
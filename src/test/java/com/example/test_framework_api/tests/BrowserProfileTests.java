@@ -0,0 +1,94 @@
+package com.example.test_framework_api.tests;
+
+import com.example.test_framework_api.config.ExecutionProperties;
+import com.example.test_framework_api.worker.WebDriverFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.chrome.ChromeOptions;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * BROWSER TESTS: Validates per-suite Chrome profiles (no browser launched)
+ *
+ * Tests Cover:
+ * 1. Page-load strategy, window size and profile flags
+ * 2. Disabled images
+ * 3. Click-only cases use an eager page load
+ * 4. Unknown profile falls back to the default profile
+ */
+class BrowserProfileTests {
+
+    private WebDriverFactory factory;
+
+    @BeforeEach
+    void setUp() {
+        ExecutionProperties properties = new ExecutionProperties();
+
+        ExecutionProperties.BrowserProfile defaults = new ExecutionProperties.BrowserProfile();
+        properties.getBrowser().getProfiles().put("default", defaults);
+
+        ExecutionProperties.BrowserProfile fast = new ExecutionProperties.BrowserProfile();
+        fast.setPageLoadStrategy("none");
+        fast.setDisableImages(true);
+        fast.setWindowWidth(800);
+        fast.setWindowHeight(600);
+        fast.setBlockedUrlPatterns(List.of("*doubleclick.net*"));
+        fast.setChromeFlags(List.of("--mute-audio"));
+        properties.getBrowser().getProfiles().put("fast", fast);
+
+        factory = new WebDriverFactory(properties);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<String> args(ChromeOptions options) {
+        Map<String, Object> chrome = (Map<String, Object>) options.getCapability(ChromeOptions.CAPABILITY);
+        return (List<String>) chrome.get("args");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> prefs(ChromeOptions options) {
+        Map<String, Object> chrome = (Map<String, Object>) options.getCapability(ChromeOptions.CAPABILITY);
+        return (Map<String, Object>) chrome.get("prefs");
+    }
+
+    @Test
+    void testProfileOptions() {
+        ChromeOptions options = factory.options(factory.profile("fast"), "sendKeys");
+
+        assertEquals(PageLoadStrategy.NONE, options.getCapability("pageLoadStrategy"));
+        assertTrue(args(options).contains("--window-size=800,600"));
+        assertTrue(args(options).contains("--mute-audio"));
+        assertTrue(args(options).contains("--headless"));
+    }
+
+    @Test
+    void testDisabledImages() {
+        assertEquals(2, prefs(factory.options(factory.profile("fast"), "click"))
+                .get("profile.managed_default_content_settings.images"));
+        assertNull(prefs(factory.options(factory.profile("default"), "click")));
+    }
+
+    @Test
+    void testClickOnly_UsesEagerLoad() {
+        ExecutionProperties.BrowserProfile profile = factory.profile("default");
+
+        assertEquals(PageLoadStrategy.EAGER, factory.options(profile, " Click ").getCapability("pageLoadStrategy"));
+        assertEquals(PageLoadStrategy.NORMAL, factory.options(profile, "sendKeys").getCapability("pageLoadStrategy"));
+
+        profile.setEagerForClickOnly(false);
+        assertEquals(PageLoadStrategy.NORMAL, factory.options(profile, "click").getCapability("pageLoadStrategy"));
+    }
+
+    @Test
+    void testUnknownProfile_FallsBackToDefault() {
+        assertTrue(factory.hasProfile("fast"));
+        assertFalse(factory.hasProfile("missing"));
+        assertSame(factory.profile("default"), factory.profile("missing"));
+        assertSame(factory.profile("default"), factory.profile(null));
+    }
+}
@@ -0,0 +1,176 @@
+package com.example.test_framework_api.tests;
+
+import com.example.test_framework_api.model.TestCase;
+import com.example.test_framework_api.model.TestRun;
+import com.example.test_framework_api.model.TestStatus;
+import com.example.test_framework_api.model.TestSuite;
+import com.example.test_framework_api.repository.TestCaseRepository;
+import com.example.test_framework_api.repository.TestRunRepository;
+import com.example.test_framework_api.repository.TestSuiteRepository;
+import com.example.test_framework_api.service.CacheService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Isolated;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CACHE TESTS: Validates the second-level and query cache for catalog entities and runs
+ *
+ * Tests Cover:
+ * 1. Run lookups by id are served from cache and reflect every committed status change
+ * 2. Cases per suite come from the query cache until a case is written
+ * 3. Region stats count hits; eviction sends the next read to the database
+ * 4. Status checks read the committed status even when the cached run is stale
+ *
+ * Each repository call commits on its own (no test transaction), as in the worker.
+ * Isolated: writes from concurrent tests would invalidate the cached queries.
+ */
+@DataJpaTest(properties = SqlCapture.PROPERTY)
+@Import(CacheService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Isolated
+class CacheTests {
+
+    @Autowired
+    private TestRunRepository runRepository;
+
+    @Autowired
+    private TestSuiteRepository suiteRepository;
+
+    @Autowired
+    private TestCaseRepository caseRepository;
+
+    @Autowired
+    private CacheService cacheService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<TestRun> runs = new ArrayList<>();
+    private final List<TestSuite> suites = new ArrayList<>();
+    private final List<TestCase> cases = new ArrayList<>();
+
+    @AfterEach
+    void cleanUp() {
+        caseRepository.deleteAll(cases);
+        suiteRepository.deleteAll(suites);
+        runRepository.deleteAll(runs);
+    }
+
+    @Test
+    void testRunLookup_CachedAndCurrentAfterStatusChange() {
+        TestRun run = run("cache-run");
+        runRepository.findById(run.getId()); // IDENTITY inserts are cached on first read
+
+        SqlCapture.clear();
+        assertEquals(TestStatus.PENDING, runRepository.findById(run.getId()).orElseThrow().getStatus());
+        assertEquals(0, statementsOn("test_run"));
+
+        run.setStatus(TestStatus.RUNNING);
+        runRepository.save(run);
+        assertEquals(TestStatus.RUNNING, runRepository.findById(run.getId()).orElseThrow().getStatus());
+
+        TestRun current = runRepository.findById(run.getId()).orElseThrow();
+        current.setStatus(TestStatus.COMPLETED);
+        runRepository.save(current);
+
+        SqlCapture.clear();
+        assertEquals(TestStatus.COMPLETED, runRepository.findById(run.getId()).orElseThrow().getStatus());
+        assertEquals(0, statementsOn("test_run"));
+    }
+
+    @Test
+    void testSuiteCases_QueryCachedUntilCaseWritten() {
+        TestSuite suite = suite("cache-suite");
+        testCase(suite, "CACHE_TC_1");
+        testCase(suite, "CACHE_TC_2");
+
+        assertEquals(2, caseRepository.findByTestSuiteId(suite.getId()).size());
+        SqlCapture.clear();
+        assertEquals(2, caseRepository.findByTestSuiteId(suite.getId()).size());
+        assertEquals(0, statementsOn("test_case"));
+
+        testCase(suite, "CACHE_TC_3"); // e.g. CSV import
+
+        SqlCapture.clear();
+        assertEquals(3, caseRepository.findByTestSuiteId(suite.getId()).size());
+        assertTrue(statementsOn("test_case") > 0);
+    }
+
+    @Test
+    void testStats_CountHitsAndEvictionReloads() {
+        TestRun run = run("cache-stats-run");
+        runRepository.findById(run.getId());
+        runRepository.findById(run.getId());
+
+        Map<String, Object> stats = cacheService.regionStats().stream()
+                .filter(region -> "runs".equals(region.get("region")))
+                .findFirst()
+                .orElseThrow();
+        assertTrue((Long) stats.get("hits") > 0);
+
+        cacheService.evictAll();
+        SqlCapture.clear();
+        assertTrue(runRepository.findById(run.getId()).isPresent());
+        assertEquals(1, statementsOn("test_run"));
+    }
+
+    @Test
+    void testCurrentRun_SeesCancelFromAnotherNode() {
+        TestRun run = run("cache-cancelled-run");
+        runRepository.findById(run.getId());
+
+        // Another node cancels the queued run: the row changes, this node's region does not
+        jdbcTemplate.update("UPDATE test_run SET status = 'CANCELLED' WHERE id = ?", run.getId());
+        assertEquals(TestStatus.PENDING, runRepository.findById(run.getId()).orElseThrow().getStatus());
+
+        assertEquals(TestStatus.CANCELLED, runRepository.findCurrentById(run.getId()).orElseThrow().getStatus());
+        cacheService.evictRun(run.getId()); // As TestRunService.getCurrentTestRun does
+        SqlCapture.clear();
+        assertEquals(TestStatus.CANCELLED, runRepository.findById(run.getId()).orElseThrow().getStatus());
+        assertEquals(1, statementsOn("test_run"));
+    }
+
+    private TestRun run(String name) {
+        TestRun run = new TestRun();
+        run.setName(name);
+        run = runRepository.save(run);
+        runs.add(run);
+        return run;
+    }
+
+    private TestSuite suite(String name) {
+        TestSuite suite = new TestSuite();
+        suite.setName(name);
+        suite = suiteRepository.save(suite);
+        suites.add(suite);
+        return suite;
+    }
+
+    private void testCase(TestSuite suite, String id) {
+        TestCase testCase = new TestCase();
+        testCase.setTestCaseId(id);
+        testCase.setTestName(id.toLowerCase(Locale.ROOT));
+        testCase.setTestType("API");
+        testCase.setTestSuite(suite);
+        cases.add(caseRepository.save(testCase));
+    }
+
+    private long statementsOn(String table) {
+        return SqlCapture.statements().stream()
+                .filter(sql -> sql.toLowerCase(Locale.ROOT).contains(" " + table + " "))
+                .count();
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.test_framework_api.tests;
+
+import com.example.test_framework_api.config.ExecutionProperties;
+import com.example.test_framework_api.model.TestAttempt;
+import com.example.test_framework_api.model.TestCase;
+import com.example.test_framework_api.model.TestResult;
+import com.example.test_framework_api.model.TestRun;
+import com.example.test_framework_api.model.TestStatus;
+import com.example.test_framework_api.repository.UserRepository;
+import com.example.test_framework_api.service.ArtifactStore;
+import com.example.test_framework_api.service.TestResultService;
+import com.example.test_framework_api.worker.RetryPolicy;
+import com.example.test_framework_api.worker.RunRegistry;
+import com.example.test_framework_api.worker.TestExecutor;
+import com.example.test_framework_api.worker.WebDriverFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * RETRY TESTS: Validates per-case retry policies and attempt recording
+ *
+ * Tests Cover:
+ * 1. Policy resolution: priority > type > default, case-insensitive keys
+ * 2. Exponential backoff capped at maxBackoffMs
+ * 3. Every attempt recorded, retryCount reflects real retries
+ * 4. Cancelled cases are not retried
+ * 5. Flaky pass raises flakyScore
+ */
+class CaseRetryTests {
+
+    private TestResultService resultService;
+    private TestExecutor executor;
+    private ExecutionProperties properties;
+    private RunRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        resultService = mock(TestResultService.class);
+        when(resultService.saveTestResult(any(TestResult.class), anyList()))
+                .thenAnswer(inv -> inv.getArgument(0));
+        properties = new ExecutionProperties();
+        properties.getRetry().setBackoffMs(0);
+        properties.getTimeouts().setWatchdogIntervalMs(60_000);
+        registry = new RunRegistry(properties);
+        executor = new TestExecutor(resultService, mock(UserRepository.class), registry, properties,
+                mock(WebDriverFactory.class), mock(ArtifactStore.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        registry.shutdown();
+    }
+
+    private static TestCase testCase(String type, String priority) {
+        TestCase tc = new TestCase();
+        tc.setTestCaseId("TC_1");
+        tc.setTestName("retry-case");
+        tc.setTestType(type);
+        tc.setPriority(priority);
+        return tc;
+    }
+
+    @Test
+    void testPolicyResolution() {
+        ExecutionProperties.Retry config = new ExecutionProperties.Retry();
+        config.setMaxRetries(1);
+        config.setByType(Map.of("UI", 2));
+        config.setByPriority(Map.of("High", 3));
+
+        assertEquals(3, RetryPolicy.forCase(testCase("UI", "HIGH"), config).getMaxRetries());
+        assertEquals(2, RetryPolicy.forCase(testCase("ui", "Low"), config).getMaxRetries());
+        assertEquals(1, RetryPolicy.forCase(testCase("API", null), config).getMaxRetries());
+        assertEquals(0, RetryPolicy.forCase(testCase("API", null), null).getMaxRetries());
+    }
+
+    @Test
+    void testBackoff_DoublesAndCaps() {
+        RetryPolicy policy = new RetryPolicy(5, 100, 350);
+
+        assertEquals(100, policy.backoffMs(1));
+        assertEquals(200, policy.backoffMs(2));
+        assertEquals(350, policy.backoffMs(3));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testFailingCase_EveryAttemptRecorded() {
+        properties.getRetry().setMaxRetries(2);
+
+        TestResult result = executor.runTestCase(testCase("BOGUS", "Medium"), null);
+
+        ArgumentCaptor<List<TestAttempt>> attempts = ArgumentCaptor.forClass(List.class);
+        verify(resultService).saveTestResult(any(TestResult.class), attempts.capture());
+        assertEquals(3, attempts.getValue().size());
+        assertEquals(List.of(1, 2, 3), attempts.getValue().stream().map(TestAttempt::getAttemptNumber).toList());
+        assertEquals(TestStatus.FAILED, result.getStatus());
+        assertEquals(2, result.getRetryCount());
+        assertFalse(result.getFlaky());
+    }
+
+    @Test
+    void testCancelledCase_NotRetried() {
+        properties.getRetry().setMaxRetries(3);
+        registry.register(7L, 0, 0);
+        registry.cancel(7L, "cancelled by admin");
+        TestRun run = new TestRun();
+        run.setId(7L);
+
+        TestResult result = executor.runTestCase(testCase("API", "High"), run);
+
+        assertEquals(TestStatus.CANCELLED, result.getStatus());
+        assertEquals(0, result.getRetryCount());
+    }
+
+    @Test
+    void testFlakyPass_RaisesFlakyScore() {
+        TestResult stable = new TestResult();
+        stable.setRetryCount(1);
+        stable.setDuration(1000L);
+        stable.calculateFlakyScore();
+
+        TestResult flaky = new TestResult();
+        flaky.setRetryCount(1);
+        flaky.setDuration(1000L);
+        flaky.setFlaky(true);
+        flaky.calculateFlakyScore();
+
+        assertTrue(flaky.getFlakyScore() > stable.getFlakyScore());
+    }
+}
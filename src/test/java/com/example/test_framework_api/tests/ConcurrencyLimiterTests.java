@@ -0,0 +1,117 @@
+package com.example.test_framework_api.tests;
+
+import com.example.test_framework_api.config.ExecutionProperties;
+import com.example.test_framework_api.worker.ConcurrencyLimiter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CONCURRENCY TESTS: Validates fixed and adaptive (AIMD) lane limits
+ *
+ * Tests Cover:
+ * 1. Fixed limit never exceeded
+ * 2. Additive increase on healthy windows (capped at max)
+ * 3. Multiplicative decrease on errors, latency spikes, CPU and memory pressure
+ */
+class ConcurrencyLimiterTests {
+
+    private ExecutionProperties.Adaptive settings;
+    private double cpuLoad;
+    private double freeMemory;
+    private ConcurrencyLimiter.HeadroomProbe probe;
+
+    @BeforeEach
+    void setUp() {
+        settings = new ExecutionProperties.Adaptive();
+        cpuLoad = 0.2;
+        freeMemory = 0.8;
+        probe = new ConcurrencyLimiter.HeadroomProbe() {
+            @Override
+            public double cpuLoad() {
+                return cpuLoad;
+            }
+
+            @Override
+            public double freeMemoryRatio() {
+                return freeMemory;
+            }
+        };
+    }
+
+    @Test
+    void testFixedLimit_NeverExceeded() {
+        ConcurrencyLimiter limiter = ConcurrencyLimiter.fixed("fixed", 2);
+
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+
+        limiter.release(10, false);
+        assertEquals(2, limiter.getLimit());
+        assertTrue(limiter.tryAcquire());
+    }
+
+    @Test
+    void testAdaptive_GrowsOnHealthyWindows() {
+        ConcurrencyLimiter limiter = ConcurrencyLimiter.adaptive("api", 2, 8, settings, probe);
+
+        completeWindow(limiter, 100, true);
+        assertEquals(3, limiter.getLimit());
+
+        completeWindow(limiter, 100, true);
+        assertEquals(4, limiter.getLimit());
+    }
+
+    @Test
+    void testAdaptive_CappedAtMax() {
+        ConcurrencyLimiter limiter = ConcurrencyLimiter.adaptive("ui", 3, 4, settings, probe);
+
+        for (int i = 0; i < 5; i++) {
+            completeWindow(limiter, 100, true);
+        }
+        assertEquals(4, limiter.getLimit());
+    }
+
+    @Test
+    void testAdaptive_BacksOffOnErrors() {
+        ConcurrencyLimiter limiter = ConcurrencyLimiter.adaptive("api", 8, 8, settings, probe);
+
+        completeWindow(limiter, 100, false);
+        assertEquals(5, limiter.getLimit()); // floor(8 * 0.7)
+    }
+
+    @Test
+    void testAdaptive_BacksOffOnLatencySpike() {
+        ConcurrencyLimiter limiter = ConcurrencyLimiter.adaptive("api", 4, 8, settings, probe);
+
+        completeWindow(limiter, 100, true);  // baseline 100ms, limit -> 5
+        completeWindow(limiter, 1000, true); // 10x baseline
+        assertEquals(3, limiter.getLimit()); // floor(5 * 0.7)
+    }
+
+    @Test
+    void testAdaptive_BacksOffOnCpuAndMemoryPressure() {
+        ConcurrencyLimiter limiter = ConcurrencyLimiter.adaptive("ui", 4, 4, settings, probe);
+
+        cpuLoad = 0.95;
+        completeWindow(limiter, 100, true);
+        assertEquals(2, limiter.getLimit());
+
+        cpuLoad = 0.2;
+        freeMemory = 0.05;
+        completeWindow(limiter, 100, true);
+        assertEquals(1, limiter.getLimit()); // never below min
+    }
+
+    private void completeWindow(ConcurrencyLimiter limiter, long latencyMs, boolean success) {
+        int window = limiter.getLimit();
+        for (int i = 0; i < window; i++) {
+            assertTrue(limiter.tryAcquire());
+        }
+        for (int i = 0; i < window; i++) {
+            limiter.release(latencyMs, success);
+        }
+    }
+}
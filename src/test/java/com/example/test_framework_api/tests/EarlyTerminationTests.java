@@ -0,0 +1,102 @@
+package com.example.test_framework_api.tests;
+
+import com.example.test_framework_api.config.ExecutionProperties;
+import com.example.test_framework_api.model.TestCase;
+import com.example.test_framework_api.model.TestResult;
+import com.example.test_framework_api.model.TestStatus;
+import com.example.test_framework_api.worker.EarlyTerminationPolicy;
+import com.example.test_framework_api.worker.RunHandle;
+import com.example.test_framework_api.worker.RunRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * FAIL-FAST TESTS: Validates early-termination policies
+ *
+ * Tests Cover:
+ * 1. Stop after N failures
+ * 2. Stop when failure rate exceeds X% (after min samples)
+ * 3. Stop on High priority failure
+ * 4. Request values override configured defaults
+ * 5. Tripped policy stops the run as FAILED
+ */
+class EarlyTerminationTests {
+
+    private static TestCase testCase(String id, String priority) {
+        TestCase tc = new TestCase();
+        tc.setTestCaseId(id);
+        tc.setPriority(priority);
+        return tc;
+    }
+
+    private static TestResult result(TestStatus status) {
+        TestResult r = new TestResult();
+        r.setStatus(status);
+        return r;
+    }
+
+    @Test
+    void testMaxFailures() {
+        EarlyTerminationPolicy policy = new EarlyTerminationPolicy(2, 0, 1, false);
+
+        assertNull(policy.evaluate(testCase("TC_1", "Low"), result(TestStatus.FAILED)));
+        assertNull(policy.evaluate(testCase("TC_2", "Low"), result(TestStatus.PASSED)));
+        assertNotNull(policy.evaluate(testCase("TC_3", "Low"), result(TestStatus.FAILED)));
+    }
+
+    @Test
+    void testMaxFailureRate_WaitsForMinSamples() {
+        EarlyTerminationPolicy policy = new EarlyTerminationPolicy(0, 50, 4, false);
+
+        assertNull(policy.evaluate(testCase("TC_1", "Low"), result(TestStatus.FAILED)));
+        assertNull(policy.evaluate(testCase("TC_2", "Low"), result(TestStatus.FAILED)));
+        assertNull(policy.evaluate(testCase("TC_3", "Low"), result(TestStatus.PASSED)));
+        String reason = policy.evaluate(testCase("TC_4", "Low"), result(TestStatus.FAILED));
+        assertNotNull(reason); // 3/4 = 75% > 50%
+        assertTrue(reason.contains("75%"));
+    }
+
+    @Test
+    void testStopOnCriticalFailure() {
+        EarlyTerminationPolicy policy = new EarlyTerminationPolicy(0, 0, 1, true);
+
+        assertNull(policy.evaluate(testCase("TC_1", "Medium"), result(TestStatus.FAILED)));
+        assertNull(policy.evaluate(testCase("TC_2", "High"), result(TestStatus.PASSED)));
+        assertNotNull(policy.evaluate(testCase("TC_3", "High"), result(TestStatus.FAILED)));
+    }
+
+    @Test
+    void testCancelledResultsIgnored() {
+        EarlyTerminationPolicy policy = new EarlyTerminationPolicy(1, 0, 1, false);
+
+        assertNull(policy.evaluate(testCase("TC_1", "Low"), result(TestStatus.CANCELLED)));
+    }
+
+    @Test
+    void testRequestOverridesDefaults() {
+        ExecutionProperties.FailFast defaults = new ExecutionProperties.FailFast();
+        assertFalse(EarlyTerminationPolicy.of(0, 0, false, defaults).isEnabled());
+
+        defaults.setMaxFailures(5);
+        EarlyTerminationPolicy policy = EarlyTerminationPolicy.of(1, 0, false, defaults);
+        assertNotNull(policy.evaluate(testCase("TC_1", "Low"), result(TestStatus.FAILED)));
+    }
+
+    @Test
+    void testTrippedPolicy_StopsRunAsFailed() {
+        RunRegistry registry = new RunRegistry(new ExecutionProperties());
+        try {
+            RunHandle handle = registry.register(1L, 0, 0);
+            handle.setTerminationPolicy(new EarlyTerminationPolicy(1, 0, 1, false));
+
+            handle.recordResult(testCase("TC_1", "Low"), result(TestStatus.FAILED));
+
+            assertTrue(handle.isCancelled());
+            assertEquals(TestStatus.FAILED, handle.getOutcome());
+            assertTrue(handle.getReason().startsWith("Early termination"));
+        } finally {
+            registry.shutdown();
+        }
+    }
+}
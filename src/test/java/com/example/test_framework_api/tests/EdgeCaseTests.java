@@ -1,15 +1,21 @@
 package com.example.test_framework_api.tests;
 
+import com.example.test_framework_api.config.ExecutionProperties;
+import com.example.test_framework_api.dto.TestCaseExecutionRequest;
 import com.example.test_framework_api.model.*;
 import com.example.test_framework_api.repository.*;
 import com.example.test_framework_api.service.TestSuiteService;
 import com.example.test_framework_api.service.TestRunService;
+import com.example.test_framework_api.worker.HostRateLimiter;
+import com.example.test_framework_api.worker.RunRegistry;
 import com.example.test_framework_api.worker.TestExecutor;
+import com.example.test_framework_api.worker.WorkerListener;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -17,6 +23,9 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 
 // import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
@@ -29,6 +38,9 @@ import static org.mockito.Mockito.*;
  * 2. Invalid thread counts (0, negative, >8)
  * 3. Empty suite handling
  * 4. Mixed failure aggregation
+ * 5. Interrupt while waiting for a host slot cancels the run (no false failure),
+ *    both via executeSuiteParallel and via the queue worker
+ * 6. Cancel persisted by another node stops the worker and is not overwritten
  */
 class EdgeCaseTests {
 
@@ -112,6 +124,117 @@ class EdgeCaseTests {
         verify(suiteRepository, atLeastOnce()).findById(suiteId);
     }
 
+    /**
+     * EDGE CASE 5: Interrupted host wait stops the run as CANCELLED and keeps the interrupt flag.
+     */
+    @Test
+    void testSequentialInterruptedWait_CancelsRun() throws Exception {
+        Long suiteId = 1L;
+        TestRun testRun = createTestRun(1L, "Interrupted Suite");
+        testRun.setParallelThreads(1);
+        when(caseRepository.findByTestSuiteId(suiteId)).thenReturn(List.of(
+                createTestCase("TC1", "API", true), createTestCase("TC2", "API", true)));
+        HostRateLimiter limiter = mock(HostRateLimiter.class);
+        doThrow(new InterruptedException()).when(limiter).acquire(any());
+        ReflectionTestUtils.setField(suiteService, "globalHostRateLimiter", limiter);
+
+        try {
+            suiteService.executeSuiteParallel(suiteId, testRun, 1).get();
+            assertTrue(Thread.currentThread().isInterrupted());
+        } finally {
+            Thread.interrupted(); // Clear for the next test on this thread
+        }
+
+        assertEquals(TestStatus.CANCELLED, testRun.getStatus());
+        assertEquals("Interrupted before TC1", testRun.getTerminationReason());
+        verify(testExecutor, never()).executeTestCase(any(), any());
+        verify(limiter, times(1)).acquire(any());
+    }
+
+    /**
+     * EDGE CASE 5: Same through the queue worker (threads=1): the run handle is
+     * cancelled and saved as CANCELLED, with no fake FAILED result.
+     */
+    @Test
+    void testWorkerSequentialInterruptedWait_CancelsRun() throws Exception {
+        Long suiteId = 1L;
+        TestRun testRun = createTestRun(1L, "Interrupted Worker Suite");
+        when(runService.getCurrentTestRun(1L)).thenReturn(testRun);
+        when(caseRepository.findByTestSuiteId(suiteId)).thenReturn(List.of(
+                createTestCase("TC1", "API", true), createTestCase("TC2", "API", true)));
+        HostRateLimiter limiter = mock(HostRateLimiter.class);
+        doThrow(new InterruptedException()).when(limiter).acquire(any());
+        ExecutionProperties properties = new ExecutionProperties();
+        RunRegistry runRegistry = new RunRegistry(properties);
+        ReflectionTestUtils.setField(suiteService, "globalHostRateLimiter", limiter);
+        ReflectionTestUtils.setField(suiteService, "executionProperties", properties);
+        ReflectionTestUtils.setField(suiteService, "runRegistry", runRegistry);
+        ReflectionTestUtils.setField(suiteService, "runService", runService);
+        WorkerListener worker = new WorkerListener(null, runService, caseRepository, testExecutor,
+                null, null, suiteService, runRegistry);
+
+        TestCaseExecutionRequest request = new TestCaseExecutionRequest();
+        request.setTestSuiteId(suiteId);
+        request.setTestRunId(1L);
+        request.setParallelThreads(1);
+        try {
+            worker.handleSuiteExecution(request);
+            assertTrue(Thread.currentThread().isInterrupted());
+        } finally {
+            Thread.interrupted(); // Clear for the next test on this thread
+            runRegistry.shutdown();
+        }
+
+        assertEquals(TestStatus.CANCELLED, testRun.getStatus());
+        assertEquals("Interrupted before TC1", testRun.getTerminationReason());
+        verify(runService, atLeastOnce()).updateTestRun(testRun);
+        verify(testExecutor, never()).executeTestCase(any(), any());
+        verify(resultRepository, never()).save(any());
+        assertNull(runRegistry.get(1L)); // Released from the registry
+    }
+
+    /**
+     * EDGE CASE 6: Run cancelled on another node (only the persisted status changes):
+     * the worker stops before its next case and does not overwrite CANCELLED.
+     */
+    @Test
+    void testWorkerRunCancelledElsewhere_StopsAndKeepsCancelled() throws Exception {
+        Long suiteId = 1L;
+        TestRun testRun = createTestRun(1L, "Remote Cancel Suite");
+        TestRun cancelled = createTestRun(1L, "Remote Cancel Suite");
+        cancelled.setStatus(TestStatus.CANCELLED);
+        cancelled.setTerminationReason("cancelled by admin");
+        // Start of the run and before TC1: still running; before TC2 and on the final save: cancelled
+        when(runService.getCurrentTestRun(1L)).thenReturn(testRun, testRun, cancelled);
+        when(caseRepository.findByTestSuiteId(suiteId)).thenReturn(List.of(
+                createTestCase("TC1", "API", true), createTestCase("TC2", "API", true)));
+        when(resultRepository.findByTestRunIdAndTestName(any(), any())).thenReturn(
+                List.of(createTestResult("Test TC1", TestStatus.PASSED)));
+        ExecutionProperties properties = new ExecutionProperties();
+        RunRegistry runRegistry = new RunRegistry(properties);
+        ReflectionTestUtils.setField(suiteService, "executionProperties", properties);
+        ReflectionTestUtils.setField(suiteService, "runRegistry", runRegistry);
+        ReflectionTestUtils.setField(suiteService, "runService", runService);
+        WorkerListener worker = new WorkerListener(null, runService, caseRepository, testExecutor,
+                null, null, suiteService, runRegistry);
+
+        TestCaseExecutionRequest request = new TestCaseExecutionRequest();
+        request.setTestSuiteId(suiteId);
+        request.setTestRunId(1L);
+        request.setParallelThreads(1);
+        try {
+            worker.handleSuiteExecution(request);
+        } finally {
+            runRegistry.shutdown();
+        }
+
+        verify(testExecutor, times(1)).executeTestCase(any(), any());
+        assertEquals(TestStatus.CANCELLED, testRun.getStatus());
+        assertEquals("cancelled by admin", testRun.getTerminationReason());
+        verify(runService, never()).updateTestRun(argThat(run -> run.getStatus() == TestStatus.PASSED));
+        assertNull(runRegistry.get(1L));
+    }
+
     /**
      * EDGE CASE 2: Invalid thread counts should default to 1.
      */
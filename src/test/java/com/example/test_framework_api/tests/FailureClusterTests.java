@@ -0,0 +1,119 @@
+package com.example.test_framework_api.tests;
+
+import com.example.test_framework_api.config.ExecutionProperties;
+import com.example.test_framework_api.dto.FailureClusterSummary;
+import com.example.test_framework_api.model.TestResult;
+import com.example.test_framework_api.model.TestRun;
+import com.example.test_framework_api.model.TestStatus;
+import com.example.test_framework_api.model.TestSuite;
+import com.example.test_framework_api.repository.TestRunRepository;
+import com.example.test_framework_api.repository.TestSuiteRepository;
+import com.example.test_framework_api.service.FailureStore;
+import com.example.test_framework_api.service.TestResultService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CLUSTER TESTS: Validates the incremental failure-cluster index
+ *
+ * Tests Cover:
+ * 1. Failures grouped by signature, target host and failing step, largest first
+ * 2. Passed and cancelled results are not clustered
+ * 3. Suite view sums clusters across runs
+ */
+@DataJpaTest
+@Import({TestResultService.class, FailureStore.class, ExecutionProperties.class})
+class FailureClusterTests {
+
+    @Autowired
+    private TestResultService resultService;
+
+    @Autowired
+    private FailureStore failureStore;
+
+    @Autowired
+    private TestRunRepository runRepository;
+
+    @Autowired
+    private TestSuiteRepository suiteRepository;
+
+    private TestSuite suite;
+
+    @BeforeEach
+    void setUp() {
+        suite = new TestSuite();
+        suite.setName("storefront");
+        suite = suiteRepository.save(suite);
+    }
+
+    private TestRun run() {
+        TestRun run = new TestRun();
+        run.setName("storefront-Suite");
+        return runRepository.save(run);
+    }
+
+    private void save(TestRun run, String name, TestStatus status, String message, String host, String step) {
+        TestResult result = new TestResult();
+        result.setTestName(name);
+        result.setStatus(status);
+        result.setErrorMessage(message);
+        result.setTestRun(run);
+        result.setTestSuite(suite);
+        result.setTargetHost(host);
+        result.setFailedStep(step);
+        resultService.saveTestResult(result);
+    }
+
+    @Test
+    void testClusters_GroupedBySignatureHostAndStep() {
+        TestRun run = run();
+        for (int i = 0; i < 20; i++) {
+            save(run, "checkout-" + i, TestStatus.FAILED,
+                    "Checkout button not clickable after " + (5000 + i) + " ms", "shop.example.com", "Click checkout");
+        }
+        for (int i = 0; i < 8; i++) {
+            save(run, "catalog-" + i, TestStatus.FAILED, "Expected status 200 but was 404", "api.example.com", null);
+        }
+        save(run, "checkout-mobile", TestStatus.FAILED,
+                "Checkout button not clickable after 7000 ms", "m.example.com", "Click checkout");
+        save(run, "login", TestStatus.PASSED, null, "shop.example.com", null);
+        save(run, "slow", TestStatus.CANCELLED, "Run cancelled", "shop.example.com", null);
+
+        List<FailureClusterSummary> clusters = failureStore.clustersForRun(run.getId());
+
+        assertEquals(List.of(20L, 8L, 1L),
+                clusters.stream().map(FailureClusterSummary::failures).collect(Collectors.toList()));
+        FailureClusterSummary top = clusters.get(0);
+        assertEquals("Checkout button not clickable after <n> ms", top.messageTemplate());
+        assertEquals("shop.example.com", top.targetHost());
+        assertEquals("Click checkout", top.step());
+        assertEquals("checkout-0", top.sampleTestName());
+        assertNotNull(top.sampleDetailId());
+        assertEquals("", clusters.get(1).step());
+        assertEquals(top.signatureId(), clusters.get(2).signatureId()); // Same failure, other host
+    }
+
+    @Test
+    void testSuiteClusters_SumAcrossRuns() {
+        TestRun first = run();
+        TestRun second = run();
+        save(first, "search-1", TestStatus.FAILED, "Search index unavailable", "search.example.com", null);
+        save(second, "search-1", TestStatus.FAILED, "Search index unavailable", "search.example.com", null);
+        save(second, "search-2", TestStatus.FAILED, "Search index unavailable", "search.example.com", null);
+
+        assertEquals(1, failureStore.clustersForRun(first.getId()).size());
+        FailureClusterSummary cluster = failureStore.clustersForSuite(suite.getId()).stream()
+                .filter(c -> "Search index unavailable".equals(c.messageTemplate()))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(3, cluster.failures());
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.test_framework_api.tests;
+
+import com.example.test_framework_api.model.TestCase;
+import com.example.test_framework_api.model.TestResult;
+import com.example.test_framework_api.model.TestStatus;
+import com.example.test_framework_api.repository.TestResultRepository;
+import com.example.test_framework_api.worker.CasePriority;
+import com.example.test_framework_api.worker.FailureHistory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * FAILURE-FIRST TESTS: Validates risk scoring and the history query
+ *
+ * Tests Cover:
+ * 1. Recent / last-run failures outrank old failures and stable tests
+ * 2. FAILURE_FIRST ignores static priority except as tie-breaker
+ * 3. History aggregation query against the real schema (H2)
+ */
+@DataJpaTest
+class FailureFirstOrderingTests {
+
+    @Autowired
+    private TestResultRepository resultRepository;
+
+    private static final LocalDateTime NOW = LocalDateTime.now();
+
+    private static TestCase testCase(String name, String priority) {
+        TestCase tc = new TestCase();
+        tc.setTestCaseId(name);
+        tc.setTestName(name);
+        tc.setPriority(priority);
+        return tc;
+    }
+
+    @Test
+    void testRisk_RecentFailureOutranksOldFailureAndStable() {
+        FailureHistory failedLastRun = new FailureHistory(10, 3, 3, 1, NOW.minusHours(2), NOW.minusHours(2), 1);
+        FailureHistory failedLastMonth = new FailureHistory(10, 3, 3, 0, NOW.minusDays(25), NOW.minusHours(2), 1);
+        FailureHistory stable = new FailureHistory(10, 0, 3, 0, null, NOW.minusHours(2), 1);
+
+        double recent = failedLastRun.risk(NOW, 48);
+        double old = failedLastMonth.risk(NOW, 48);
+        double none = stable.risk(NOW, 48);
+
+        assertTrue(recent > old, "recent failure should outrank old failure");
+        assertTrue(old > none, "any failure should outrank a stable test");
+        assertTrue(FailureHistory.NONE.risk(NOW, 48) > none, "unknown tests rank above proven-stable ones");
+    }
+
+    @Test
+    void testFailureFirst_IgnoresStaticPriority() {
+        CasePriority priority = CasePriority.failureFirst(Map.of(
+                "high-stable", 0.1,
+                "low-failing", 0.9,
+                "medium-tied", 0.5,
+                "high-tied", 0.5), 0.3);
+
+        List<TestCase> cases = new ArrayList<>(List.of(
+                testCase("high-stable", "High"),
+                testCase("medium-tied", "Medium"),
+                testCase("new", "High"),
+                testCase("high-tied", "High"),
+                testCase("low-failing", "Low")));
+
+        priority.sort(cases);
+
+        assertEquals(List.of("low-failing", "high-tied", "medium-tied", "new", "high-stable"),
+                cases.stream().map(TestCase::getTestName).collect(Collectors.toList()));
+    }
+
+    @Test
+    void testHistoryQuery_AggregatesPerTestName() {
+        save("login", TestStatus.PASSED, NOW.minusDays(20));
+        save("login", TestStatus.FAILED, NOW.minusDays(2));
+        save("login", TestStatus.PASSED, NOW.minusDays(1));
+        save("search", TestStatus.PASSED, NOW.minusDays(1));
+        save("login", TestStatus.FAILED, NOW.minusDays(60)); // Outside lookback
+
+        List<Object[]> rows = resultRepository.findFailureHistoryByTestNames(
+                List.of("login", "search"), NOW.minusDays(30), NOW.minusDays(7));
+
+        Map<String, Object[]> byName = rows.stream().collect(Collectors.toMap(r -> (String) r[0], r -> r));
+        Object[] login = byName.get("login");
+        assertEquals(3L, ((Number) login[1]).longValue());
+        assertEquals(1L, ((Number) login[2]).longValue());
+        assertEquals(2L, ((Number) login[3]).longValue());
+        assertEquals(1L, ((Number) login[4]).longValue());
+        assertNotNull(login[5]);
+        assertNull(byName.get("search")[5]);
+
+        List<Object[]> counts = resultRepository.findFailureCountsByTestNames(List.of("login"));
+        assertEquals(4L, ((Number) counts.get(0)[1]).longValue());
+        assertEquals(2L, ((Number) counts.get(0)[2]).longValue());
+    }
+
+    private void save(String testName, TestStatus status, LocalDateTime createdAt) {
+        TestResult result = new TestResult();
+        result.setTestName(testName);
+        result.setStatus(status);
+        result.setDuration(100L);
+        result.setCreatedAt(createdAt);
+        resultRepository.save(result);
+    }
+}
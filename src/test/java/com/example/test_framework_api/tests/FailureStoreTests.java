@@ -0,0 +1,119 @@
+package com.example.test_framework_api.tests;
+
+import com.example.test_framework_api.config.ExecutionProperties;
+import com.example.test_framework_api.model.FailureDetail;
+import com.example.test_framework_api.model.FailureSignature;
+import com.example.test_framework_api.model.TestResult;
+import com.example.test_framework_api.model.TestStatus;
+import com.example.test_framework_api.repository.FailureDetailRepository;
+import com.example.test_framework_api.service.FailureStore;
+import com.example.test_framework_api.service.TestResultService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * FAILURE STORE TESTS: Validates compressed, deduplicated failure text storage
+ *
+ * Tests Cover:
+ * 1. Signature = exception class + message template with volatile values replaced
+ * 2. Identical failures share one detail row; occurrences counted per result
+ * 3. Same signature, different text -> separate details under one signature
+ * 4. Result rows keep a capped summary; long texts truncated and round-trip compressed
+ *
+ * Messages are unique per test: methods run concurrently against the shared H2.
+ */
+@DataJpaTest
+@Import({TestResultService.class, FailureStore.class, ExecutionProperties.class})
+class FailureStoreTests {
+
+    @Autowired
+    private TestResultService resultService;
+
+    @Autowired
+    private FailureStore failureStore;
+
+    @Autowired
+    private FailureDetailRepository detailRepository;
+
+    private TestResult failed(String name, String message, String detail) {
+        TestResult result = new TestResult();
+        result.setTestName(name);
+        result.setStatus(TestStatus.FAILED);
+        result.setErrorMessage(message);
+        result.setErrorDetail(detail);
+        return resultService.saveTestResult(result);
+    }
+
+    @Test
+    void testSignature_NormalizesVolatileValues() {
+        String text = "org.openqa.selenium.TimeoutException: Expected condition failed after 10000 ms "
+                + "(session 3f2a9c0b7d1e4f5a6b7c8d9e0f1a2b3c, id 123e4567-e89b-12d3-a456-426614174000, status 404)\n"
+                + "\tat org.openqa.selenium.support.ui.FluentWait.until(FluentWait.java:262)";
+
+        assertEquals("org.openqa.selenium.TimeoutException", FailureStore.exceptionType(text));
+        assertEquals("Expected condition failed after <n> ms (session <hex>, id <uuid>, status 404)",
+                FailureStore.template(text));
+        assertEquals(FailureStore.UNKNOWN_TYPE, FailureStore.exceptionType("Element not found: #login"));
+        assertEquals("Element not found: #login", FailureStore.template("Element not found: #login"));
+    }
+
+    @Test
+    void testIdenticalFailures_StoredOnceAndCounted() {
+        String detail = "java.lang.IllegalStateException: Cart badge missing\n\tat Checkout.verify(Checkout.java:42)";
+        Set<Long> detailIds = new HashSet<>();
+        for (int i = 0; i < 20; i++) {
+            detailIds.add(failed("cart-" + i, "Cart badge missing", detail).getFailureDetailId());
+        }
+
+        assertEquals(1, detailIds.size());
+        FailureDetail stored = failureStore.findDetail(detailIds.iterator().next()).orElseThrow();
+        assertEquals(detail, failureStore.text(stored));
+        FailureSignature signature = failureStore.findSignature(stored.getSignatureId()).orElseThrow();
+        assertEquals("java.lang.IllegalStateException", signature.getExceptionType());
+        assertEquals(20L, signature.getOccurrenceCount());
+    }
+
+    @Test
+    void testSameSignature_DifferentDetails() {
+        TestResult first = failed("slow-1", "Login timed out after 12000 ms", null);
+        TestResult second = failed("slow-2", "Login timed out after 15000 ms", null);
+
+        assertNotEquals(first.getFailureDetailId(), second.getFailureDetailId());
+        assertEquals(first.getFailureSignatureId(), second.getFailureSignatureId());
+        assertEquals(2L, failureStore.findSignature(first.getFailureSignatureId()).orElseThrow().getOccurrenceCount());
+    }
+
+    @Test
+    void testLongText_SummaryCappedAndCompressed() {
+        String message = "Unexpected page content: " + "<div class='item'>row</div>".repeat(10_000);
+
+        TestResult saved = failed("huge-page", message, null);
+
+        assertEquals(FailureStore.SUMMARY_CHARS, saved.getErrorMessage().length());
+        FailureDetail detail = detailRepository.findById(saved.getFailureDetailId()).orElseThrow();
+        assertTrue(detail.getTruncated());
+        assertEquals(message.length(), detail.getOriginalLength());
+        assertTrue(detail.getCompressedText().length < 10_000);
+        assertTrue(failureStore.text(detail).startsWith(message.substring(0, 64 * 1024)));
+        assertTrue(failureStore.text(detail).endsWith("[truncated]"));
+    }
+
+    @Test
+    void testPassedResult_NoDetail() {
+        TestResult result = new TestResult();
+        result.setTestName("green");
+        result.setStatus(TestStatus.PASSED);
+
+        TestResult saved = resultService.saveTestResult(result);
+
+        assertNull(saved.getFailureDetailId());
+        assertNull(saved.getErrorMessage());
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.test_framework_api.tests;
+
+import com.example.test_framework_api.config.ExecutionProperties;
+import com.example.test_framework_api.worker.HostRateLimiter;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * HOST LIMIT TESTS: Validates per target host token bucket and concurrency caps
+ *
+ * Tests Cover:
+ * 1. Host extraction from absolute and relative URLs
+ * 2. Token bucket burst and refill
+ * 3. Concurrency cap released on completion
+ * 4. Per-host overrides and independent hosts
+ * 5. Run-scoped limiter chained to the global one
+ */
+class HostRateLimiterTests {
+
+    private final AtomicLong clock = new AtomicLong(0);
+
+    private static ExecutionProperties.HostLimit limit(double rps, int burst, int maxConcurrent) {
+        ExecutionProperties.HostLimit limit = new ExecutionProperties.HostLimit();
+        limit.setRequestsPerSecond(rps);
+        limit.setBurst(burst);
+        limit.setMaxConcurrent(maxConcurrent);
+        return limit;
+    }
+
+    @Test
+    void testHostOf() {
+        assertEquals("api.example.com", HostRateLimiter.hostOf("https://API.example.com:8443/v1/items?id=1"));
+        assertEquals("", HostRateLimiter.hostOf("/api/items/1"));
+        assertEquals("", HostRateLimiter.hostOf(null));
+        assertEquals("", HostRateLimiter.hostOf("not a url"));
+    }
+
+    @Test
+    void testUnlimitedByDefault() {
+        HostRateLimiter limiter = new HostRateLimiter("test", new ExecutionProperties.HostLimit(), null, null, clock::get);
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(0, limiter.tryAcquire("a.com"));
+        }
+    }
+
+    @Test
+    void testTokenBucket_BurstThenRefill() {
+        HostRateLimiter limiter = new HostRateLimiter("test", limit(2, 2, 0), null, null, clock::get);
+
+        assertEquals(0, limiter.tryAcquire("a.com"));
+        assertEquals(0, limiter.tryAcquire("a.com"));
+        long wait = limiter.tryAcquire("a.com");
+        assertEquals(500, wait); // 2 req/s -> next token in 500ms
+
+        clock.addAndGet(500_000_000L);
+        assertEquals(0, limiter.tryAcquire("a.com"));
+    }
+
+    @Test
+    void testConcurrencyCap_ReleasedOnCompletion() {
+        HostRateLimiter limiter = new HostRateLimiter("test", limit(0, 0, 1), null, null, clock::get);
+
+        assertEquals(0, limiter.tryAcquire("a.com"));
+        assertEquals(HostRateLimiter.WAIT_FOR_RELEASE, limiter.tryAcquire("a.com"));
+        assertEquals(0, limiter.tryAcquire("b.com")); // other hosts unaffected
+
+        limiter.release("a.com");
+        assertEquals(0, limiter.tryAcquire("a.com"));
+    }
+
+    @Test
+    void testPerHostOverride() {
+        HostRateLimiter limiter = new HostRateLimiter("test", limit(0, 0, 0),
+                Map.of("Slow.Example.com", limit(0, 0, 1)), null, clock::get);
+
+        assertEquals(0, limiter.tryAcquire("slow.example.com"));
+        assertEquals(HostRateLimiter.WAIT_FOR_RELEASE, limiter.tryAcquire("slow.example.com"));
+        assertEquals(0, limiter.tryAcquire("fast.example.com"));
+        assertEquals(0, limiter.tryAcquire("fast.example.com"));
+    }
+
+    @Test
+    void testChainedLimiter_ParentDenialRefundsChild() {
+        HostRateLimiter global = new HostRateLimiter("global", limit(0, 0, 1), null, null, clock::get);
+        HostRateLimiter run = new HostRateLimiter("run", limit(0, 0, 2), null, global, clock::get);
+
+        assertEquals(0, run.tryAcquire("a.com"));
+        assertEquals(HostRateLimiter.WAIT_FOR_RELEASE, run.tryAcquire("a.com"));
+        assertEquals(1, run.getInFlight("a.com"));
+        assertEquals(1, global.getInFlight("a.com"));
+
+        run.release("a.com");
+        assertEquals(0, run.getInFlight("a.com"));
+        assertEquals(0, global.getInFlight("a.com"));
+    }
+}
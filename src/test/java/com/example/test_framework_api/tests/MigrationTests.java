@@ -0,0 +1,169 @@
+package com.example.test_framework_api.tests;
+
+import com.example.test_framework_api.migration.OnlineDdl;
+import com.example.test_framework_api.migration.V6__Backfill_result_defaults;
+import com.example.test_framework_api.model.TestResult;
+import com.example.test_framework_api.model.TestStatus;
+import com.example.test_framework_api.repository.TestResultRepository;
+import com.example.test_framework_api.service.FailureStore;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * MIGRATION TESTS: Validates the versioned schema and online-safe migration helpers
+ *
+ * Tests Cover:
+ * 1. All migrations (SQL and Java) applied in order, none pending
+ * 2. Batched backfill fills only the rows that need it (legacy NULLs), across id ranges
+ * 3. Online index creation skips indexes that exist (safe re-run)
+ * 4. Pre-series database upgraded: series columns and tables added, long TEXT error
+ *    messages moved to failure_detail before the column is narrowed
+ * 5. Database already at the current schema baselined at V1: later steps skip what exists
+ */
+@DataJpaTest
+class MigrationTests {
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TestResultRepository resultRepository;
+
+    @Test
+    void testSchema_AllMigrationsApplied() {
+        List<String> applied = Arrays.stream(flyway.info().applied())
+                .map(info -> info.getVersion().getVersion())
+                .toList();
+
+        assertTrue(applied.containsAll(List.of("1", "2", "3", "4", "5", "6", "7", "8", "9", "10")));
+        assertTrue(Arrays.stream(flyway.info().applied()).noneMatch(info -> info.getState().isFailed()));
+        assertEquals(0, flyway.info().pending().length);
+    }
+
+    @Test
+    void testBackfill_DefaultsOnlyLegacyNulls() throws Exception {
+        List<Long> legacy = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            jdbcTemplate.update("INSERT INTO test_result (test_name, status) VALUES (?, 'PASSED')", "legacy-" + i);
+            legacy.add(jdbcTemplate.queryForObject(
+                    "SELECT MAX(id) FROM test_result WHERE test_name = ?", Long.class, "legacy-" + i));
+        }
+        TestResult current = new TestResult();
+        current.setTestName("current");
+        current.setStatus(TestStatus.PASSED);
+        current.setRetryCount(2);
+        current.setFlaky(true);
+        current.setQuarantined(true);
+        Long currentId = resultRepository.saveAndFlush(current).getId();
+
+        long changed = jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            try {
+                return new V6__Backfill_result_defaults().run(connection, 2, 0);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        assertTrue(changed >= legacy.size());
+        for (Long id : legacy) {
+            assertEquals(List.of(0, false, false), columns(id));
+        }
+        assertEquals(List.of(2, true, true), columns(currentId)); // Set values untouched
+    }
+
+    @Test
+    void testOnlineIndex_ExistingIndexSkipped() {
+        boolean created = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> OnlineDdl.createIndex(
+                connection, "test_result", "idx_test_result_failure_detail", "failure_detail_id"));
+
+        assertFalse(created);
+    }
+
+    @Test
+    void testPreSeriesDatabase_UpgradedToCurrentSchema() {
+        // Database as the baseline release left it: error_message TEXT, no CANCELLED, no series tables
+        Flyway upgrade = separateDatabase("1");
+        upgrade.migrate();
+        JdbcTemplate legacy = new JdbcTemplate(upgrade.getConfiguration().getDataSource());
+        String trace = "java.lang.IllegalStateException: Timed out after 10000 ms\n" + "\tat Page.wait(Page.java:1)\n".repeat(100);
+        legacy.update("INSERT INTO test_result (test_name, status, error_message) VALUES ('long', 'FAILED', ?)", trace);
+        legacy.update("INSERT INTO test_result (test_name, status, error_message) VALUES ('short', 'FAILED', 'Boom')");
+        Long resultId = legacy.queryForObject("SELECT id FROM test_result WHERE test_name = 'long'", Long.class);
+
+        // Attempts table as ddl-auto=update created it before the column was narrowed
+        Flyway.configure().configuration(upgrade.getConfiguration()).target("6").load().migrate();
+        legacy.execute("ALTER TABLE test_attempt ALTER COLUMN error_message SET DATA TYPE TEXT");
+        legacy.update("INSERT INTO test_attempt (test_result_id, attempt_number, status, error_message) " +
+                "VALUES (?, 1, 'FAILED', ?)", resultId, trace);
+
+        Flyway.configure().configuration(upgrade.getConfiguration()).target("latest").load().migrate();
+
+        Map<String, Object> result = legacy.queryForMap("SELECT error_message, failure_detail_id, " +
+                "failure_signature_id, flaky, quarantined FROM test_result WHERE id = ?", resultId);
+        assertEquals(FailureStore.summary(trace), result.get("ERROR_MESSAGE"));
+        assertEquals(false, result.get("FLAKY"));
+        assertEquals(false, result.get("QUARANTINED"));
+        byte[] stored = legacy.queryForObject("SELECT compressed_text FROM failure_detail WHERE id = ?",
+                byte[].class, result.get("FAILURE_DETAIL_ID"));
+        assertArrayEquals(FailureStore.compress(trace), stored);
+        assertEquals(1L, legacy.queryForObject("SELECT occurrence_count FROM failure_signature WHERE id = ?",
+                Long.class, result.get("FAILURE_SIGNATURE_ID"))); // The attempt is not counted
+        assertEquals(result.get("FAILURE_DETAIL_ID"), legacy.queryForObject(
+                "SELECT failure_detail_id FROM test_attempt WHERE test_result_id = ?", Long.class, resultId));
+        assertNull(legacy.queryForObject(
+                "SELECT failure_detail_id FROM test_result WHERE test_name = 'short'", Long.class));
+        assertEquals("CHARACTER VARYING", legacy.queryForObject("SELECT data_type FROM information_schema.columns " +
+                "WHERE table_name = 'TEST_RESULT' AND column_name = 'ERROR_MESSAGE'", String.class));
+        legacy.update("UPDATE test_result SET status = 'CANCELLED' WHERE id = ?", resultId);
+    }
+
+    @Test
+    void testBaselinedSeriesDatabase_ExistingObjectsSkipped() {
+        // Schema already current (as ddl-auto=update left it) but never migrated: baselined at V1
+        Flyway current = separateDatabase("latest");
+        current.migrate();
+        JdbcTemplate database = new JdbcTemplate(current.getConfiguration().getDataSource());
+        database.execute("DROP TABLE \"flyway_schema_history\"");
+
+        Flyway baselined = Flyway.configure().configuration(current.getConfiguration())
+                .baselineOnMigrate(true).baselineVersion("1").load();
+        baselined.migrate();
+
+        assertTrue(Arrays.stream(baselined.info().applied()).noneMatch(info -> info.getState().isFailed()));
+        assertEquals(0, baselined.info().pending().length);
+        assertEquals(List.of("1"), Arrays.stream(baselined.info().applied())
+                .filter(info -> info.getType().isBaseline())
+                .map(info -> info.getVersion().getVersion())
+                .toList());
+    }
+
+    private Flyway separateDatabase(String target) {
+        return Flyway.configure()
+                .configuration(flyway.getConfiguration())
+                .dataSource("jdbc:h2:mem:upgrade-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "")
+                .target(target)
+                .load();
+    }
+
+    private List<Object> columns(Long resultId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT retry_count, flaky, quarantined FROM test_result WHERE id = ?",
+                (rs, row) -> Arrays.asList(rs.getObject(1), rs.getObject(2), rs.getObject(3)),
+                resultId);
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.test_framework_api.tests;
+
+import com.example.test_framework_api.model.TestCase;
+import com.example.test_framework_api.worker.CasePriority;
+import com.example.test_framework_api.worker.PrioritizedTask;
+import com.example.test_framework_api.worker.PriorityTaskQueue;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SCHEDULING TESTS: Validates priority-aware case ordering
+ *
+ * Tests Cover:
+ * 1. High > Medium > Low, then historical failure probability
+ * 2. Unknown priority and unknown history defaults
+ * 3. Executor queue hands out highest priority first, bounded capacity
+ */
+class PrioritySchedulingTests {
+
+    private static TestCase testCase(String name, String priority) {
+        TestCase tc = new TestCase();
+        tc.setTestCaseId(name);
+        tc.setTestName(name);
+        tc.setPriority(priority);
+        return tc;
+    }
+
+    @Test
+    void testSort_PriorityThenFailureProbability() {
+        CasePriority priority = new CasePriority(Map.of(
+                "low-flaky", 0.9,
+                "medium-stable", CasePriority.smoothedFailureRate(20, 0),
+                "medium-failing", CasePriority.smoothedFailureRate(20, 15),
+                "high-stable", 0.05));
+
+        List<TestCase> cases = new ArrayList<>(List.of(
+                testCase("low-flaky", "Low"),
+                testCase("medium-stable", "Medium"),
+                testCase("medium-new", "Medium"),
+                testCase("medium-failing", "Medium"),
+                testCase("high-stable", "High")));
+
+        priority.sort(cases);
+
+        assertEquals(List.of("high-stable", "medium-failing", "medium-new", "medium-stable", "low-flaky"),
+                cases.stream().map(TestCase::getTestName).collect(Collectors.toList()));
+    }
+
+    @Test
+    void testRank_Defaults() {
+        assertEquals(0, CasePriority.rank("HIGH"));
+        assertEquals(1, CasePriority.rank(null));
+        assertEquals(1, CasePriority.rank("unknown"));
+        assertEquals(2, CasePriority.rank(" low "));
+        assertEquals(0.5, CasePriority.smoothedFailureRate(0, 0));
+    }
+
+    @Test
+    void testQueue_HighestPriorityFirst() {
+        PriorityTaskQueue queue = new PriorityTaskQueue(10);
+        PrioritizedTask low = new PrioritizedTask(2, 0.9, () -> { });
+        PrioritizedTask mediumLikelyFail = new PrioritizedTask(1, 0.8, () -> { });
+        PrioritizedTask mediumStable = new PrioritizedTask(1, 0.1, () -> { });
+        PrioritizedTask high = new PrioritizedTask(0, 0.0, () -> { });
+
+        queue.offer(low);
+        queue.offer(mediumStable);
+        queue.offer(mediumLikelyFail);
+        queue.offer(high);
+
+        assertSame(high, queue.poll());
+        assertSame(mediumLikelyFail, queue.poll());
+        assertSame(mediumStable, queue.poll());
+        assertSame(low, queue.poll());
+    }
+
+    @Test
+    void testQueue_BoundedCapacity() {
+        PriorityTaskQueue queue = new PriorityTaskQueue(2);
+
+        assertTrue(queue.offer(new PrioritizedTask(1, 0, () -> { })));
+        assertTrue(queue.offer(() -> { })); // Plain runnables accepted too
+        assertFalse(queue.offer(new PrioritizedTask(0, 0, () -> { })));
+        assertEquals(0, queue.remainingCapacity());
+    }
+}
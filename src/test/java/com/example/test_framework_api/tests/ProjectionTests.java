@@ -0,0 +1,245 @@
+package com.example.test_framework_api.tests;
+
+import com.example.test_framework_api.dto.ResultView;
+import com.example.test_framework_api.dto.RunSummary;
+import com.example.test_framework_api.dto.SuiteSummary;
+import com.example.test_framework_api.dto.UserStats;
+import com.example.test_framework_api.model.TestCase;
+import com.example.test_framework_api.model.TestResult;
+import com.example.test_framework_api.model.TestRun;
+import com.example.test_framework_api.model.TestStatus;
+import com.example.test_framework_api.model.TestSuite;
+import com.example.test_framework_api.model.User;
+import com.example.test_framework_api.repository.TestCaseRepository;
+import com.example.test_framework_api.repository.TestResultRepository;
+import com.example.test_framework_api.repository.TestRunRepository;
+import com.example.test_framework_api.repository.TestSuiteRepository;
+import com.example.test_framework_api.repository.UserRepository;
+import com.example.test_framework_api.service.TestSuiteService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PROJECTION TESTS: Validates the read-model queries behind the listing endpoints
+ *
+ * Tests Cover:
+ * 1. Run summaries carry creator and result count from a single statement
+ * 2. Result views carry run, executor and artifact/failure URLs from a single statement
+ * 3. Suite summaries count cases without loading them; creator roles in one extra statement
+ * 4. Per-user counts (grouped and single-user) match the saved rows
+ * 5. Dashboard stats (suites, cases, passed/failed/pending) come from a single, uncached statement
+ *
+ * The persistence context is flushed and cleared before each read, so any lazy
+ * load would show up as an extra captured statement.
+ */
+@DataJpaTest(properties = SqlCapture.PROPERTY)
+class ProjectionTests {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestRunRepository runRepository;
+
+    @Autowired
+    private TestResultRepository resultRepository;
+
+    @Autowired
+    private TestSuiteRepository suiteRepository;
+
+    @Autowired
+    private TestCaseRepository caseRepository;
+
+    @Test
+    void testRunSummaries_OneStatement() {
+        User owner = user("projection-run-owner");
+        TestRun run = run("projection-run", owner);
+        result(run, "login", TestStatus.PASSED, owner);
+        result(run, "checkout", TestStatus.FAILED, owner);
+        TestRun empty = run("projection-empty-run", null);
+        reset();
+
+        List<RunSummary> summaries = runRepository.findSummaries();
+
+        assertEquals(1, SqlCapture.statements().size());
+        RunSummary summary = find(summaries, run.getId());
+        assertEquals(2, summary.resultCount());
+        assertEquals(owner.getId(), summary.createdBy().id());
+        assertEquals("projection-run-owner", summary.createdBy().username());
+        RunSummary anonymous = find(summaries, empty.getId());
+        assertEquals(0, anonymous.resultCount());
+        assertNull(anonymous.createdBy());
+    }
+
+    @Test
+    void testResultViews_OneStatementWithUrls() {
+        User executor = user("projection-executor");
+        TestRun run = run("projection-view-run", null);
+        TestResult failed = result(run, "search", TestStatus.FAILED, executor);
+        failed.setScreenshotRef("abc123.png");
+        failed.setFailureDetailId(42L);
+        failed.setErrorMessage("boom");
+        result(run, "browse", TestStatus.PASSED, null);
+        reset();
+
+        List<ResultView> views = resultRepository.findViewsByRunId(run.getId());
+
+        assertEquals(1, SqlCapture.statements().size());
+        assertEquals(2, views.size());
+        ResultView view = views.get(0);
+        assertEquals("search", view.testName());
+        assertEquals(run.getId(), view.testRunId());
+        assertEquals("projection-view-run", view.testRunName());
+        assertEquals("projection-executor", view.executedBy().username());
+        assertEquals("/api/runs/artifacts/abc123.png", view.screenshotUrl());
+        assertNull(view.domUrl());
+        assertEquals("/api/runs/failures/42", view.failureUrl());
+        assertEquals("boom", view.errorMessage());
+        assertNull(views.get(1).executedBy());
+    }
+
+    @Test
+    void testSuiteSummaries_CountCasesAndAttachRoles() {
+        User creator = user("projection-suite-creator");
+        creator.getRoles().add("ROLE_ADMIN");
+        TestSuite suite = new TestSuite();
+        suite.setName("projection-suite");
+        suite.setCreatedBy(creator);
+        suite = suiteRepository.save(suite);
+        for (int i = 0; i < 3; i++) {
+            TestCase testCase = new TestCase();
+            testCase.setTestCaseId("PROJ_TC_" + i);
+            testCase.setTestName("case-" + i);
+            testCase.setTestType("API");
+            testCase.setTestSuite(suite);
+            caseRepository.save(testCase);
+        }
+        reset();
+
+        TestSuiteService service = new TestSuiteService(
+                suiteRepository, caseRepository, resultRepository, null, null, null, userRepository);
+        List<SuiteSummary> summaries = service.getSuiteSummariesByUser(creator.getId());
+
+        assertEquals(2, SqlCapture.statements().size()); // Summaries + one roles lookup
+        assertEquals(1, summaries.size());
+        SuiteSummary summary = summaries.get(0);
+        assertEquals(3, summary.testCaseCount());
+        assertEquals(creator.getId(), summary.createdBy().userId());
+        assertEquals(creator.getRoles(), summary.createdBy().roles());
+        assertTrue(summary.createdBy().roles().contains("ROLE_ADMIN"));
+    }
+
+    @Test
+    void testUserCounts_MatchSavedRows() {
+        User user = user("projection-counted");
+        TestRun first = run("projection-count-1", user);
+        run("projection-count-2", user);
+        result(first, "a", TestStatus.PASSED, user);
+        result(first, "b", TestStatus.PASSED, user);
+        result(first, "c", TestStatus.FAILED, user);
+        reset();
+
+        assertEquals(3, resultRepository.countByExecutorId(user.getId()));
+        assertEquals(2, resultRepository.countByExecutorIdAndStatus(user.getId(), TestStatus.PASSED));
+        assertEquals(2, runRepository.countByCreatorId(user.getId()));
+        assertEquals(3L, countFor(resultRepository.countByExecutor(), user.getId()));
+        assertEquals(2L, countFor(runRepository.countByCreator(), user.getId()));
+    }
+
+    @Test
+    void testUserStats_OneAggregateStatement() {
+        User owner = user("projection-stats-owner");
+        TestSuite first = suite("projection-stats-1", owner, "PROJ_STATS_A", 3);
+        TestSuite second = suite("projection-stats-2", owner, "PROJ_STATS_B", 2);
+        suite("projection-stats-other", user("projection-stats-other"), "PROJ_STATS_C", 4);
+        TestRun run = run("projection-stats-run", owner);
+        suiteResult(run, first, TestStatus.PASSED);
+        suiteResult(run, first, TestStatus.PASSED);
+        suiteResult(run, second, TestStatus.FAILED);
+        suiteResult(run, second, TestStatus.RUNNING); // Neither passed nor failed
+        reset();
+
+        UserStats stats = userRepository.findStats(owner.getId());
+
+        assertEquals(1, SqlCapture.statements().size());
+        assertEquals(2, stats.suiteCount());
+        assertEquals(5, stats.totalTestCases());
+        assertEquals(2, stats.passed());
+        assertEquals(1, stats.failed());
+        assertEquals(2, stats.pending());
+        assertEquals(200.0 / 3, stats.passRate(), 0.001);
+
+        SqlCapture.clear();
+        assertEquals(stats, userRepository.findStats(owner.getId()));
+        assertEquals(1, SqlCapture.statements().size()); // Always counted, never query-cached
+
+        UserStats empty = userRepository.findStats(user("projection-stats-new").getId());
+        assertEquals(new UserStats(0, 0, 0, 0), empty);
+        assertEquals(0.0, empty.passRate());
+    }
+
+    private TestSuite suite(String name, User creator, String casePrefix, int caseCount) {
+        TestSuite suite = new TestSuite();
+        suite.setName(name);
+        suite.setCreatedBy(creator);
+        suite = suiteRepository.save(suite);
+        for (int i = 0; i < caseCount; i++) {
+            TestCase testCase = new TestCase();
+            testCase.setTestCaseId(casePrefix + "_" + i);
+            testCase.setTestName(name + "-case-" + i);
+            testCase.setTestType("API");
+            testCase.setTestSuite(suite);
+            caseRepository.save(testCase);
+        }
+        return suite;
+    }
+
+    private void suiteResult(TestRun run, TestSuite suite, TestStatus status) {
+        result(run, suite.getName(), status, null).setTestSuite(suite);
+    }
+
+    private User user(String name) {
+        return userRepository.save(new User(name, "secret", name + "@example.com"));
+    }
+
+    private TestRun run(String name, User creator) {
+        TestRun run = new TestRun();
+        run.setName(name);
+        run.setCreatedBy(creator);
+        return runRepository.save(run);
+    }
+
+    private TestResult result(TestRun run, String name, TestStatus status, User executor) {
+        TestResult result = new TestResult();
+        result.setTestName(name);
+        result.setStatus(status);
+        result.setTestRun(run);
+        result.setExecutedBy(executor);
+        return resultRepository.save(result);
+    }
+
+    private void reset() {
+        entityManager.flush();
+        entityManager.clear();
+        SqlCapture.clear();
+    }
+
+    private static RunSummary find(List<RunSummary> summaries, Long id) {
+        return summaries.stream().filter(s -> s.id().equals(id)).findFirst().orElseThrow();
+    }
+
+    private static Long countFor(List<Object[]> rows, Long userId) {
+        return rows.stream().filter(row -> userId.equals(row[0]))
+                .map(row -> ((Number) row[1]).longValue())
+                .findFirst().orElse(0L);
+    }
+}
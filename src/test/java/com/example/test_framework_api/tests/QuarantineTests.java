@@ -0,0 +1,125 @@
+package com.example.test_framework_api.tests;
+
+import com.example.test_framework_api.config.ExecutionProperties;
+import com.example.test_framework_api.model.TestCase;
+import com.example.test_framework_api.model.TestResult;
+import com.example.test_framework_api.model.TestStatus;
+import com.example.test_framework_api.repository.TestResultRepository;
+import com.example.test_framework_api.service.QuarantineService;
+import com.example.test_framework_api.worker.EarlyTerminationPolicy;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * QUARANTINE TESTS: Validates automatic quarantine and promotion of flaky tests
+ *
+ * Tests Cover:
+ * 1. Only flaky tests (mixed results) over the threshold are quarantined
+ * 2. Promotion after N consecutive passes, failures reset the streak
+ * 3. History before promotion no longer counts
+ * 4. Quarantined failures never trip fail-fast policies
+ *
+ * Test names are unique per test: methods run concurrently against the shared H2.
+ */
+@DataJpaTest(properties = "execution.quarantine.enabled=true")
+@Import({QuarantineService.class, ExecutionProperties.class})
+class QuarantineTests {
+
+    @Autowired
+    private QuarantineService quarantineService;
+
+    @Autowired
+    private TestResultRepository resultRepository;
+
+    private static TestCase testCase(String name) {
+        TestCase tc = new TestCase();
+        tc.setTestCaseId(name);
+        tc.setTestName(name);
+        return tc;
+    }
+
+    @Test
+    void testRefresh_QuarantinesOnlyFlakyTests() {
+        history("flaky", TestStatus.PASSED, TestStatus.FAILED, TestStatus.PASSED, TestStatus.FAILED, TestStatus.PASSED);
+        history("broken", TestStatus.FAILED, TestStatus.FAILED, TestStatus.FAILED, TestStatus.FAILED, TestStatus.FAILED);
+        history("stable", TestStatus.PASSED, TestStatus.PASSED, TestStatus.PASSED, TestStatus.PASSED, TestStatus.PASSED);
+        history("new", TestStatus.FAILED, TestStatus.PASSED);
+
+        Set<String> quarantined = quarantineService.refresh(List.of(
+                testCase("flaky"), testCase("broken"), testCase("stable"), testCase("new")));
+
+        assertEquals(Set.of("flaky"), quarantined);
+        assertTrue(quarantinedNames().contains("flaky"));
+    }
+
+    @Test
+    void testPromotion_AfterConsecutivePasses() {
+        history("flaky-promoted", TestStatus.PASSED, TestStatus.FAILED, TestStatus.PASSED, TestStatus.FAILED, TestStatus.PASSED);
+        assertEquals(Set.of("flaky-promoted"), quarantineService.refresh(List.of(testCase("flaky-promoted"))));
+
+        quarantineService.recordResult(quarantinedResult("flaky-promoted", TestStatus.PASSED));
+        quarantineService.recordResult(quarantinedResult("flaky-promoted", TestStatus.FAILED)); // Streak reset
+        quarantineService.recordResult(quarantinedResult("flaky-promoted", TestStatus.PASSED));
+        quarantineService.recordResult(quarantinedResult("flaky-promoted", TestStatus.PASSED));
+        assertTrue(quarantinedNames().contains("flaky-promoted"));
+
+        quarantineService.recordResult(quarantinedResult("flaky-promoted", TestStatus.PASSED));
+        assertFalse(quarantinedNames().contains("flaky-promoted"));
+
+        // Pre-promotion history is ignored: not re-quarantined on the next run
+        assertEquals(Set.of(), quarantineService.refresh(List.of(testCase("flaky-promoted"))));
+    }
+
+    @Test
+    void testManualRelease() {
+        history("flaky-released", TestStatus.PASSED, TestStatus.FAILED, TestStatus.PASSED, TestStatus.FAILED, TestStatus.PASSED);
+        quarantineService.refresh(List.of(testCase("flaky-released")));
+
+        assertTrue(quarantineService.release("flaky-released"));
+        assertFalse(quarantineService.release("flaky-released"));
+    }
+
+    @Test
+    void testQuarantinedFailure_IgnoredByFailFast() {
+        EarlyTerminationPolicy policy = new EarlyTerminationPolicy(1, 0, 1, true);
+        TestResult result = new TestResult();
+        result.setStatus(TestStatus.FAILED);
+        result.setQuarantined(true);
+
+        assertNull(policy.evaluate(testCase("flaky"), result));
+    }
+
+    private List<String> quarantinedNames() {
+        return quarantineService.getQuarantinedTests().stream().map(q -> q.getTestName()).toList();
+    }
+
+    private void history(String testName, TestStatus... statuses) {
+        LocalDateTime at = LocalDateTime.now().minusDays(statuses.length);
+        for (TestStatus status : statuses) {
+            TestResult result = new TestResult();
+            result.setTestName(testName);
+            result.setStatus(status);
+            result.setDuration(100L);
+            result.setCreatedAt(at);
+            resultRepository.save(result);
+            at = at.plusDays(1);
+        }
+    }
+
+    private TestResult quarantinedResult(String testName, TestStatus status) {
+        TestResult result = new TestResult();
+        result.setTestName(testName);
+        result.setStatus(status);
+        result.setDuration(100L);
+        result.setQuarantined(true);
+        return resultRepository.save(result);
+    }
+}
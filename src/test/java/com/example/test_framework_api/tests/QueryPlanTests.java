@@ -0,0 +1,175 @@
+package com.example.test_framework_api.tests;
+
+import com.example.test_framework_api.model.TestStatus;
+import com.example.test_framework_api.repository.TestResultRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * QUERY PLAN TESTS: Validates TestResultRepository queries use the migration indexes
+ *
+ * Tests Cover:
+ * 1. Run-scoped lookups use (test_run_id, test_name)
+ * 2. Suite-scoped lookups use (test_suite_id, status) or (test_suite_id, created_at)
+ * 3. Time-range queries (trends, retention, archive) use (created_at)
+ * 4. Per-test history uses (test_name, created_at)
+ * 5. Status lookups use (status); unfiltered analytics are full scans on purpose
+ *
+ * The SQL Hibernate actually issues is captured and run through EXPLAIN on the
+ * configured database (H2), with placeholder values bound by parameter type.
+ */
+@DataJpaTest(properties = SqlCapture.PROPERTY)
+class QueryPlanTests {
+
+    // H2 plans annotate each table with the index used and its lookup conditions
+    private static final Pattern ACCESS = Pattern.compile("\"public\"\\.\"test_result\"(?: \"\\w+\")?\\s*/\\* ([^*]+?) \\*/");
+
+    private static final String RUN_NAME = "idx_test_result_run_name";
+    private static final String SUITE_STATUS = "idx_test_result_suite_status";
+    private static final String SUITE_CREATED = "idx_test_result_suite_created";
+    private static final String CREATED = "idx_test_result_created";
+    private static final String NAME_CREATED = "idx_test_result_name_created";
+    private static final String USER_CREATED = "idx_test_result_user_created";
+    private static final String STATUS = "idx_test_result_status";
+
+    // Indexes H2 keeps for the V1 foreign keys; equivalent for single-column lookups
+    private static final String FK_RUN = "fkoqjh3usd009un5fv5wmg7vv96";
+    private static final String FK_SUITE = "fk1vk94xl15cge1ghk2o20icq2g";
+    private static final String FK_USER = "fkey22x1c3fgicntdxqhboosgeu";
+
+    private static final LocalDateTime SINCE = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final Set<String> NAMES = Set.of("login", "checkout");
+
+    @Autowired
+    private TestResultRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void testRunQueries_UseRunIndex() {
+        assertUses(() -> repository.findByTestRunIdAndTestName(1L, "login"), RUN_NAME);
+        assertUses(() -> repository.findByTestRunId(1L), RUN_NAME, FK_RUN);
+        assertUses(() -> repository.countByRunIdAndStatus(1L, TestStatus.FAILED), RUN_NAME, FK_RUN);
+        assertUses(() -> repository.findSuiteIdsByTestRunId(1L), RUN_NAME, FK_RUN);
+    }
+
+    @Test
+    void testSuiteQueries_UseSuiteIndexes() {
+        assertUses(() -> repository.countBySuiteIdAndStatus(1L, TestStatus.PASSED), SUITE_STATUS);
+        assertUses(() -> repository.findDailyPassRateBySuite(1L, SINCE), SUITE_CREATED);
+        assertUses(() -> repository.findByTestSuiteId(1L), SUITE_STATUS, SUITE_CREATED, FK_SUITE);
+        assertUses(() -> repository.findLatestBySuiteId(1L), SUITE_STATUS, SUITE_CREATED, FK_SUITE);
+        assertUses(() -> repository.findBySuiteIdOrderByCreatedAtDesc(1L), SUITE_STATUS, SUITE_CREATED, FK_SUITE);
+        assertUses(() -> repository.findFlakyTestsBySuite(1L), SUITE_STATUS, SUITE_CREATED, FK_SUITE);
+        assertUses(() -> repository.countBySuiteId(1L), SUITE_STATUS, SUITE_CREATED, FK_SUITE);
+        assertUses(() -> repository.findAvgDurationBySuite(1L), SUITE_STATUS, SUITE_CREATED, FK_SUITE);
+        assertUses(() -> repository.findMinMaxDurationBySuite(1L), SUITE_STATUS, SUITE_CREATED, FK_SUITE);
+        assertUses(() -> repository.findBySuiteIdAndUserId(1L, 1L),
+                SUITE_STATUS, SUITE_CREATED, FK_SUITE, USER_CREATED, FK_USER);
+    }
+
+    @Test
+    void testTimeRangeQueries_UseCreatedIndex() {
+        assertUses(() -> repository.findDailyPassRate(SINCE), CREATED);
+        assertUses(() -> repository.findByCreatedAtBetween(SINCE, SINCE.plusDays(1)), CREATED);
+        assertUses(() -> repository.rollupByTest(SINCE, SINCE.plusDays(1)), CREATED);
+        assertUses(() -> repository.findCreatedInRange(SINCE, SINCE.plusDays(1)), CREATED);
+        assertUses(() -> repository.deleteCreatedBetween(SINCE, SINCE.plusDays(1)), CREATED);
+        assertUses(() -> repository.findOldestCreatedAt(), CREATED);
+    }
+
+    @Test
+    void testHistoryQueries_UseNameIndex() {
+        assertUses(() -> repository.findAvgDurationByTestName("login"), NAME_CREATED);
+        assertUses(() -> repository.findFailureCountsByTestNames(NAMES), NAME_CREATED);
+        assertUses(() -> repository.findFailureHistoryByTestNames(NAMES, SINCE, SINCE), NAME_CREATED);
+        assertUses(() -> repository.findFlakyTestNames(NAMES), NAME_CREATED);
+        assertUses(() -> repository.findFlakyStatsByTestNames(NAMES), NAME_CREATED);
+    }
+
+    @Test
+    void testCrossSuiteQueries_StatusIndexOrIntentionalScan() {
+        assertUses(() -> repository.findByStatus(TestStatus.FAILED), STATUS);
+
+        // INTENTIONAL FULL SCANS: analytics over every result, no selective predicate to index
+        assertFullScan(() -> repository.findTop10ByOrderByTestRunIdDesc()); // No WHERE; read in run index order
+        assertFullScan(() -> repository.findFlakyTests(1));                 // Low-cardinality retry_count range
+        assertFullScan(() -> repository.findTestsWithMixedResults());       // GROUP BY test_name over all history
+    }
+
+    /**
+     * Require test_result to be read through one of the given indexes (never a table scan).
+     */
+    private void assertUses(Runnable call, String... indexes) {
+        String access = accessPath(call);
+        for (String index : indexes) {
+            if (access.startsWith("public." + index)) {
+                return;
+            }
+        }
+        fail("Expected one of " + List.of(indexes) + " but test_result is read via: " + access);
+    }
+
+    /**
+     * Document a query that reads all of test_result: no index lookup condition,
+     * whether H2 walks the table or an index in order.
+     */
+    private void assertFullScan(Runnable call) {
+        String access = accessPath(call);
+        assertFalse(access.contains(":"), "Expected an unfiltered read of test_result but got: " + access);
+    }
+
+    /**
+     * Run the repository call and return how H2 plans to read test_result in the
+     * last statement it issued, e.g. "public.idx_test_result_run_name: test_run_id = ?1".
+     */
+    private String accessPath(Runnable call) {
+        SqlCapture.clear();
+        call.run();
+        String sql = SqlCapture.statements().stream()
+                .filter(s -> s.toLowerCase(Locale.ROOT).contains("test_result"))
+                .reduce((first, second) -> second)
+                .orElseThrow(() -> new AssertionError("No test_result statement issued"));
+        String plan = explain(sql).toLowerCase(Locale.ROOT);
+        Matcher matcher = ACCESS.matcher(plan);
+        assertTrue(matcher.find(), "No access path for test_result in plan:\n" + plan);
+        return matcher.group(1);
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+                ParameterMetaData parameters = statement.getParameterMetaData();
+                for (int i = 1; i <= parameters.getParameterCount(); i++) {
+                    switch (parameters.getParameterType(i)) {
+                        case Types.TIMESTAMP, Types.TIMESTAMP_WITH_TIMEZONE ->
+                                statement.setTimestamp(i, Timestamp.valueOf(SINCE));
+                        case Types.BIGINT, Types.INTEGER -> statement.setLong(i, 1L);
+                        default -> statement.setString(i, "PASSED");
+                    }
+                }
+                try (ResultSet rs = statement.executeQuery()) {
+                    return rs.next() ? rs.getString(1) : "";
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.test_framework_api.tests;
+
+import com.example.test_framework_api.controller.TestRunController;
+import com.example.test_framework_api.dto.RerunScope;
+import com.example.test_framework_api.model.TestRun;
+import com.example.test_framework_api.model.TestStatus;
+import com.example.test_framework_api.service.TestRunService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * RERUN CONTROLLER TESTS: Validates HTTP status mapping of POST /api/runs/{id}/rerun-failed
+ *
+ * Tests Cover:
+ * 1. Run that became active after the controller's check → 409 CONFLICT (not 500)
+ * 2. Unknown run / no suite results → 400 BAD REQUEST
+ */
+class RerunControllerTests {
+
+    @Mock
+    private TestRunService testRunService;
+
+    @InjectMocks
+    private TestRunController controller;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+
+        TestRun finished = new TestRun();
+        finished.setId(7L);
+        finished.setStatus(TestStatus.FAILED);
+        when(testRunService.getCurrentTestRun(7L)).thenReturn(finished);
+    }
+
+    @Test
+    void testRerun_RunBecameActive_Conflict() throws Exception {
+        when(testRunService.rerunFailed(eq(7L), eq(RerunScope.FAILED), anyInt()))
+                .thenThrow(new IllegalStateException("Run 7 is still RUNNING"));
+
+        mockMvc.perform(post("/api/runs/7/rerun-failed"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.error").value("Run 7 is still RUNNING"))
+                .andExpect(jsonPath("$.testRunId").value(7));
+    }
+
+    @Test
+    void testRerun_NoSuiteResults_BadRequest() throws Exception {
+        when(testRunService.rerunFailed(eq(7L), eq(RerunScope.FAILED), anyInt()))
+                .thenThrow(new IllegalArgumentException("Run 7 has no suite results"));
+
+        mockMvc.perform(post("/api/runs/7/rerun-failed"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.test_framework_api.tests;
+
+import com.example.test_framework_api.config.ExecutionProperties;
+import com.example.test_framework_api.dto.RerunScope;
+import com.example.test_framework_api.model.TestResult;
+import com.example.test_framework_api.model.TestRun;
+import com.example.test_framework_api.model.TestStatus;
+import com.example.test_framework_api.model.TestSuite;
+import com.example.test_framework_api.repository.TestResultRepository;
+import com.example.test_framework_api.repository.TestRunRepository;
+import com.example.test_framework_api.repository.TestSuiteRepository;
+import com.example.test_framework_api.service.FailureStore;
+import com.example.test_framework_api.service.TestResultService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * RERUN TESTS: Validates rerun-failed case selection and merged reporting
+ *
+ * Tests Cover:
+ * 1. FAILED scope picks every final-attempt failure
+ * 2. FAILED_FLAKY keeps only retried or mixed-history failures
+ * 3. Merged results: latest attempt per test across the parent chain
+ * 4. Suite lookup from a run's results
+ */
+@DataJpaTest
+@Import({TestResultService.class, FailureStore.class, ExecutionProperties.class})
+class RerunFailedTests {
+
+    @Autowired
+    private TestResultService resultService;
+
+    @Autowired
+    private TestResultRepository resultRepository;
+
+    @Autowired
+    private TestRunRepository runRepository;
+
+    @Autowired
+    private TestSuiteRepository suiteRepository;
+
+    private TestSuite suite;
+    private TestRun original;
+
+    @BeforeEach
+    void setUp() {
+        suite = new TestSuite();
+        suite.setName("checkout");
+        suite = suiteRepository.save(suite);
+
+        original = run("checkout-Suite", null);
+        save(original, "login", TestStatus.PASSED, 0);
+        save(original, "cart", TestStatus.FAILED, 0);
+        save(original, "pay", TestStatus.FAILED, 2);
+        save(original, "search", TestStatus.FAILED, 0);
+    }
+
+    @Test
+    void testFailedScope_AllFinalFailures() {
+        assertEquals(List.of("cart", "pay", "search"),
+                resultService.findRerunTestNames(original.getId(), RerunScope.FAILED));
+    }
+
+    @Test
+    void testFailedFlakyScope_RetriedOrMixedHistory() {
+        TestRun older = run("checkout-Suite", null);
+        save(older, "search", TestStatus.PASSED, 0); // search has passed before
+
+        assertEquals(List.of("pay", "search"),
+                resultService.findRerunTestNames(original.getId(), RerunScope.FAILED_FLAKY));
+    }
+
+    @Test
+    void testMergedResults_FinalAttemptWins() {
+        TestRun rerun = run("checkout-Suite-Rerun", original.getId());
+        save(rerun, "cart", TestStatus.PASSED, 0);
+        save(rerun, "pay", TestStatus.FAILED, 0);
+        TestRun rerun2 = run("checkout-Suite-Rerun-Rerun", rerun.getId());
+        save(rerun2, "pay", TestStatus.PASSED, 0);
+
+        assertEquals(List.of(original.getId(), rerun.getId(), rerun2.getId()),
+                resultService.findRunChain(rerun2.getId()));
+
+        List<TestResult> merged = resultService.findFinalAttemptResults(rerun2.getId());
+        assertEquals(List.of("login", "cart", "pay", "search"),
+                merged.stream().map(TestResult::getTestName).collect(Collectors.toList()));
+        assertEquals(List.of(TestStatus.PASSED, TestStatus.PASSED, TestStatus.PASSED, TestStatus.FAILED),
+                merged.stream().map(TestResult::getStatus).collect(Collectors.toList()));
+
+        // Only what is still failing after both reruns
+        assertEquals(List.of("search"), resultService.findRerunTestNames(rerun2.getId(), RerunScope.FAILED));
+    }
+
+    @Test
+    void testSuiteLookup() {
+        assertEquals(suite.getId(), resultService.findSuiteIdForRun(original.getId()));
+        assertNull(resultService.findSuiteIdForRun(run("empty", null).getId()));
+    }
+
+    private TestRun run(String name, Long parentRunId) {
+        TestRun run = new TestRun();
+        run.setName(name);
+        run.setStatus(TestStatus.COMPLETED);
+        run.setParentRunId(parentRunId);
+        return runRepository.save(run);
+    }
+
+    private void save(TestRun run, String testName, TestStatus status, int retryCount) {
+        TestResult result = new TestResult();
+        result.setTestName(testName);
+        result.setStatus(status);
+        result.setDuration(100L);
+        result.setRetryCount(retryCount);
+        result.setTestRun(run);
+        result.setTestSuite(suite);
+        resultRepository.save(result);
+    }
+}
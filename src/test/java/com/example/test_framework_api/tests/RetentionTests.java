@@ -0,0 +1,184 @@
+package com.example.test_framework_api.tests;
+
+import com.example.test_framework_api.config.ExecutionProperties;
+import com.example.test_framework_api.model.ResultRollup;
+import com.example.test_framework_api.model.RollupPeriod;
+import com.example.test_framework_api.model.TestAttempt;
+import com.example.test_framework_api.model.TestResult;
+import com.example.test_framework_api.model.TestStatus;
+import com.example.test_framework_api.model.TestStepResult;
+import com.example.test_framework_api.model.TestSuite;
+import com.example.test_framework_api.repository.ResultRollupRepository;
+import com.example.test_framework_api.repository.TestAttemptRepository;
+import com.example.test_framework_api.repository.TestResultRepository;
+import com.example.test_framework_api.repository.TestStepResultRepository;
+import com.example.test_framework_api.repository.TestSuiteRepository;
+import com.example.test_framework_api.service.ArchiveService;
+import com.example.test_framework_api.service.FailureStore;
+import com.example.test_framework_api.service.MetricsService;
+import com.example.test_framework_api.service.RetentionJob;
+import com.example.test_framework_api.service.RollupService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * RETENTION TESTS: Validates rollups and raw result retention
+ *
+ * Tests Cover:
+ * 1. Daily rollup per suite/test, weekly rebuilt from daily, idempotent
+ * 2. Raw days past retention archived, then dropped with attempts and steps; newer days kept
+ * 3. Trends keep covering dropped days from the rollups
+ *
+ * Each test uses its own (past) dates: methods run concurrently against the shared H2.
+ */
+@DataJpaTest
+@Import({RollupService.class, RetentionJob.class, ArchiveService.class, FailureStore.class, MetricsService.class,
+        ExecutionProperties.class})
+class RetentionTests {
+
+    @Autowired
+    private RollupService rollupService;
+
+    @Autowired
+    private RetentionJob retentionJob;
+
+    @Autowired
+    private MetricsService metricsService;
+
+    @Autowired
+    private ExecutionProperties executionProperties;
+
+    @Autowired
+    private TestResultRepository resultRepository;
+
+    @Autowired
+    private TestAttemptRepository attemptRepository;
+
+    @Autowired
+    private TestStepResultRepository stepRepository;
+
+    @Autowired
+    private ResultRollupRepository rollupRepository;
+
+    @Autowired
+    private TestSuiteRepository suiteRepository;
+
+    @Autowired
+    private ArchiveService archiveService;
+
+    @TempDir
+    static Path archiveDir; // Per class: methods run concurrently on one shared properties bean
+
+    private TestSuite suite;
+
+    @BeforeEach
+    void setUp() {
+        executionProperties.getRetention().setArchiveDir(archiveDir.toString());
+        suite = new TestSuite();
+        suite.setName("nightly");
+        suite = suiteRepository.save(suite);
+    }
+
+    private TestResult save(String name, TestStatus status, LocalDateTime createdAt) {
+        TestResult result = new TestResult();
+        result.setTestName(name);
+        result.setStatus(status);
+        result.setDuration(100L);
+        result.setTestSuite(suite);
+        result.setCreatedAt(createdAt);
+        return resultRepository.save(result);
+    }
+
+    private List<ResultRollup> rollups(RollupPeriod period, LocalDate start) {
+        return rollupRepository.findAll().stream()
+                .filter(r -> r.getPeriod() == period && r.getPeriodStart().equals(start)
+                        && suite.getId().equals(r.getTestSuiteId()))
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    void testRollupDay_DailyAndWeekly() {
+        LocalDate monday = LocalDate.of(2021, 3, 1);
+        save("login", TestStatus.PASSED, monday.atTime(9, 0));
+        save("login", TestStatus.FAILED, monday.atTime(10, 0));
+        save("search", TestStatus.PASSED, monday.atTime(11, 0));
+        save("login", TestStatus.PASSED, monday.plusDays(2).atTime(9, 0));
+
+        rollupService.rollupDay(monday);
+        rollupService.rollupDay(monday.plusDays(2));
+        rollupService.rollupDay(monday.plusDays(2)); // Idempotent
+
+        List<ResultRollup> daily = rollups(RollupPeriod.DAILY, monday);
+        assertEquals(2, daily.size());
+        ResultRollup login = daily.stream().filter(r -> r.getTestName().equals("login")).findFirst().orElseThrow();
+        assertEquals(2, login.getTotal());
+        assertEquals(1, login.getPassed());
+        assertEquals(1, login.getFailed());
+        assertEquals(200, login.getTotalDuration());
+
+        ResultRollup weeklyLogin = rollups(RollupPeriod.WEEKLY, monday).stream()
+                .filter(r -> r.getTestName().equals("login")).findFirst().orElseThrow();
+        assertEquals(3, weeklyLogin.getTotal());
+        assertEquals(2, weeklyLogin.getPassed());
+        assertEquals(monday, RollupService.weekStart(monday.plusDays(6)));
+    }
+
+    @Test
+    void testRetention_DropsOldRawDaysOnly() {
+        executionProperties.getRetention().setRawDays(30);
+        LocalDate today = LocalDate.of(2022, 6, 30);
+        LocalDate oldDay = LocalDate.of(2022, 5, 2);
+
+        TestResult old = save("checkout", TestStatus.FAILED, oldDay.atTime(8, 0));
+        TestAttempt attempt = new TestAttempt();
+        attempt.setTestResult(old);
+        attempt.setAttemptNumber(1);
+        attempt.setStatus(TestStatus.FAILED);
+        attempt = attemptRepository.save(attempt);
+        TestStepResult step = new TestStepResult();
+        step.setAttempt(attempt);
+        step.setStepNumber(1);
+        step.setStatus(TestStatus.FAILED);
+        stepRepository.save(step);
+        TestResult recent = save("checkout", TestStatus.PASSED, LocalDate.of(2022, 6, 20).atTime(8, 0));
+
+        retentionJob.run(today);
+
+        assertTrue(resultRepository.findById(old.getId()).isEmpty());
+        assertTrue(attemptRepository.findById(attempt.getId()).isEmpty());
+        assertTrue(resultRepository.findById(recent.getId()).isPresent());
+        assertEquals(1, rollups(RollupPeriod.DAILY, oldDay).size()); // History survives as a rollup
+        assertEquals(1, archiveService.query(oldDay, oldDay, null, "checkout", null, 10).size()); // Archived first
+    }
+
+    @Test
+    void testTrends_FallBackToRollups() {
+        LocalDate day = LocalDate.of(2020, 7, 14);
+        save("cart", TestStatus.PASSED, day.atTime(12, 0));
+        save("cart", TestStatus.FAILED, day.atTime(13, 0));
+        rollupService.rollupDay(day);
+        rollupService.purgeDay(day);
+
+        int days = (int) ChronoUnit.DAYS.between(day, LocalDate.now()) + 1;
+        Map<String, Object> point = metricsService.getTrends(suite.getId(), days).stream()
+                .filter(p -> day.toString().equals(p.get("date")))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(2L, point.get("totalTests"));
+        assertEquals(50.0, point.get("passRate"));
+    }
+}
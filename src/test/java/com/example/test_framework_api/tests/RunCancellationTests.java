@@ -0,0 +1,138 @@
+package com.example.test_framework_api.tests;
+
+import com.example.test_framework_api.config.ExecutionProperties;
+import com.example.test_framework_api.model.TestCase;
+import com.example.test_framework_api.worker.CaseDispatcher;
+import com.example.test_framework_api.worker.CaseGuard;
+import com.example.test_framework_api.worker.ConcurrencyLimiter;
+import com.example.test_framework_api.worker.RunHandle;
+import com.example.test_framework_api.worker.RunRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CANCELLATION TESTS: Validates run cancel and deadline enforcement
+ *
+ * Tests Cover:
+ * 1. Cancel kills in-flight cases (kill hooks + interrupt)
+ * 2. Cancel requested while queued is applied on register
+ * 3. Watchdog kills cases past their deadline (not cancelled)
+ * 4. Dispatcher drops queued cases once the run is cancelled
+ * 5. Cancel for a run never registered here expires instead of being kept forever
+ */
+class RunCancellationTests {
+
+    private RunRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        ExecutionProperties properties = new ExecutionProperties();
+        properties.getTimeouts().setWatchdogIntervalMs(60_000); // Deadlines checked manually
+        registry = new RunRegistry(properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        registry.shutdown();
+    }
+
+    @Test
+    void testCancel_KillsInFlightCase() {
+        RunHandle handle = registry.register(1L, 0, 0);
+        CaseGuard guard = handle.begin("TC_1");
+        AtomicBoolean driverQuit = new AtomicBoolean(false);
+        guard.onKill(() -> driverQuit.set(true));
+
+        assertTrue(registry.cancel(1L, "cancelled by admin"));
+
+        assertTrue(driverQuit.get());
+        assertTrue(guard.isKilled());
+        assertTrue(guard.isCancelled());
+        assertTrue(Thread.currentThread().isInterrupted());
+
+        guard.close();
+        assertFalse(Thread.currentThread().isInterrupted()); // Not leaked to the next task
+        assertEquals(0, handle.getInFlightCount());
+    }
+
+    @Test
+    void testCancelWhileQueued_AppliedOnRegister() {
+        assertFalse(registry.cancel(2L, "cancelled by admin"));
+
+        RunHandle handle = registry.register(2L, 0, 0);
+        assertTrue(handle.isCancelled());
+        assertEquals("cancelled by admin", handle.getReason());
+
+        CaseGuard guard = handle.begin("TC_1");
+        assertTrue(guard.isKilled());
+        guard.close();
+    }
+
+    @Test
+    void testCancelNotRegistered_ExpiresAfterTtl() throws Exception {
+        ExecutionProperties properties = new ExecutionProperties();
+        properties.getTimeouts().setWatchdogIntervalMs(60_000);
+        properties.getTimeouts().setPendingCancelSeconds(1);
+        RunRegistry shortLived = new RunRegistry(properties);
+        try {
+            assertFalse(shortLived.cancel(5L, "cancelled by admin")); // e.g. executing on another node
+
+            TimeUnit.MILLISECONDS.sleep(1100);
+            shortLived.checkDeadlines();
+
+            assertFalse(shortLived.register(5L, 0, 0).isCancelled());
+        } finally {
+            shortLived.shutdown();
+        }
+    }
+
+    @Test
+    void testWatchdog_KillsOverdueCase() throws Exception {
+        RunHandle handle = registry.register(3L, 1, 0);
+        CaseGuard guard = handle.begin("TC_SLOW");
+
+        registry.checkDeadlines();
+        assertFalse(guard.isKilled());
+
+        TimeUnit.MILLISECONDS.sleep(1100);
+        registry.checkDeadlines();
+
+        assertTrue(guard.isKilled());
+        assertFalse(guard.isCancelled());
+        assertFalse(handle.isCancelled());
+        guard.close();
+    }
+
+    @Test
+    void testDispatcher_DropsQueuedCasesOnCancel() throws Exception {
+        RunHandle handle = registry.register(4L, 0, 0);
+        List<TestCase> cases = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            TestCase tc = new TestCase();
+            tc.setTestCaseId("TC_" + i);
+            cases.add(tc);
+        }
+
+        AtomicInteger executed = new AtomicInteger();
+        CompletableFuture<Void> done = new CaseDispatcher("API", cases, Runnable::run,
+                ConcurrencyLimiter.fixed("test", 1), null, handle, null, tc -> {
+                    if (executed.incrementAndGet() == 3) {
+                        handle.cancel("cancelled by admin");
+                    }
+                    return null;
+                }).start();
+
+        done.get(5, TimeUnit.SECONDS);
+        assertEquals(3, executed.get());
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.test_framework_api.tests;
+
+import com.example.test_framework_api.config.ExecutionProperties;
+import com.example.test_framework_api.model.TestStatus;
+import com.example.test_framework_api.model.TestStepResult;
+import com.example.test_framework_api.worker.ScenarioExecutor;
+import com.example.test_framework_api.worker.ScenarioStep;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.logging.LogEntries;
+import org.openqa.selenium.logging.LogType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * SCENARIO TESTS: Validates multi-step UI scenarios in one session (mocked driver)
+ *
+ * Tests Cover:
+ * 1. Steps parsed from actionsJson and queue payloads
+ * 2. Every step runs against the same driver with per-step locators
+ * 3. First failing step stops the scenario and is recorded
+ * 4. Per-step post-condition (expected) on the page
+ */
+class ScenarioTests {
+
+    private WebDriver driver;
+    private WebElement username;
+    private WebElement submit;
+    private ExecutionProperties.Waits waits;
+
+    @BeforeEach
+    void setUp() {
+        driver = mock(WebDriver.class, RETURNS_DEEP_STUBS);
+        when(driver.getCurrentUrl()).thenReturn("https://example.com/login");
+        when(driver.getTitle()).thenReturn("Login");
+        when(driver.manage().logs().get(LogType.BROWSER)).thenReturn(new LogEntries(List.of()));
+
+        username = displayed();
+        submit = displayed();
+        when(driver.findElements(any(By.class))).thenReturn(List.of());
+        when(driver.findElements(By.id("username"))).thenReturn(List.of(username));
+        when(driver.findElements(By.cssSelector("button[type=submit]"))).thenReturn(List.of(submit));
+
+        waits = new ExecutionProperties.Waits();
+        waits.setPollingMs(10);
+        waits.setElementTimeoutMs(300);
+    }
+
+    private static WebElement displayed() {
+        WebElement element = mock(WebElement.class);
+        when(element.isDisplayed()).thenReturn(true);
+        when(element.isEnabled()).thenReturn(true);
+        return element;
+    }
+
+    private static ScenarioStep step(String type, String locatorType, String locatorValue, String value) {
+        ScenarioStep step = new ScenarioStep();
+        step.setType(type);
+        step.setLocatorType(locatorType);
+        step.setLocatorValue(locatorValue);
+        step.setValue(value);
+        return step;
+    }
+
+    @Test
+    void testParse() {
+        List<ScenarioStep> steps = ScenarioStep.parse(
+                "[{\"action\":\"type\",\"value\":\"admin\"},{\"type\":\"click\",\"locatorType\":\"css\","
+                        + "\"locatorValue\":\"#go\",\"timeoutMs\":500,\"unknown\":1}]");
+
+        assertEquals(2, steps.size());
+        assertEquals("type", steps.get(0).getType());
+        assertEquals(500, steps.get(1).getTimeoutMs());
+        assertTrue(ScenarioStep.parse(null).isEmpty());
+        assertEquals("hover", ScenarioStep.fromMaps(List.of(Map.of("type", "hover"))).get(0).getType());
+        assertThrows(IllegalArgumentException.class, () -> ScenarioStep.parse("not json"));
+    }
+
+    @Test
+    void testAllStepsInOneSession() {
+        List<TestStepResult> results = new ArrayList<>();
+        new ScenarioExecutor(driver, waits, null).run(List.of(
+                step("type", null, null, "admin"),
+                step("click", "css", "button[type=submit]", null),
+                step("assertTitle", null, null, "Login")), "id", "username", results);
+
+        verify(username).sendKeys("admin");
+        verify(submit).click();
+        assertEquals(List.of(1, 2, 3), results.stream().map(TestStepResult::getStepNumber).collect(Collectors.toList()));
+        assertTrue(results.stream().allMatch(r -> r.getStatus() == TestStatus.PASSED && r.getDuration() != null));
+        assertEquals("By.id: username", results.get(0).getTarget());
+    }
+
+    @Test
+    void testFailingStep_StopsScenario() {
+        List<TestStepResult> results = new ArrayList<>();
+        ScenarioStep wrongTitle = step("assertTitle", null, null, "Dashboard");
+        wrongTitle.setName("on dashboard");
+
+        IllegalStateException e = assertThrows(IllegalStateException.class, () ->
+                new ScenarioExecutor(driver, waits, null).run(List.of(
+                        step("type", null, null, "admin"),
+                        wrongTitle,
+                        step("click", "css", "button[type=submit]", null)), "id", "username", results));
+
+        assertTrue(e.getMessage().startsWith("on dashboard failed"));
+        assertEquals(2, results.size());
+        assertEquals(TestStatus.FAILED, results.get(1).getStatus());
+        assertTrue(results.get(1).getErrorMessage().contains("Dashboard"));
+        verify(submit, never()).click();
+    }
+
+    @Test
+    void testExpectedAfterStep() {
+        WebElement body = mock(WebElement.class);
+        when(body.getText()).thenReturn("Welcome back, admin");
+        when(driver.findElements(By.tagName("body"))).thenReturn(List.of(body));
+
+        ScenarioStep click = step("click", "css", "button[type=submit]", null);
+        click.setExpected("Welcome back");
+        ScenarioStep missing = step("click", "css", "button[type=submit]", null);
+        missing.setExpected("Logout");
+
+        List<TestStepResult> results = new ArrayList<>();
+        ScenarioExecutor executor = new ScenarioExecutor(driver, waits, null);
+        executor.run(List.of(click), null, null, results);
+        assertThrows(IllegalStateException.class, () -> executor.run(List.of(missing), null, null, results));
+
+        assertEquals(TestStatus.PASSED, results.get(0).getStatus());
+        assertEquals(TestStatus.FAILED, results.get(1).getStatus());
+    }
+}
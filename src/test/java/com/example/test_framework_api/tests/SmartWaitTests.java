@@ -0,0 +1,120 @@
+package com.example.test_framework_api.tests;
+
+import com.example.test_framework_api.config.ExecutionProperties;
+import com.example.test_framework_api.worker.SmartWait;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.logging.LogEntries;
+import org.openqa.selenium.logging.LogEntry;
+import org.openqa.selenium.logging.LogType;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.logging.Level;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * WAIT TESTS: Validates the explicit wait engine (mocked driver, no browser)
+ *
+ * Tests Cover:
+ * 1. Implicit wait disabled, element returned once present
+ * 2. Interactive actions wait for a displayed element
+ * 3. Error page fails fast instead of waiting out the timeout; ordinary titles do not
+ * 4. Uncaught JS error fails fast after the grace period
+ * 5. Missing element times out at the configured timeout
+ */
+class SmartWaitTests {
+
+    private static final By LOCATOR = By.id("submit");
+
+    private WebDriver driver;
+    private ExecutionProperties.Waits config;
+
+    @BeforeEach
+    void setUp() {
+        driver = mock(WebDriver.class, RETURNS_DEEP_STUBS);
+        when(driver.getCurrentUrl()).thenReturn("https://example.com/login");
+        when(driver.getTitle()).thenReturn("Login");
+        when(driver.manage().logs().get(LogType.BROWSER)).thenReturn(new LogEntries(List.of()));
+
+        config = new ExecutionProperties.Waits();
+        config.setPollingMs(20);
+    }
+
+    private static WebElement element(boolean displayed) {
+        WebElement element = mock(WebElement.class);
+        when(element.isDisplayed()).thenReturn(displayed);
+        when(element.isEnabled()).thenReturn(true);
+        return element;
+    }
+
+    @Test
+    void testElementReturnedOncePresent() {
+        WebElement element = element(true);
+        when(driver.findElements(LOCATOR)).thenReturn(List.<WebElement>of()).thenReturn(List.of())
+                .thenReturn(List.of(element));
+
+        assertSame(element, new SmartWait(driver, config, 5_000).element(LOCATOR, null));
+        verify(driver.manage().timeouts()).implicitlyWait(Duration.ZERO);
+    }
+
+    @Test
+    void testInteractiveAction_WaitsForDisplayed() {
+        WebElement hidden = element(false);
+        WebElement visible = element(true);
+        when(driver.findElements(LOCATOR)).thenReturn(List.of(hidden)).thenReturn(List.of(hidden, visible));
+
+        assertSame(visible, new SmartWait(driver, config, 5_000).element(LOCATOR, "Click"));
+        assertSame(hidden, new SmartWait(driver, config, 5_000).element(LOCATOR, "verify"));
+    }
+
+    @Test
+    void testErrorPage_FailsFast() {
+        when(driver.findElements(any(By.class))).thenReturn(List.of());
+        when(driver.getTitle()).thenReturn("404 Not Found");
+
+        long start = System.currentTimeMillis();
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> new SmartWait(driver, config, 10_000).element(LOCATOR, "click"));
+
+        assertTrue(e.getMessage().contains("404 Not Found"));
+        assertTrue(System.currentTimeMillis() - start < 2_000);
+        assertNotNull(SmartWait.errorPageReason("chrome-error://chromewebdata/", "example.com", List.of()));
+        assertNull(SmartWait.errorPageReason("https://example.com", "Dashboard", config.getErrorPagePatterns()));
+        assertNotNull(SmartWait.errorPageReason("https://example.com/x", "Page Not Found | Shop", config.getErrorPagePatterns()));
+        assertNotNull(SmartWait.errorPageReason("http://localhost:8080/x", "HTTP Status 404 – Not Found", config.getErrorPagePatterns()));
+        // Ordinary titles that merely mention 404 or "not found"
+        assertNull(SmartWait.errorPageReason("https://example.com", "Order #40412", config.getErrorPagePatterns()));
+        assertNull(SmartWait.errorPageReason("https://example.com", "Items not found in stock", config.getErrorPagePatterns()));
+    }
+
+    @Test
+    void testJsError_FailsFastAfterGrace() {
+        config.setJsErrorGraceMs(100);
+        when(driver.findElements(any(By.class))).thenReturn(List.of());
+        when(driver.manage().logs().get(LogType.BROWSER)).thenReturn(new LogEntries(List.of(
+                new LogEntry(Level.SEVERE, 0, "https://ads.example/x.js - Failed to load resource: net::ERR_BLOCKED_BY_CLIENT"),
+                new LogEntry(Level.SEVERE, 0, "app.js 12:4 Uncaught TypeError: cannot read properties of undefined"))));
+
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> new SmartWait(driver, config, 10_000).element(LOCATOR, null));
+
+        assertTrue(e.getMessage().contains("Uncaught TypeError"));
+    }
+
+    @Test
+    void testMissingElement_TimesOut() {
+        when(driver.findElements(any(By.class))).thenReturn(List.of());
+
+        long start = System.currentTimeMillis();
+        assertThrows(TimeoutException.class, () -> new SmartWait(driver, config, 200).element(LOCATOR, null));
+        assertTrue(System.currentTimeMillis() - start < 2_000);
+    }
+}
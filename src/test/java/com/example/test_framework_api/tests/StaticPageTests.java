@@ -0,0 +1,114 @@
+package com.example.test_framework_api.tests;
+
+import com.example.test_framework_api.config.ExecutionProperties;
+import com.example.test_framework_api.model.TestCase;
+import com.example.test_framework_api.worker.StaticPageExecutor;
+import com.sun.net.httpserver.HttpServer;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * STATIC PAGE TESTS: Validates HTML-only UI checks (no browser)
+ *
+ * Tests Cover:
+ * 1. Only check-only UI cases marked static are eligible
+ * 2. id / name / css / xpath locators on parsed HTML
+ * 3. Title and element text expectations
+ * 4. Fetch over HTTP, error status fails the case
+ */
+class StaticPageTests {
+
+    private static final String HTML = "<html><head><title>Wikipedia, the free encyclopedia</title></head><body>"
+            + "<form><input id='searchInput' name='search'><button class='pure-button'>Search</button></form>"
+            + "<p id='welcome'>Hello, reader</p></body></html>";
+
+    private final ExecutionProperties.StaticPages config = new ExecutionProperties.StaticPages();
+
+    private static TestCase testCase(String action, String locatorType, String locatorValue, String expected) {
+        TestCase tc = new TestCase();
+        tc.setTestCaseId("TC_STATIC");
+        tc.setTestType("UI");
+        tc.setStaticPage(true);
+        tc.setHttpMethodAction(action);
+        tc.setLocatorType(locatorType);
+        tc.setLocatorValue(locatorValue);
+        tc.setExpectedResult(expected);
+        return tc;
+    }
+
+    @Test
+    void testSupports() {
+        assertTrue(StaticPageExecutor.supports(testCase("verify", "id", "x", null), config));
+        assertTrue(StaticPageExecutor.supports(testCase(null, "id", "x", null), config));
+        assertFalse(StaticPageExecutor.supports(testCase("click", "id", "x", null), config)); // Needs a browser
+
+        TestCase notStatic = testCase("verify", "id", "x", null);
+        notStatic.setStaticPage(false);
+        assertFalse(StaticPageExecutor.supports(notStatic, config));
+
+        config.setEnabled(false);
+        assertFalse(StaticPageExecutor.supports(testCase("verify", "id", "x", null), config));
+    }
+
+    @Test
+    void testLocators() {
+        Document doc = Jsoup.parse(HTML);
+
+        StaticPageExecutor.evaluate(doc, testCase("exists", "id", "searchInput", null));
+        StaticPageExecutor.evaluate(doc, testCase("exists", "name", "search", null));
+        StaticPageExecutor.evaluate(doc, testCase("exists", "css", "form button.pure-button", null));
+        StaticPageExecutor.evaluate(doc, testCase("exists", "xpath", "//p[@id='welcome']", null));
+
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> StaticPageExecutor.evaluate(doc, testCase("exists", "id", "missing", null)));
+        assertTrue(e.getMessage().contains("id=missing"));
+    }
+
+    @Test
+    void testTitleAndText() {
+        Document doc = Jsoup.parse(HTML);
+
+        StaticPageExecutor.evaluate(doc, testCase("assertTitle", null, null, "Wikipedia"));
+        assertThrows(IllegalStateException.class,
+                () -> StaticPageExecutor.evaluate(doc, testCase("assertTitle", null, null, "Google")));
+
+        StaticPageExecutor.evaluate(doc, testCase("assertText", "id", "welcome", "Hello"));
+        assertThrows(IllegalStateException.class,
+                () -> StaticPageExecutor.evaluate(doc, testCase("assertText", "id", "welcome", "Goodbye")));
+    }
+
+    @Test
+    void testFetch() throws Exception {
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            byte[] body = HTML.getBytes(StandardCharsets.UTF_8);
+            int status = exchange.getRequestURI().getPath().equals("/") ? 200 : 404;
+            exchange.getResponseHeaders().add("Content-Type", "text/html; charset=utf-8");
+            exchange.sendResponseHeaders(status, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.start();
+        try {
+            String base = "http://127.0.0.1:" + server.getAddress().getPort();
+            StaticPageExecutor executor = new StaticPageExecutor(config);
+
+            TestCase found = testCase("verify", "id", "searchInput", null);
+            found.setUrlEndpoint(base + "/");
+            executor.execute(found, null);
+
+            TestCase notFound = testCase("verify", "id", "searchInput", null);
+            notFound.setUrlEndpoint(base + "/missing");
+            IllegalStateException e = assertThrows(IllegalStateException.class, () -> executor.execute(notFound, null));
+            assertTrue(e.getMessage().startsWith("HTTP 404"));
+        } finally {
+            server.stop(0);
+        }
+    }
+}